@@ -0,0 +1,18 @@
+package com.boozebuddies.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Async} methods and {@code @Scheduled} jobs.
+ *
+ * <p>Both run on the executor and scheduler Spring Boot auto-configures: a bounded platform thread
+ * pool by default, or virtual threads when {@code spring.threads.virtual.enabled=true}. Pool sizes
+ * are tuned with the {@code spring.task.execution.*} and {@code spring.task.scheduling.*}
+ * properties.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {}
@@ -0,0 +1,111 @@
+package com.boozebuddies.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Caps how many API requests run at once so virtual threads cannot stampede the JDBC pool.
+ *
+ * <p>With platform threads, Tomcat's worker pool (200 threads by default) implicitly bounds how
+ * many requests can queue for one of Hikari's connections. Virtual threads remove that bound: every
+ * accepted connection gets its own thread, and under load thousands of them can pile up in
+ * Hikari's wait queue until they all fail with a connection timeout. This filter restores a bound
+ * sized from the pool. Requests that cannot be admitted within the admission timeout are rejected
+ * with {@code 503 Service Unavailable} and a {@code Retry-After} header instead of waiting out the
+ * much longer Hikari connection timeout.
+ *
+ * <p>Only paths under {@code /api/} are limited, so health checks keep answering under load.
+ */
+public class ConnectionPoolAdmissionFilter extends OncePerRequestFilter {
+
+  private static final Logger log = LoggerFactory.getLogger(ConnectionPoolAdmissionFilter.class);
+  private static final String API_PREFIX = "/api/";
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  private final Semaphore permits;
+  private final int maxConcurrentRequests;
+  private final long admissionTimeoutMs;
+
+  /**
+   * Constructs the filter.
+   *
+   * @param maxConcurrentRequests how many API requests may run at once
+   * @param admissionTimeoutMs how long a request may wait for a slot before it is rejected
+   */
+  public ConnectionPoolAdmissionFilter(int maxConcurrentRequests, long admissionTimeoutMs) {
+    if (maxConcurrentRequests <= 0) {
+      throw new IllegalArgumentException("maxConcurrentRequests must be positive");
+    }
+    this.permits = new Semaphore(maxConcurrentRequests, true);
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.admissionTimeoutMs = admissionTimeoutMs;
+  }
+
+  /**
+   * Returns how many API requests may run at once.
+   *
+   * @return the concurrency limit
+   */
+  public int getMaxConcurrentRequests() {
+    return maxConcurrentRequests;
+  }
+
+  /**
+   * Returns how many requests are currently admitted.
+   *
+   * @return the number of requests holding a slot
+   */
+  public int getInFlightRequests() {
+    return maxConcurrentRequests - permits.availablePermits();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith(API_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    boolean admitted;
+    try {
+      admitted = permits.tryAcquire(admissionTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      admitted = false;
+    }
+
+    if (!admitted) {
+      log.warn(
+          "Rejected {} {}: {} requests already in flight",
+          request.getMethod(),
+          request.getRequestURI(),
+          maxConcurrentRequests);
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response
+          .getWriter()
+          .write("{\"success\":false,\"message\":\"Server is busy, please retry shortly\"}");
+      return;
+    }
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      permits.release();
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package com.boozebuddies.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recommends a maximum size for each Hikari pool from the concurrency it actually sees.
+ *
+ * <p>Every {@code datasource.pool-advisor.sample-interval-ms} the advisor samples each pool's
+ * demand: connections in use plus threads waiting for one. Once it holds a full window of {@code
+ * datasource.pool-advisor.window} samples, it recommends the 95th percentile of that demand plus
+ * {@code datasource.pool-advisor.headroom}, kept between {@code min-size} and {@code max-size}.
+ * The recommendation is published as the {@code hikaricp.connections.recommended} gauge (tag
+ * {@code pool}) next to Hikari's own {@code hikaricp.connections.max}, and logged whenever it
+ * changes.
+ *
+ * <p>With {@code datasource.pool-advisor.auto-apply=true} the recommendation is also applied to
+ * the running pool. It is off by default: a larger pool only helps while the database has spare
+ * capacity, and the virtual-thread admission limit is computed from the configured size at
+ * startup, so the advice is better reviewed before it is copied into {@code maximumPoolSize}.
+ */
+@Component
+public class ConnectionPoolAdvisor {
+
+  private static final Logger log = LoggerFactory.getLogger(ConnectionPoolAdvisor.class);
+  private static final double PERCENTILE = 0.95;
+
+  private final List<HikariDataSource> pools;
+  private final MeterRegistry meterRegistry;
+  private final int windowSize;
+  private final double headroom;
+  private final int minSize;
+  private final int maxSize;
+  private final boolean autoApply;
+  private final Map<String, DemandWindow> windows = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs the advisor.
+   *
+   * @param pools the connection pools to advise on
+   * @param meterRegistry the registry the recommendations are published to
+   * @param windowSize how many samples a recommendation is based on
+   * @param headroom the fraction added on top of the observed demand
+   * @param minSize the smallest size ever recommended
+   * @param maxSize the largest size ever recommended
+   * @param autoApply whether to resize the pools to the recommendation
+   */
+  public ConnectionPoolAdvisor(
+      List<HikariDataSource> pools,
+      MeterRegistry meterRegistry,
+      @Value("${datasource.pool-advisor.window:600}") int windowSize,
+      @Value("${datasource.pool-advisor.headroom:0.25}") double headroom,
+      @Value("${datasource.pool-advisor.min-size:2}") int minSize,
+      @Value("${datasource.pool-advisor.max-size:50}") int maxSize,
+      @Value("${datasource.pool-advisor.auto-apply:false}") boolean autoApply) {
+    this.pools = pools;
+    this.meterRegistry = meterRegistry;
+    this.windowSize = Math.max(1, windowSize);
+    this.headroom = headroom;
+    this.minSize = minSize;
+    this.maxSize = Math.max(minSize, maxSize);
+    this.autoApply = autoApply;
+  }
+
+  /** Samples the demand on every started pool. */
+  @Scheduled(fixedDelayString = "${datasource.pool-advisor.sample-interval-ms:1000}")
+  public void sample() {
+    for (HikariDataSource pool : pools) {
+      HikariPoolMXBean stats = pool.getHikariPoolMXBean();
+      if (stats == null) {
+        continue; // Not started yet
+      }
+      record(pool, stats.getActiveConnections() + stats.getThreadsAwaitingConnection());
+    }
+  }
+
+  /**
+   * Returns the current recommendation for a pool.
+   *
+   * @param poolName the pool's name
+   * @return the recommended maximum size, or null if the pool has not been sampled
+   */
+  public Integer recommendedSize(String poolName) {
+    DemandWindow window = windows.get(poolName);
+    return window != null ? window.recommended : null;
+  }
+
+  /**
+   * Records one demand sample for a pool and revises its recommendation once the window is full.
+   *
+   * @param pool the pool
+   * @param demand the connections in use plus the threads waiting for one
+   */
+  void record(HikariDataSource pool, int demand) {
+    DemandWindow window =
+        windows.computeIfAbsent(
+            pool.getPoolName(), name -> register(name, pool.getMaximumPoolSize()));
+    Integer percentile = window.add(demand);
+    if (percentile == null) {
+      return;
+    }
+
+    int recommended = recommend(percentile);
+    if (recommended != window.recommended) {
+      log.info(
+          "Pool {}: p95 demand {} over {} samples, recommended maximumPoolSize {} (now {})",
+          pool.getPoolName(),
+          percentile,
+          windowSize,
+          recommended,
+          pool.getMaximumPoolSize());
+      window.recommended = recommended;
+    }
+    if (autoApply && recommended != pool.getMaximumPoolSize()) {
+      log.warn(
+          "Pool {}: resizing maximumPoolSize from {} to {}",
+          pool.getPoolName(),
+          pool.getMaximumPoolSize(),
+          recommended);
+      pool.getHikariConfigMXBean().setMaximumPoolSize(recommended);
+    }
+  }
+
+  private int recommend(int percentile) {
+    int size = (int) Math.ceil(percentile * (1 + headroom));
+    return Math.min(maxSize, Math.max(minSize, size));
+  }
+
+  private DemandWindow register(String poolName, int configuredSize) {
+    DemandWindow window = new DemandWindow(windowSize, configuredSize);
+    Gauge.builder("hikaricp.connections.recommended", window, w -> w.recommended)
+        .description("Maximum pool size recommended from the observed connection demand")
+        .tag("pool", poolName)
+        .register(meterRegistry);
+    return window;
+  }
+
+  /** The last samples of one pool's demand, oldest overwritten first. */
+  private static final class DemandWindow {
+    private final int[] samples;
+    private int next;
+    private boolean full;
+    private volatile int recommended;
+
+    DemandWindow(int size, int configuredSize) {
+      this.samples = new int[size];
+      this.recommended = configuredSize;
+    }
+
+    /** Adds a sample and returns the window's 95th percentile, or null until it is full. */
+    synchronized Integer add(int demand) {
+      samples[next] = demand;
+      next = (next + 1) % samples.length;
+      full |= next == 0;
+      if (!full) {
+        return null;
+      }
+      int[] sorted = samples.clone();
+      Arrays.sort(sorted);
+      return sorted[(int) Math.ceil(PERCENTILE * sorted.length) - 1];
+    }
+  }
+}
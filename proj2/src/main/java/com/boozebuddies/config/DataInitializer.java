@@ -9,6 +9,8 @@ import com.boozebuddies.repository.DriverRepository;
 import com.boozebuddies.repository.UserRepository;
 import java.time.LocalDate;
 import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -17,6 +19,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class DataInitializer implements CommandLineRunner {
 
+  private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
   @Autowired private UserRepository userRepository;
 
   @Autowired private DriverRepository driverRepository;
@@ -51,13 +55,9 @@ public class DataInitializer implements CommandLineRunner {
       user.addRole(Role.USER);
 
       userRepository.save(user);
-      System.out.println("=== USER CREATED ===");
-      System.out.println("Email: user@boozebuddies.com");
-      System.out.println("Password: password");
-      System.out.println("Role: USER");
-      System.out.println("==========================");
+      log.info("Created demo user {} with role {}", "user@boozebuddies.com", Role.USER);
     } else {
-      System.out.println("User already exists");
+      log.info("User already exists");
     }
   }
 
@@ -79,13 +79,9 @@ public class DataInitializer implements CommandLineRunner {
       admin.addRole(Role.ADMIN);
 
       userRepository.save(admin);
-      System.out.println("=== ADMIN USER CREATED ===");
-      System.out.println("Email: admin@boozebuddies.com");
-      System.out.println("Password: password");
-      System.out.println("Role: ADMIN");
-      System.out.println("==========================");
+      log.info("Created demo user {} with role {}", "admin@boozebuddies.com", Role.ADMIN);
     } else {
-      System.out.println("Admin user already exists");
+      log.info("Admin user already exists");
     }
   }
 
@@ -109,14 +105,13 @@ public class DataInitializer implements CommandLineRunner {
       merchantAdmin.addRole(Role.MERCHANT_ADMIN);
 
       userRepository.save(merchantAdmin);
-      System.out.println("=== MERCHANT ADMIN USER CREATED ===");
-      System.out.println("Email: merchant1@boozebuddies.com");
-      System.out.println("Password: password");
-      System.out.println("Role: MERCHANT_ADMIN");
-      System.out.println("Merchant ID: 1");
-      System.out.println("==========================");
+      log.info(
+          "Created demo user {} with role {} for merchant {}",
+          "merchant1@boozebuddies.com",
+          Role.MERCHANT_ADMIN,
+          1);
     } else {
-      System.out.println("Merchant admin user already exists");
+      log.info("Merchant admin user already exists");
     }
   }
 
@@ -173,15 +168,14 @@ public class DataInitializer implements CommandLineRunner {
 
       driverRepository.save(driver);
 
-      System.out.println("=== DRIVER USER CREATED ===");
-      System.out.println("Email: driver@boozebuddies.com");
-      System.out.println("Password: password");
-      System.out.println("Role: DRIVER");
-      System.out.println("Certification Status: APPROVED");
-      System.out.println("Vehicle: Car (DRV-001)");
-      System.out.println("==========================");
+      log.info(
+          "Created demo user {} with role {}, certification {}, vehicle {}",
+          "driver@boozebuddies.com",
+          Role.DRIVER,
+          CertificationStatus.APPROVED,
+          "Car (DRV-001)");
     } else {
-      System.out.println("Driver user already exists");
+      log.info("Driver user already exists");
     }
   }
 }
@@ -0,0 +1,106 @@
+package com.boozebuddies.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Connection pools for the primary database and an optional read replica.
+ *
+ * <p>The primary pool is configured with the usual {@code spring.datasource.*} and {@code
+ * spring.datasource.hikari.*} properties. A replica is enabled by setting {@code
+ * datasource.replica.url}; its credentials and pool sizing come from {@code datasource.replica.*}
+ * and {@code datasource.replica.hikari.*}, so heavy admin reads get their own connections instead
+ * of competing with checkout writes.
+ *
+ * <p>The application-wide {@link DataSource} routes read-only transactions of {@link ReplicaRead}
+ * methods to the replica (see {@link ReadWriteRoutingDataSource}); everything else, including
+ * other read-only work, uses the primary. Flyway always migrates the primary.
+ */
+@Configuration
+public class DataSourceConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(DataSourceConfig.class);
+
+  /**
+   * Creates the read-write primary pool.
+   *
+   * @param properties the {@code spring.datasource.*} connection properties
+   * @return the primary pool
+   */
+  @Bean
+  @FlywayDataSource
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource pool =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    pool.setPoolName("primary");
+    return pool;
+  }
+
+  /**
+   * Creates the read-only replica pool when {@code datasource.replica.url} is set.
+   *
+   * @param environment the environment the {@code datasource.replica.*} properties are read from
+   * @return the replica pool
+   */
+  @Bean
+  @ConditionalOnExpression("!'${datasource.replica.url:}'.isBlank()")
+  @ConfigurationProperties("datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(Environment environment) {
+    DataSourceProperties properties =
+        Binder.get(environment).bind("datasource.replica", DataSourceProperties.class).get();
+    HikariDataSource pool =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    pool.setPoolName("replica");
+    pool.setReadOnly(true);
+    return pool;
+  }
+
+  /**
+   * Creates the data source the application uses, routing opted-in read-only transactions to the
+   * replica.
+   *
+   * @param primary the primary pool
+   * @param replica the replica pool, if configured
+   * @return the routing data source
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") ObjectProvider<DataSource> replica) {
+    DataSource replicaPool = replica.getIfAvailable();
+    if (replicaPool == null) {
+      log.info("No read replica configured; replica reads use the primary pool");
+    } else {
+      log.info("Routing @ReplicaRead read-only transactions to the replica pool");
+    }
+    return readWriteRouting(primary, replicaPool);
+  }
+
+  /**
+   * Wraps the routing data source so the physical connection is only fetched at the first
+   * statement, once the transaction's read-only flag is known.
+   *
+   * @param primary the primary pool
+   * @param replica the replica pool, or null
+   * @return the lazily connecting routing data source
+   */
+  static DataSource readWriteRouting(DataSource primary, DataSource replica) {
+    return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+  }
+}
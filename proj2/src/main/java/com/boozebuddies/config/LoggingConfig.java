@@ -0,0 +1,46 @@
+package com.boozebuddies.config;
+
+import com.boozebuddies.logging.MdcTaskDecorator;
+import com.boozebuddies.logging.RequestIdFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Wires the request and order IDs into the logging pipeline.
+ *
+ * <p>The appenders themselves are set up in {@code logback-spring.xml}: log events are handed to a
+ * bounded asynchronous queue, so request threads never wait on console I/O, and written as JSON
+ * lines when the {@code json} or {@code docker} profile is active. High-volume DEBUG loggers are
+ * sampled there as well (see {@link com.boozebuddies.logging.DebugSamplingTurboFilter}).
+ */
+@Configuration
+public class LoggingConfig {
+
+  /**
+   * Registers the request ID filter ahead of every other filter, so all of a request's log lines
+   * carry its ID.
+   *
+   * @return the filter registration
+   */
+  @Bean
+  public FilterRegistrationBean<RequestIdFilter> requestIdFilter() {
+    FilterRegistrationBean<RequestIdFilter> registration =
+        new FilterRegistrationBean<>(new RequestIdFilter());
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  /**
+   * Propagates the MDC to {@code @Async} tasks. Spring Boot applies this decorator to the task
+   * executor it auto-configures.
+   *
+   * @return the task decorator
+   */
+  @Bean
+  public TaskDecorator mdcTaskDecorator() {
+    return new MdcTaskDecorator();
+  }
+}
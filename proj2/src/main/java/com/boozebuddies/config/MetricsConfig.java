@@ -0,0 +1,42 @@
+package com.boozebuddies.config;
+
+import io.micrometer.core.aop.CountedAspect;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the {@code @Timed} and {@code @Counted} annotations on Spring beans.
+ *
+ * <p>All meters are scraped from {@code /actuator/prometheus}. Besides the application's own
+ * meters, Spring Boot publishes the Hikari pool metrics ({@code hikaricp.connections.acquire},
+ * {@code hikaricp.connections.pending}, tagged by {@code pool}) and a timer per repository method
+ * ({@code spring.data.repository.invocations}, tagged by {@code repository} and {@code method}).
+ * Histogram buckets for the latency timers are switched on in {@code application.properties}.
+ */
+@Configuration
+public class MetricsConfig {
+
+  /**
+   * Records {@code @Timed} methods as timers.
+   *
+   * @param meterRegistry the registry the timers are published to
+   * @return the aspect
+   */
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+
+  /**
+   * Records {@code @Counted} methods as counters.
+   *
+   * @param meterRegistry the registry the counters are published to
+   * @return the aspect
+   */
+  @Bean
+  public CountedAspect countedAspect(MeterRegistry meterRegistry) {
+    return new CountedAspect(meterRegistry);
+  }
+}
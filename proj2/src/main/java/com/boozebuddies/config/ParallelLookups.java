@@ -0,0 +1,246 @@
+package com.boozebuddies.config;
+
+import com.boozebuddies.logging.MdcTaskDecorator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a request's independent database lookups at the same time instead of one after another, so
+ * the request waits for the slowest lookup rather than for their sum.
+ *
+ * <p>A handler opens a {@link Scope}, forks each lookup, joins, and then reads the results. Joining
+ * fails as soon as one lookup fails, and gives up after {@code lookups.timeout-ms} counted from
+ * opening the scope; either way the lookups still running are cancelled and their results
+ * dropped. Closing the scope cancels anything not joined.
+ *
+ * <p>Each lookup runs in its own transaction on another thread, outside the request's persistence
+ * context, so the entities it returns are detached. A lookup must fetch everything the handler
+ * reads afterwards, or map it to a DTO before returning.
+ *
+ * <p>The caller chooses where a lookup reads from. {@link Scope#fork(Supplier)} runs it in a
+ * read-write transaction on the primary, so it sees every committed write: use it for reads that
+ * must reflect what the client just did, such as an order fetched right after checkout. {@link
+ * Scope#fork(Supplier, boolean)} with {@code readOnly} set runs it in a read-only transaction
+ * with replica reads allowed, so it is routed to the replica when one is configured; that spares
+ * the primary but may return stale data, or nothing, while the replica lags.
+ *
+ * <p>Every running lookup holds a pooled connection, so at most {@code lookups.max-concurrency}
+ * run at once, well below the Hikari pool size. Lookups run on virtual threads when {@code
+ * spring.threads.virtual.enabled=true} on Java 21 or later, and a fork waits for a free slot;
+ * otherwise they run on a pool of platform threads without a queue, and a fork that finds the pool
+ * busy runs on the calling thread.
+ */
+@Component
+public class ParallelLookups implements DisposableBean {
+
+  private final AsyncTaskExecutor executor;
+  private final TransactionTemplate primaryTemplate;
+  private final TransactionTemplate readOnlyTemplate;
+  private final long timeoutMs;
+
+  /**
+   * Constructs the lookup executor.
+   *
+   * @param transactionManager the transaction manager each lookup's transaction is started with
+   * @param maxConcurrency the most lookups running at once across all requests
+   * @param timeoutMs how long a scope waits for its lookups
+   * @param virtualThreads whether the application runs on virtual threads
+   */
+  public ParallelLookups(
+      PlatformTransactionManager transactionManager,
+      @Value("${lookups.max-concurrency:4}") int maxConcurrency,
+      @Value("${lookups.timeout-ms:3000}") long timeoutMs,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    this.primaryTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTemplate.setReadOnly(true);
+    this.timeoutMs = timeoutMs;
+    this.executor = createExecutor(Math.max(1, maxConcurrency), virtualThreads);
+  }
+
+  /**
+   * Opens a scope for one request's lookups. Use it in a try-with-resources block.
+   *
+   * @return the new scope
+   */
+  public Scope open() {
+    return new Scope(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+  }
+
+  @Override
+  public void destroy() {
+    if (executor instanceof ThreadPoolTaskExecutor pool) {
+      pool.shutdown();
+    }
+  }
+
+  /** Runs a lookup in its transaction, allowing replica reads if it is read-only. */
+  private <T> T execute(Supplier<T> lookup, boolean readOnly) {
+    if (!readOnly) {
+      return primaryTemplate.execute(status -> lookup.get());
+    }
+    try (ReadWriteRoutingDataSource.ReplicaScope scope =
+        ReadWriteRoutingDataSource.allowReplica()) {
+      return readOnlyTemplate.execute(status -> lookup.get());
+    }
+  }
+
+  private static AsyncTaskExecutor createExecutor(int maxConcurrency, boolean virtualThreads) {
+    if (virtualThreads && Runtime.version().feature() >= 21) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("lookup-");
+      executor.setVirtualThreads(true);
+      executor.setConcurrencyLimit(maxConcurrency);
+      executor.setTaskDecorator(new MdcTaskDecorator());
+      return executor;
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("lookup-");
+    executor.setCorePoolSize(maxConcurrency);
+    executor.setMaxPoolSize(maxConcurrency);
+    executor.setQueueCapacity(0);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setTaskDecorator(new MdcTaskDecorator());
+    executor.setDaemon(true);
+    executor.initialize();
+    return executor;
+  }
+
+  /** The lookups forked for one request. Not thread-safe; use it from the request thread only. */
+  public final class Scope implements AutoCloseable {
+
+    private final long deadline;
+    private final List<CompletableFuture<?>> forks = new ArrayList<>();
+    private final CompletableFuture<Void> failure = new CompletableFuture<>();
+
+    private Scope(long deadline) {
+      this.deadline = deadline;
+    }
+
+    /**
+     * Starts a lookup that reads from the primary.
+     *
+     * @param lookup the lookup, run in a read-write transaction
+     * @param <T> the lookup's result type
+     * @return a handle to read the result from after {@link #join()}
+     */
+    public <T> Lookup<T> fork(Supplier<T> lookup) {
+      return fork(lookup, false);
+    }
+
+    /**
+     * Starts a lookup.
+     *
+     * @param lookup the lookup
+     * @param readOnly whether to run it in a read-only transaction, which may read from a lagging
+     *     replica, rather than in a read-write transaction on the primary
+     * @param <T> the lookup's result type
+     * @return a handle to read the result from after {@link #join()}
+     */
+    public <T> Lookup<T> fork(Supplier<T> lookup, boolean readOnly) {
+      CompletableFuture<T> future =
+          CompletableFuture.supplyAsync(() -> execute(lookup, readOnly), executor);
+      future.whenComplete(
+          (result, error) -> {
+            if (error != null) {
+              failure.completeExceptionally(error);
+            }
+          });
+      forks.add(future);
+      return new Lookup<>(future);
+    }
+
+    /**
+     * Waits until every forked lookup has finished.
+     *
+     * @throws TimeoutException if the lookups are still running when the scope's time is up
+     * @throws RuntimeException the first lookup failure, as thrown by the lookup
+     */
+    public void join() throws TimeoutException {
+      CompletableFuture<Void> all =
+          CompletableFuture.allOf(forks.toArray(CompletableFuture[]::new));
+      try {
+        CompletableFuture.anyOf(all, failure)
+            .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        close();
+        throw new TimeoutException("Lookups did not finish within " + timeoutMs + " ms");
+      } catch (ExecutionException e) {
+        close();
+        Throwable cause = unwrap(e);
+        if (cause instanceof RuntimeException runtime) {
+          throw runtime;
+        }
+        if (cause instanceof Error error) {
+          throw error;
+        }
+        throw new IllegalStateException("Lookup failed", cause);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        close();
+        throw new IllegalStateException("Interrupted while waiting for lookups", e);
+      }
+    }
+
+    /**
+     * Cancels the lookups that have not finished. A cancelled lookup already running is not
+     * interrupted: it completes in the background and its result is dropped.
+     */
+    @Override
+    public void close() {
+      for (CompletableFuture<?> fork : forks) {
+        fork.cancel(false);
+      }
+    }
+
+    private Throwable unwrap(Throwable error) {
+      Throwable cause = error;
+      while ((cause instanceof ExecutionException || cause instanceof CompletionException)
+          && cause.getCause() != null) {
+        cause = cause.getCause();
+      }
+      return cause;
+    }
+  }
+
+  /**
+   * The result of one forked lookup.
+   *
+   * @param <T> the result type
+   */
+  public static final class Lookup<T> {
+
+    private final CompletableFuture<T> future;
+
+    private Lookup(CompletableFuture<T> future) {
+      this.future = future;
+    }
+
+    /**
+     * Returns the lookup's result.
+     *
+     * @return the result, possibly null
+     * @throws IllegalStateException if the scope has not been joined successfully
+     */
+    public T get() {
+      if (!future.isDone() || future.isCompletedExceptionally()) {
+        throw new IllegalStateException("Lookup read before its scope was joined");
+      }
+      return future.join();
+    }
+  }
+}
@@ -1,21 +1,73 @@
 package com.boozebuddies.config;
 
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-/** Configuration class for password encoding. */
+/**
+ * Configuration class for password encoding.
+ *
+ * <p>New hashes are written with the scheme named by {@code security.password.encoder} ({@code
+ * bcrypt} or {@code argon2}) and prefixed with its ID, e.g. {@code {bcrypt}$2a$12$...}. Hashes
+ * written before the prefix was introduced are plain BCrypt and still verify. A stored hash that
+ * uses another scheme or weaker parameters than configured reports that it needs upgrading, and is
+ * rehashed the next time its user signs in. Calibrate the parameters with {@code
+ * PasswordHashingBenchmark} on production hardware.
+ */
 @Configuration
 public class PasswordEncoderConfig {
 
+  private static final String BCRYPT = "bcrypt";
+  private static final String ARGON2 = "argon2";
+
+  private static final int ARGON2_SALT_LENGTH = 16;
+  private static final int ARGON2_HASH_LENGTH = 32;
+  private static final int ARGON2_PARALLELISM = 1;
+
   /**
-   * Creates a BCrypt password encoder bean for the application.
+   * Creates the delegating password encoder bean for the application.
    *
-   * @return a BCryptPasswordEncoder instance
+   * @param encoder the ID of the scheme new hashes are written with
+   * @param bcryptStrength the BCrypt cost factor (log2 of the number of rounds)
+   * @param argon2MemoryKib the Argon2 memory cost in KiB
+   * @param argon2Iterations the Argon2 time cost
+   * @return a DelegatingPasswordEncoder instance
    */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      @Value("${security.password.encoder:bcrypt}") String encoder,
+      @Value("${security.password.bcrypt.strength:10}") int bcryptStrength,
+      @Value("${security.password.argon2.memory-kib:16384}") int argon2MemoryKib,
+      @Value("${security.password.argon2.iterations:2}") int argon2Iterations) {
+    BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+    Map<String, PasswordEncoder> encoders = new HashMap<>();
+    encoders.put(BCRYPT, bcrypt);
+    encoders.put(
+        ARGON2,
+        new Argon2PasswordEncoder(
+            ARGON2_SALT_LENGTH,
+            ARGON2_HASH_LENGTH,
+            ARGON2_PARALLELISM,
+            argon2MemoryKib,
+            argon2Iterations));
+    if (!encoders.containsKey(encoder)) {
+      throw new IllegalStateException(
+          "Unknown security.password.encoder '"
+              + encoder
+              + "', expected one of "
+              + encoders.keySet());
+    }
+
+    DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encoder, encoders);
+    // Hashes stored before the {id} prefix was introduced are plain BCrypt
+    delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+    return delegating;
   }
 }
@@ -0,0 +1,96 @@
+package com.boozebuddies.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections for read-only work that opted into the replica to a replica pool and
+ * everything else to the primary.
+ *
+ * <p>Being read-only is not enough: permission checks and detail lookups are read-only too, and
+ * must see what the client just wrote. Work opts in with {@link ReplicaRead} or {@link
+ * #allowReplica()}, and is then routed to the replica if it also runs in a read-only transaction.
+ *
+ * <p>The route is decided when a connection is obtained, from the read-only flag of the current
+ * transaction. Transaction managers set that flag only after they begin the transaction, so this
+ * data source must sit behind a {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers fetching the
+ * physical connection to the first statement. Work outside a transaction always goes to the
+ * primary. Without a replica, opted-in work falls back to the primary as well.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  /** The pool a connection is taken from. */
+  public enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  private static final ThreadLocal<Boolean> REPLICA_ALLOWED =
+      ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+  private final boolean hasReplica;
+
+  /**
+   * Constructs the routing data source.
+   *
+   * @param primary the read-write primary pool
+   * @param replica the read-only replica pool, or null to send all work to the primary
+   */
+  public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(Route.PRIMARY, primary);
+    if (replica != null) {
+      targets.put(Route.REPLICA, replica);
+    }
+    this.hasReplica = replica != null;
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  /**
+   * Returns whether read-only work is sent to a replica.
+   *
+   * @return true if a replica pool is configured
+   */
+  public boolean hasReplica() {
+    return hasReplica;
+  }
+
+  /**
+   * Lets read-only transactions on the current thread read from the replica until the returned
+   * scope is closed. Scopes nest; closing one restores the setting it replaced. Use it in a
+   * try-with-resources block.
+   *
+   * @return the scope to close once the replica reads are done
+   */
+  public static ReplicaScope allowReplica() {
+    boolean previous = REPLICA_ALLOWED.get();
+    REPLICA_ALLOWED.set(Boolean.TRUE);
+    return () -> REPLICA_ALLOWED.set(previous);
+  }
+
+  @Override
+  protected Route determineCurrentLookupKey() {
+    return hasReplica
+            && REPLICA_ALLOWED.get()
+            && TransactionSynchronizationManager.isActualTransactionActive()
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        ? Route.REPLICA
+        : Route.PRIMARY;
+  }
+
+  /** A period in which the current thread's read-only transactions may use the replica. */
+  @FunctionalInterface
+  public interface ReplicaScope extends AutoCloseable {
+
+    /** Ends the period, restoring the previous setting. */
+    @Override
+    void close();
+  }
+}
@@ -0,0 +1,22 @@
+package com.boozebuddies.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets a read-only transactional method, or every method of a class, read from the replica when
+ * one is configured.
+ *
+ * <p>Only for reporting reads that tolerate replica lag, such as exports, admin listings and
+ * revenue sums. Other read-only transactions stay on the primary. Has no effect unless the method
+ * runs in a read-only transaction, which it may start itself with {@code @Transactional(readOnly =
+ * true)}. Applied by {@link ReplicaReadAspect} through Spring proxies, so self-invocations are not
+ * covered.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaRead {}
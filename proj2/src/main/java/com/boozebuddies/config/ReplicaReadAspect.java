@@ -0,0 +1,34 @@
+package com.boozebuddies.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Routes the read-only transactions of {@link ReplicaRead} methods to the replica.
+ *
+ * <p>The routing data source fetches its connection at the first statement, so it does not matter
+ * whether this advice runs inside or outside the transaction interceptor.
+ */
+@Aspect
+@Component
+public class ReplicaReadAspect {
+
+  /**
+   * Runs the method with replica reads allowed on the current thread.
+   *
+   * @param joinPoint the intercepted method call
+   * @return the method's result
+   * @throws Throwable anything the method throws
+   */
+  @Around(
+      "@annotation(com.boozebuddies.config.ReplicaRead)"
+          + " || @within(com.boozebuddies.config.ReplicaRead)")
+  public Object allowReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+    try (ReadWriteRoutingDataSource.ReplicaScope scope =
+        ReadWriteRoutingDataSource.allowReplica()) {
+      return joinPoint.proceed();
+    }
+  }
+}
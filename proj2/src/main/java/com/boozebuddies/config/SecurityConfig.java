@@ -1,7 +1,10 @@
 package com.boozebuddies.config;
 
 import com.boozebuddies.security.JwtAuthenticationFilter;
+import com.boozebuddies.security.RateLimitFilter;
+import com.boozebuddies.security.RateLimiter;
 import java.util.Arrays;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,21 +18,39 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-/** Security configuration for the application using JWT authentication. */
+/**
+ * Security configuration for the application using JWT authentication.
+ *
+ * <p>Actuator endpoints require the ADMIN role. The one exception is {@code /actuator/prometheus},
+ * which is open to an unauthenticated scraper only when actuator is served on its own management
+ * port ({@code management.server.port}, set by the {@code metrics} profile), so it is never
+ * reachable without a JWT on the public port.
+ */
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true, securedEnabled = true)
 public class SecurityConfig {
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final RateLimiter rateLimiter;
+  private final boolean separateManagementPort;
 
   /**
-   * Constructor injection for JWT authentication filter.
+   * Constructor injection for JWT authentication filter and rate limiter.
    *
    * @param jwtAuthenticationFilter the JWT authentication filter
+   * @param rateLimiter the rate limiter applied to API requests
+   * @param serverPort the port the API is served on
+   * @param managementPort the port actuator is served on, or -1 if it shares the API port
    */
-  public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+  public SecurityConfig(
+      JwtAuthenticationFilter jwtAuthenticationFilter,
+      RateLimiter rateLimiter,
+      @Value("${server.port:8080}") int serverPort,
+      @Value("${management.server.port:-1}") int managementPort) {
     this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+    this.rateLimiter = rateLimiter;
+    this.separateManagementPort = managementPort > 0 && managementPort != serverPort;
   }
 
   /**
@@ -52,6 +73,14 @@ public class SecurityConfig {
         .sessionManagement(
             session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
+        // Unauthenticated Prometheus scrapes, only on a separate management port
+        .authorizeHttpRequests(
+            auth -> {
+              if (separateManagementPort) {
+                auth.requestMatchers("/actuator/prometheus").permitAll();
+              }
+            })
+
         // Configure authorization rules
         .authorizeHttpRequests(
             auth ->
@@ -61,6 +90,8 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/actuator/health")
                     .permitAll()
+                    .requestMatchers("/actuator/**")
+                    .hasRole("ADMIN")
                     .requestMatchers("/h2-console/**")
                     .permitAll()
                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**")
@@ -99,6 +130,8 @@ public class SecurityConfig {
                     .authenticated()
                     .requestMatchers(HttpMethod.GET, "/api/merchants/by-distance")
                     .authenticated()
+                    .requestMatchers(HttpMethod.GET, "/api/merchants/nearest")
+                    .authenticated()
                     .requestMatchers(HttpMethod.GET, "/api/merchants/name/**")
                     .authenticated()
 
@@ -135,6 +168,9 @@ public class SecurityConfig {
                     // Users place and manage their own orders
                     .requestMatchers(HttpMethod.POST, "/api/orders")
                     .hasRole("USER")
+                    // Bulk creation for catering accounts, merchant admins and integrations
+                    .requestMatchers(HttpMethod.POST, "/api/orders/bulk")
+                    .hasAnyRole("USER", "MERCHANT_ADMIN", "ADMIN")
                     .requestMatchers(HttpMethod.GET, "/api/orders/my-orders/**")
                     .hasRole("USER")
                     .requestMatchers(HttpMethod.PUT, "/api/orders/{id}/cancel")
@@ -210,6 +246,9 @@ public class SecurityConfig {
         // Add JWT filter before UsernamePasswordAuthenticationFilter
         .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
+        // Rate limit once the caller is known, before any controller touches the database
+        .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class)
+
         // Disable HTTP Basic authentication (we're using JWT)
         .httpBasic(httpBasic -> httpBasic.disable())
 
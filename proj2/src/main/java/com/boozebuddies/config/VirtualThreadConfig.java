@@ -0,0 +1,54 @@
+package com.boozebuddies.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Extra wiring for the virtual-thread execution mode.
+ *
+ * <p>The mode is switched on with {@code spring.threads.virtual.enabled=true} (see the {@code
+ * virtual} Spring profile) and only takes effect on Java 21 or later. Spring Boot then runs Tomcat
+ * requests, the {@code @Async} task executor and the {@code @Scheduled} task scheduler on virtual
+ * threads. This class adds the {@link ConnectionPoolAdmissionFilter} so those threads cannot
+ * outrun the Hikari pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+  /**
+   * Registers the admission filter ahead of the security filter chain, whose JWT filter already
+   * queries the database.
+   *
+   * @param maximumPoolSize the Hikari maximum pool size
+   * @param requestsPerConnection how many concurrent API requests to admit per pooled connection
+   * @param admissionTimeoutMs how long a request may wait for admission before a 503
+   * @return the filter registration
+   */
+  @Bean
+  public FilterRegistrationBean<ConnectionPoolAdmissionFilter> connectionPoolAdmissionFilter(
+      @Value("${spring.datasource.hikari.maximumPoolSize:10}") int maximumPoolSize,
+      @Value("${virtual-threads.admission.requests-per-connection:2}") int requestsPerConnection,
+      @Value("${virtual-threads.admission.timeout-ms:2000}") long admissionTimeoutMs) {
+    int limit = Math.max(1, maximumPoolSize * requestsPerConnection);
+    log.info(
+        "Virtual threads enabled: admitting at most {} concurrent API requests for a pool of {}",
+        limit,
+        maximumPoolSize);
+
+    FilterRegistrationBean<ConnectionPoolAdmissionFilter> registration =
+        new FilterRegistrationBean<>(new ConnectionPoolAdmissionFilter(limit, admissionTimeoutMs));
+    registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+    registration.addUrlPatterns("/api/*");
+    return registration;
+  }
+}
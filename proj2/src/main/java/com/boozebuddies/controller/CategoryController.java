@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /** REST controller for managing product categories. */
 @RestController
@@ -37,16 +38,23 @@ public class CategoryController {
   // ==================== RETRIEVE ====================
 
   /**
-   * Retrieves all categories.
+   * Retrieves all categories. Answers 304 when {@code If-None-Match} matches the current ETag.
    *
+   * @param request the current request
    * @return a list of all categories
    */
   @GetMapping
-  public ResponseEntity<ApiResponse<List<CategoryDTO>>> getAllCategories() {
+  public ResponseEntity<ApiResponse<List<CategoryDTO>>> getAllCategories(WebRequest request) {
     try {
-      List<Category> categories = categoryService.getAllCategories();
-      List<CategoryDTO> dtos = categories.stream().map(categoryMapper::toDTO).toList();
-      return ResponseEntity.ok(ApiResponse.success(dtos, "Categories retrieved successfully"));
+      return ConditionalGet.respond(
+          request,
+          "categories",
+          () -> {
+            List<Category> categories = categoryService.getAllCategories();
+            List<CategoryDTO> dtos = categories.stream().map(categoryMapper::toDTO).toList();
+            return ApiResponse.success(dtos, "Categories retrieved successfully");
+          },
+          categoryService.getCategoriesWatermark());
     } catch (Exception e) {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
           .body(ApiResponse.error("Failed to retrieve categories"));
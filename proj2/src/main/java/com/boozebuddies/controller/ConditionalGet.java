@@ -0,0 +1,105 @@
+package com.boozebuddies.controller;
+
+import com.boozebuddies.dto.Watermark;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Answers conditional GETs for read-mostly collections from cheap {@link Watermark} queries.
+ *
+ * <p>The ETag is a hash of the row counts and latest modification times of everything the
+ * response is built from, so an insert, update or delete in any of them changes it. When the
+ * client's {@code If-None-Match} or {@code If-Modified-Since} still matches, the response is a
+ * bodyless 304 and the collection itself is never loaded.
+ */
+final class ConditionalGet {
+
+  /**
+   * Clients may keep a copy but must revalidate it on every use. Private, because every endpoint
+   * served this way requires authentication.
+   */
+  static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  private ConditionalGet() {}
+
+  /**
+   * Returns 304 if the client's copy is current, otherwise 200 with the supplied body. Either way
+   * the response carries the ETag, Last-Modified and {@link #REVALIDATE} headers.
+   *
+   * <p>Caching is skipped, and the body always built, when a watermark is missing.
+   *
+   * @param request the current request, whose conditional headers are checked
+   * @param scope identifies the resource, so different endpoints never share an ETag
+   * @param body builds the response body; only called when the client's copy is stale
+   * @param watermarks the watermarks of every table the body is built from
+   * @return the 304 or 200 response
+   * @param <T> the body type
+   */
+  static <T> ResponseEntity<T> respond(
+      WebRequest request, String scope, Supplier<T> body, Watermark... watermarks) {
+    for (Watermark watermark : watermarks) {
+      if (watermark == null) {
+        return ResponseEntity.ok(body.get());
+      }
+    }
+
+    if (request.checkNotModified(etag(scope, watermarks), lastModifiedMillis(watermarks))) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
+    return ResponseEntity.ok().cacheControl(REVALIDATE).body(body.get());
+  }
+
+  /**
+   * Returns 304 if the client's copy is current, otherwise 200 with the supplied body. For
+   * resources that carry their own version numbers, which only change when the resource does; the
+   * ETag is built from the scope and the versions, and no Last-Modified is sent.
+   *
+   * @param request the current request, whose {@code If-None-Match} header is checked
+   * @param scope identifies the resource, so different endpoints never share an ETag
+   * @param body builds the response body; only called when the client's copy is stale
+   * @param versions the versions of everything the body is built from
+   * @return the 304 or 200 response
+   * @param <T> the body type
+   */
+  static <T> ResponseEntity<T> respondVersioned(
+      WebRequest request, String scope, Supplier<T> body, long... versions) {
+    StringBuilder etag = new StringBuilder().append('"').append(scope);
+    for (long version : versions) {
+      etag.append('-').append(version);
+    }
+    etag.append('"');
+
+    if (request.checkNotModified(etag.toString())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+    }
+    return ResponseEntity.ok().cacheControl(REVALIDATE).body(body.get());
+  }
+
+  /** Builds a strong ETag from the scope and each watermark's count and modification time. */
+  static String etag(String scope, Watermark... watermarks) {
+    StringBuilder key = new StringBuilder(scope);
+    for (Watermark watermark : watermarks) {
+      key.append('|').append(watermark.getCount()).append('@').append(watermark.getLastModified());
+    }
+    return '"' + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + '"';
+  }
+
+  /** Returns the latest modification time in epoch milliseconds, or -1 if none is known. */
+  static long lastModifiedMillis(Watermark... watermarks) {
+    LocalDateTime latest = null;
+    for (Watermark watermark : watermarks) {
+      LocalDateTime lastModified = watermark.getLastModified();
+      if (lastModified != null && (latest == null || lastModified.isAfter(latest))) {
+        latest = lastModified;
+      }
+    }
+    return latest == null ? -1 : latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
@@ -1,5 +1,6 @@
 package com.boozebuddies.controller;
 
+import com.boozebuddies.config.ParallelLookups;
 import com.boozebuddies.dto.ApiResponse;
 import com.boozebuddies.dto.DeliveryDTO;
 import com.boozebuddies.entity.Delivery;
@@ -9,6 +10,7 @@ import com.boozebuddies.entity.User;
 import com.boozebuddies.mapper.DeliveryMapper;
 import com.boozebuddies.model.DeliveryStatus;
 import com.boozebuddies.model.Role;
+import com.boozebuddies.security.RequestResolutionContext;
 import com.boozebuddies.security.annotation.RoleAnnotations.*;
 import com.boozebuddies.service.DeliveryService;
 import com.boozebuddies.service.DriverService;
@@ -16,6 +18,7 @@ import com.boozebuddies.service.OrderService;
 import com.boozebuddies.service.PermissionService;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -35,6 +38,7 @@ public class DeliveryController {
   private final PermissionService permissionService;
   private final OrderService orderService;
   private final DriverService driverService;
+  private final ParallelLookups parallelLookups;
 
   // ==================== ADMIN ENDPOINTS ====================
 
@@ -134,7 +138,8 @@ public class DeliveryController {
   }
 
   /**
-   * Method for getting a Delivery by the attached Order Id
+   * Method for getting a Delivery by the attached Order Id. The delivery and the order's owner are
+   * loaded in parallel; a 503 is returned if they take longer than {@code lookups.timeout-ms}.
    *
    * @param orderId to search by
    * @param authentication of the user
@@ -146,7 +151,25 @@ public class DeliveryController {
       @PathVariable Long orderId, Authentication authentication) {
     try {
       User user = permissionService.getAuthenticatedUser(authentication);
-      Delivery delivery = deliveryService.getDeliveryByOrderId(orderId);
+
+      // Lookups run outside this request's persistence context, so each one maps what it loaded
+      // before returning. They read from the primary, so a status change just made is seen
+      DeliveryLookup delivery;
+      Long orderUserId;
+      try (ParallelLookups.Scope scope = parallelLookups.open()) {
+        ParallelLookups.Lookup<DeliveryLookup> deliveryLookup =
+            scope.fork(() -> lookUpDelivery(orderId));
+        ParallelLookups.Lookup<Long> ownerLookup =
+            scope.fork(
+                () ->
+                    orderService
+                        .getOrderById(orderId)
+                        .map(order -> order.getUser() != null ? order.getUser().getId() : null)
+                        .orElse(null));
+        scope.join();
+        delivery = deliveryLookup.get();
+        orderUserId = ownerLookup.get();
+      }
 
       if (delivery == null) {
         return ResponseEntity.notFound().build();
@@ -156,32 +179,48 @@ public class DeliveryController {
       boolean canAccess =
           user.hasRole(Role.ADMIN)
               || // Admins can see all
-              (delivery.getOrder() != null
-                  && delivery.getOrder().getUser() != null
-                  && delivery.getOrder().getUser().getId().equals(user.getId()))
+              (orderUserId != null && orderUserId.equals(user.getId()))
               || // User owns the order
               (user.hasRole(Role.DRIVER)
                   && user.getDriver() != null
-                  && delivery.getDriver() != null
-                  && delivery
-                      .getDriver()
-                      .getId()
-                      .equals(user.getDriver().getId())); // Driver's own delivery
+                  && delivery.driverId() != null
+                  && delivery.driverId().equals(user.getDriver().getId())); // Driver's own delivery
 
       if (!canAccess) {
         throw new AccessDeniedException("You don't have permission to view this delivery");
       }
 
-      DeliveryDTO deliveryDTO = deliveryMapper.toDTO(delivery);
-      return ResponseEntity.ok(ApiResponse.success(deliveryDTO, "Delivery retrieved successfully"));
+      return ResponseEntity.ok(
+          ApiResponse.success(delivery.dto(), "Delivery retrieved successfully"));
     } catch (AccessDeniedException e) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.error(e.getMessage()));
+    } catch (TimeoutException e) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .body(ApiResponse.error("Failed to retrieve delivery: " + e.getMessage()));
     } catch (Exception e) {
       return ResponseEntity.badRequest()
           .body(ApiResponse.error("Failed to retrieve delivery: " + e.getMessage()));
     }
   }
 
+  /**
+   * Loads an order's delivery, with its driver, and maps it.
+   *
+   * @param orderId the order ID
+   * @return the mapped delivery and its driver's ID, or null if the order has no delivery
+   */
+  private DeliveryLookup lookUpDelivery(Long orderId) {
+    Delivery delivery = deliveryService.getDeliveryByOrderId(orderId);
+    if (delivery == null) {
+      return null;
+    }
+    Long driverId = delivery.getDriver() != null ? delivery.getDriver().getId() : null;
+    return new DeliveryLookup(deliveryMapper.toDTO(delivery), driverId);
+  }
+
+  /** A delivery mapped inside its lookup, with the driver ID the access check needs. */
+  private record DeliveryLookup(DeliveryDTO dto, Long driverId) {}
+
   /**
    * Retrieves a delivery by ID. Drivers can view their own deliveries, admins can view all.
    *
@@ -195,7 +234,8 @@ public class DeliveryController {
       @PathVariable Long deliveryId, Authentication authentication) {
     try {
       User user = permissionService.getAuthenticatedUser(authentication);
-      Delivery delivery = deliveryService.getDeliveryById(deliveryId);
+      Delivery delivery =
+          RequestResolutionContext.delivery(deliveryId, deliveryService::getDeliveryById);
 
       if (delivery == null) {
         return ResponseEntity.notFound().build();
@@ -275,7 +315,8 @@ public class DeliveryController {
       Authentication authentication) {
     try {
       User user = permissionService.getAuthenticatedUser(authentication);
-      Delivery delivery = deliveryService.getDeliveryById(deliveryId);
+      Delivery delivery =
+          RequestResolutionContext.delivery(deliveryId, deliveryService::getDeliveryById);
 
       if (delivery == null) {
         return ResponseEntity.notFound().build();
@@ -321,7 +362,8 @@ public class DeliveryController {
             .body(ApiResponse.error("No driver profile found for this user"));
       }
 
-      Delivery delivery = deliveryService.getDeliveryById(deliveryId);
+      Delivery delivery =
+          RequestResolutionContext.delivery(deliveryId, deliveryService::getDeliveryById);
       if (delivery == null) {
         return ResponseEntity.notFound().build();
       }
@@ -364,7 +406,8 @@ public class DeliveryController {
             .body(ApiResponse.error("No driver profile found for this user"));
       }
 
-      Delivery delivery = deliveryService.getDeliveryById(deliveryId);
+      Delivery delivery =
+          RequestResolutionContext.delivery(deliveryId, deliveryService::getDeliveryById);
       if (delivery == null) {
         return ResponseEntity.notFound().build();
       }
@@ -414,7 +457,8 @@ public class DeliveryController {
             .body(ApiResponse.error("No driver profile found for this user"));
       }
 
-      Delivery delivery = deliveryService.getDeliveryById(deliveryId);
+      Delivery delivery =
+          RequestResolutionContext.delivery(deliveryId, deliveryService::getDeliveryById);
       if (delivery == null) {
         return ResponseEntity.notFound().build();
       }
@@ -471,7 +515,8 @@ public class DeliveryController {
             .body(ApiResponse.error("No driver profile found for this user"));
       }
 
-      Delivery delivery = deliveryService.getDeliveryById(deliveryId);
+      Delivery delivery =
+          RequestResolutionContext.delivery(deliveryId, deliveryService::getDeliveryById);
       if (delivery == null) {
         return ResponseEntity.notFound().build();
       }
@@ -518,7 +563,8 @@ public class DeliveryController {
             .body(ApiResponse.error("No driver profile found for this user"));
       }
 
-      Delivery delivery = deliveryService.getDeliveryById(deliveryId);
+      Delivery delivery =
+          RequestResolutionContext.delivery(deliveryId, deliveryService::getDeliveryById);
       if (delivery == null) {
         return ResponseEntity.notFound().build();
       }
@@ -0,0 +1,96 @@
+package com.boozebuddies.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Encodes what a driver was last sent into the poll token of the driver order feed, so the next
+ * poll can be answered with a delta without keeping any per-driver state on the server.
+ *
+ * <p>The token lists, in ID order, each order's ID and a fingerprint of the view the driver
+ * received. IDs are stored as variable-length gaps from the previous ID and fingerprints as four
+ * bytes, so a token costs about eight URL-safe characters per order. Orders are compared by
+ * fingerprint rather than by {@code updatedAt}, which is left unchanged when the feed refreshes
+ * the estimated delivery time the driver is shown.
+ */
+final class DriverFeedToken {
+
+  /** Feeds with more orders than this get no token, keeping it well inside URL length limits */
+  static final int MAX_ORDERS = 256;
+
+  private static final byte VERSION = 1;
+
+  private DriverFeedToken() {}
+
+  /**
+   * Builds the token for the orders about to be sent.
+   *
+   * @param fingerprints each order's fingerprint by order ID
+   * @return the token, or null if there are more than {@link #MAX_ORDERS} orders
+   */
+  static String encode(Map<Long, Integer> fingerprints) {
+    if (fingerprints.size() > MAX_ORDERS) {
+      return null;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream(1 + fingerprints.size() * 6);
+    out.write(VERSION);
+    long previous = 0;
+    for (Map.Entry<Long, Integer> entry : new TreeMap<>(fingerprints).entrySet()) {
+      long gap = entry.getKey() - previous;
+      previous = entry.getKey();
+      while ((gap & ~0x7FL) != 0) {
+        out.write((int) ((gap & 0x7F) | 0x80));
+        gap >>>= 7;
+      }
+      out.write((int) gap);
+      out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(entry.getValue()).array());
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+  }
+
+  /**
+   * Reads a token issued by {@link #encode(Map)}.
+   *
+   * @param token the token sent by the client
+   * @return the fingerprints by order ID, or null if the token is blank or malformed
+   */
+  static Map<Long, Integer> decode(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    ByteBuffer in;
+    try {
+      in = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+    if (!in.hasRemaining() || in.get() != VERSION) {
+      return null;
+    }
+
+    Map<Long, Integer> fingerprints = new TreeMap<>();
+    long previous = 0;
+    while (in.hasRemaining()) {
+      long gap = 0;
+      int shift = 0;
+      byte b;
+      do {
+        if (!in.hasRemaining() || shift > 56) {
+          return null;
+        }
+        b = in.get();
+        gap |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      if (gap <= 0 || in.remaining() < Integer.BYTES || fingerprints.size() >= MAX_ORDERS) {
+        return null;
+      }
+      previous += gap;
+      fingerprints.put(previous, in.getInt());
+    }
+    return fingerprints;
+  }
+}
@@ -0,0 +1,132 @@
+package com.boozebuddies.controller;
+
+import com.boozebuddies.dto.ApiResponse;
+import com.boozebuddies.model.ExportFormat;
+import com.boozebuddies.security.annotation.RoleAnnotations.*;
+import com.boozebuddies.service.ExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for bulk exports of orders, payments and deliveries. Admin only.
+ *
+ * <p>Rows are streamed from the database straight into the response body as NDJSON (the default)
+ * or CSV, so an export of millions of rows needs no more memory than one of ten. Choose the format
+ * with {@code ?format=ndjson} or {@code ?format=csv}.
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ExportController {
+
+  private static final Logger log = LoggerFactory.getLogger(ExportController.class);
+
+  private final ExportService exportService;
+  private final ObjectMapper objectMapper;
+
+  /** An export that writes rows in a format to an output stream. */
+  @FunctionalInterface
+  private interface Export {
+    long write(ExportFormat format, OutputStream output) throws IOException;
+  }
+
+  /**
+   * Streams all orders.
+   *
+   * @param format the output format, {@code ndjson} or {@code csv}
+   * @param response the response the rows are written to
+   * @throws IOException if writing the response fails
+   */
+  @GetMapping("/orders/export")
+  @IsAdmin
+  public void exportOrders(
+      @RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+      throws IOException {
+    stream("orders", format, response, exportService::exportOrders);
+  }
+
+  /**
+   * Streams all payments.
+   *
+   * @param format the output format, {@code ndjson} or {@code csv}
+   * @param response the response the rows are written to
+   * @throws IOException if writing the response fails
+   */
+  @GetMapping("/payments/export")
+  @IsAdmin
+  public void exportPayments(
+      @RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+      throws IOException {
+    stream("payments", format, response, exportService::exportPayments);
+  }
+
+  /**
+   * Streams all deliveries.
+   *
+   * @param format the output format, {@code ndjson} or {@code csv}
+   * @param response the response the rows are written to
+   * @throws IOException if writing the response fails
+   */
+  @GetMapping("/deliveries/export")
+  @IsAdmin
+  public void exportDeliveries(
+      @RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+      throws IOException {
+    stream("deliveries", format, response, exportService::exportDeliveries);
+  }
+
+  /**
+   * Runs an export into the response as a file download. Errors raised before any rows have been
+   * sent are answered with the usual {@link ApiResponse} error body; once the response is
+   * committed, the error is rethrown and the client sees a truncated download.
+   */
+  private void stream(String name, String format, HttpServletResponse response, Export export)
+      throws IOException {
+    ExportFormat exportFormat;
+    try {
+      exportFormat = ExportFormat.fromParameter(format);
+    } catch (IllegalArgumentException e) {
+      writeError(response, e.getMessage());
+      return;
+    }
+
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(exportFormat.getContentType());
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION,
+        ContentDisposition.attachment()
+            .filename(name + "." + exportFormat.getFileExtension())
+            .build()
+            .toString());
+    try {
+      long rows = export.write(exportFormat, response.getOutputStream());
+      log.info("Exported {} {} as {}", rows, name, exportFormat);
+    } catch (IOException | RuntimeException e) {
+      if (response.isCommitted()) {
+        log.warn("Export of {} failed after the response was committed", name, e);
+        throw e;
+      }
+      response.reset();
+      writeError(response, "Failed to export " + name + ": " + e.getMessage());
+    }
+  }
+
+  private void writeError(HttpServletResponse response, String message) throws IOException {
+    response.setStatus(HttpStatus.BAD_REQUEST.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+  }
+}
@@ -3,9 +3,12 @@ import com.boozebuddies.dto.OrderDTO;
 import com.boozebuddies.dto.ApiResponse;
 import com.boozebuddies.dto.MerchantDTO;
 import com.boozebuddies.dto.MerchantRecommendationDTO;
+import com.boozebuddies.dto.PaginatedResponse;
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Merchant;
 import com.boozebuddies.entity.Order;
 import com.boozebuddies.entity.User;
+import com.boozebuddies.geo.MerchantSpatialIndex;
 import com.boozebuddies.mapper.MerchantMapper;
 import com.boozebuddies.security.annotation.RoleAnnotations.*;
 import com.boozebuddies.service.MerchantService;
@@ -22,6 +25,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.ArrayList;
 /** REST controller for managing merchants and merchant operations. */
 @RestController
@@ -33,6 +37,12 @@ public class MerchantController {
   private final PermissionService permissionService;
   private final RecommendationService recommendationService;
 
+  /** Largest radius accepted by the nearest-merchants search */
+  private static final double MAX_NEAREST_RADIUS_KM = 200.0;
+
+  /** Largest page size accepted by the nearest-merchants search */
+  private static final int MAX_NEAREST_PAGE_SIZE = 100;
+
   /**
    * Constructor injection for merchant services.
    *
@@ -109,18 +119,29 @@ public class MerchantController {
    * Retrieves a merchant by ID. Admin only.
    *
    * @param id the merchant ID
+   * @param request the current request
    * @return the merchant with the specified ID
    */
   @GetMapping("/{id}")
   @IsAdmin
-  public ResponseEntity<?> getMerchantById(@PathVariable Long id) {
+  public ResponseEntity<?> getMerchantById(@PathVariable Long id, WebRequest request) {
     try {
       if (id == null || id <= 0) {
         return ResponseEntity.badRequest().body(ApiResponse.error("Invalid merchant ID"));
       }
-      Merchant merchant = merchantService.getMerchantById(id);
-      return ResponseEntity.ok(
-          ApiResponse.success(merchantMapper.toDTO(merchant), "Merchant retrieved successfully"));
+      Watermark watermark = merchantService.getMerchantWatermark(id);
+      if (watermark != null && watermark.getCount() == 0) {
+        // Unknown merchant: let the lookup below fail with its usual error, uncached
+        watermark = null;
+      }
+      return ConditionalGet.respond(
+          request,
+          "merchants/" + id,
+          () ->
+              ApiResponse.success(
+                  merchantMapper.toDTO(merchantService.getMerchantById(id)),
+                  "Merchant retrieved successfully"),
+          watermark);
     } catch (IllegalArgumentException e) {
       return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
     } catch (Exception e) {
@@ -217,18 +238,106 @@ public class MerchantController {
     }
   }
 
+  /**
+   * Retrieves the nearest active merchants within a radius, paged by distance. Authenticated users
+   * only.
+   *
+   * <p>The search location defaults to the authenticated user's saved location when latitude and
+   * longitude are not supplied.
+   *
+   * @param latitude optional latitude of the search location
+   * @param longitude optional longitude of the search location
+   * @param radiusKm the search radius in kilometers
+   * @param cuisine optional cuisine type filter
+   * @param openNow whether to only include merchants that are currently open
+   * @param page the page number
+   * @param size the page size
+   * @param authentication the authentication object
+   * @return a page of merchants with their distances, closest first
+   */
+  @GetMapping("/nearest")
+  @IsAuthenticated
+  public ResponseEntity<ApiResponse<PaginatedResponse<MerchantDTO>>> getNearestMerchants(
+      @RequestParam(required = false) Double latitude,
+      @RequestParam(required = false) Double longitude,
+      @RequestParam(defaultValue = "25") double radiusKm,
+      @RequestParam(required = false) String cuisine,
+      @RequestParam(defaultValue = "false") boolean openNow,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size,
+      Authentication authentication) {
+    try {
+      if (latitude == null || longitude == null) {
+        User user = permissionService.getAuthenticatedUser(authentication);
+        if (user == null || user.getLatitude() == null || user.getLongitude() == null) {
+          return ResponseEntity.badRequest()
+              .body(
+                  ApiResponse.error(
+                      "Location not provided and no location saved on your profile"));
+        }
+        latitude = user.getLatitude();
+        longitude = user.getLongitude();
+      }
+
+      if (latitude < -90
+          || latitude > 90
+          || longitude < -180
+          || longitude > 180
+          || radiusKm <= 0
+          || radiusKm > MAX_NEAREST_RADIUS_KM) {
+        return ResponseEntity.badRequest().body(ApiResponse.error("Invalid location or radius"));
+      }
+
+      if (page < 0 || size <= 0 || size > MAX_NEAREST_PAGE_SIZE) {
+        return ResponseEntity.badRequest().body(ApiResponse.error("Invalid page or size"));
+      }
+
+      Page<MerchantSpatialIndex.Neighbor> nearest =
+          merchantService.findNearestMerchants(
+              latitude, longitude, radiusKm, cuisine, openNow, PageRequest.of(page, size));
+      List<MerchantDTO> merchantDTOs =
+          nearest.getContent().stream()
+              .map(n -> merchantMapper.toDTO(n.merchant(), n.distanceKm()))
+              .collect(Collectors.toList());
+
+      PaginatedResponse<MerchantDTO> response =
+          PaginatedResponse.<MerchantDTO>builder()
+              .content(merchantDTOs)
+              .currentPage(nearest.getNumber())
+              .totalPages(nearest.getTotalPages())
+              .totalItems(nearest.getTotalElements())
+              .pageSize(nearest.getSize())
+              .hasNext(nearest.hasNext())
+              .hasPrevious(nearest.hasPrevious())
+              .build();
+      return ResponseEntity.ok(ApiResponse.success(response, "Nearest merchants retrieved"));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("Failed to retrieve merchants: " + e.getMessage()));
+    }
+  }
+
   /**
    * Retrieves all merchants. Authenticated users only.
    *
+   * @param request the current request
    * @return a list of all merchants
    */
   @GetMapping
   @IsAuthenticated
-  public ResponseEntity<?> getAllMerchants() {
+  public ResponseEntity<?> getAllMerchants(WebRequest request) {
     try {
-      List<MerchantDTO> merchants =
-          merchantService.getAllMerchants().stream().map(merchantMapper::toDTO).toList();
-      return ResponseEntity.ok(ApiResponse.success(merchants, "Merchants retrieved successfully"));
+      return ConditionalGet.respond(
+          request,
+          "merchants",
+          () -> {
+            List<MerchantDTO> merchants =
+                merchantService.getAllMerchants().stream().map(merchantMapper::toDTO).toList();
+            return ApiResponse.success(merchants, "Merchants retrieved successfully");
+          },
+          merchantService.getMerchantsWatermark());
     } catch (Exception e) {
       return ResponseEntity.badRequest()
           .body(ApiResponse.error("An error occurred retrieving merchants"));
@@ -3,29 +3,44 @@ package com.boozebuddies.controller;
 import com.boozebuddies.dto.ApiResponse;
 import com.boozebuddies.dto.SystemBroadcastDTO;
 import com.boozebuddies.dto.SystemBroadcastRequest;
+import com.boozebuddies.entity.User;
 import com.boozebuddies.security.annotation.RoleAnnotations.IsAdmin;
 import com.boozebuddies.security.annotation.RoleAnnotations.IsAuthenticated;
 import com.boozebuddies.service.NotificationService;
+import com.boozebuddies.service.PermissionService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Administrative endpoints for dispatching notifications through the {@link NotificationService}.
+ *
+ * <p>The broadcast feed is versioned by the ID of its newest broadcast. Reads carry that version
+ * in their ETag, so a client polling with {@code If-None-Match} gets a bodyless 304 until something
+ * new is broadcast.
  */
 @RestController
 @RequestMapping("/api/notifications")
 @RequiredArgsConstructor
 public class NotificationController {
 
+  /** The longest message the {@code broadcasts.message} column holds */
+  static final int MAX_MESSAGE_LENGTH = 1000;
+
   private final NotificationService notificationService;
+  private final PermissionService permissionService;
 
   /**
-   * Broadcasts a system-wide notification message. Requires administrator privileges.
+   * Broadcasts a system-wide notification message of at most {@value #MAX_MESSAGE_LENGTH}
+   * characters. Requires administrator privileges.
    *
    * @param request the broadcast request body
    * @return a success or error response
@@ -38,22 +53,90 @@ public class NotificationController {
     if (message == null || message.trim().isEmpty()) {
       return ResponseEntity.badRequest().body(ApiResponse.error("Message must not be empty"));
     }
+    if (message.trim().length() > MAX_MESSAGE_LENGTH) {
+      return ResponseEntity.badRequest()
+          .body(
+              ApiResponse.error(
+                  "Message must be at most " + MAX_MESSAGE_LENGTH + " characters long"));
+    }
 
     notificationService.broadcastSystemMessage(message.trim());
     return ResponseEntity.ok(ApiResponse.success(null, "Broadcast sent successfully"));
   }
 
   /**
-   * Returns recent broadcasts so clients can display them.
+   * Returns recent broadcasts so clients can display them. With {@code after}, only broadcasts
+   * newer than the one the client already has are returned.
    *
-   * @return list of broadcasts ordered newest first
+   * @param after the ID of the newest broadcast the client has, if any
+   * @param request the current request
+   * @return list of broadcasts ordered newest first, or 304 if the feed has not changed
    */
   @GetMapping
   @IsAuthenticated
-  public ResponseEntity<ApiResponse<java.util.List<SystemBroadcastDTO>>> getBroadcasts() {
-    return ResponseEntity.ok(
-        ApiResponse.success(
-            notificationService.getRecentBroadcasts(), "Broadcasts retrieved successfully"));
+  public ResponseEntity<ApiResponse<List<SystemBroadcastDTO>>> getBroadcasts(
+      @RequestParam(required = false) Long after, WebRequest request) {
+    if (after != null && after < 0) {
+      return ResponseEntity.badRequest().body(ApiResponse.error("Invalid broadcast ID"));
+    }
+
+    return ConditionalGet.respondVersioned(
+        request,
+        "broadcasts",
+        () ->
+            ApiResponse.success(
+                after == null
+                    ? notificationService.getRecentBroadcasts()
+                    : notificationService.getBroadcastsAfter(after),
+                "Broadcasts retrieved successfully"),
+        notificationService.getBroadcastVersion());
+  }
+
+  /**
+   * Returns the broadcasts the authenticated user has not read yet. The ETag covers both the feed
+   * version and the user's read position, so it changes on a new broadcast or when the user marks
+   * broadcasts read.
+   *
+   * @param authentication the authentication object
+   * @param request the current request
+   * @return list of unread broadcasts ordered newest first, or 304 if unchanged
+   */
+  @GetMapping("/unread")
+  @IsAuthenticated
+  public ResponseEntity<ApiResponse<List<SystemBroadcastDTO>>> getUnreadBroadcasts(
+      Authentication authentication, WebRequest request) {
+    User user = permissionService.getAuthenticatedUser(authentication);
+    long cursor = notificationService.getBroadcastCursor(user.getId());
+
+    return ConditionalGet.respondVersioned(
+        request,
+        "unread",
+        () ->
+            ApiResponse.success(
+                notificationService.getBroadcastsAfter(cursor),
+                "Unread broadcasts retrieved successfully"),
+        notificationService.getBroadcastVersion(),
+        cursor);
   }
-}
 
+  /**
+   * Marks broadcasts read by the authenticated user, up to and including {@code upTo}, or all
+   * current broadcasts if it is omitted.
+   *
+   * @param upTo the ID of the newest broadcast the user has read, if any
+   * @param authentication the authentication object
+   * @return the ID of the newest broadcast the user has now read
+   */
+  @PostMapping("/read")
+  @IsAuthenticated
+  public ResponseEntity<ApiResponse<Long>> markBroadcastsRead(
+      @RequestParam(required = false) Long upTo, Authentication authentication) {
+    if (upTo != null && upTo < 0) {
+      return ResponseEntity.badRequest().body(ApiResponse.error("Invalid broadcast ID"));
+    }
+
+    User user = permissionService.getAuthenticatedUser(authentication);
+    long cursor = notificationService.markBroadcastsRead(user.getId(), upTo);
+    return ResponseEntity.ok(ApiResponse.success(cursor, "Broadcasts marked as read"));
+  }
+}
@@ -1,23 +1,48 @@
 package com.boozebuddies.controller;
 
+import com.boozebuddies.config.ParallelLookups;
 import com.boozebuddies.dto.ApiResponse;
+import com.boozebuddies.dto.BulkCreateOrderRequest;
+import com.boozebuddies.dto.BulkOrderResponse;
+import com.boozebuddies.dto.BulkOrderResultDTO;
 import com.boozebuddies.dto.CreateOrderRequest;
 import com.boozebuddies.dto.DriverOrderDTO;
+import com.boozebuddies.dto.DriverOrderFeedDTO;
+import com.boozebuddies.dto.DriverOrderSummaryDTO;
+import com.boozebuddies.dto.OrderChangeFeedDTO;
 import com.boozebuddies.dto.OrderDTO;
+import com.boozebuddies.dto.PaginatedResponse;
 import com.boozebuddies.entity.Order;
+import com.boozebuddies.entity.OrderItem;
 import com.boozebuddies.entity.User;
 import com.boozebuddies.mapper.OrderMapper;
 import com.boozebuddies.model.Role;
+import com.boozebuddies.security.RequestResolutionContext;
 import com.boozebuddies.security.annotation.RoleAnnotations.*;
+import com.boozebuddies.service.OrderSearchService;
 import com.boozebuddies.service.OrderService;
+import com.boozebuddies.service.OrderService.ChangeWatermark;
+import com.boozebuddies.service.OrderService.OrderChanges;
 import com.boozebuddies.service.PermissionService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,9 +52,20 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class OrderController {
 
+  /** Largest number of orders accepted by one bulk request */
+  static final int MAX_BULK_ORDERS = 500;
+
+  /** Largest number of changed orders returned by one change feed sync */
+  static final int MAX_CHANGES = 500;
+
+  /** Largest page of order search results */
+  static final int MAX_SEARCH_PAGE_SIZE = 100;
+
   private final OrderService orderService;
+  private final OrderSearchService orderSearchService;
   private final PermissionService permissionService;
   private final OrderMapper orderMapper;
+  private final ParallelLookups parallelLookups;
 
   // ==================== CREATE ORDER (USER ONLY) ====================
 
@@ -68,11 +104,134 @@ public class OrderController {
     }
   }
 
+  /**
+   * Creates many orders in one request. Each order succeeds or fails on its own: the response
+   * lists a result per submitted order along with throughput figures for the batch.
+   *
+   * <p>Users may only create orders for themselves (a missing userId defaults to the caller).
+   * Merchant admins may create orders for any user at their own merchant. Admins may create any
+   * order.
+   *
+   * @param bulkRequest the orders to create, at most {@value #MAX_BULK_ORDERS}
+   * @param authentication the authentication object
+   * @return 200 when every order was created, 207 when some failed, 400 when none were created
+   */
+  @PostMapping("/bulk")
+  @PreAuthorize("hasAnyRole('USER', 'MERCHANT_ADMIN', 'ADMIN')")
+  public ResponseEntity<ApiResponse<BulkOrderResponse>> createOrdersInBulk(
+      @RequestBody BulkCreateOrderRequest bulkRequest, Authentication authentication) {
+    try {
+      List<CreateOrderRequest> requests = bulkRequest != null ? bulkRequest.getOrders() : null;
+      if (requests == null || requests.isEmpty()) {
+        return ResponseEntity.badRequest().body(ApiResponse.error("No orders provided"));
+      }
+      if (requests.size() > MAX_BULK_ORDERS) {
+        return ResponseEntity.badRequest()
+            .body(ApiResponse.error("A bulk request may contain at most " + MAX_BULK_ORDERS));
+      }
+
+      long start = System.nanoTime();
+      User user = permissionService.getAuthenticatedUser(authentication);
+
+      // Reject orders the caller may not place before handing the rest to the service
+      String[] errors = new String[requests.size()];
+      List<Order> accepted = new ArrayList<>();
+      List<Integer> acceptedIndexes = new ArrayList<>();
+      for (int i = 0; i < requests.size(); i++) {
+        CreateOrderRequest request = requests.get(i);
+        errors[i] = authorizeBulkOrder(user, request);
+        if (errors[i] == null) {
+          accepted.add(orderMapper.toEntity(request));
+          acceptedIndexes.add(i);
+        }
+      }
+
+      BulkOrderResultDTO[] results = new BulkOrderResultDTO[requests.size()];
+      OrderService.BulkCreateResult created =
+          accepted.isEmpty()
+              ? new OrderService.BulkCreateResult(List.of(), 0, 0, 0, 0)
+              : orderService.createOrders(accepted);
+      for (OrderService.BulkOrderOutcome outcome : created.outcomes()) {
+        int index = acceptedIndexes.get(outcome.index());
+        results[index] =
+            outcome.succeeded()
+                ? BulkOrderResultDTO.builder()
+                    .index(index)
+                    .success(true)
+                    .order(orderMapper.toDTO(outcome.order()))
+                    .build()
+                : BulkOrderResultDTO.builder().index(index).error(outcome.error()).build();
+      }
+      for (int i = 0; i < results.length; i++) {
+        if (results[i] == null) {
+          results[i] = BulkOrderResultDTO.builder().index(i).error(errors[i]).build();
+        }
+      }
+
+      long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      int createdCount = (int) Arrays.stream(results).filter(BulkOrderResultDTO::isSuccess).count();
+      BulkOrderResponse response =
+          BulkOrderResponse.builder()
+              .requested(requests.size())
+              .created(createdCount)
+              .failed(requests.size() - createdCount)
+              .elapsedMs(elapsedMs)
+              .ordersPerSecond(createdCount * 1000.0 / Math.max(1, elapsedMs))
+              .resolveMs(created.resolveMillis())
+              .validationMs(created.validationMillis())
+              .persistenceMs(created.persistenceMillis())
+              .transactions(created.transactions())
+              .results(Arrays.asList(results))
+              .build();
+
+      String message = "Created " + createdCount + " of " + requests.size() + " orders";
+      if (createdCount == requests.size()) {
+        return ResponseEntity.ok(ApiResponse.success(response, message));
+      }
+      HttpStatus status = createdCount == 0 ? HttpStatus.BAD_REQUEST : HttpStatus.MULTI_STATUS;
+      return ResponseEntity.status(status).body(new ApiResponse<>(false, message, response));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("Failed to create orders: " + e.getMessage()));
+    }
+  }
+
+  /**
+   * Checks whether the caller may place one order of a bulk request, filling in the caller as the
+   * customer when a user omits the userId.
+   *
+   * @param user the authenticated user
+   * @param request the order request
+   * @return null if the order may be placed, otherwise the reason it may not
+   */
+  private String authorizeBulkOrder(User user, CreateOrderRequest request) {
+    if (request == null) {
+      return "Order is required";
+    }
+    if (user.hasRole(Role.ADMIN)) {
+      return request.getUserId() == null ? "userId is required" : null;
+    }
+    if (user.hasRole(Role.MERCHANT_ADMIN) && user.ownsMerchant(request.getMerchantId())) {
+      return request.getUserId() == null ? "userId is required" : null;
+    }
+    if (user.hasRole(Role.USER)) {
+      if (request.getUserId() == null) {
+        request.setUserId(user.getId());
+      }
+      return request.getUserId().equals(user.getId())
+          ? null
+          : "You can only create orders for yourself";
+    }
+    return "You can only create orders for your own merchant";
+  }
+
   // ==================== RETRIEVE ORDERS ====================
 
   /**
    * Get order by ID. Users can view their own orders, merchant admins can view orders for their
-   * merchant, drivers can view assigned orders, and admins can view all orders.
+   * merchant, drivers can view assigned orders, and admins can view all orders. The order and its
+   * items are loaded in parallel; a 503 is returned if they take longer than {@code
+   * lookups.timeout-ms}.
    */
   @GetMapping("/{orderId}")
   @IsAuthenticated
@@ -89,7 +248,19 @@ public class OrderController {
             .body(ApiResponse.error("Authentication required"));
       }
 
-      Optional<Order> orderOpt = orderService.getOrderById(orderId);
+      // The order with its relationships and the items with their products are independent reads.
+      // Both go to the primary, so an order fetched right after checkout is always found
+      Optional<Order> orderOpt;
+      List<OrderItem> items;
+      try (ParallelLookups.Scope scope = parallelLookups.open()) {
+        ParallelLookups.Lookup<Optional<Order>> orderLookup =
+            scope.fork(() -> orderService.getOrderById(orderId));
+        ParallelLookups.Lookup<List<OrderItem>> itemsLookup =
+            scope.fork(() -> orderService.getOrderItems(orderId));
+        scope.join();
+        orderOpt = orderLookup.get();
+        items = itemsLookup.get();
+      }
 
       if (orderOpt.isEmpty()) {
         return ResponseEntity.notFound().build();
@@ -133,10 +304,13 @@ public class OrderController {
             .body(ApiResponse.error("You don't have permission to view this order"));
       }
 
-      OrderDTO orderDTO = orderMapper.toDTO(order);
+      OrderDTO orderDTO = orderMapper.toDTO(order, items);
       return ResponseEntity.ok(ApiResponse.success(orderDTO, "Order retrieved successfully"));
     } catch (AccessDeniedException e) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.error(e.getMessage()));
+    } catch (TimeoutException e) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .body(ApiResponse.error("Failed to retrieve order: " + e.getMessage()));
     } catch (Exception e) {
       return ResponseEntity.badRequest()
           .body(ApiResponse.error("Failed to retrieve order: " + e.getMessage()));
@@ -228,6 +402,44 @@ public class OrderController {
     }
   }
 
+  /**
+   * Syncs the order board of the merchant managed by the authenticated merchant admin. Without
+   * {@code since} the response is a snapshot of the open orders; with the watermark of the previous
+   * sync it holds only the orders created or changed since, and the IDs of those that closed.
+   *
+   * @param since the watermark returned by the previous sync, if any
+   * @param limit the most changed orders to return
+   * @param authentication the authentication object
+   * @return a snapshot or delta of the board and the next watermark
+   */
+  @GetMapping("/merchant/my-orders/changes")
+  @IsMerchantAdmin
+  public ResponseEntity<ApiResponse<OrderChangeFeedDTO>> getMyMerchantOrderChanges(
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "100") int limit,
+      Authentication authentication) {
+    try {
+      User user = permissionService.getAuthenticatedUser(authentication);
+
+      if (user.getMerchantId() == null) {
+        return ResponseEntity.badRequest()
+            .body(ApiResponse.error("No merchant assigned to this admin"));
+      }
+      if (limit < 1 || limit > MAX_CHANGES) {
+        return ResponseEntity.badRequest()
+            .body(ApiResponse.error("Limit must be between 1 and " + MAX_CHANGES));
+      }
+
+      OrderChanges changes =
+          orderService.getMerchantOrderChanges(user.getMerchantId(), watermark(since), limit);
+      return ResponseEntity.ok(
+          ApiResponse.success(toChangeFeed(changes), "Merchant order changes retrieved"));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("Failed to retrieve merchant orders: " + e.getMessage()));
+    }
+  }
+
   /**
    * Get orders for a specific merchant. Admin or merchant admin (if they own the merchant) can
    * access.
@@ -290,6 +502,126 @@ public class OrderController {
     }
   }
 
+  /**
+   * Syncs the orders assigned to the authenticated driver, in the same way as {@link
+   * #getMyMerchantOrderChanges}.
+   *
+   * @param since the watermark returned by the previous sync, if any
+   * @param limit the most changed orders to return
+   * @param authentication the authentication object
+   * @return a snapshot or delta of the assigned orders and the next watermark
+   */
+  @GetMapping("/driver/assigned/changes")
+  @IsDriver
+  public ResponseEntity<ApiResponse<OrderChangeFeedDTO>> getDriverOrderChanges(
+      @RequestParam(required = false) String since,
+      @RequestParam(defaultValue = "100") int limit,
+      Authentication authentication) {
+    try {
+      User user = permissionService.getAuthenticatedUser(authentication);
+
+      if (user.getDriver() == null) {
+        return ResponseEntity.badRequest()
+            .body(ApiResponse.error("No driver profile found for this user"));
+      }
+      if (limit < 1 || limit > MAX_CHANGES) {
+        return ResponseEntity.badRequest()
+            .body(ApiResponse.error("Limit must be between 1 and " + MAX_CHANGES));
+      }
+
+      OrderChanges changes =
+          orderService.getDriverOrderChanges(user.getDriver().getId(), watermark(since), limit);
+      return ResponseEntity.ok(
+          ApiResponse.success(toChangeFeed(changes), "Assigned order changes retrieved"));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("Failed to retrieve driver orders: " + e.getMessage()));
+    }
+  }
+
+  private static ChangeWatermark watermark(String since) {
+    return since == null || since.isBlank() ? null : ChangeWatermark.parse(since);
+  }
+
+  private OrderChangeFeedDTO toChangeFeed(OrderChanges changes) {
+    return OrderChangeFeedDTO.builder()
+        .snapshot(changes.snapshot())
+        .orders(changes.changed().stream().map(orderMapper::toDTO).collect(Collectors.toList()))
+        .removed(changes.removed())
+        .watermark(changes.watermark().toString())
+        .hasMore(changes.hasMore())
+        .build();
+  }
+
+  // ==================== SEARCH ORDERS ====================
+
+  /**
+   * Searches orders by merchant name and item names, most relevant first. Customers search their
+   * own orders and merchant admins their merchant's; admins search every order. Any caller can
+   * narrow the search further with {@code userId} or {@code merchantId}, but not widen it.
+   *
+   * @param q the words to search for
+   * @param userId the customer whose orders to search, if any
+   * @param merchantId the merchant whose orders to search, if any
+   * @param page the page number
+   * @param size the page size
+   * @param authentication the authentication object
+   * @return one page of matching orders
+   */
+  @GetMapping("/search")
+  @IsAuthenticated
+  public ResponseEntity<ApiResponse<PaginatedResponse<OrderDTO>>> searchOrders(
+      @RequestParam String q,
+      @RequestParam(required = false) Long userId,
+      @RequestParam(required = false) Long merchantId,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size,
+      Authentication authentication) {
+    try {
+      if (page < 0 || size <= 0 || size > MAX_SEARCH_PAGE_SIZE) {
+        return ResponseEntity.badRequest().body(ApiResponse.error("Invalid page or size"));
+      }
+
+      User user = permissionService.getAuthenticatedUser(authentication);
+      boolean admin = user.hasRole(Role.ADMIN);
+      if (!admin && user.hasRole(Role.MERCHANT_ADMIN)) {
+        if (user.getMerchantId() == null) {
+          return ResponseEntity.badRequest()
+              .body(ApiResponse.error("No merchant assigned to this admin"));
+        }
+        if (merchantId != null && !user.ownsMerchant(merchantId)) {
+          throw new AccessDeniedException("You can only search orders of your own merchant");
+        }
+        merchantId = user.getMerchantId();
+      } else if (!admin) {
+        if (userId != null && !userId.equals(user.getId())) {
+          throw new AccessDeniedException("You can only search your own orders");
+        }
+        userId = user.getId();
+      }
+
+      Page<Order> orders =
+          orderSearchService.search(q, userId, merchantId, PageRequest.of(page, size));
+      PaginatedResponse<OrderDTO> response =
+          PaginatedResponse.<OrderDTO>builder()
+              .content(
+                  orders.getContent().stream().map(orderMapper::toDTO).collect(Collectors.toList()))
+              .currentPage(orders.getNumber())
+              .totalPages(orders.getTotalPages())
+              .totalItems(orders.getTotalElements())
+              .pageSize(orders.getSize())
+              .hasNext(orders.hasNext())
+              .hasPrevious(orders.hasPrevious())
+              .build();
+      return ResponseEntity.ok(ApiResponse.success(response, "Orders found"));
+    } catch (AccessDeniedException e) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.error(e.getMessage()));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("Failed to search orders: " + e.getMessage()));
+    }
+  }
+
   // ==================== UPDATE ORDERS ====================
 
   /**
@@ -309,7 +641,8 @@ public class OrderController {
       }
 
       User user = permissionService.getAuthenticatedUser(authentication);
-      Optional<Order> orderOpt = orderService.getOrderById(orderId);
+      Optional<Order> orderOpt =
+          RequestResolutionContext.order(orderId, orderService::getOrderById);
 
       if (orderOpt.isEmpty()) {
         return ResponseEntity.notFound().build();
@@ -350,7 +683,8 @@ public class OrderController {
         return ResponseEntity.badRequest().body(ApiResponse.error("Invalid order ID"));
       }
 
-      Optional<Order> orderOpt = orderService.getOrderById(orderId);
+      Optional<Order> orderOpt =
+          RequestResolutionContext.order(orderId, orderService::getOrderById);
 
       if (orderOpt.isEmpty()) {
         return ResponseEntity.notFound().build();
@@ -368,7 +702,20 @@ public class OrderController {
     }
   }
 
-  @GetMapping("/by-distance")
+  /**
+   * Lists the orders awaiting a driver within a radius of the driver, with the distance and ETA of
+   * each.
+   *
+   * @param latitude the driver's latitude
+   * @param longitude the driver's longitude
+   * @param radiusKm the search radius in kilometers
+   * @param authentication the authentication object
+   * @return the nearby orders
+   */
+  @GetMapping(
+      value = "/by-distance",
+      params = "!view",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
   @IsDriver
   public ResponseEntity<ApiResponse<List<DriverOrderDTO>>> getOrdersByDistance(
       @RequestParam Double latitude,
@@ -376,49 +723,13 @@ public class OrderController {
       @RequestParam Double radiusKm,
       Authentication authentication) {
     try {
-
-      if (latitude == null
-          || longitude == null
-          || radiusKm == null
-          || radiusKm <= 0
-          || latitude < -90
-          || latitude > 90
-          || longitude < -180
-          || longitude > 180) {
+      if (!isValidSearch(latitude, longitude, radiusKm)) {
         return ResponseEntity.badRequest().body(ApiResponse.error("Invalid location or radius"));
       }
 
-      List<Order> orders = orderService.getOrdersWithinDistance(latitude, longitude, radiusKm);
-
-      // Convert to DriverOrderDTO with distance and ETA calculations, and update
-      // estimatedDeliveryTime
       List<DriverOrderDTO> driverOrderDTOs =
-          orders.stream()
-              .map(
-                  order -> {
-                    // Calculate distance from driver to merchant
-                    Double distanceKm = null;
-                    if (order.getMerchant() != null
-                        && order.getMerchant().getLatitude() != null
-                        && order.getMerchant().getLongitude() != null) {
-                      distanceKm =
-                          orderService.calculateDistance(
-                              latitude,
-                              longitude,
-                              order.getMerchant().getLatitude(),
-                              order.getMerchant().getLongitude());
-
-                      // Calculate and update estimatedDeliveryTime in database
-                      // ETA = distance / speed * 60 (convert to minutes) + 5 minutes for pickup
-                      if (distanceKm != null) {
-                        int etaMinutes = (int) Math.ceil((distanceKm / 30.0) * 60) + 5;
-                        java.time.LocalDateTime estimatedTime =
-                            java.time.LocalDateTime.now().plusMinutes(etaMinutes);
-                        orderService.updateEstimatedDeliveryTime(order.getId(), estimatedTime);
-                      }
-                    }
-                    return orderMapper.toDriverDTO(order, distanceKm);
-                  })
+          findNearbyOrders(latitude, longitude, radiusKm).stream()
+              .map(nearby -> orderMapper.toDriverDTO(nearby.order(), nearby.distanceKm()))
               .collect(Collectors.toList());
 
       return ResponseEntity.ok(
@@ -428,4 +739,131 @@ public class OrderController {
           .body(ApiResponse.error("Failed to retrieve orders: " + e.getMessage()));
     }
   }
+
+  /**
+   * Polls the nearby orders as a feed, for drivers on metered or slow connections. Selected by the
+   * {@code view} parameter: {@code summary} sends {@link DriverOrderSummaryDTO}s without items,
+   * customer or timestamps, {@code full} the same {@link DriverOrderDTO}s as the plain endpoint.
+   *
+   * <p>Every response carries a token. Sent back as {@code since}, it turns the next response into
+   * a delta holding only the orders that are new or changed since, plus the IDs of orders that
+   * were taken or cancelled. A blank or unreadable token yields a snapshot. Like the plain
+   * endpoint, the feed can be requested as {@code application/cbor} instead of JSON.
+   *
+   * @param latitude the driver's latitude
+   * @param longitude the driver's longitude
+   * @param radiusKm the search radius in kilometers
+   * @param view {@code summary} or {@code full}
+   * @param since the token of the driver's previous poll, if any
+   * @param authentication the authentication object
+   * @return a snapshot or delta of the nearby orders
+   */
+  @GetMapping(
+      value = "/by-distance",
+      params = "view",
+      produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+  @IsDriver
+  public ResponseEntity<ApiResponse<DriverOrderFeedDTO<Object>>> getOrderFeedByDistance(
+      @RequestParam Double latitude,
+      @RequestParam Double longitude,
+      @RequestParam Double radiusKm,
+      @RequestParam String view,
+      @RequestParam(required = false) String since,
+      Authentication authentication) {
+    try {
+      if (!isValidSearch(latitude, longitude, radiusKm)) {
+        return ResponseEntity.badRequest().body(ApiResponse.error("Invalid location or radius"));
+      }
+      boolean summary = "summary".equalsIgnoreCase(view);
+      if (!summary && !"full".equalsIgnoreCase(view)) {
+        return ResponseEntity.badRequest()
+            .body(ApiResponse.error("Invalid view: expected summary or full"));
+      }
+
+      Map<Long, Integer> previous = DriverFeedToken.decode(since);
+      Map<Long, Integer> fingerprints = new HashMap<>();
+      List<Object> orders = new ArrayList<>();
+      for (NearbyOrder nearby : findNearbyOrders(latitude, longitude, radiusKm)) {
+        // Fingerprinted by the summary, which leaves out fields that change on every poll
+        DriverOrderSummaryDTO summaryDTO =
+            orderMapper.toDriverSummaryDTO(nearby.order(), nearby.distanceKm());
+        int fingerprint = Objects.hashCode(summaryDTO);
+        fingerprints.put(nearby.order().getId(), fingerprint);
+        if (previous != null
+            && Objects.equals(previous.get(nearby.order().getId()), fingerprint)) {
+          continue;
+        }
+        orders.add(
+            summary ? summaryDTO : orderMapper.toDriverDTO(nearby.order(), nearby.distanceKm()));
+      }
+
+      List<Long> removed = new ArrayList<>();
+      if (previous != null) {
+        for (Long orderId : previous.keySet()) {
+          if (!fingerprints.containsKey(orderId)) {
+            removed.add(orderId);
+          }
+        }
+      }
+
+      DriverOrderFeedDTO<Object> feed =
+          DriverOrderFeedDTO.<Object>builder()
+              .delta(previous != null)
+              .orders(orders)
+              .removed(removed)
+              .token(DriverFeedToken.encode(fingerprints))
+              .build();
+      return ResponseEntity.ok(ApiResponse.success(feed, "Order feed retrieved successfully"));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("Failed to retrieve orders: " + e.getMessage()));
+    }
+  }
+
+  /** An order awaiting a driver and its distance from the driver, if the merchant is located. */
+  private record NearbyOrder(Order order, Double distanceKm) {}
+
+  private static boolean isValidSearch(Double latitude, Double longitude, Double radiusKm) {
+    return latitude != null
+        && longitude != null
+        && radiusKm != null
+        && radiusKm > 0
+        && latitude >= -90
+        && latitude <= 90
+        && longitude >= -180
+        && longitude <= 180;
+  }
+
+  /**
+   * Finds the orders within the radius and refreshes each one's estimated delivery time from its
+   * distance to the driver.
+   */
+  private List<NearbyOrder> findNearbyOrders(double latitude, double longitude, double radiusKm) {
+    List<Order> orders = orderService.getOrdersWithinDistance(latitude, longitude, radiusKm);
+    List<NearbyOrder> nearby = new ArrayList<>(orders.size());
+    for (Order order : orders) {
+      // Calculate distance from driver to merchant
+      Double distanceKm = null;
+      if (order.getMerchant() != null
+          && order.getMerchant().getLatitude() != null
+          && order.getMerchant().getLongitude() != null) {
+        distanceKm =
+            orderService.calculateDistance(
+                latitude,
+                longitude,
+                order.getMerchant().getLatitude(),
+                order.getMerchant().getLongitude());
+
+        // Calculate and update estimatedDeliveryTime in database
+        // ETA = distance / speed * 60 (convert to minutes) + 5 minutes for pickup
+        if (distanceKm != null) {
+          int etaMinutes = (int) Math.ceil((distanceKm / 30.0) * 60) + 5;
+          LocalDateTime estimatedTime = LocalDateTime.now().plusMinutes(etaMinutes);
+          orderService.updateEstimatedDeliveryTime(order.getId(), estimatedTime);
+        }
+      }
+      nearby.add(new NearbyOrder(order, distanceKm));
+    }
+    return nearby;
+  }
 }
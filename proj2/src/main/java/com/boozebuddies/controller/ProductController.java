@@ -15,11 +15,14 @@ import com.boozebuddies.service.ProductService;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /** REST controller for managing products and product operations. */
 @RestController
@@ -27,6 +30,8 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ProductController {
 
+  private static final Logger log = LoggerFactory.getLogger(ProductController.class);
+
   private final ProductService productService;
   private final ProductMapper productMapper;
   private final PermissionService permissionService;
@@ -38,16 +43,27 @@ public class ProductController {
   /**
    * Retrieves all available products. Public endpoint.
    *
+   * <p>Supports conditional requests: the ETag covers the available products and the merchants
+   * whose names they carry, and a matching {@code If-None-Match} is answered with 304.
+   *
+   * @param request the current request
    * @return a list of all available products
    */
   @GetMapping
-  public ResponseEntity<ApiResponse<List<ProductDTO>>> getAllAvailableProducts() {
+  public ResponseEntity<ApiResponse<List<ProductDTO>>> getAllAvailableProducts(
+      WebRequest request) {
     try {
-      List<Product> products = productService.getAvailableProducts();
-      List<ProductDTO> productDTOs =
-          products.stream().map(productMapper::toDTO).collect(Collectors.toList());
-      return ResponseEntity.ok(
-          ApiResponse.success(productDTOs, "Available products retrieved successfully"));
+      return ConditionalGet.respond(
+          request,
+          "products",
+          () -> {
+            List<Product> products = productService.getAvailableProducts();
+            List<ProductDTO> productDTOs =
+                products.stream().map(productMapper::toDTO).collect(Collectors.toList());
+            return ApiResponse.success(productDTOs, "Available products retrieved successfully");
+          },
+          productService.getAvailableProductsWatermark(),
+          merchantService.getMerchantsWatermark());
     } catch (Exception e) {
       return ResponseEntity.badRequest()
           .body(ApiResponse.error("Failed to retrieve products: " + e.getMessage()));
@@ -102,17 +118,24 @@ public class ProductController {
    * Retrieves products by merchant. Public endpoint.
    *
    * @param merchantId the merchant ID
+   * @param request the current request
    * @return a list of available products for the specified merchant
    */
   @GetMapping("/merchant/{merchantId}")
   public ResponseEntity<ApiResponse<List<ProductDTO>>> getProductsByMerchant(
-      @PathVariable Long merchantId) {
+      @PathVariable Long merchantId, WebRequest request) {
     try {
-      List<Product> products = productService.getAvailableProductsByMerchant(merchantId);
-      List<ProductDTO> productDTOs =
-          products.stream().map(productMapper::toDTO).collect(Collectors.toList());
-      return ResponseEntity.ok(
-          ApiResponse.success(productDTOs, "Merchant products retrieved successfully"));
+      return ConditionalGet.respond(
+          request,
+          "products/merchant/" + merchantId,
+          () -> {
+            List<Product> products = productService.getAvailableProductsByMerchant(merchantId);
+            List<ProductDTO> productDTOs =
+                products.stream().map(productMapper::toDTO).collect(Collectors.toList());
+            return ApiResponse.success(productDTOs, "Merchant products retrieved successfully");
+          },
+          productService.getAvailableProductsWatermarkByMerchant(merchantId),
+          merchantService.getMerchantWatermark(merchantId));
     } catch (Exception e) {
       return ResponseEntity.badRequest()
           .body(ApiResponse.error("Failed to retrieve merchant products: " + e.getMessage()));
@@ -209,12 +232,11 @@ public class ProductController {
   public ResponseEntity<ApiResponse<ProductDTO>> createProduct(
       @RequestBody CreateProductRequest request, Authentication authentication) {
     try {
-      System.out.println("DEBUG - CreateProductRequest received:");
-      System.out.println("  Name: " + request.getName());
-      System.out.println("  Category ID: " + request.getCategoryId());
-      System.out.println("  Merchant ID: " + request.getMerchantId());
-      System.out.println("  isAlcohol: " + request.isAlcohol());
-      System.out.println("  alcoholContent: " + request.getAlcoholContent());
+      log.debug(
+          "Creating product {} in category {} for merchant {}",
+          request.getName(),
+          request.getCategoryId(),
+          request.getMerchantId());
 
       User user = permissionService.getAuthenticatedUser(authentication);
 
@@ -236,19 +258,15 @@ public class ProductController {
               .isAlcohol(request.isAlcohol())
               .alcoholContent(request.getAlcoholContent())
               .isAvailable(request.isAvailable())
+              .stockQuantity(request.getStockQuantity())
               .imageUrl(request.getImageUrl())
               .build();
 
       // Use the new createProduct method that handles categories properly
       Product createdProduct = productService.createProduct(productDTO);
 
-      System.out.println("DEBUG - After productService.createProduct():");
-      System.out.println("  Product ID: " + createdProduct.getId());
-      System.out.println(
-          "  Category: "
-              + (createdProduct.getCategory() != null
-                  ? createdProduct.getCategory().getId()
-                  : "null"));
+      log.info(
+          "Created product {} for merchant {}", createdProduct.getId(), request.getMerchantId());
 
       return ResponseEntity.status(HttpStatus.CREATED)
           .body(
@@ -257,7 +275,7 @@ public class ProductController {
     } catch (AccessDeniedException e) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.error(e.getMessage()));
     } catch (Exception e) {
-      e.printStackTrace(); // Print full stack trace for debugging
+      log.warn("Failed to create product {}", request.getName(), e);
       return ResponseEntity.badRequest()
           .body(ApiResponse.error("Failed to create product: " + e.getMessage()));
     }
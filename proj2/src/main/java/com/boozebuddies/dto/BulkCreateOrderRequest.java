@@ -0,0 +1,14 @@
+package com.boozebuddies.dto;
+
+import java.util.List;
+import lombok.*;
+
+/** DTO for creating many orders in one request. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateOrderRequest {
+  /** The orders to create, each handled independently. */
+  private List<CreateOrderRequest> orders;
+}
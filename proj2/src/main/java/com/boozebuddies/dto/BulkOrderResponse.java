@@ -0,0 +1,41 @@
+package com.boozebuddies.dto;
+
+import java.util.List;
+import lombok.*;
+
+/** Data transfer object for the outcome and throughput of a bulk order creation. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOrderResponse {
+  /** The number of orders submitted */
+  private int requested;
+
+  /** The number of orders created */
+  private int created;
+
+  /** The number of orders that failed */
+  private int failed;
+
+  /** Total time spent handling the batch, in milliseconds */
+  private long elapsedMs;
+
+  /** Orders created per second over the whole batch */
+  private double ordersPerSecond;
+
+  /** Time spent loading the products and users referenced by the batch, in milliseconds */
+  private long resolveMs;
+
+  /** Time spent validating orders, in milliseconds */
+  private long validationMs;
+
+  /** Time spent saving orders, payments and deliveries, in milliseconds */
+  private long persistenceMs;
+
+  /** The number of database transactions used for the inserts */
+  private int transactions;
+
+  /** One result per submitted order, in submission order */
+  private List<BulkOrderResultDTO> results;
+}
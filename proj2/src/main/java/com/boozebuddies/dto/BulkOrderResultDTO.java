@@ -0,0 +1,22 @@
+package com.boozebuddies.dto;
+
+import lombok.*;
+
+/** Data transfer object for the result of one order in a bulk creation. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOrderResultDTO {
+  /** The position of the order in the submitted batch */
+  private int index;
+
+  /** Whether the order was created */
+  private boolean success;
+
+  /** The created order, if successful */
+  private OrderDTO order;
+
+  /** Why the order was not created, if unsuccessful */
+  private String error;
+}
@@ -36,7 +36,7 @@ public class CreateProductRequest {
   @JsonProperty("isAvailable")
   private boolean isAvailable;
 
-  /** The number of units available in stock */
+  /** The number of units in stock, or null to leave stock untracked */
   private Integer stockQuantity;
 
   /** URL to the product image */
@@ -0,0 +1,45 @@
+package com.boozebuddies.dto;
+
+import com.boozebuddies.model.DeliveryStatus;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * One delivery in a bulk export. Related records are referenced by ID only, so a row is read from
+ * the deliveries table alone.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeliveryExportRow {
+  /** The delivery ID */
+  private Long id;
+
+  /** The ID of the order being delivered */
+  private Long orderId;
+
+  /** The ID of the assigned driver, if any */
+  private Long driverId;
+
+  /** The delivery status */
+  private DeliveryStatus status;
+
+  /** Whether the recipient's age was verified at handover */
+  private Boolean ageVerified;
+
+  /** When the order was picked up */
+  private LocalDateTime pickupTime;
+
+  /** When the order was delivered */
+  private LocalDateTime deliveredTime;
+
+  /** When the delivery was expected to arrive */
+  private LocalDateTime estimatedDeliveryTime;
+
+  /** When the delivery was created */
+  private LocalDateTime createdAt;
+
+  /** When the delivery was last updated */
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.boozebuddies.dto;
+
+import java.util.List;
+import lombok.*;
+
+/**
+ * One poll of the driver order feed. A snapshot lists every nearby order; a delta lists only the
+ * orders that are new or changed since the poll that issued the client's token, and the IDs of
+ * those that left the feed.
+ *
+ * @param <T> the order view, {@link DriverOrderSummaryDTO} or {@link DriverOrderDTO}
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DriverOrderFeedDTO<T> {
+  /** True if this is a delta against the client's token, false if it replaces the client's list */
+  private boolean delta;
+
+  /** The orders, or in a delta the new and changed orders */
+  private List<T> orders;
+
+  /** In a delta, the IDs of orders no longer in the feed; empty in a snapshot */
+  private List<Long> removed;
+
+  /** The token to send as {@code since} on the next poll, or null if the feed is too large */
+  private String token;
+}
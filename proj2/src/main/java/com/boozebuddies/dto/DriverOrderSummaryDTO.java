@@ -0,0 +1,23 @@
+package com.boozebuddies.dto;
+
+import java.math.BigDecimal;
+import lombok.*;
+
+/**
+ * Compact view of an order for the driver feed: what a driver needs to pick an order, without the
+ * items, customer and timestamps of {@link DriverOrderDTO}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DriverOrderSummaryDTO {
+  private Long id;
+  private Long merchantId;
+  private String merchantName;
+  private String deliveryAddress;
+  private BigDecimal totalAmount;
+  private String status;
+  private Double distanceKm; // Distance from driver to merchant, rounded to 0.1 km
+  private Integer etaMin; // Estimated time of arrival in minutes
+}
@@ -53,4 +53,7 @@ public class MerchantDTO {
 
   /** The longitude coordinate of the merchant's location */
   private Double longitude;
+
+  /** Distance from the requested location in kilometers, set only for proximity searches */
+  private Double distanceKm;
 }
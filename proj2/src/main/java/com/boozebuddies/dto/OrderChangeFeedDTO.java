@@ -0,0 +1,29 @@
+package com.boozebuddies.dto;
+
+import java.util.List;
+import lombok.*;
+
+/**
+ * One sync of an order change feed. A snapshot holds every order on the board; a delta holds only
+ * the orders created or changed since the client's watermark, plus the IDs of orders that left.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderChangeFeedDTO {
+  /** True if the orders replace the client's board, false if they are changes to apply to it */
+  private boolean snapshot;
+
+  /** The orders, or in a delta the created and changed orders */
+  private List<OrderDTO> orders;
+
+  /** IDs of orders that were delivered, cancelled or otherwise closed since the watermark */
+  private List<Long> removed;
+
+  /** The watermark to send as {@code since} on the next sync */
+  private String watermark;
+
+  /** True if more changes are waiting and the client should sync again straight away */
+  private boolean hasMore;
+}
@@ -0,0 +1,46 @@
+package com.boozebuddies.dto;
+
+import com.boozebuddies.model.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * One order in a bulk export. Related records are referenced by ID only, so a row is read from the
+ * orders table alone.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderExportRow {
+  /** The order ID */
+  private Long id;
+
+  /** The ID of the customer who placed the order */
+  private Long userId;
+
+  /** The ID of the merchant fulfilling the order */
+  private Long merchantId;
+
+  /** The ID of the assigned driver, if any */
+  private Long driverId;
+
+  /** The order status */
+  private OrderStatus status;
+
+  /** The order total */
+  private BigDecimal totalAmount;
+
+  /** The promo code applied to the order, if any */
+  private String promoCode;
+
+  /** Whether the customer's age was verified */
+  private boolean ageVerified;
+
+  /** When the order was placed */
+  private LocalDateTime createdAt;
+
+  /** When the order was last updated */
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,49 @@
+package com.boozebuddies.dto;
+
+import com.boozebuddies.model.PaymentStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * One payment in a bulk export. Related records are referenced by ID only, so a row is read from
+ * the payments table alone.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentExportRow {
+  /** The payment ID */
+  private Long id;
+
+  /** The ID of the order paid for */
+  private Long orderId;
+
+  /** The ID of the paying user */
+  private Long userId;
+
+  /** The payment amount */
+  private BigDecimal amount;
+
+  /** The payment status */
+  private PaymentStatus status;
+
+  /** The payment method used */
+  private String paymentMethod;
+
+  /** The payment processor's transaction ID */
+  private String transactionId;
+
+  /** Why the payment was refunded, if it was */
+  private String refundReason;
+
+  /** When the payment was processed */
+  private LocalDateTime paymentDate;
+
+  /** When the payment was created */
+  private LocalDateTime createdAt;
+
+  /** When the payment was last updated */
+  private LocalDateTime updatedAt;
+}
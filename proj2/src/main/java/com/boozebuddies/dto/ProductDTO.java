@@ -42,6 +42,9 @@ public class ProductDTO {
   /** Whether the product is currently available */
   private boolean isAvailable;
 
+  /** The number of units on hand, or null if stock is not tracked */
+  private Integer stockQuantity;
+
   /** The volume of the product in milliliters */
   private Integer volume;
 }
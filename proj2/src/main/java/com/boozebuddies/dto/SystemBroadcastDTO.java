@@ -13,7 +13,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class SystemBroadcastDTO {
 
-  /** Optional identifier for the broadcast (currently timestamp based). */
+  /** Identifier of the broadcast; IDs only grow, newer broadcasts having higher ones. */
   private Long id;
 
   /** Message shared with the entire platform. */
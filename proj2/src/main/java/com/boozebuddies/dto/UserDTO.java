@@ -58,6 +58,6 @@ public class UserDTO {
   /** The longitude coordinate of the user's location */
   private Double longitude;
 
-  // Note: passwordHash, refreshToken, and refreshTokenExpiryDate are intentionally excluded
-  // for security reasons - never expose these in API responses
+  // Note: passwordHash is intentionally excluded for security reasons - never expose it in API
+  // responses
 }
@@ -0,0 +1,21 @@
+package com.boozebuddies.dto;
+
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * How many rows a response is built from and when the newest of them last changed. Any insert,
+ * update or delete of those rows changes one of the two values, so a watermark identifies a version
+ * of the response without loading it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Watermark {
+  /** The number of rows */
+  private Long count;
+
+  /** The latest modification time of those rows, or null if there are none */
+  private LocalDateTime lastModified;
+}
@@ -0,0 +1,34 @@
+package com.boozebuddies.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * Entity recording one system-wide broadcast.
+ *
+ * <p>Broadcasts are never updated or deleted. IDs only grow, so the newest ID identifies the
+ * current version of the broadcast feed.
+ */
+@Entity
+@Table(name = "broadcasts")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class Broadcast {
+  /** The unique broadcast ID */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /** The message shared with the entire platform */
+  @Column(nullable = false, length = 1000)
+  private String message;
+
+  /** When the broadcast was sent */
+  @Builder.Default
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,32 @@
+package com.boozebuddies.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * Entity recording how far a user has read the broadcast feed. Every broadcast with a higher ID
+ * than {@link #lastReadId} is unread. Written through {@code BroadcastCursorRepository#advance},
+ * which never moves a cursor backwards.
+ */
+@Entity
+@Table(name = "broadcast_cursors")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class BroadcastCursor {
+  /** The user the cursor belongs to */
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+
+  /** The ID of the newest broadcast the user has read */
+  @Column(name = "last_read_id", nullable = false)
+  private long lastReadId;
+
+  /** When the cursor last moved */
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
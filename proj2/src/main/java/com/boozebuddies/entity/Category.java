@@ -1,12 +1,17 @@
 package com.boozebuddies.entity;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /** Entity representing a product category. */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categories")
 @Table(name = "categories")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,6 +35,10 @@ public class Category {
   @Column(name = "image_url")
   private String imageUrl;
 
+  /** When the row last changed; maintained by the database and used for HTTP cache validation */
+  @Column(name = "updated_at", insertable = false, updatable = false)
+  private LocalDateTime updatedAt;
+
   /** The list of products in this category */
   @OneToMany(mappedBy = "category", cascade = CascadeType.ALL)
   @Builder.Default
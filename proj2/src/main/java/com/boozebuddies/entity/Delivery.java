@@ -4,10 +4,19 @@ import com.boozebuddies.model.DeliveryStatus;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.*;
-
-/** Entity representing a delivery for an order. */
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
+
+/**
+ * Entity representing a delivery for an order.
+ *
+ * <p>Versioned for optimistic locking, and updates only write the columns that changed. The
+ * driver's live location is excluded from the version check so location pings never conflict with
+ * status changes.
+ */
 @Entity
 @Table(name = "deliveries")
+@DynamicUpdate
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -19,6 +28,9 @@ public class Delivery {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  /** Optimistic-lock version, null until the delivery is first saved */
+  @Version private Long version;
+
   /** The order being delivered */
   @OneToOne
   @JoinColumn(name = "order_id", unique = true, nullable = false)
@@ -83,14 +95,17 @@ public class Delivery {
 
   // Current driver location (updates as driver moves)
   /** The current latitude of the driver */
+  @OptimisticLock(excluded = true)
   @Column(name = "current_latitude")
   private Double currentLatitude;
 
   /** The current longitude of the driver */
+  @OptimisticLock(excluded = true)
   @Column(name = "current_longitude")
   private Double currentLongitude;
 
   /** When the driver's location was last updated */
+  @OptimisticLock(excluded = true)
   @Column(name = "last_location_update")
   private LocalDateTime lastLocationUpdate;
 
@@ -6,10 +6,19 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
-
-/** Entity representing a driver who delivers orders. */
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
+
+/**
+ * Entity representing a driver who delivers orders.
+ *
+ * <p>Versioned for optimistic locking, and updates only write the columns that changed.
+ * Availability and location are excluded from the version check; they are last-writer-wins fields
+ * updated directly by {@code DriverRepository}.
+ */
 @Entity
 @Table(name = "drivers")
+@DynamicUpdate
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -21,6 +30,9 @@ public class Driver {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  /** Optimistic-lock version, null until the driver is first saved */
+  @Version private Long version;
+
   /** Link to the User account for this driver. The User must have DRIVER role. */
   @OneToOne
   @JoinColumn(name = "user_id", nullable = false, unique = true)
@@ -47,14 +59,17 @@ public class Driver {
 
   /** Whether the driver is currently available for deliveries */
   @Builder.Default
+  @OptimisticLock(excluded = true)
   @Column(name = "is_available")
   private boolean isAvailable = true;
 
   /** The driver's current latitude coordinate */
+  @OptimisticLock(excluded = true)
   @Column(name = "current_latitude")
   private Double currentLatitude;
 
   /** The driver's current longitude coordinate */
+  @OptimisticLock(excluded = true)
   @Column(name = "current_longitude")
   private Double currentLongitude;
 
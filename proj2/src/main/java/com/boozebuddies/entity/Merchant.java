@@ -1,13 +1,19 @@
 package com.boozebuddies.entity;
 
+import com.boozebuddies.geo.GeoPoint;
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /** Entity representing a merchant that sells products. */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "merchants")
 @Table(name = "merchants")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -74,6 +80,16 @@ public class Merchant {
   @Column(name = "longitude")
   private Double longitude;
 
+  /** Precomputed trigonometric form of the merchant's coordinates, cached when loaded */
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private GeoPoint geoPoint;
+
+  /** When the row last changed; maintained by the database and used for HTTP cache validation */
+  @Column(name = "updated_at", insertable = false, updatable = false)
+  private LocalDateTime updatedAt;
+
   /** The list of products offered by this merchant */
   @OneToMany(mappedBy = "merchant", cascade = CascadeType.ALL)
   @Builder.Default
@@ -92,10 +108,37 @@ public class Merchant {
   /**
    * Check if the merchant is currently open for business.
    *
-   * @return true if the merchant is active and within operating hours, false otherwise
+   * @return true if the merchant is active and within operating hours, false otherwise (including
+   *     when operating hours are not set)
    */
   public boolean isOpen() {
+    if (openingTime == null || closingTime == null) {
+      return false;
+    }
     LocalTime now = LocalTime.now();
     return isActive && now.isAfter(openingTime) && now.isBefore(closingTime);
   }
+
+  /**
+   * Get the merchant's location with its radians and latitude cosine precomputed.
+   *
+   * <p>The point is cached on load and rebuilt only if the coordinates have changed since.
+   *
+   * @return the merchant's location, or null if latitude or longitude is not set
+   */
+  public GeoPoint getGeoPoint() {
+    if (latitude == null || longitude == null) {
+      return null;
+    }
+    if (geoPoint == null || !geoPoint.matches(latitude, longitude)) {
+      geoPoint = GeoPoint.of(latitude, longitude);
+    }
+    return geoPoint;
+  }
+
+  /** Caches the merchant's precomputed location after it is loaded from the database. */
+  @PostLoad
+  public void cacheGeoPoint() {
+    this.geoPoint = GeoPoint.ofNullable(latitude, longitude);
+  }
 }
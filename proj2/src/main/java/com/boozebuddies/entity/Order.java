@@ -7,10 +7,19 @@ import java.time.LocalDateTime;
 import java.util.List;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
-
-/** Entity representing a customer order. */
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
+
+/**
+ * Entity representing a customer order.
+ *
+ * <p>Versioned for optimistic locking, and updates only write the columns that changed. The
+ * estimated delivery time, refreshed whenever a driver polls nearby orders, is excluded from the
+ * version check.
+ */
 @Entity
 @Table(name = "orders")
+@DynamicUpdate
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -22,6 +31,9 @@ public class Order {
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  /** Optimistic-lock version, null until the order is first saved */
+  @Version private Long version;
+
   /** The user who placed the order */
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", nullable = false)
@@ -70,6 +82,7 @@ public class Order {
   private LocalDateTime updatedAt = LocalDateTime.now();
 
   /** The estimated time of delivery */
+  @OptimisticLock(excluded = true)
   @Column(name = "estimated_delivery_time")
   private LocalDateTime estimatedDeliveryTime;
 
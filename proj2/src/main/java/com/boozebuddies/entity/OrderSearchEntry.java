@@ -0,0 +1,42 @@
+package com.boozebuddies.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * Entity holding the searchable text of one order.
+ *
+ * <p>Rows are written with their order and never updated: the merchant name and item names are
+ * the ones the order was placed with, like the snapshot names on its items. Searched with a MySQL
+ * {@code FULLTEXT} index on {@code search_text}, see {@code OrderSearchRepository}.
+ */
+@Entity
+@Table(name = "order_search")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class OrderSearchEntry {
+  /** The ID of the order */
+  @Id
+  @Column(name = "order_id")
+  private Long orderId;
+
+  /** The customer who placed the order */
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  /** The merchant the order was placed with */
+  @Column(name = "merchant_id", nullable = false)
+  private Long merchantId;
+
+  /** When the order was placed */
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  /** The merchant name followed by the item names */
+  @Column(name = "search_text", nullable = false, columnDefinition = "TEXT")
+  private String searchText;
+}
@@ -0,0 +1,66 @@
+package com.boozebuddies.entity;
+
+import com.boozebuddies.model.OutboxEventType;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * Entity representing a domain event waiting in, or relayed from, the transactional outbox.
+ *
+ * <p>Events are inserted in the same transaction as the state change they describe, so an event
+ * exists if and only if the change was committed. {@code publishedAt} stays null until every
+ * subscriber has handled the event.
+ */
+@Entity
+@Table(name = "outbox_events")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class OutboxEvent {
+  /** The unique event ID, increasing in commit order within an aggregate */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /** The type of aggregate the event belongs to (ORDER or DELIVERY) */
+  @Column(name = "aggregate_type", nullable = false, length = 40)
+  private String aggregateType;
+
+  /** The ID of the order or delivery the event belongs to */
+  @Column(name = "aggregate_id", nullable = false)
+  private Long aggregateId;
+
+  /** What happened */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "event_type", nullable = false, length = 60)
+  private OutboxEventType eventType;
+
+  /** Event details as a JSON object */
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  /** When the event was recorded */
+  @Builder.Default
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt = LocalDateTime.now();
+
+  /** When every subscriber finished handling the event, or null while pending */
+  @Column(name = "published_at")
+  private LocalDateTime publishedAt;
+
+  /** How many relay attempts have failed */
+  @Builder.Default
+  @Column(nullable = false)
+  private int attempts = 0;
+
+  /** Earliest time of the next relay attempt after a failure */
+  @Column(name = "next_attempt_at")
+  private LocalDateTime nextAttemptAt;
+
+  /** The error from the most recent failed attempt */
+  @Column(name = "last_error", length = 1000)
+  private String lastError;
+}
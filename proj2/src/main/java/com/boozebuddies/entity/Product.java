@@ -2,12 +2,17 @@ package com.boozebuddies.entity;
 
 import jakarta.persistence.*;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /** Entity representing a product available for purchase. */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
 @Table(name = "products")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -58,9 +63,12 @@ public class Product {
   @Column(name = "alcohol_content")
   private Double alcoholContent;
 
-  // @Builder.Default
-  // @Column(name = "stock_quantity")
-  // private Integer stockQuantity = 0;
+  /**
+   * The units on hand, or null if stock is not tracked and the product never sells out. Not
+   * updatable through the entity; see {@code ProductRepository#updateStockQuantity}
+   */
+  @Column(name = "stock_quantity", updatable = false)
+  private Integer stockQuantity;
 
   /** Whether the product is currently available for purchase */
   @Builder.Default private boolean available = true;
@@ -83,6 +91,10 @@ public class Product {
   @Column(name = "volume_ml")
   private Integer volume;
 
+  /** When the row last changed; maintained by the database and used for HTTP cache validation */
+  @Column(name = "updated_at", insertable = false, updatable = false)
+  private LocalDateTime updatedAt;
+
   /**
    * Checks if the product is currently available for purchase.
    *
@@ -0,0 +1,52 @@
+package com.boozebuddies.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * Entity recording one issued refresh token.
+ *
+ * <p>The token itself is never stored, only its SHA-256 hash. Each login starts a session, and
+ * every token rotated from it shares the session ID. A rotated token is kept, marked used, until it
+ * expires, so that presenting it again can be recognised as a stolen copy.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RefreshToken {
+  /** The unique token ID */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /** The user the token was issued to */
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "user_id", nullable = false)
+  private User user;
+
+  /** The SHA-256 hash of the token */
+  @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "BINARY(32)")
+  private byte[] tokenHash;
+
+  /** The login session the token belongs to */
+  @Column(name = "session_id", nullable = false)
+  private long sessionId;
+
+  /** When the token stops being accepted */
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  /** When the token was exchanged for its successor, or null while it is the current one */
+  @Column(name = "used_at")
+  private LocalDateTime usedAt;
+
+  /** When the token was issued */
+  @Builder.Default
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt = LocalDateTime.now();
+}
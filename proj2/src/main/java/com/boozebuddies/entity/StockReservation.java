@@ -0,0 +1,54 @@
+package com.boozebuddies.entity;
+
+import com.boozebuddies.model.ReservationStatus;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * Entity recording the stock held for one product of one order.
+ *
+ * <p>Rows are written behind the in-memory reservation ledger, so they may lag it by a flush
+ * interval. Units available for new orders are the product's stock quantity minus the {@link
+ * ReservationStatus#RESERVED} quantities.
+ */
+@Entity
+@Table(name = "stock_reservations")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class StockReservation {
+  /** The unique reservation ID */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /** The order the stock is held for */
+  @Column(name = "order_id", nullable = false)
+  private Long orderId;
+
+  /** The product the stock belongs to */
+  @Column(name = "product_id", nullable = false)
+  private Long productId;
+
+  /** The number of units held */
+  @Column(nullable = false)
+  private int quantity;
+
+  /** Whether the units are still held, sold, or back on sale */
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private ReservationStatus status;
+
+  /** When the reservation was made */
+  @Builder.Default
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt = LocalDateTime.now();
+
+  /** When the status last changed */
+  @Builder.Default
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt = LocalDateTime.now();
+}
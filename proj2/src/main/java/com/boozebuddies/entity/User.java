@@ -9,6 +9,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /** Entity representing a user in the system. */
 @Entity
@@ -57,8 +59,9 @@ public class User {
   private Double longitude;
 
   // Roles
-  /** The set of roles assigned to the user */
+  /** The set of roles assigned to the user, cached because every permission check reads them */
   @ElementCollection(fetch = FetchType.EAGER)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
   @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
   @Enumerated(EnumType.STRING)
   @Column(name = "role")
@@ -94,14 +97,6 @@ public class User {
   @Column(name = "last_login_at")
   private LocalDateTime lastLoginAt;
 
-  /** The user's refresh token for authentication */
-  @Column(name = "refresh_token", length = 512)
-  private String refreshToken;
-
-  /** When the refresh token expires */
-  @Column(name = "refresh_token_expiry")
-  private LocalDateTime refreshTokenExpiryDate;
-
   // ==================== RELATIONSHIPS ====================
 
   /** Placeholder for address - replace with @ManyToOne Address when ready */
@@ -3,6 +3,7 @@ package com.boozebuddies.exception;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -107,6 +108,22 @@ public class GlobalExceptionHandler {
     return buildErrorResponse("Access denied: " + ex.getMessage(), HttpStatus.FORBIDDEN, request);
   }
 
+  /**
+   * Handles ServerBusyException.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return error response with HTTP 503 SERVICE UNAVAILABLE and a Retry-After header
+   */
+  @ExceptionHandler(ServerBusyException.class)
+  public ResponseEntity<Object> handleServerBusy(ServerBusyException ex, WebRequest request) {
+    ResponseEntity<Object> response =
+        buildErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, request);
+    return ResponseEntity.status(response.getStatusCode())
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(response.getBody());
+  }
+
   // ==================== GENERIC HANDLERS ====================
 
   /**
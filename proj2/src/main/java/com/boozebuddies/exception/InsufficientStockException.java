@@ -0,0 +1,30 @@
+package com.boozebuddies.exception;
+
+/**
+ * Exception thrown when an order asks for more units of a product than are available. Nothing is
+ * reserved for the order. Results in HTTP 400 Bad Request.
+ */
+public class InsufficientStockException extends RuntimeException {
+
+  /** The product that is short */
+  private final Long productId;
+
+  /**
+   * Constructs a new InsufficientStockException for a product.
+   *
+   * @param productId the ID of the product that is short
+   */
+  public InsufficientStockException(Long productId) {
+    super("Insufficient stock for product " + productId);
+    this.productId = productId;
+  }
+
+  /**
+   * Returns the ID of the product that is short.
+   *
+   * @return the product ID
+   */
+  public Long getProductId() {
+    return productId;
+  }
+}
@@ -0,0 +1,24 @@
+package com.boozebuddies.exception;
+
+/** Exception thrown when a request is shed because a bounded worker pool is full. */
+public class ServerBusyException extends RuntimeException {
+
+  /**
+   * Constructs a new ServerBusyException with the specified message.
+   *
+   * @param message the detail message
+   */
+  public ServerBusyException(String message) {
+    super(message);
+  }
+
+  /**
+   * Constructs a new ServerBusyException with the specified message and cause.
+   *
+   * @param message the detail message
+   * @param cause the cause of the exception
+   */
+  public ServerBusyException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,112 @@
+package com.boozebuddies.geo;
+
+/**
+ * Shared great-circle distance calculations for merchant, order and driver proximity features.
+ *
+ * <p>All distances are in kilometers. The exact distance uses the Haversine formula; {@link
+ * #isWithinRadius(GeoPoint, GeoPoint, double)} first tries a cheap equirectangular estimate and
+ * only falls back to Haversine when the estimate lands close to the radius boundary.
+ */
+public final class GeoDistance {
+
+  /** Mean Earth radius in kilometers */
+  public static final double EARTH_RADIUS_KM = 6371.0;
+
+  /**
+   * Relative band around the radius inside which the equirectangular estimate is refined. The
+   * estimate stays well under 0.2% off within the fast-path limits below, so 1% is conservative.
+   */
+  static final double REFINEMENT_BAND = 0.01;
+
+  /** Largest radius for which the equirectangular estimate is trusted */
+  static final double FAST_PATH_MAX_RADIUS_KM = 200.0;
+
+  /** Highest absolute latitude for which the equirectangular estimate is trusted */
+  static final double FAST_PATH_MAX_LATITUDE = 80.0;
+
+  private GeoDistance() {}
+
+  /**
+   * Calculates the distance between two coordinates using the Haversine formula.
+   *
+   * @param lat1 latitude of the first point
+   * @param lon1 longitude of the first point
+   * @param lat2 latitude of the second point
+   * @param lon2 longitude of the second point
+   * @return the distance in kilometers
+   */
+  public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+    return haversineKm(GeoPoint.of(lat1, lon1), GeoPoint.of(lat2, lon2));
+  }
+
+  /**
+   * Calculates the distance between two precomputed points using the Haversine formula. No
+   * cosines are evaluated; both are taken from the points.
+   *
+   * @param from the first point
+   * @param to the second point
+   * @return the distance in kilometers
+   */
+  public static double haversineKm(GeoPoint from, GeoPoint to) {
+    double sinHalfDLat = Math.sin((to.latRad() - from.latRad()) / 2);
+    double sinHalfDLon = Math.sin((to.lonRad() - from.lonRad()) / 2);
+
+    double a =
+        sinHalfDLat * sinHalfDLat + from.cosLat() * to.cosLat() * sinHalfDLon * sinHalfDLon;
+
+    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+    return EARTH_RADIUS_KM * c;
+  }
+
+  /**
+   * Estimates the distance between two points by projecting them onto a plane. The parallel
+   * scale uses the mean of both cached latitude cosines, so no trigonometry is evaluated.
+   *
+   * <p>Accurate for short, non-polar distances only; use {@link #haversineKm(GeoPoint, GeoPoint)}
+   * when an exact value is required.
+   *
+   * @param from the first point
+   * @param to the second point
+   * @return the approximate distance in kilometers
+   */
+  public static double equirectangularKm(GeoPoint from, GeoPoint to) {
+    double dLon = to.lonRad() - from.lonRad();
+    if (dLon > Math.PI) {
+      dLon -= 2 * Math.PI;
+    } else if (dLon < -Math.PI) {
+      dLon += 2 * Math.PI;
+    }
+
+    double x = dLon * (from.cosLat() + to.cosLat()) / 2;
+    double y = to.latRad() - from.latRad();
+
+    return EARTH_RADIUS_KM * Math.sqrt(x * x + y * y);
+  }
+
+  /**
+   * Checks whether two points are within the given radius of each other.
+   *
+   * <p>Gives the same answer as comparing {@link #haversineKm(GeoPoint, GeoPoint)} against the
+   * radius, but resolves most points with the equirectangular estimate alone.
+   *
+   * @param from the first point
+   * @param to the second point
+   * @param radiusKm the radius in kilometers
+   * @return true if the distance between the points is at most {@code radiusKm}
+   */
+  public static boolean isWithinRadius(GeoPoint from, GeoPoint to, double radiusKm) {
+    if (radiusKm <= FAST_PATH_MAX_RADIUS_KM
+        && Math.abs(from.latitude()) <= FAST_PATH_MAX_LATITUDE
+        && Math.abs(to.latitude()) <= FAST_PATH_MAX_LATITUDE) {
+      double estimate = equirectangularKm(from, to);
+      if (estimate < radiusKm * (1 - REFINEMENT_BAND)) {
+        return true;
+      }
+      if (estimate > radiusKm * (1 + REFINEMENT_BAND)) {
+        return false;
+      }
+    }
+    return haversineKm(from, to) <= radiusKm;
+  }
+}
@@ -0,0 +1,56 @@
+package com.boozebuddies.geo;
+
+/**
+ * A geographic coordinate with its trigonometric terms precomputed.
+ *
+ * <p>Distance calculations repeatedly need each point's latitude and longitude in radians and the
+ * cosine of its latitude. Building a {@code GeoPoint} once per location (for example when a
+ * merchant is loaded) lets {@link GeoDistance} reuse those terms instead of recomputing them on
+ * every comparison.
+ *
+ * @param latitude the latitude in degrees
+ * @param longitude the longitude in degrees
+ * @param latRad the latitude in radians
+ * @param lonRad the longitude in radians
+ * @param cosLat the cosine of the latitude
+ */
+public record GeoPoint(
+    double latitude, double longitude, double latRad, double lonRad, double cosLat) {
+
+  /**
+   * Creates a point from degree coordinates, computing its radian and cosine terms.
+   *
+   * @param latitude the latitude in degrees
+   * @param longitude the longitude in degrees
+   * @return the precomputed point
+   */
+  public static GeoPoint of(double latitude, double longitude) {
+    double latRad = Math.toRadians(latitude);
+    return new GeoPoint(latitude, longitude, latRad, Math.toRadians(longitude), Math.cos(latRad));
+  }
+
+  /**
+   * Creates a point from nullable degree coordinates.
+   *
+   * @param latitude the latitude in degrees, may be {@code null}
+   * @param longitude the longitude in degrees, may be {@code null}
+   * @return the precomputed point, or {@code null} if either coordinate is missing
+   */
+  public static GeoPoint ofNullable(Double latitude, Double longitude) {
+    if (latitude == null || longitude == null) {
+      return null;
+    }
+    return of(latitude, longitude);
+  }
+
+  /**
+   * Checks whether this point was built from the given degree coordinates.
+   *
+   * @param latitude the latitude in degrees
+   * @param longitude the longitude in degrees
+   * @return true if both coordinates match exactly
+   */
+  public boolean matches(double latitude, double longitude) {
+    return this.latitude == latitude && this.longitude == longitude;
+  }
+}
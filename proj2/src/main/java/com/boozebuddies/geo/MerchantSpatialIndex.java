@@ -0,0 +1,230 @@
+package com.boozebuddies.geo;
+
+import com.boozebuddies.entity.Merchant;
+import com.boozebuddies.repository.MerchantRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory grid index of active merchants for nearest-neighbour and radius queries.
+ *
+ * <p>Active merchants with coordinates are bucketed into fixed-size latitude/longitude cells. A
+ * query only visits the cells overlapping the search radius and keeps the nearest matches in a
+ * bounded max-heap, so only the requested top K are ever ordered.
+ *
+ * <p>The index is built lazily from {@link MerchantRepository#findByIsActive(boolean)} and rebuilt
+ * once it is older than {@code merchants.spatial-index.ttl-ms} or after {@link #invalidate()} is
+ * called by a merchant write.
+ */
+@Component
+public class MerchantSpatialIndex {
+
+  /** Size of a grid cell in degrees (roughly 11 km of latitude) */
+  static final double CELL_SIZE_DEGREES = 0.1;
+
+  private static final int COLUMNS = (int) Math.round(360 / CELL_SIZE_DEGREES);
+
+  /** Orders neighbours by distance, then by merchant ID so paging is stable. */
+  private static final Comparator<Neighbor> NEAREST_FIRST =
+      Comparator.comparingDouble(Neighbor::distanceKm)
+          .thenComparing(
+              n -> n.merchant().getId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+  private final MerchantRepository merchantRepository;
+  private final long ttlMs;
+
+  /**
+   * Guards reloads. A {@link ReentrantLock} rather than {@code synchronized} so a virtual thread
+   * waiting on the JDBC reload does not pin its carrier thread.
+   */
+  private final ReentrantLock reloadLock = new ReentrantLock();
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * Constructs the index.
+   *
+   * @param merchantRepository the repository the index is loaded from
+   * @param ttlMs how long a built index is served before it is reloaded, in milliseconds
+   */
+  public MerchantSpatialIndex(
+      MerchantRepository merchantRepository,
+      @Value("${merchants.spatial-index.ttl-ms:60000}") long ttlMs) {
+    this.merchantRepository = merchantRepository;
+    this.ttlMs = ttlMs;
+  }
+
+  /**
+   * A merchant found by a proximity query.
+   *
+   * @param merchant the merchant
+   * @param distanceKm the Haversine distance from the query origin in kilometers
+   */
+  public record Neighbor(Merchant merchant, double distanceKm) {}
+
+  /**
+   * The result of a proximity query.
+   *
+   * @param neighbors the nearest matches, closest first, at most the requested limit
+   * @param totalMatches how many merchants matched the radius and filter in total
+   */
+  public record NearestResult(List<Neighbor> neighbors, int totalMatches) {}
+
+  /**
+   * Finds the nearest active merchants within a radius.
+   *
+   * @param origin the query location
+   * @param radiusKm the search radius in kilometers
+   * @param filter an additional predicate merchants must satisfy
+   * @param limit the maximum number of neighbours to return
+   * @return the nearest matches and the total match count
+   */
+  public NearestResult findNearest(
+      GeoPoint origin, double radiusKm, Predicate<Merchant> filter, int limit) {
+    Snapshot current = current();
+    PriorityQueue<Neighbor> farthestFirst = new PriorityQueue<>(NEAREST_FIRST.reversed());
+    int totalMatches = 0;
+
+    for (List<Entry> cell : current.candidateCells(origin, radiusKm)) {
+      for (Entry entry : cell) {
+        if (!GeoDistance.isWithinRadius(origin, entry.point(), radiusKm)
+            || !filter.test(entry.merchant())) {
+          continue;
+        }
+        totalMatches++;
+        if (limit <= 0) {
+          continue;
+        }
+
+        Neighbor neighbor =
+            new Neighbor(entry.merchant(), GeoDistance.haversineKm(origin, entry.point()));
+        if (farthestFirst.size() < limit) {
+          farthestFirst.add(neighbor);
+        } else if (NEAREST_FIRST.compare(neighbor, farthestFirst.peek()) < 0) {
+          farthestFirst.poll();
+          farthestFirst.add(neighbor);
+        }
+      }
+    }
+
+    List<Neighbor> nearest = new ArrayList<>(farthestFirst);
+    nearest.sort(NEAREST_FIRST);
+    return new NearestResult(nearest, totalMatches);
+  }
+
+  /** Discards the current index so the next query reloads active merchants. */
+  public void invalidate() {
+    snapshot = null;
+  }
+
+  /**
+   * Returns the current snapshot, reloading it if missing or expired.
+   *
+   * @return the snapshot to query
+   */
+  private Snapshot current() {
+    Snapshot current = snapshot;
+    if (current != null && !current.isExpired(ttlMs)) {
+      return current;
+    }
+    reloadLock.lock();
+    try {
+      current = snapshot;
+      if (current == null || current.isExpired(ttlMs)) {
+        current = Snapshot.build(merchantRepository.findByIsActive(true));
+        snapshot = current;
+      }
+      return current;
+    } finally {
+      reloadLock.unlock();
+    }
+  }
+
+  private static int row(double latitude) {
+    return (int) Math.floor((latitude + 90) / CELL_SIZE_DEGREES);
+  }
+
+  private static int column(double longitude) {
+    return Math.floorMod((int) Math.floor((longitude + 180) / CELL_SIZE_DEGREES), COLUMNS);
+  }
+
+  private static long cellKey(int row, int column) {
+    return (long) row * COLUMNS + column;
+  }
+
+  /** An indexed merchant with its precomputed location. */
+  private record Entry(Merchant merchant, GeoPoint point) {}
+
+  /** An immutable grid of active merchants. */
+  private record Snapshot(Map<Long, List<Entry>> cells, long builtAtMs) {
+
+    static Snapshot build(List<Merchant> merchants) {
+      Map<Long, List<Entry>> cells = new HashMap<>();
+      for (Merchant merchant : merchants) {
+        GeoPoint point = merchant.getGeoPoint();
+        if (!merchant.isActive() || point == null) {
+          continue;
+        }
+        cells
+            .computeIfAbsent(
+                cellKey(row(point.latitude()), column(point.longitude())), k -> new ArrayList<>())
+            .add(new Entry(merchant, point));
+      }
+      return new Snapshot(cells, System.currentTimeMillis());
+    }
+
+    boolean isExpired(long ttlMs) {
+      return System.currentTimeMillis() - builtAtMs > ttlMs;
+    }
+
+    /**
+     * Collects the cells overlapping the bounding box of a search circle. Falls back to every
+     * cell when the box covers a pole, wraps the whole globe, or spans more cells than exist.
+     */
+    Collection<List<Entry>> candidateCells(GeoPoint origin, double radiusKm) {
+      double latSpan = Math.toDegrees(radiusKm / GeoDistance.EARTH_RADIUS_KM);
+      double minLat = origin.latitude() - latSpan;
+      double maxLat = origin.latitude() + latSpan;
+      if (minLat <= -90 || maxLat >= 90) {
+        return cells.values();
+      }
+
+      double widestCos = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+      double lonSpan = Math.toDegrees(radiusKm / (GeoDistance.EARTH_RADIUS_KM * widestCos));
+      if (lonSpan >= 180) {
+        return cells.values();
+      }
+
+      int minRow = row(minLat);
+      int maxRow = row(maxLat);
+      int firstColumn =
+          (int) Math.floor((origin.longitude() - lonSpan + 180) / CELL_SIZE_DEGREES);
+      int lastColumn =
+          (int) Math.floor((origin.longitude() + lonSpan + 180) / CELL_SIZE_DEGREES);
+      int boxColumns = lastColumn - firstColumn + 1;
+      if (boxColumns >= COLUMNS || (long) (maxRow - minRow + 1) * boxColumns >= cells.size()) {
+        return cells.values();
+      }
+
+      List<List<Entry>> candidates = new ArrayList<>();
+      for (int r = minRow; r <= maxRow; r++) {
+        for (int c = firstColumn; c <= lastColumn; c++) {
+          List<Entry> cell = cells.get(cellKey(r, Math.floorMod(c, COLUMNS)));
+          if (cell != null) {
+            candidates.add(cell);
+          }
+        }
+      }
+      return candidates;
+    }
+  }
+}
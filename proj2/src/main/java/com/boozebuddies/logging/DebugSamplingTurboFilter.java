@@ -0,0 +1,105 @@
+package com.boozebuddies.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Marker;
+
+/**
+ * Keeps one in {@code sampleRate} DEBUG and TRACE events from high-volume loggers and drops the
+ * rest before a log event is even created.
+ *
+ * <p>Events are sampled per message template, so a rare debug message is not crowded out by a
+ * frequent one from the same logger: with a rate of 100, the 1st, 101st, 201st, ... occurrence of
+ * each template is logged. Only loggers whose names start with one of the configured prefixes are
+ * sampled; INFO and above always pass. Calls without a message, such as {@code isDebugEnabled()},
+ * are not counted.
+ *
+ * <p>Configured in {@code logback-spring.xml}:
+ *
+ * <pre>{@code
+ * <turboFilter class="com.boozebuddies.logging.DebugSamplingTurboFilter">
+ *   <sampleRate>100</sampleRate>
+ *   <logger>com.boozebuddies.security</logger>
+ * </turboFilter>
+ * }</pre>
+ */
+public class DebugSamplingTurboFilter extends TurboFilter {
+
+  /** Templates tracked individually; further templates share one counter */
+  static final int MAX_TRACKED_TEMPLATES = 1024;
+
+  private final List<String> loggerPrefixes = new ArrayList<>();
+  private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+  private final AtomicLong overflowCounter = new AtomicLong();
+  private int sampleRate = 100;
+
+  /**
+   * Sets how many events of a template make up one logged event. 1 disables sampling.
+   *
+   * @param sampleRate the sampling rate, at least 1
+   */
+  public void setSampleRate(int sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  /**
+   * Adds a logger name prefix whose DEBUG and TRACE events are sampled.
+   *
+   * @param loggerPrefix the logger name or package
+   */
+  public void addLogger(String loggerPrefix) {
+    loggerPrefixes.add(loggerPrefix);
+  }
+
+  @Override
+  public void start() {
+    if (sampleRate < 1) {
+      addError("sampleRate must be at least 1, was " + sampleRate);
+      return;
+    }
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    if (!isStarted()
+        || sampleRate == 1
+        || format == null
+        || level.isGreaterOrEqual(Level.INFO)
+        || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+        || !isSampled(logger.getName())) {
+      return FilterReply.NEUTRAL;
+    }
+    return counterFor(format).getAndIncrement() % sampleRate == 0
+        ? FilterReply.NEUTRAL
+        : FilterReply.DENY;
+  }
+
+  private boolean isSampled(String loggerName) {
+    for (String prefix : loggerPrefixes) {
+      if (loggerName.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private AtomicLong counterFor(String format) {
+    AtomicLong counter = counters.get(format);
+    if (counter != null) {
+      return counter;
+    }
+    if (counters.size() >= MAX_TRACKED_TEMPLATES) {
+      return overflowCounter;
+    }
+    return counters.computeIfAbsent(format, key -> new AtomicLong());
+  }
+}
@@ -0,0 +1,68 @@
+package com.boozebuddies.logging;
+
+import org.slf4j.MDC;
+
+/**
+ * MDC keys shared by the application's log lines, and scoped helpers for setting them.
+ *
+ * <p>Values put in the MDC appear as fields of every JSON log event written on the same thread (and
+ * on {@code @Async} threads, see {@link MdcTaskDecorator}), so all lines of one request or one
+ * order can be found with a single query.
+ */
+public final class LogContext {
+
+  /** Correlation id of the current HTTP request, see {@link RequestIdFilter} */
+  public static final String REQUEST_ID = "requestId";
+
+  /** ID of the order being worked on */
+  public static final String ORDER_ID = "orderId";
+
+  /** ID of the outbox event being relayed */
+  public static final String EVENT_ID = "eventId";
+
+  private LogContext() {}
+
+  /**
+   * A scope that restores the MDC entry it replaced when closed.
+   *
+   * <p>Use it with try-with-resources so the value cannot leak to the next task on a pooled thread.
+   */
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  /**
+   * Sets the order ID until the returned scope is closed.
+   *
+   * @param orderId the order ID, may be {@code null}
+   * @return the scope
+   */
+  public static Scope orderId(Object orderId) {
+    return put(ORDER_ID, orderId);
+  }
+
+  /**
+   * Sets an MDC entry until the returned scope is closed. A {@code null} value leaves the MDC
+   * unchanged.
+   *
+   * @param key the MDC key
+   * @param value the value, converted with {@link String#valueOf(Object)}
+   * @return the scope, which restores the previous value of the key
+   */
+  public static Scope put(String key, Object value) {
+    if (value == null) {
+      return () -> {};
+    }
+    String previous = MDC.get(key);
+    MDC.put(key, String.valueOf(value));
+    return () -> {
+      if (previous == null) {
+        MDC.remove(key);
+      } else {
+        MDC.put(key, previous);
+      }
+    };
+  }
+}
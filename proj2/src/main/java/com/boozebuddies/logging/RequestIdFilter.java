@@ -0,0 +1,46 @@
+package com.boozebuddies.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Tags every log line of a request with a request ID.
+ *
+ * <p>The ID is taken from the incoming {@code X-Request-Id} header when it is a plausible ID (so a
+ * gateway's ID carries through), otherwise a new one is generated. It is stored in the MDC under
+ * {@link LogContext#REQUEST_ID} for the duration of the request and echoed in the response header.
+ */
+public class RequestIdFilter extends OncePerRequestFilter {
+
+  /** Header carrying the request ID in both directions */
+  public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+  /** Accepted incoming IDs; anything else is replaced so clients cannot inject into log fields */
+  private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String requestId = request.getHeader(REQUEST_ID_HEADER);
+    if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+      requestId = UUID.randomUUID().toString();
+    }
+
+    MDC.put(LogContext.REQUEST_ID, requestId);
+    response.setHeader(REQUEST_ID_HEADER, requestId);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      MDC.remove(LogContext.REQUEST_ID);
+      MDC.remove(LogContext.ORDER_ID);
+    }
+  }
+}
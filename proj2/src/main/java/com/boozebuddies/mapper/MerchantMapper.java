@@ -36,6 +36,21 @@ public class MerchantMapper {
         .build();
   }
 
+  /**
+   * Converts a Merchant entity to a MerchantDTO including its distance from a search location.
+   *
+   * @param merchant the merchant entity to convert
+   * @param distanceKm the distance from the search location in kilometers
+   * @return the MerchantDTO, or null if the input is null
+   */
+  public MerchantDTO toDTO(Merchant merchant, Double distanceKm) {
+    MerchantDTO dto = toDTO(merchant);
+    if (dto != null) {
+      dto.setDistanceKm(distanceKm);
+    }
+    return dto;
+  }
+
   /**
    * Converts a MerchantDTO to a Merchant entity.
    *
@@ -2,6 +2,7 @@ package com.boozebuddies.mapper;
 
 import com.boozebuddies.dto.CreateOrderRequest;
 import com.boozebuddies.dto.DriverOrderDTO;
+import com.boozebuddies.dto.DriverOrderSummaryDTO;
 import com.boozebuddies.dto.OrderDTO;
 import com.boozebuddies.dto.OrderItemDTO;
 import com.boozebuddies.dto.OrderItemRequest;
@@ -10,6 +11,7 @@ import com.boozebuddies.entity.Order;
 import com.boozebuddies.entity.OrderItem;
 import com.boozebuddies.entity.Product;
 import com.boozebuddies.entity.User;
+import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
@@ -26,6 +28,20 @@ public class OrderMapper {
   public OrderDTO toDTO(Order order) {
     if (order == null) return null;
 
+    return toDTO(order, order.getItems());
+  }
+
+  /**
+   * Converts an Order entity to an OrderDTO using items loaded separately, so the order's own
+   * items collection is never read.
+   *
+   * @param order the order entity to convert
+   * @param items the order's items, or null to leave them out
+   * @return the OrderDTO, or null if the input is null
+   */
+  public OrderDTO toDTO(Order order, List<OrderItem> items) {
+    if (order == null) return null;
+
     return OrderDTO.builder()
         .id(order.getId())
         .userId(order.getUser() != null ? order.getUser().getId() : null)
@@ -35,8 +51,8 @@ public class OrderMapper {
         .status(order.getStatus().name())
         .deliveryAddress(order.getDeliveryAddress())
         .items(
-            order.getItems() != null
-                ? order.getItems().stream().map(this::orderItemToDTO).collect(Collectors.toList())
+            items != null
+                ? items.stream().map(this::orderItemToDTO).collect(Collectors.toList())
                 : null)
         .createdAt(order.getCreatedAt())
         .updatedAt(order.getUpdatedAt())
@@ -94,13 +110,7 @@ public class OrderMapper {
   public DriverOrderDTO toDriverDTO(Order order, Double distanceKm) {
     if (order == null) return null;
 
-    // Calculate ETA: assume average speed of 30 km/h in urban areas
-    // ETA = distance / speed * 60 (convert to minutes)
-    // Add 5 minutes for pickup time
-    Integer etaMin = null;
-    if (distanceKm != null) {
-      etaMin = (int) Math.ceil((distanceKm / 30.0) * 60) + 5;
-    }
+    Integer etaMin = etaMinutes(distanceKm);
 
     return DriverOrderDTO.builder()
         .id(order.getId())
@@ -123,6 +133,38 @@ public class OrderMapper {
         .build();
   }
 
+  /**
+   * Convert Order to the compact DriverOrderSummaryDTO, which leaves out the items, customer and
+   * timestamps. Only the order's merchant is read, so no lazy association is loaded.
+   *
+   * @param order The order entity
+   * @param distanceKm Distance from driver to merchant in kilometers (calculated externally)
+   * @return DriverOrderSummaryDTO with the distance rounded to 100 m and the ETA
+   */
+  public DriverOrderSummaryDTO toDriverSummaryDTO(Order order, Double distanceKm) {
+    if (order == null) return null;
+
+    return DriverOrderSummaryDTO.builder()
+        .id(order.getId())
+        .merchantId(order.getMerchant() != null ? order.getMerchant().getId() : null)
+        .merchantName(order.getMerchant() != null ? order.getMerchant().getName() : null)
+        .deliveryAddress(order.getDeliveryAddress())
+        .totalAmount(order.getTotalAmount())
+        .status(order.getStatus().name())
+        .distanceKm(distanceKm != null ? Math.round(distanceKm * 10) / 10.0 : null)
+        .etaMin(etaMinutes(distanceKm))
+        .build();
+  }
+
+  /**
+   * Estimates the minutes until a driver arrives: an average speed of 30 km/h in urban areas, plus
+   * 5 minutes for pickup.
+   */
+  private static Integer etaMinutes(Double distanceKm) {
+    if (distanceKm == null) return null;
+    return (int) Math.ceil((distanceKm / 30.0) * 60) + 5;
+  }
+
   private OrderItemDTO orderItemToDTO(OrderItem orderItem) {
     if (orderItem == null) return null;
 
@@ -35,6 +35,7 @@ public class ProductMapper {
         .alcoholContent(product.getAlcoholContent())
         .imageUrl(product.getImageUrl())
         .isAvailable(product.isAvailable())
+        .stockQuantity(product.getStockQuantity())
         .volume(product.getVolume())
         .build();
   }
@@ -73,6 +74,7 @@ public class ProductMapper {
     product.setAlcoholContent(productDTO.getAlcoholContent());
     product.setImageUrl(productDTO.getImageUrl());
     product.setAvailable(productDTO.isAvailable());
+    product.setStockQuantity(productDTO.getStockQuantity());
     product.setVolume(productDTO.getVolume());
 
     return product;
@@ -95,6 +97,7 @@ public class ProductMapper {
         .alcoholContent(request.getAlcoholContent())
         .imageUrl(request.getImageUrl())
         .available(request.isAvailable())
+        .stockQuantity(request.getStockQuantity())
         .build();
   }
 }
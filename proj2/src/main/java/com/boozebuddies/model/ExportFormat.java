@@ -0,0 +1,53 @@
+package com.boozebuddies.model;
+
+import java.util.Locale;
+
+/** File formats supported by the bulk export endpoints. */
+public enum ExportFormat {
+  /** Newline-delimited JSON: one JSON object per line. */
+  NDJSON("application/x-ndjson", "ndjson"),
+
+  /** Comma-separated values with a header row, quoted per RFC 4180. */
+  CSV("text/csv", "csv");
+
+  private final String contentType;
+  private final String fileExtension;
+
+  ExportFormat(String contentType, String fileExtension) {
+    this.contentType = contentType;
+    this.fileExtension = fileExtension;
+  }
+
+  /**
+   * @return the MIME type of the format
+   */
+  public String getContentType() {
+    return contentType;
+  }
+
+  /**
+   * @return the file extension used for downloads in this format
+   */
+  public String getFileExtension() {
+    return fileExtension;
+  }
+
+  /**
+   * Resolves a format from a request parameter such as {@code csv} or {@code ndjson}.
+   *
+   * @param value the parameter value, case-insensitive
+   * @return the matching format
+   * @throws IllegalArgumentException if the value names no supported format
+   */
+  public static ExportFormat fromParameter(String value) {
+    if (value != null) {
+      for (ExportFormat format : values()) {
+        if (format.fileExtension.equals(value.trim().toLowerCase(Locale.ROOT))) {
+          return format;
+        }
+      }
+    }
+    throw new IllegalArgumentException(
+        "Unsupported export format: " + value + " (expected ndjson or csv)");
+  }
+}
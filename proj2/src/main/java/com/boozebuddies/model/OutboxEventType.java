@@ -0,0 +1,53 @@
+package com.boozebuddies.model;
+
+/**
+ * Domain events recorded in the transactional outbox.
+ *
+ * <p>Each event belongs to an aggregate, identified by {@link #getAggregateType()} and the ID of
+ * the order or delivery it concerns. Payment events are recorded against their order so they are
+ * relayed in sequence with the order's own events.
+ */
+public enum OutboxEventType {
+  /** An order was placed. */
+  ORDER_CREATED(OutboxEventType.ORDER),
+
+  /** An order moved to a new {@link OrderStatus}. */
+  ORDER_STATUS_CHANGED(OutboxEventType.ORDER),
+
+  /** An order was cancelled by its customer. */
+  ORDER_CANCELLED(OutboxEventType.ORDER),
+
+  /** The payment for an order was authorized. */
+  PAYMENT_AUTHORIZED(OutboxEventType.ORDER),
+
+  /** The payment for an order was refunded. */
+  PAYMENT_REFUNDED(OutboxEventType.ORDER),
+
+  /** A driver was assigned to a delivery. */
+  DELIVERY_ASSIGNED(OutboxEventType.DELIVERY),
+
+  /** A delivery moved to a new {@link DeliveryStatus}. */
+  DELIVERY_STATUS_CHANGED(OutboxEventType.DELIVERY),
+
+  /** A delivery was cancelled. */
+  DELIVERY_CANCELLED(OutboxEventType.DELIVERY);
+
+  /** Aggregate type of order events (including payments) */
+  public static final String ORDER = "ORDER";
+
+  /** Aggregate type of delivery events */
+  public static final String DELIVERY = "DELIVERY";
+
+  private final String aggregateType;
+
+  OutboxEventType(String aggregateType) {
+    this.aggregateType = aggregateType;
+  }
+
+  /**
+   * @return the type of aggregate this event is recorded against
+   */
+  public String getAggregateType() {
+    return aggregateType;
+  }
+}
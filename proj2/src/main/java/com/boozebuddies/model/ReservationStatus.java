@@ -0,0 +1,13 @@
+package com.boozebuddies.model;
+
+/** The state of the stock held for one order. */
+public enum ReservationStatus {
+  /** The stock is held for an order that has not been delivered yet. */
+  RESERVED,
+
+  /** The order was delivered; the stock has left the shelf. */
+  COMMITTED,
+
+  /** The order was cancelled or never placed; the stock is available again. */
+  RELEASED
+}
@@ -0,0 +1,79 @@
+package com.boozebuddies.outbox;
+
+import com.boozebuddies.entity.OutboxEvent;
+import com.boozebuddies.model.OrderStatus;
+import com.boozebuddies.model.OutboxEventType;
+import com.boozebuddies.repository.DeliveryRepository;
+import com.boozebuddies.repository.OrderRepository;
+import com.boozebuddies.service.NotificationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends customer and merchant notifications for order events. These used to be sent inline by
+ * {@code OrderServiceImpl} inside the order transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxSubscriber implements OutboxSubscriber {
+
+  private static final Set<OutboxEventType> SUPPORTED =
+      EnumSet.of(
+          OutboxEventType.ORDER_CREATED,
+          OutboxEventType.ORDER_CANCELLED,
+          OutboxEventType.ORDER_STATUS_CHANGED);
+
+  private final OrderRepository orderRepository;
+  private final DeliveryRepository deliveryRepository;
+  private final NotificationService notificationService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public boolean supports(OutboxEventType type) {
+    return SUPPORTED.contains(type);
+  }
+
+  @Override
+  public void handle(OutboxEvent event) {
+    Long orderId = event.getAggregateId();
+    switch (event.getEventType()) {
+      case ORDER_CREATED ->
+          deliveryRepository
+              .findByOrderId(orderId)
+              .ifPresent(notificationService::sendOrderConfirmation);
+      case ORDER_CANCELLED ->
+          orderRepository
+              .findById(orderId)
+              .ifPresent(order -> notificationService.sendOrderCancellation(order.getDelivery()));
+      case ORDER_STATUS_CHANGED -> {
+        if (newStatus(event) == OrderStatus.CONFIRMED) {
+          orderRepository
+              .findById(orderId)
+              .ifPresent(
+                  order ->
+                      notificationService.sendDeliveryStatusUpdate(
+                          order.getUser(), order.getDelivery()));
+        }
+      }
+      default -> {}
+    }
+  }
+
+  /**
+   * Reads the status an order moved to from an {@link OutboxEventType#ORDER_STATUS_CHANGED} event.
+   *
+   * @param event the event
+   * @return the new status
+   */
+  private OrderStatus newStatus(OutboxEvent event) {
+    try {
+      return OrderStatus.valueOf(objectMapper.readTree(event.getPayload()).path("to").asText());
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Malformed payload for outbox event " + event.getId(), e);
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package com.boozebuddies.outbox;
+
+import com.boozebuddies.entity.OutboxEvent;
+import com.boozebuddies.logging.LogContext;
+import com.boozebuddies.repository.OutboxEventRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the transactional outbox to the registered {@link OutboxSubscriber}s.
+ *
+ * <p>Every poll loads up to {@code outbox.relay.batch-size} unpublished events in ID order. Each
+ * event is handed to its subscribers and marked published in one transaction. When an event fails,
+ * it backs off exponentially and the rest of its aggregate's events wait behind it, both for the
+ * rest of the batch and in later polls, so per-aggregate ordering holds. Other aggregates carry on.
+ *
+ * <p>Only one application instance should run the relay; disable it elsewhere with {@code
+ * outbox.relay.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+  /** Longest delay between retries of a failing event */
+  static final long MAX_BACKOFF_MS = 5 * 60 * 1000;
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final List<OutboxSubscriber> subscribers;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final long retryBackoffMs;
+  private final int retentionDays;
+
+  /**
+   * Constructs the relay.
+   *
+   * @param outboxEventRepository the outbox repository
+   * @param subscribers every registered subscriber
+   * @param transactionManager the transaction manager used for per-event transactions
+   * @param batchSize the maximum number of events loaded per poll
+   * @param retryBackoffMs the delay before the first retry of a failed event, doubled per failure
+   * @param retentionDays how long published events are kept
+   */
+  public OutboxRelay(
+      OutboxEventRepository outboxEventRepository,
+      List<OutboxSubscriber> subscribers,
+      PlatformTransactionManager transactionManager,
+      @Value("${outbox.relay.batch-size:100}") int batchSize,
+      @Value("${outbox.relay.retry-backoff-ms:1000}") long retryBackoffMs,
+      @Value("${outbox.retention-days:7}") int retentionDays) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.subscribers = subscribers;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.retryBackoffMs = retryBackoffMs;
+    this.retentionDays = retentionDays;
+  }
+
+  /** Polls the outbox on a fixed delay. */
+  @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
+  public void poll() {
+    relayBatch();
+  }
+
+  /** Deletes published events past the retention period, hourly by default. */
+  @Scheduled(cron = "${outbox.cleanup-cron:0 0 * * * *}")
+  public void cleanup() {
+    LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+    Integer deleted =
+        transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(cutoff));
+    if (deleted != null && deleted > 0) {
+      log.info("Deleted {} published outbox events older than {} days", deleted, retentionDays);
+    }
+  }
+
+  /**
+   * Relays one batch of events.
+   *
+   * @return the number of events published
+   */
+  public int relayBatch() {
+    List<OutboxEvent> batch =
+        outboxEventRepository.findRelayable(LocalDateTime.now(), PageRequest.of(0, batchSize));
+    Set<String> blockedAggregates = new HashSet<>();
+    int published = 0;
+
+    for (OutboxEvent event : batch) {
+      String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+      if (blockedAggregates.contains(aggregate)) {
+        continue;
+      }
+      try (LogContext.Scope ignored = LogContext.put(LogContext.EVENT_ID, event.getId())) {
+        transactionTemplate.executeWithoutResult(
+            status -> {
+              for (OutboxSubscriber subscriber : subscribers) {
+                if (subscriber.supports(event.getEventType())) {
+                  subscriber.handle(event);
+                }
+              }
+              outboxEventRepository.markPublished(event.getId(), LocalDateTime.now());
+            });
+        published++;
+      } catch (RuntimeException e) {
+        blockedAggregates.add(aggregate);
+        recordFailure(event, e);
+      }
+    }
+    return published;
+  }
+
+  /**
+   * Schedules a failed event for retry with exponential backoff.
+   *
+   * @param event the event that failed
+   * @param failure the error raised by a subscriber
+   */
+  private void recordFailure(OutboxEvent event, RuntimeException failure) {
+    int attempts = event.getAttempts() + 1;
+    long backoffMs = Math.min(MAX_BACKOFF_MS, retryBackoffMs << Math.min(attempts - 1, 20));
+    String error = String.valueOf(failure.getMessage());
+    if (error.length() > MAX_ERROR_LENGTH) {
+      error = error.substring(0, MAX_ERROR_LENGTH);
+    }
+    log.warn(
+        "Outbox event {} ({} {}) failed on attempt {}, retrying in {} ms",
+        event.getId(),
+        event.getEventType(),
+        event.getAggregateId(),
+        attempts,
+        backoffMs,
+        failure);
+
+    String lastError = error;
+    LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoffMs, ChronoUnit.MILLIS);
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> outboxEventRepository.recordFailure(event.getId(), lastError, nextAttemptAt));
+    } catch (RuntimeException e) {
+      // The event stays unpublished and is simply retried on the next poll
+      log.error("Could not record failure of outbox event {}", event.getId(), e);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.boozebuddies.outbox;
+
+import com.boozebuddies.entity.OutboxEvent;
+import com.boozebuddies.model.OutboxEventType;
+
+/**
+ * An in-process consumer of outbox events. Every Spring bean implementing this interface is called
+ * by {@link OutboxRelay} for the event types it supports.
+ *
+ * <p>Delivery is at least once: if any subscriber fails, the event is retried for every subscriber
+ * that supports it, so handlers should tolerate seeing an event again. Events of one aggregate are
+ * delivered in the order they were recorded.
+ */
+public interface OutboxSubscriber {
+
+  /**
+   * Checks whether this subscriber handles an event type.
+   *
+   * @param type the event type
+   * @return true if {@link #handle(OutboxEvent)} should be called for events of this type
+   */
+  boolean supports(OutboxEventType type);
+
+  /**
+   * Handles an event. Runs inside the relay's transaction for the event, so lazy associations of
+   * entities loaded here can be navigated.
+   *
+   * @param event the event
+   * @throws RuntimeException to have the event retried later
+   */
+  void handle(OutboxEvent event);
+}
@@ -0,0 +1,44 @@
+package com.boozebuddies.repository;
+
+import com.boozebuddies.entity.BroadcastCursor;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** Repository interface for the per-user read cursors of the broadcast feed. */
+@Repository
+public interface BroadcastCursorRepository extends JpaRepository<BroadcastCursor, Long> {
+
+  /**
+   * Retrieves the ID of the newest broadcast a user has read.
+   *
+   * @param userId the user ID
+   * @return the broadcast ID, or empty if the user has never read the feed
+   */
+  @Query("SELECT c.lastReadId FROM BroadcastCursor c WHERE c.userId = :userId")
+  Optional<Long> findLastReadId(@Param("userId") Long userId);
+
+  /**
+   * Moves a user's cursor forward to a broadcast, creating it if needed. A cursor already past
+   * that broadcast is left where it is, so concurrent requests cannot move it backwards.
+   *
+   * @param userId the user ID
+   * @param lastReadId the ID of the newest broadcast the user has read
+   * @return the number of rows affected
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO broadcast_cursors (user_id, last_read_id, updated_at)
+          VALUES (:userId, :lastReadId, CURRENT_TIMESTAMP)
+          ON DUPLICATE KEY UPDATE
+            updated_at = IF(:lastReadId > last_read_id, CURRENT_TIMESTAMP, updated_at),
+            last_read_id = GREATEST(last_read_id, :lastReadId)
+          """,
+      nativeQuery = true)
+  int advance(@Param("userId") Long userId, @Param("lastReadId") long lastReadId);
+}
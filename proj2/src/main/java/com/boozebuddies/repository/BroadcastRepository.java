@@ -0,0 +1,22 @@
+package com.boozebuddies.repository;
+
+import com.boozebuddies.entity.Broadcast;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/** Repository interface for system broadcasts. */
+@Repository
+public interface BroadcastRepository extends JpaRepository<Broadcast, Long> {
+
+  /**
+   * Retrieves the newest broadcasts, read backwards along the primary key.
+   *
+   * @param pageable how many broadcasts to return
+   * @return the broadcasts, newest first
+   */
+  @Query("SELECT b FROM Broadcast b ORDER BY b.id DESC")
+  List<Broadcast> findLatest(Pageable pageable);
+}
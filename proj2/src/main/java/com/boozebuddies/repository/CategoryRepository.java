@@ -1,9 +1,14 @@
 package com.boozebuddies.repository;
 
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Category;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -23,6 +28,10 @@ import org.springframework.stereotype.Repository;
  *
  * This repository is typically used by service classes to perform database operations related to
  * product categorization and filtering.
+ *
+ * <p>Categories change rarely, so {@link #findAll()} and {@link #findByName(String)} results are
+ * kept in the Hibernate query cache region {@code category-queries}; lookups by ID are served by
+ * the {@code categories} entity region.
  */
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
@@ -31,8 +40,20 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
   Optional<Category> findById(Long id);
 
   /** Returns a list of all available categories. */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "category-queries")
+  })
   List<Category> findAll();
 
   /** Finds a category by its name. */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "category-queries")
+  })
   Optional<Category> findByName(String name);
+
+  /** Returns the row count and latest modification time of all categories. */
+  @Query("SELECT new com.boozebuddies.dto.Watermark(COUNT(c), MAX(c.updatedAt)) FROM Category c")
+  Watermark findWatermark();
 }
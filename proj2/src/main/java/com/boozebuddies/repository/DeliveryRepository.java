@@ -1,12 +1,19 @@
 package com.boozebuddies.repository;
 
+import com.boozebuddies.dto.DeliveryExportRow;
 import com.boozebuddies.entity.Delivery;
 import com.boozebuddies.model.DeliveryStatus;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -37,21 +44,37 @@ import org.springframework.stereotype.Repository;
  *       deliveries for a driver.
  *   <li>{@link #findAverageDeliveryTimeByDriver(Long)} - Calculates the average delivery time (in
  *       minutes) for completed deliveries by a specific driver.
+ *   <li>{@link #updateLocation(Long, Double, Double, LocalDateTime)} - Writes the driver's live
+ *       location without loading the delivery.
  * </ul>
  *
  * This repository supports analytical reporting, operational dashboards, and driver performance
  * monitoring features.
+ *
+ * <p>Finders whose results are returned to controllers load the driver with the delivery, since
+ * {@code DeliveryDTO} carries the driver's name and phone and is mapped after the transaction.
  */
 @Repository
 public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
 
+  @Override
+  @EntityGraph(attributePaths = "driver")
+  Optional<Delivery> findById(Long id);
+
+  @Override
+  @EntityGraph(attributePaths = "driver")
+  List<Delivery> findAll();
+
   /** Retrieves a delivery associated with a specific order. */
+  @EntityGraph(attributePaths = "driver")
   Optional<Delivery> findByOrderId(Long orderId);
 
   /** Returns all deliveries assigned to a given driver. */
+  @EntityGraph(attributePaths = "driver")
   List<Delivery> findByDriverId(Long driverId);
 
   /** Retrieves all deliveries that match a given delivery status. */
+  @EntityGraph(attributePaths = "driver")
   List<Delivery> findByStatus(DeliveryStatus status);
 
   /** Finds all deliveries assigned to a driver that match a specific status. */
@@ -130,4 +153,42 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
   @Query(
       "SELECT AVG(TIMESTAMPDIFF(MINUTE, d.pickupTime, d.deliveredTime)) FROM Delivery d WHERE d.status = 'DELIVERED' AND d.driver.id = :driverId")
   Double findAverageDeliveryTimeByDriver(@Param("driverId") Long driverId);
+
+  /**
+   * Writes the driver's live location onto a delivery in a single UPDATE, without loading it. The
+   * location columns are excluded from optimistic locking, so the version is left unchanged and a
+   * concurrent status change is not disturbed.
+   *
+   * @param deliveryId the delivery's unique identifier
+   * @param latitude the current latitude
+   * @param longitude the current longitude
+   * @param now the time of the location update
+   * @return the number of rows updated, 0 if the delivery does not exist
+   */
+  @Modifying
+  @Query(
+      "UPDATE Delivery d SET d.currentLatitude = :latitude, d.currentLongitude = :longitude,"
+          + " d.lastLocationUpdate = :now, d.updatedAt = :now WHERE d.id = :deliveryId")
+  int updateLocation(
+      @Param("deliveryId") Long deliveryId,
+      @Param("latitude") Double latitude,
+      @Param("longitude") Double longitude,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * Streams every delivery as a flat export row in ID order. Rows are read through a forward-only
+   * cursor and are not managed entities, so memory use is constant however many deliveries exist.
+   * The stream must be consumed and closed within a transaction.
+   *
+   * @return a stream of export rows
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT new com.boozebuddies.dto.DeliveryExportRow(d.id, d.order.id, d.driver.id, d.status,"
+          + " d.ageVerified, d.pickupTime, d.deliveredTime, d.estimatedDeliveryTime, d.createdAt,"
+          + " d.updatedAt) FROM Delivery d ORDER BY d.id")
+  Stream<DeliveryExportRow> streamExportRows();
 }
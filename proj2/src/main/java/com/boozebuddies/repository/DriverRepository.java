@@ -1,9 +1,11 @@
 package com.boozebuddies.repository;
 
 import com.boozebuddies.entity.Driver;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -34,6 +36,10 @@ import org.springframework.stereotype.Repository;
  *   <li>{@link #existsByPhone(String)} - Checks if a driver exists with the specified phone number.
  *   <li>{@link #existsByLicensePlate(String)} - Checks if a driver exists with the specified
  *       license plate.
+ *   <li>{@link #updateAvailability(Long, boolean, LocalDateTime)} - Sets a driver's availability
+ *       in a single UPDATE.
+ *   <li>{@link #updateLocation(Long, Double, Double, LocalDateTime)} - Sets a driver's current
+ *       location in a single UPDATE.
  * </ul>
  *
  * <p>This repository supports driver management, assignment logic, and analytics features across
@@ -100,4 +106,42 @@ public interface DriverRepository extends JpaRepository<Driver, Long> {
 
   /** Checks if a driver exists with the specified license plate. */
   boolean existsByLicensePlate(String licensePlate);
+
+  /**
+   * Sets a driver's availability in a single UPDATE without loading the driver first. Availability
+   * is excluded from optimistic locking, so the version is left unchanged. The persistence context
+   * is cleared afterwards so a following read sees the new value.
+   *
+   * @param driverId the driver's unique identifier
+   * @param available whether the driver is available
+   * @param now the time of the update
+   * @return the number of rows updated, 0 if the driver does not exist
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE Driver d SET d.isAvailable = :available, d.updatedAt = :now WHERE d.id = :id")
+  int updateAvailability(
+      @Param("id") Long driverId,
+      @Param("available") boolean available,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * Sets a driver's current location in a single UPDATE without loading the driver first. The
+   * location is excluded from optimistic locking, so the version is left unchanged. The persistence
+   * context is cleared afterwards so a following read sees the new value.
+   *
+   * @param driverId the driver's unique identifier
+   * @param latitude the current latitude
+   * @param longitude the current longitude
+   * @param now the time of the update
+   * @return the number of rows updated, 0 if the driver does not exist
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "UPDATE Driver d SET d.currentLatitude = :latitude, d.currentLongitude = :longitude,"
+          + " d.updatedAt = :now WHERE d.id = :id")
+  int updateLocation(
+      @Param("id") Long driverId,
+      @Param("latitude") Double latitude,
+      @Param("longitude") Double longitude,
+      @Param("now") LocalDateTime now);
 }
@@ -1,5 +1,6 @@
 package com.boozebuddies.repository;
 
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Merchant;
 import java.util.List;
 import java.util.Optional;
@@ -96,4 +97,19 @@ public interface MerchantRepository extends JpaRepository<Merchant, Long> {
 
   /** Checks whether a merchant with the specified email already exists. */
   boolean existsByEmail(String email);
+
+  /** Returns the row count and latest modification time of all merchants. */
+  @Query("SELECT new com.boozebuddies.dto.Watermark(COUNT(m), MAX(m.updatedAt)) FROM Merchant m")
+  Watermark findWatermark();
+
+  /**
+   * Returns the watermark of a single merchant: a count of 0 or 1 and its modification time.
+   *
+   * @param id the merchant ID
+   * @return the watermark of the merchant
+   */
+  @Query(
+      "SELECT new com.boozebuddies.dto.Watermark(COUNT(m), MAX(m.updatedAt)) FROM Merchant m"
+          + " WHERE m.id = :id")
+  Watermark findWatermarkById(@Param("id") Long id);
 }
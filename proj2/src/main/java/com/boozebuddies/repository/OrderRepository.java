@@ -1,13 +1,19 @@
 package com.boozebuddies.repository;
 
+import com.boozebuddies.dto.OrderExportRow;
 import com.boozebuddies.entity.Order;
 import com.boozebuddies.model.OrderStatus;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for managing {@link Order} entities within the BoozeBuddies platform.
@@ -24,7 +30,7 @@ import org.springframework.stereotype.Repository;
  *   <li>Fetching customer order history by user ID
  *   <li>Merchant dashboards with active and past orders
  *   <li>Driver delivery management
- *   <li>Search across orders by keyword or merchant name
+ *   <li>Change feeds for merchant boards and driver lists
  *   <li>Reporting total delivered order amounts per merchant
  * </ul>
  */
@@ -34,10 +40,19 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
   /** Retrieves all orders matching the specified {@link OrderStatus}. */
   List<Order> findByStatus(OrderStatus status);
 
+  /**
+   * Retrieves the orders awaiting a driver, with everything the driver views show: merchant,
+   * customer and items.
+   *
+   * @param statuses the statuses an order can be picked up in
+   * @return the unassigned orders in those statuses
+   */
   @Query(
       """
       SELECT o FROM Order o
       LEFT JOIN FETCH o.merchant
+      LEFT JOIN FETCH o.user
+      LEFT JOIN FETCH o.items
       WHERE o.status IN :statuses
       AND o.driver IS NULL
       """)
@@ -99,21 +114,72 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
       @Param("merchantId") Long merchantId, @Param("statuses") List<OrderStatus> statuses);
 
   /**
-   * Searches orders by item name or merchant name, supporting partial matches (case-insensitive).
-   * Useful for customer and merchant order search features.
+   * Retrieves active orders assigned to a driver that match the provided list of statuses, oldest
+   * first.
    *
-   * @param keyword the keyword to search by
-   * @param pageable pagination and sorting configuration
-   * @return a paginated list of matching orders
+   * @param driverId the ID of the driver
+   * @param statuses a list of statuses considered "active"
+   * @return a list of active orders for the driver
+   */
+  @Query(
+      "SELECT o FROM Order o WHERE o.driver.id = :driverId AND o.status IN :statuses"
+          + " ORDER BY o.createdAt ASC")
+  List<Order> findActiveByDriver(
+      @Param("driverId") Long driverId, @Param("statuses") List<OrderStatus> statuses);
+
+  /**
+   * Retrieves a merchant's orders changed after a watermark, up to a cutoff, in the order they
+   * changed. The watermark is the {@code (updatedAt, id)} of the last order already seen, so orders
+   * sharing a timestamp are neither skipped nor repeated. Estimated delivery time refreshes do not
+   * count as changes, see {@link #updateEstimatedDeliveryTime}.
+   *
+   * @param merchantId the ID of the merchant
+   * @param sinceAt the update time of the watermark
+   * @param sinceId the order ID of the watermark
+   * @param upTo the latest update time to include
+   * @param pageable the page size; the page number should be 0
+   * @return the changed orders, oldest change first
    */
   @Query(
       """
-        SELECT DISTINCT o FROM Order o
-        JOIN o.items i
-        WHERE LOWER(i.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
-           OR LOWER(o.merchant.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
-        """)
-  Page<Order> searchOrders(@Param("keyword") String keyword, Pageable pageable);
+      SELECT o FROM Order o
+      WHERE o.merchant.id = :merchantId
+      AND (o.updatedAt > :sinceAt OR (o.updatedAt = :sinceAt AND o.id > :sinceId))
+      AND o.updatedAt <= :upTo
+      ORDER BY o.updatedAt ASC, o.id ASC
+      """)
+  List<Order> findMerchantChanges(
+      @Param("merchantId") Long merchantId,
+      @Param("sinceAt") LocalDateTime sinceAt,
+      @Param("sinceId") Long sinceId,
+      @Param("upTo") LocalDateTime upTo,
+      Pageable pageable);
+
+  /**
+   * Retrieves a driver's orders changed after a watermark, up to a cutoff, in the order they
+   * changed. See {@link #findMerchantChanges}.
+   *
+   * @param driverId the ID of the driver
+   * @param sinceAt the update time of the watermark
+   * @param sinceId the order ID of the watermark
+   * @param upTo the latest update time to include
+   * @param pageable the page size; the page number should be 0
+   * @return the changed orders, oldest change first
+   */
+  @Query(
+      """
+      SELECT o FROM Order o
+      WHERE o.driver.id = :driverId
+      AND (o.updatedAt > :sinceAt OR (o.updatedAt = :sinceAt AND o.id > :sinceId))
+      AND o.updatedAt <= :upTo
+      ORDER BY o.updatedAt ASC, o.id ASC
+      """)
+  List<Order> findDriverChanges(
+      @Param("driverId") Long driverId,
+      @Param("sinceAt") LocalDateTime sinceAt,
+      @Param("sinceId") Long sinceId,
+      @Param("upTo") LocalDateTime upTo,
+      Pageable pageable);
 
   /**
    * Retrieves a specific order along with its related items and product details.
@@ -144,16 +210,53 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
                         """)
   Optional<Order> findByIdWithRelationships(@Param("id") Long id);
 
+  /**
+   * Sets an order's estimated delivery time in a single UPDATE without loading the order first.
+   * The estimate is excluded from optimistic locking, so the version is left unchanged and a
+   * concurrent status update does not fail. {@code updatedAt} is left unchanged too: the estimate
+   * is refreshed on every driver poll, and would otherwise put the order back into every change
+   * feed delta. The persistence context is cleared afterwards so a following read sees the new
+   * value.
+   *
+   * @param orderId the order ID
+   * @param estimatedDeliveryTime the new estimate
+   * @return the number of orders updated, 0 if the order does not exist
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE Order o SET o.estimatedDeliveryTime = :eta WHERE o.id = :id")
+  int updateEstimatedDeliveryTime(
+      @Param("id") Long orderId, @Param("eta") LocalDateTime estimatedDeliveryTime);
+
   /**
    * Aggregates total delivered order revenue per merchant.
    *
    * <p>Returns each merchant’s ID and the sum of total amounts for orders with {@link
-   * OrderStatus#DELIVERED}.
+   * OrderStatus#DELIVERED}. Runs read-only; called from a {@link
+   * com.boozebuddies.config.ReplicaRead} method, it is served by the read replica when one is
+   * configured.
    *
    * @return a list of object arrays where each element contains {@code [merchantId,
    *     totalDeliveredAmount]}
    */
+  @Transactional(readOnly = true)
   @Query(
       "SELECT o.merchant.id, SUM(o.totalAmount) FROM Order o WHERE o.status = com.boozebuddies.model.OrderStatus.DELIVERED GROUP BY o.merchant.id")
   List<Object[]> sumDeliveredTotalsByMerchant();
+
+  /**
+   * Streams every order as a flat export row in ID order. Rows are read through a forward-only
+   * cursor and are not managed entities, so memory use is constant however many orders exist.
+   * The stream must be consumed and closed within a transaction.
+   *
+   * @return a stream of export rows
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT new com.boozebuddies.dto.OrderExportRow(o.id, o.user.id, o.merchant.id,"
+          + " o.driver.id, o.status, o.totalAmount, o.promoCode, o.ageVerified, o.createdAt,"
+          + " o.updatedAt) FROM Order o ORDER BY o.id")
+  Stream<OrderExportRow> streamExportRows();
 }
@@ -0,0 +1,98 @@
+package com.boozebuddies.repository;
+
+import com.boozebuddies.entity.OrderSearchEntry;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the order search table.
+ *
+ * <p>Searches are MySQL {@code FULLTEXT} queries in boolean mode over {@code search_text}, so the
+ * terms are matched through the index rather than by scanning orders and their items. They are
+ * optionally scoped to one customer or one merchant, and ranked by relevance, newest first among
+ * equally relevant orders.
+ */
+@Repository
+public interface OrderSearchRepository extends JpaRepository<OrderSearchEntry, Long> {
+
+  /**
+   * Projection of one search result.
+   *
+   * @param orderId the ID of the matching order
+   * @param score the FULLTEXT relevance of the match
+   */
+  interface OrderSearchHit {
+    Long getOrderId();
+
+    Double getScore();
+  }
+
+  /**
+   * Writes the search row of a new order. The merchant name is read from the merchant here, so
+   * the order does not need it loaded.
+   *
+   * @param orderId the ID of the order
+   * @param userId the customer who placed the order
+   * @param merchantId the merchant the order was placed with
+   * @param createdAt when the order was placed
+   * @param itemNames the names of the order's items, separated by spaces
+   * @return the number of rows written, 0 if the merchant does not exist
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO order_search (order_id, user_id, merchant_id, created_at, search_text)
+          SELECT :orderId, :userId, m.id, :createdAt, CONCAT_WS(' ', m.name, :itemNames)
+          FROM merchants m
+          WHERE m.id = :merchantId
+          """,
+      nativeQuery = true)
+  int insertEntry(
+      @Param("orderId") Long orderId,
+      @Param("userId") Long userId,
+      @Param("merchantId") Long merchantId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("itemNames") String itemNames);
+
+  /**
+   * Finds the orders matching a boolean-mode search, most relevant first.
+   *
+   * @param terms the search in MySQL boolean syntax, e.g. {@code +ipa* +brew*}
+   * @param userId the customer to restrict the search to, or null
+   * @param merchantId the merchant to restrict the search to, or null
+   * @param pageable the page to return; its sort is ignored
+   * @return one page of matching order IDs and their relevance
+   */
+  @Query(
+      value =
+          """
+          SELECT s.order_id AS orderId,
+                 MATCH(s.search_text) AGAINST(:terms IN BOOLEAN MODE) AS score
+          FROM order_search s
+          WHERE MATCH(s.search_text) AGAINST(:terms IN BOOLEAN MODE)
+            AND (:userId IS NULL OR s.user_id = :userId)
+            AND (:merchantId IS NULL OR s.merchant_id = :merchantId)
+          ORDER BY score DESC, s.created_at DESC, s.order_id DESC
+          """,
+      countQuery =
+          """
+          SELECT COUNT(*)
+          FROM order_search s
+          WHERE MATCH(s.search_text) AGAINST(:terms IN BOOLEAN MODE)
+            AND (:userId IS NULL OR s.user_id = :userId)
+            AND (:merchantId IS NULL OR s.merchant_id = :merchantId)
+          """,
+      nativeQuery = true)
+  Page<OrderSearchHit> search(
+      @Param("terms") String terms,
+      @Param("userId") Long userId,
+      @Param("merchantId") Long merchantId,
+      Pageable pageable);
+}
@@ -0,0 +1,78 @@
+package com.boozebuddies.repository;
+
+import com.boozebuddies.entity.OutboxEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for the transactional outbox.
+ *
+ * <p>Provides the relay's polling query, which preserves per-aggregate ordering, and the updates
+ * used to acknowledge, retry and prune events.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  /**
+   * Retrieves the oldest unpublished events that may be relayed now.
+   *
+   * <p>An event is excluded while it is backing off after a failure, and so is every later event of
+   * the same aggregate, so subscribers never see an aggregate's events out of order.
+   *
+   * @param now the current time
+   * @param pageable limits the batch size
+   * @return relayable events in ID order
+   */
+  @Query(
+      "SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL"
+          + " AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)"
+          + " AND NOT EXISTS (SELECT p.id FROM OutboxEvent p WHERE p.publishedAt IS NULL"
+          + " AND p.aggregateType = e.aggregateType AND p.aggregateId = e.aggregateId"
+          + " AND p.id < e.id AND p.nextAttemptAt > :now)"
+          + " ORDER BY e.id")
+  List<OutboxEvent> findRelayable(@Param("now") LocalDateTime now, Pageable pageable);
+
+  /**
+   * Marks an event as handled by every subscriber.
+   *
+   * @param id the event ID
+   * @param publishedAt when the event was published
+   * @return the number of rows updated
+   */
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id = :id")
+  int markPublished(@Param("id") Long id, @Param("publishedAt") LocalDateTime publishedAt);
+
+  /**
+   * Records a failed relay attempt and when to try again.
+   *
+   * @param id the event ID
+   * @param error the failure message
+   * @param nextAttemptAt the earliest time of the next attempt
+   * @return the number of rows updated
+   */
+  @Modifying
+  @Query(
+      "UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error,"
+          + " e.nextAttemptAt = :nextAttemptAt WHERE e.id = :id")
+  int recordFailure(
+      @Param("id") Long id,
+      @Param("error") String error,
+      @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+  /**
+   * Deletes events published before a cutoff.
+   *
+   * @param cutoff events published before this time are deleted
+   * @return the number of events deleted
+   */
+  @Modifying
+  @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :cutoff")
+  int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,15 +1,20 @@
 package com.boozebuddies.repository;
 
+import com.boozebuddies.dto.PaymentExportRow;
 import com.boozebuddies.entity.Payment;
 import com.boozebuddies.model.PaymentStatus;
+import jakarta.persistence.QueryHint;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -103,4 +108,21 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
    */
   @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.status = :status")
   BigDecimal sumAmountByStatus(@Param("status") PaymentStatus status);
+
+  /**
+   * Streams every payment as a flat export row in ID order. Rows are read through a forward-only
+   * cursor and are not managed entities, so memory use is constant however many payments exist.
+   * The stream must be consumed and closed within a transaction.
+   *
+   * @return a stream of export rows
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT new com.boozebuddies.dto.PaymentExportRow(p.id, p.order.id, p.user.id, p.amount,"
+          + " p.status, p.paymentMethod, p.transactionId, p.refundReason, p.paymentDate,"
+          + " p.createdAt, p.updatedAt) FROM Payment p ORDER BY p.id")
+  Stream<PaymentExportRow> streamExportRows();
 }
@@ -1,8 +1,13 @@
 package com.boozebuddies.repository;
 
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Product;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,15 +29,27 @@ import org.springframework.stereotype.Repository;
  *   <li>Counting available products per merchant
  *   <li>Retrieving top-selling products (future enhancement)
  * </ul>
+ *
+ * <p>Finders whose results are returned to controllers load the merchant with the product, since
+ * {@code ProductDTO} carries the merchant's name and is mapped after the transaction.
  */
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+  @Override
+  @EntityGraph(attributePaths = "merchant")
+  Optional<Product> findById(Long id);
+
+  @Override
+  @EntityGraph(attributePaths = "merchant")
+  List<Product> findAll();
+
   /**
    * Retrieves all products that are currently available for purchase.
    *
    * @return a list of available {@link Product} entities
    */
+  @EntityGraph(attributePaths = "merchant")
   List<Product> findByAvailableTrue();
 
   /**
@@ -41,6 +58,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
    * @param merchantId the ID of the merchant
    * @return a list of {@link Product} entities for the given merchant
    */
+  @EntityGraph(attributePaths = "merchant")
   List<Product> findByMerchantId(Long merchantId);
 
   /**
@@ -49,6 +67,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
    * @param merchantId the ID of the merchant
    * @return a list of available {@link Product} entities for the merchant
    */
+  @EntityGraph(attributePaths = "merchant")
   List<Product> findByMerchantIdAndAvailableTrue(Long merchantId);
 
   /**
@@ -78,6 +97,7 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
       "SELECT p FROM Product p WHERE p.available = true AND "
           + "(LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR "
           + "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+  @EntityGraph(attributePaths = "merchant")
   List<Product> searchByKeyword(@Param("keyword") String keyword);
 
   /**
@@ -158,4 +178,70 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
    */
   @Query("SELECT COUNT(p) FROM Product p WHERE p.merchant.id = :merchantId AND p.available = true")
   Long countAvailableProductsByMerchant(@Param("merchantId") Long merchantId);
+
+  /**
+   * Returns the row count and latest modification time of all available products, read from the
+   * {@code (available, updated_at)} index without loading any product.
+   *
+   * @return the watermark of the available products
+   */
+  @Query(
+      "SELECT new com.boozebuddies.dto.Watermark(COUNT(p), MAX(p.updatedAt)) FROM Product p"
+          + " WHERE p.available = true")
+  Watermark findAvailableWatermark();
+
+  /**
+   * Returns the row count and latest modification time of a merchant's available products.
+   *
+   * @param merchantId the ID of the merchant
+   * @return the watermark of the merchant's available products
+   */
+  @Query(
+      "SELECT new com.boozebuddies.dto.Watermark(COUNT(p), MAX(p.updatedAt)) FROM Product p"
+          + " WHERE p.merchant.id = :merchantId AND p.available = true")
+  Watermark findAvailableWatermarkByMerchant(@Param("merchantId") Long merchantId);
+
+  /**
+   * Returns the units on hand of a product.
+   *
+   * @param id the ID of the product
+   * @return the stock quantity, or null if the product's stock is not tracked
+   */
+  @Query("SELECT p.stockQuantity FROM Product p WHERE p.id = :id")
+  Integer findStockQuantity(@Param("id") Long id);
+
+  /**
+   * Returns the units on hand of each of the given products.
+   *
+   * @param ids the IDs of the products
+   * @return rows of {@code [productId, stockQuantity]}; the quantity is null for untracked products
+   */
+  @Query("SELECT p.id, p.stockQuantity FROM Product p WHERE p.id IN :ids")
+  List<Object[]> findStockQuantities(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Sets the units on hand of a product, or stops tracking its stock when {@code stockQuantity} is
+   * null. Stock is only ever written through this and {@link #decrementStock}, never by saving the
+   * entity, so a stale copy cannot overwrite a concurrent decrement.
+   *
+   * @param id the ID of the product
+   * @param stockQuantity the new stock quantity, or null
+   * @return the number of rows updated
+   */
+  @Modifying
+  @Query("UPDATE Product p SET p.stockQuantity = :stockQuantity WHERE p.id = :id")
+  int updateStockQuantity(@Param("id") Long id, @Param("stockQuantity") Integer stockQuantity);
+
+  /**
+   * Removes delivered units from a product's stock.
+   *
+   * @param id the ID of the product
+   * @param quantity the number of units delivered
+   * @return the number of rows updated, 0 if the product's stock is not tracked
+   */
+  @Modifying
+  @Query(
+      "UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity"
+          + " WHERE p.id = :id AND p.stockQuantity IS NOT NULL")
+  int decrementStock(@Param("id") Long id, @Param("quantity") int quantity);
 }
@@ -0,0 +1,73 @@
+package com.boozebuddies.repository;
+
+import com.boozebuddies.entity.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for issued refresh tokens.
+ *
+ * <p>Tokens are looked up by the hash of the presented token, together with their user, in a
+ * single unique-index read.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+  /**
+   * Retrieves a token by its hash, with its user loaded.
+   *
+   * @param tokenHash the SHA-256 hash of the token
+   * @return the token, if one was issued with that hash
+   */
+  @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+  Optional<RefreshToken> findByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+  /**
+   * Marks a token used, unless another request has already done so.
+   *
+   * @param id the token ID
+   * @param usedAt when the token was used
+   * @return 1 if this call marked the token, 0 if it was already used
+   */
+  @Modifying
+  @Query("UPDATE RefreshToken t SET t.usedAt = :usedAt WHERE t.id = :id AND t.usedAt IS NULL")
+  int markUsed(@Param("id") Long id, @Param("usedAt") LocalDateTime usedAt);
+
+  /**
+   * Deletes every token of a login session.
+   *
+   * @param sessionId the session ID
+   * @return the number of tokens deleted
+   */
+  @Modifying
+  @Query("DELETE FROM RefreshToken t WHERE t.sessionId = :sessionId")
+  int deleteBySessionId(@Param("sessionId") long sessionId);
+
+  /**
+   * Deletes every token of a user, on all devices.
+   *
+   * @param userId the user ID
+   * @return the number of tokens deleted
+   */
+  @Modifying
+  @Query("DELETE FROM RefreshToken t WHERE t.user.id = :userId")
+  int deleteByUserId(@Param("userId") Long userId);
+
+  /**
+   * Deletes up to {@code limit} tokens that expired before a cutoff.
+   *
+   * @param cutoff tokens expiring before this time are deleted
+   * @param limit the most tokens deleted by one call
+   * @return the number of tokens deleted
+   */
+  @Modifying
+  @Query(
+      value = "DELETE FROM refresh_tokens WHERE expires_at < :cutoff LIMIT :limit",
+      nativeQuery = true)
+  int deleteExpired(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,76 @@
+package com.boozebuddies.repository;
+
+import com.boozebuddies.entity.StockReservation;
+import com.boozebuddies.model.ReservationStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for the persisted copy of the stock reservation ledger.
+ *
+ * <p>Provides the status updates written behind the ledger and the per-product sums of held stock
+ * used to load and reconcile it.
+ */
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+  /**
+   * Retrieves the reservations of an order in a given status.
+   *
+   * @param orderId the order ID
+   * @param status the reservation status
+   * @return the matching reservations, one per product
+   */
+  List<StockReservation> findByOrderIdAndStatus(Long orderId, ReservationStatus status);
+
+  /**
+   * Moves every reservation of an order from one status to another.
+   *
+   * @param orderId the order ID
+   * @param from the expected current status
+   * @param to the new status
+   * @param updatedAt when the status changed
+   * @return the number of rows updated
+   */
+  @Modifying
+  @Query(
+      "UPDATE StockReservation r SET r.status = :to, r.updatedAt = :updatedAt"
+          + " WHERE r.orderId = :orderId AND r.status = :from")
+  int updateStatus(
+      @Param("orderId") Long orderId,
+      @Param("from") ReservationStatus from,
+      @Param("to") ReservationStatus to,
+      @Param("updatedAt") LocalDateTime updatedAt);
+
+  /**
+   * Sums the units still held for a product.
+   *
+   * @param productId the product ID
+   * @return the held units, 0 if none
+   */
+  @Query(
+      "SELECT COALESCE(SUM(r.quantity), 0) FROM StockReservation r"
+          + " WHERE r.productId = :productId"
+          + " AND r.status = com.boozebuddies.model.ReservationStatus.RESERVED")
+  long sumReservedByProduct(@Param("productId") Long productId);
+
+  /**
+   * Sums the units still held for each of the given products. Products with nothing held are
+   * omitted.
+   *
+   * @param productIds the product IDs
+   * @return rows of {@code [productId, heldUnits]}
+   */
+  @Query(
+      "SELECT r.productId, SUM(r.quantity) FROM StockReservation r"
+          + " WHERE r.productId IN :productIds"
+          + " AND r.status = com.boozebuddies.model.ReservationStatus.RESERVED"
+          + " GROUP BY r.productId")
+  List<Object[]> sumReservedByProducts(@Param("productIds") Collection<Long> productIds);
+}
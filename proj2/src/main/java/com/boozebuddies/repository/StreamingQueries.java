@@ -0,0 +1,18 @@
+package com.boozebuddies.repository;
+
+/**
+ * Query hint values shared by the repository methods that stream whole tables.
+ *
+ * <p>MySQL Connector/J buffers an entire result set in memory unless the statement's fetch size is
+ * {@link Integer#MIN_VALUE}, which switches it to a forward-only cursor that reads rows from the
+ * socket one at a time. Streaming queries therefore use {@link #FETCH_SIZE} and select flat
+ * projections rather than entities: nothing is added to the persistence context, and no other
+ * statement needs the connection while the stream is open.
+ */
+public final class StreamingQueries {
+
+  /** Row-by-row fetch size, for use in {@code @QueryHint(name = HINT_FETCH_SIZE, ...)} */
+  public static final String FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+  private StreamingQueries() {}
+}
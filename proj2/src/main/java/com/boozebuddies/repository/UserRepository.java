@@ -42,16 +42,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
    */
   boolean existsByEmailIgnoreCase(String email);
 
-  /**
-   * Finds a user by their refresh token.
-   *
-   * <p>Used for JWT token refresh operations.
-   *
-   * @param refreshToken the refresh token
-   * @return an {@link Optional} containing the user if found
-   */
-  Optional<User> findByRefreshToken(String refreshToken);
-
   // ==================== Role-based Queries ====================
 
   /**
@@ -2,6 +2,8 @@ package com.boozebuddies.security;
 
 import com.boozebuddies.entity.User;
 import com.boozebuddies.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,6 +32,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * <p>Public endpoints (such as login or registration) are automatically excluded from filtering for
  * efficiency.
  *
+ * <p>The time spent authenticating each request is recorded on the {@code security.jwt.filter}
+ * timer; the rest of the filter chain is not included.
+ *
  * <p>Typical request flow:
  *
  * <ol>
@@ -49,16 +54,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtUtil jwtUtil;
   private final UserService userService;
+  private final TokenRevocationList revocationList;
+  private final Timer filterTimer;
 
   /**
    * Constructs a {@code JwtAuthenticationFilter} with the required dependencies.
    *
    * @param jwtUtil utility class for JWT generation, extraction, and validation
    * @param userService service for retrieving user details from the database
+   * @param revocationList users whose token claims are out of date
+   * @param meterRegistry registry the authentication timer is published to
    */
-  public JwtAuthenticationFilter(JwtUtil jwtUtil, UserService userService) {
+  public JwtAuthenticationFilter(
+      JwtUtil jwtUtil,
+      UserService userService,
+      TokenRevocationList revocationList,
+      MeterRegistry meterRegistry) {
     this.jwtUtil = jwtUtil;
     this.userService = userService;
+    this.revocationList = revocationList;
+    this.filterTimer =
+        Timer.builder("security.jwt.filter")
+            .description("Time spent extracting and validating the request JWT")
+            .register(meterRegistry);
   }
 
   /**
@@ -80,6 +98,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
 
+    Timer.Sample sample = Timer.start();
     try {
       String jwt = extractJwtFromRequest(request);
 
@@ -90,6 +109,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       log.error("Cannot set user authentication: {}", ex.getMessage());
       // Continue filter chain even if authentication fails
       // Secured endpoints will reject unauthenticated requests
+    } finally {
+      sample.stop(filterTimer);
     }
 
     filterChain.doFilter(request, response);
@@ -114,30 +135,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   /**
    * Validates a JWT and sets the authentication context if valid.
    *
-   * <p>This method extracts the username and roles from the token, optionally checks the user
-   * record in the database for activeness, and validates the token's signature. Upon success, an
-   * authenticated {@link UsernamePasswordAuthenticationToken} is placed into the {@link
-   * SecurityContextHolder}.
+   * <p>The token is verified and its claims read in one parse. The user record is still loaded to
+   * reject deleted and deactivated accounts. Unless the user's roles or merchant were reassigned
+   * after the token was issued, authorities come from the token's roles and a {@link
+   * JwtAuthenticationToken} carries the claims on to the permission checks; otherwise, or if the
+   * token has no roles, the roles are taken from the user record and the claims are dropped.
    *
    * @param token the JWT to authenticate
    * @param request the current HTTP request
    */
   private void authenticateToken(String token, HttpServletRequest request) {
-    String username = jwtUtil.extractUsername(token);
-    if (username == null) {
-      log.debug("Cannot extract username from token");
+    TokenClaims claims = jwtUtil.parseTokenClaims(token);
+    if (claims == null || claims.email() == null) {
+      log.debug("Token is invalid, expired or has no subject");
       return;
     }
-
-    // Extract roles from token claims
-    Set<String> roles = jwtUtil.extractRoles(token);
-    log.debug("Extracted roles from token: {}", roles);
-
-    // Map role names to Spring Security authorities
-    Set<SimpleGrantedAuthority> authorities =
-        roles.stream()
-            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-            .collect(Collectors.toSet());
+    String username = claims.email();
 
     // Verify the user still exists / active
     User user = userService.findByEmail(username).orElse(null);
@@ -151,23 +164,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       return;
     }
 
-    if (!jwtUtil.validateToken(token, user)) {
+    if (!username.equalsIgnoreCase(user.getEmail())) {
       log.warn("Token validation failed for user: {}", username);
       return;
     }
 
-    // Use roles from user entity if token roles are empty (fallback)
-    if (authorities.isEmpty() && user.getRoles() != null && !user.getRoles().isEmpty()) {
-      authorities = buildAuthorities(user);
+    UsernamePasswordAuthenticationToken authentication;
+    if (claims.roles().isEmpty() || revocationList.isRevoked(claims.userId(), claims.issuedAt())) {
+      // No roles in the token, or roles or merchant changed since it was issued: trust the
+      // database instead
+      Set<SimpleGrantedAuthority> authorities = buildAuthorities(user);
       log.debug("Using roles from user entity: {}", authorities);
+      authentication = new UsernamePasswordAuthenticationToken(user, null, authorities);
+    } else {
+      // Map role names to Spring Security authorities
+      Set<SimpleGrantedAuthority> authorities =
+          claims.roles().stream()
+              .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+              .collect(Collectors.toSet());
+      authentication = new JwtAuthenticationToken(user, authorities, claims);
     }
 
-    // Build authentication token and set security context
-    UsernamePasswordAuthenticationToken authentication =
-        new UsernamePasswordAuthenticationToken(user, null, authorities);
+    // Set security context
     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
     SecurityContextHolder.getContext().setAuthentication(authentication);
-    log.debug("Authentication set for user: {} with authorities: {}", username, authorities);
+    log.debug(
+        "Authentication set for user: {} with authorities: {}",
+        username,
+        authentication.getAuthorities());
   }
 
   /**
@@ -0,0 +1,39 @@
+package com.boozebuddies.security;
+
+import com.boozebuddies.entity.User;
+import java.util.Collection;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * The authentication {@link JwtAuthenticationFilter} sets for a request whose access token's
+ * claims are still current, i.e. the user's roles and merchant were not reassigned after the token
+ * was issued. Permission checks read ownership from {@link #getTokenClaims()} instead of loading
+ * it from the database.
+ */
+public class JwtAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+  private final transient TokenClaims tokenClaims;
+
+  /**
+   * Creates an authenticated token.
+   *
+   * @param user the authenticated user
+   * @param authorities the authorities granted by the token's roles
+   * @param tokenClaims the verified claims of the access token
+   */
+  public JwtAuthenticationToken(
+      User user, Collection<? extends GrantedAuthority> authorities, TokenClaims tokenClaims) {
+    super(user, null, authorities);
+    this.tokenClaims = tokenClaims;
+  }
+
+  /**
+   * Returns the verified claims of the access token.
+   *
+   * @return the token claims
+   */
+  public TokenClaims getTokenClaims() {
+    return tokenClaims;
+  }
+}
@@ -1,6 +1,7 @@
 package com.boozebuddies.security;
 
 import com.boozebuddies.entity.User;
+import com.boozebuddies.model.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
@@ -9,6 +10,8 @@ import java.util.Date;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.crypto.SecretKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -20,7 +23,7 @@ import org.springframework.stereotype.Component;
  *
  * <ul>
  *   <li>Creating signed JWT tokens with user claims and expiration times
- *   <li>Extracting claims such as username, user ID, and roles
+ *   <li>Extracting claims such as username, user ID, roles, merchant ID and driver ID
  *   <li>Validating tokens for integrity, signature, and expiration
  * </ul>
  *
@@ -30,6 +33,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtUtil {
 
+  private static final Logger log = LoggerFactory.getLogger(JwtUtil.class);
+
   private final SecretKey key;
   private final long jwtExpirationMs;
 
@@ -57,7 +62,8 @@ public class JwtUtil {
 
   /**
    * Generates a new JWT for the given user, embedding essential user claims such as ID, email,
-   * name, and roles.
+   * name, and roles, plus the merchant a merchant admin manages and a driver's profile ID, so that
+   * ownership checks can be answered from the token.
    *
    * <p>The generated token is signed using the configured secret key and expires after the
    * configured duration.
@@ -79,12 +85,28 @@ public class JwtUtil {
         .claim("userId", user.getId())
         .claim("name", user.getName())
         .claim("roles", roles)
+        .claim("merchantId", user.getMerchantId())
+        .claim("driverId", driverId(user))
         .setIssuedAt(now)
         .setExpiration(expiry)
         .signWith(key, SignatureAlgorithm.HS256)
         .compact();
   }
 
+  /**
+   * Returns the ID of a driver's profile. Only users with the driver role have one, so other users
+   * do not load the association.
+   *
+   * @param user the user the token is generated for
+   * @return the driver profile ID, or {@code null} if the user is not a driver
+   */
+  private static Long driverId(User user) {
+    if (!user.hasRole(Role.DRIVER) || user.getDriver() == null) {
+      return null;
+    }
+    return user.getDriver().getId();
+  }
+
   /**
    * Extracts and parses all claims from a given JWT.
    *
@@ -127,11 +149,42 @@ public class JwtUtil {
     Claims claims = getClaims(token);
     if (claims == null) return null;
 
-    Object userIdObj = claims.get("userId");
-    if (userIdObj instanceof Integer) {
-      return ((Integer) userIdObj).longValue();
+    return toLong(claims.get("userId"));
+  }
+
+  /**
+   * Verifies a JWT and returns its claims in one parse.
+   *
+   * @param token the JWT to parse
+   * @return the token's claims, or {@code null} if the token is malformed, has an invalid
+   *     signature or has expired
+   */
+  public TokenClaims parseTokenClaims(String token) {
+    Claims claims;
+    try {
+      claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    } catch (JwtException | IllegalArgumentException e) {
+      log.debug("Token rejected: {}", e.getMessage());
+      return null;
     }
-    return (Long) userIdObj;
+    Date issuedAt = claims.getIssuedAt();
+    return new TokenClaims(
+        toLong(claims.get("userId")),
+        claims.getSubject(),
+        toRoles(claims.get("roles")),
+        toLong(claims.get("merchantId")),
+        toLong(claims.get("driverId")),
+        issuedAt != null ? issuedAt.toInstant() : null);
+  }
+
+  /**
+   * Reads a numeric claim, which the JSON parser returns as an Integer or a Long.
+   *
+   * @param value the claim value
+   * @return the value as a {@link Long}, or {@code null} if missing
+   */
+  private static Long toLong(Object value) {
+    return value instanceof Number number ? number.longValue() : null;
   }
 
   /**
@@ -167,8 +220,7 @@ public class JwtUtil {
    */
   public boolean validateToken(String token, User user) {
     if (token == null || user == null) {
-      System.out.println(
-          "VALIDATION FAILED: token=" + (token != null) + ", user=" + (user != null));
+      log.debug("Token validation skipped: token={}, user={}", token != null, user != null);
       return false;
     }
 
@@ -179,26 +231,20 @@ public class JwtUtil {
       String username = claims.getSubject();
       Date expiration = claims.getExpiration();
 
-      System.out.println("=== TOKEN VALIDATION ===");
-      System.out.println("Token username: " + username);
-      System.out.println("User email: " + user.getEmail());
-      System.out.println(
-          "Username match: " + (username != null && username.equalsIgnoreCase(user.getEmail())));
-      System.out.println("Expiration: " + expiration);
-      System.out.println("Expired: " + (expiration != null && expiration.before(new Date())));
-
-      boolean valid =
-          username != null
-              && username.equalsIgnoreCase(user.getEmail())
-              && expiration != null
-              && !expiration.before(new Date());
-
-      System.out.println("VALIDATION RESULT: " + valid);
+      boolean usernameMatches = username != null && username.equalsIgnoreCase(user.getEmail());
+      boolean expired = expiration == null || expiration.before(new Date());
+      boolean valid = usernameMatches && !expired;
+
+      log.debug(
+          "Token validation for {}: usernameMatches={}, expiration={}, valid={}",
+          user.getEmail(),
+          usernameMatches,
+          expiration,
+          valid);
       return valid;
 
     } catch (JwtException | IllegalArgumentException e) {
-      System.out.println("VALIDATION EXCEPTION: " + e.getMessage());
-      e.printStackTrace();
+      log.debug("Token validation failed: {}", e.getMessage());
       return false;
     }
   }
@@ -234,7 +280,16 @@ public class JwtUtil {
     Claims claims = getClaims(token);
     if (claims == null) return Collections.emptySet();
 
-    Object rolesObj = claims.get("roles");
+    return toRoles(claims.get("roles"));
+  }
+
+  /**
+   * Reads the {@code roles} claim, a list of role names.
+   *
+   * @param rolesObj the claim value
+   * @return the role names, or an empty set if missing
+   */
+  private static Set<String> toRoles(Object rolesObj) {
     if (rolesObj instanceof java.util.List<?>) {
       return ((java.util.List<?>) rolesObj)
           .stream()
@@ -0,0 +1,162 @@
+package com.boozebuddies.security;
+
+import com.boozebuddies.exception.ServerBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs password hashing on a small dedicated pool instead of directly on request threads.
+ *
+ * <p>Hashing a password is deliberately expensive, pure CPU work. During a login burst, such as
+ * drivers signing in at the start of a shift, hashing on Tomcat threads lets the logins occupy
+ * every request thread and run far more hashes at once than there are cores, so every login gets
+ * slower and every other endpoint starves. Here at most {@code security.password.hashing.threads}
+ * hashes run at once, by default one per core, and at most {@code
+ * security.password.hashing.queue-capacity} more wait. A login that finds the queue full, or that
+ * is still waiting after {@code security.password.hashing.timeout-ms}, fails at once with a {@link
+ * ServerBusyException} (503) instead of holding its request thread.
+ *
+ * <p>The pool is published as the {@code executor.*} meters tagged {@code
+ * name=password.hashing}: {@code executor.queued} and {@code executor.active} show the backlog,
+ * and the {@code executor.idle} timer shows how long hashes wait for a thread. Shed logins are
+ * counted by {@code password.hashing.rejected}.
+ */
+@Component
+public class PasswordHasher implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+  private static final String METRIC_NAME = "password.hashing";
+  private static final String BUSY_MESSAGE = "Server is busy, please retry shortly";
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor pool;
+  private final ExecutorService executor;
+  private final Counter rejected;
+  private final long timeoutMs;
+
+  /**
+   * Constructs the hasher.
+   *
+   * @param passwordEncoder the encoder doing the hashing
+   * @param meterRegistry the registry the pool's meters are published to
+   * @param threads the most hashes running at once, or 0 for one per available processor
+   * @param queueCapacity the most hashes waiting for a thread
+   * @param timeoutMs how long a caller waits for its hash before giving up
+   */
+  public PasswordHasher(
+      PasswordEncoder passwordEncoder,
+      MeterRegistry meterRegistry,
+      @Value("${security.password.hashing.threads:0}") int threads,
+      @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${security.password.hashing.timeout-ms:2000}") long timeoutMs) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    BlockingQueue<Runnable> queue =
+        queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+    threadFactory.setDaemon(true);
+
+    this.passwordEncoder = passwordEncoder;
+    this.pool =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            queue,
+            threadFactory,
+            new ThreadPoolExecutor.AbortPolicy());
+    this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, METRIC_NAME);
+    this.rejected =
+        Counter.builder(METRIC_NAME + ".rejected")
+            .description("Password hashes refused because the hashing pool was saturated")
+            .register(meterRegistry);
+    this.timeoutMs = timeoutMs;
+  }
+
+  /**
+   * Checks a raw password against a stored hash.
+   *
+   * @param rawPassword the password the user entered
+   * @param encodedPassword the stored hash
+   * @return true if the password matches
+   * @throws ServerBusyException if the hashing pool is saturated
+   */
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * Hashes a raw password with the configured scheme and parameters.
+   *
+   * @param rawPassword the password to hash
+   * @return the new hash
+   * @throws ServerBusyException if the hashing pool is saturated
+   */
+  public String encode(CharSequence rawPassword) {
+    return run(() -> passwordEncoder.encode(rawPassword));
+  }
+
+  /**
+   * Tells whether a stored hash uses another scheme or weaker parameters than configured. Only
+   * parses the hash, so it runs on the calling thread.
+   *
+   * @param encodedPassword the stored hash
+   * @return true if the password should be hashed again
+   */
+  public boolean needsRehash(String encodedPassword) {
+    return passwordEncoder.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void destroy() {
+    pool.shutdownNow();
+  }
+
+  private <T> T run(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.warn("Password hashing pool saturated: {} queued", pool.getQueue().size());
+      throw new ServerBusyException(BUSY_MESSAGE, e);
+    }
+
+    try {
+      return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejected.increment();
+      log.warn("Password hash not finished within {} ms", timeoutMs);
+      throw new ServerBusyException(BUSY_MESSAGE, e);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServerBusyException(BUSY_MESSAGE, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+}
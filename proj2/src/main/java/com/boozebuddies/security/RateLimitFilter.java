@@ -0,0 +1,92 @@
+package com.boozebuddies.security;
+
+import com.boozebuddies.entity.User;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies {@link RateLimiter} to API requests and answers rejected ones with {@code 429 Too Many
+ * Requests} and a {@code Retry-After} header.
+ *
+ * <p>Runs right after {@link JwtAuthenticationFilter}, so authenticated requests are counted per
+ * user and unauthenticated ones per client address. Admins are not limited.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+  private static final String API_PREFIX = "/api/";
+  private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+  private final RateLimiter rateLimiter;
+
+  /**
+   * Constructs the filter.
+   *
+   * @param rateLimiter the limiter deciding which requests may proceed
+   */
+  public RateLimitFilter(RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith(API_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    User user =
+        authentication != null && authentication.getPrincipal() instanceof User principal
+            ? principal
+            : null;
+    if (user != null && isAdmin(authentication)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    RateLimitGroup group =
+        RateLimitGroup.of(request.getMethod(), request.getRequestURI(), user != null);
+    String client = user != null ? "user:" + user.getId() : "ip:" + request.getRemoteAddr();
+    RateLimiter.Decision decision = rateLimiter.tryAcquire(group, client);
+    if (!decision.admitted()) {
+      log.debug(
+          "Rate limited {} {} for {} ({})",
+          request.getMethod(),
+          request.getRequestURI(),
+          client,
+          group);
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response
+          .getWriter()
+          .write("{\"success\":false,\"message\":\"Too many requests, please retry later\"}");
+      return;
+    }
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      rateLimiter.release(group);
+    }
+  }
+
+  private static boolean isAdmin(Authentication authentication) {
+    return authentication.getAuthorities().stream()
+        .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+  }
+}
@@ -0,0 +1,97 @@
+package com.boozebuddies.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+/**
+ * Endpoint groups with their own token-bucket rate limits (see {@link RateLimiter}).
+ *
+ * <p>Each group's bucket size and refill rate default to the values below and can be overridden
+ * with {@code rate-limit.<group>.capacity} and {@code rate-limit.<group>.refill-per-second}, where
+ * {@code <group>} is the lower-case name with dashes, for example {@code driver-polling}.
+ */
+public enum RateLimitGroup {
+
+  /** Placing orders. Never shed, so checkout keeps its connections when drivers poll hard */
+  CHECKOUT(20, 2, false),
+
+  /** Driver apps polling for nearby orders and pinging their location */
+  DRIVER_POLLING(30, 1, true),
+
+  /** Unauthenticated requests, limited per client address */
+  PUBLIC(60, 10, true),
+
+  /** Every other authenticated API request */
+  DEFAULT(120, 20, true);
+
+  private static final PathMatcher PATHS = new AntPathMatcher();
+
+  private final long defaultCapacity;
+  private final double defaultRefillPerSecond;
+  private final boolean sheddable;
+
+  RateLimitGroup(long defaultCapacity, double defaultRefillPerSecond, boolean sheddable) {
+    this.defaultCapacity = defaultCapacity;
+    this.defaultRefillPerSecond = defaultRefillPerSecond;
+    this.sheddable = sheddable;
+  }
+
+  /**
+   * Returns the burst size used when none is configured.
+   *
+   * @return the default bucket capacity
+   */
+  public long getDefaultCapacity() {
+    return defaultCapacity;
+  }
+
+  /**
+   * Returns the sustained rate used when none is configured.
+   *
+   * @return the default refill rate in requests per second
+   */
+  public double getDefaultRefillPerSecond() {
+    return defaultRefillPerSecond;
+  }
+
+  /**
+   * Returns whether requests in this group are shed while the connection pool is saturated.
+   *
+   * @return {@code true} if the group can be shed
+   */
+  public boolean isSheddable() {
+    return sheddable;
+  }
+
+  /**
+   * Returns the property name fragment of this group.
+   *
+   * @return the group name in lower case with dashes
+   */
+  public String getPropertyName() {
+    return name().toLowerCase().replace('_', '-');
+  }
+
+  /**
+   * Classifies a request.
+   *
+   * @param method the HTTP method
+   * @param path the request path
+   * @param authenticated whether the request carries a valid token
+   * @return the group whose limits apply
+   */
+  public static RateLimitGroup of(String method, String path, boolean authenticated) {
+    if (HttpMethod.POST.matches(method)
+        && (path.equals("/api/orders") || path.equals("/api/orders/bulk"))) {
+      return CHECKOUT;
+    }
+    if ((HttpMethod.GET.matches(method) && path.equals("/api/orders/by-distance"))
+        || (HttpMethod.PUT.matches(method)
+            && (path.equals("/api/drivers/my-profile/location")
+                || PATHS.match("/api/deliveries/*/location", path)))) {
+      return DRIVER_POLLING;
+    }
+    return authenticated ? DEFAULT : PUBLIC;
+  }
+}
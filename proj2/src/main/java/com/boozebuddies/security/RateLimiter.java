@@ -0,0 +1,230 @@
+package com.boozebuddies.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process token-bucket rate limiter with load shedding.
+ *
+ * <p>Each client gets one bucket per {@link RateLimitGroup}. A bucket holds up to {@code capacity}
+ * tokens, refills continuously at {@code refill-per-second}, and every request takes one token, so
+ * a client can burst up to the capacity and then sustain the refill rate. Idle buckets expire after
+ * ten minutes.
+ *
+ * <p>On top of that, while the primary pool is saturated (its recent maximum connection wait, the
+ * {@code hikaricp.connections.acquire} timer, exceeds {@code rate-limit.shed.acquire-threshold-ms})
+ * each sheddable group may only have {@code rate-limit.shed.max-concurrent} requests in flight.
+ * Checkout is never shed, so it keeps its share of connections when drivers poll hard.
+ *
+ * <p>Decisions are counted as {@code rate.limit.decisions} (tags {@code group}, {@code outcome}:
+ * allowed, limited, shed); in-flight requests are gauged as {@code rate.limit.in.flight}.
+ */
+@Component
+public class RateLimiter {
+
+  private static final int MAX_BUCKETS = 100_000;
+  private static final Duration BUCKET_IDLE_EXPIRY = Duration.ofMinutes(10);
+  private static final long SHED_RETRY_AFTER_SECONDS = 1;
+  private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+  private final Map<RateLimitGroup, Limit> limits = new EnumMap<>(RateLimitGroup.class);
+  private final Map<RateLimitGroup, AtomicInteger> inFlight = new EnumMap<>(RateLimitGroup.class);
+  private final Map<RateLimitGroup, Map<Outcome, Counter>> decisions =
+      new EnumMap<>(RateLimitGroup.class);
+  private final Cache<String, TokenBucket> buckets =
+      Caffeine.newBuilder()
+          .maximumSize(MAX_BUCKETS)
+          .expireAfterAccess(BUCKET_IDLE_EXPIRY)
+          .build();
+
+  private final MeterRegistry meterRegistry;
+  private final LongSupplier nanoClock;
+  private final long shedThresholdMs;
+  private final int shedMaxConcurrent;
+  private volatile Timer acquireTimer;
+
+  /** Outcome of an admission decision, used as the metric tag. */
+  enum Outcome {
+    ALLOWED,
+    LIMITED,
+    SHED
+  }
+
+  /**
+   * The result of {@link #tryAcquire}.
+   *
+   * @param admitted whether the request may proceed; admitted requests must be {@link #release
+   *     released}
+   * @param retryAfterSeconds when a rejected client should retry, 0 if admitted
+   */
+  public record Decision(boolean admitted, long retryAfterSeconds) {}
+
+  /** Bucket size and refill rate of a group. */
+  private record Limit(long capacity, double tokensPerNano) {}
+
+  /**
+   * Creates the rate limiter.
+   *
+   * @param environment source of the per-group {@code rate-limit.<group>.*} limits
+   * @param meterRegistry registry the decision metrics are published to, and the pool wait timer
+   *     is read from
+   * @param shedThresholdMs connection wait above which sheddable groups are capped
+   * @param shedMaxConcurrent in-flight requests allowed per sheddable group while shedding
+   */
+  @Autowired
+  public RateLimiter(
+      Environment environment,
+      MeterRegistry meterRegistry,
+      @Value("${rate-limit.shed.acquire-threshold-ms:250}") long shedThresholdMs,
+      @Value("${rate-limit.shed.max-concurrent:4}") int shedMaxConcurrent) {
+    this(environment, meterRegistry, shedThresholdMs, shedMaxConcurrent, System::nanoTime);
+  }
+
+  RateLimiter(
+      Environment environment,
+      MeterRegistry meterRegistry,
+      long shedThresholdMs,
+      int shedMaxConcurrent,
+      LongSupplier nanoClock) {
+    this.meterRegistry = meterRegistry;
+    this.shedThresholdMs = shedThresholdMs;
+    this.shedMaxConcurrent = shedMaxConcurrent;
+    this.nanoClock = nanoClock;
+
+    for (RateLimitGroup group : RateLimitGroup.values()) {
+      String prefix = "rate-limit." + group.getPropertyName() + ".";
+      long capacity =
+          environment.getProperty(prefix + "capacity", Long.class, group.getDefaultCapacity());
+      double refillPerSecond =
+          environment.getProperty(
+              prefix + "refill-per-second", Double.class, group.getDefaultRefillPerSecond());
+      if (capacity < 1 || refillPerSecond <= 0) {
+        throw new IllegalArgumentException("Invalid rate limit for " + group.getPropertyName());
+      }
+      limits.put(group, new Limit(capacity, refillPerSecond / TimeUnit.SECONDS.toNanos(1)));
+
+      AtomicInteger requests = new AtomicInteger();
+      inFlight.put(group, requests);
+      Gauge.builder("rate.limit.in.flight", requests, AtomicInteger::get)
+          .description("Requests currently admitted by the rate limiter")
+          .tag("group", group.getPropertyName())
+          .register(meterRegistry);
+
+      Map<Outcome, Counter> counters = new EnumMap<>(Outcome.class);
+      for (Outcome outcome : Outcome.values()) {
+        counters.put(
+            outcome,
+            Counter.builder("rate.limit.decisions")
+                .description("Rate limiter admission decisions")
+                .tag("group", group.getPropertyName())
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry));
+      }
+      decisions.put(group, counters);
+    }
+  }
+
+  /**
+   * Decides whether a request may proceed.
+   *
+   * @param group the endpoint group of the request
+   * @param client the client the request is counted against, such as a user ID or address
+   * @return the decision; if admitted, {@link #release} must be called when the request completes
+   */
+  public Decision tryAcquire(RateLimitGroup group, String client) {
+    AtomicInteger requests = inFlight.get(group);
+    int running = requests.incrementAndGet();
+    if (group.isSheddable() && running > shedMaxConcurrent && isPoolSaturated()) {
+      requests.decrementAndGet();
+      decisions.get(group).get(Outcome.SHED).increment();
+      return new Decision(false, SHED_RETRY_AFTER_SECONDS);
+    }
+
+    Limit limit = limits.get(group);
+    TokenBucket bucket =
+        buckets.get(group.name() + ":" + client, key -> new TokenBucket(limit, nanoClock));
+    long waitNanos = bucket.tryConsume(nanoClock.getAsLong());
+    if (waitNanos > 0) {
+      requests.decrementAndGet();
+      decisions.get(group).get(Outcome.LIMITED).increment();
+      long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / 1_000_000_000L);
+      return new Decision(false, seconds);
+    }
+
+    decisions.get(group).get(Outcome.ALLOWED).increment();
+    return new Decision(true, 0);
+  }
+
+  /**
+   * Marks an admitted request as completed.
+   *
+   * @param group the endpoint group the request was admitted to
+   */
+  public void release(RateLimitGroup group) {
+    inFlight.get(group).decrementAndGet();
+  }
+
+  /**
+   * Returns whether the primary pool's recent connection wait exceeds the shedding threshold.
+   *
+   * @return {@code true} while sheddable groups are capped
+   */
+  public boolean isPoolSaturated() {
+    Timer timer = acquireTimer;
+    if (timer == null) {
+      // Registered once the pool has started; look it up until it appears
+      timer = meterRegistry.find(ACQUIRE_TIMER).tag("pool", "primary").timer();
+      if (timer == null) {
+        return false;
+      }
+      acquireTimer = timer;
+    }
+    return timer.max(TimeUnit.MILLISECONDS) > shedThresholdMs;
+  }
+
+  /** A token bucket refilled lazily from the elapsed time on each request. */
+  static final class TokenBucket {
+
+    private final Limit limit;
+    private double tokens;
+    private long refilledAt;
+
+    private TokenBucket(Limit limit, LongSupplier nanoClock) {
+      this.limit = limit;
+      this.tokens = limit.capacity();
+      this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next token
+     */
+    synchronized long tryConsume(long now) {
+      if (now > refilledAt) {
+        tokens = Math.min(limit.capacity(), tokens + (now - refilledAt) * limit.tokensPerNano());
+        refilledAt = now;
+      }
+      if (tokens >= 1) {
+        tokens -= 1;
+        return 0;
+      }
+      return (long) Math.ceil((1 - tokens) / limit.tokensPerNano());
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.boozebuddies.security;
+
+import com.boozebuddies.entity.Delivery;
+import com.boozebuddies.entity.Order;
+import com.boozebuddies.entity.User;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Request-scoped memo of the authenticated user and the orders and deliveries a request touches.
+ *
+ * <p>A single call such as {@code GET /api/orders/{id}} runs several permission checks and then
+ * the controller body, each of which needs the same user and the same order. Resolving them through
+ * this class loads each one once per HTTP request and hands the same instance to every caller.
+ *
+ * <p>Values are stored as a request attribute, so they are discarded when the request completes.
+ * Outside of a web request (unit tests, async tasks, schedulers) nothing is cached and every call
+ * goes straight to the loader. Cached aggregates reflect the state at first load; callers that
+ * modify an aggregate should reload it through its service rather than reuse the cached instance.
+ */
+public final class RequestResolutionContext {
+
+  private static final String ATTRIBUTE = RequestResolutionContext.class.getName();
+
+  private static final String USER_PREFIX = "user:";
+  private static final String ORDER_PREFIX = "order:";
+  private static final String DELIVERY_PREFIX = "delivery:";
+
+  private RequestResolutionContext() {}
+
+  /**
+   * Resolves a user by email, loading it at most once per request.
+   *
+   * @param email the email of the user
+   * @param loader loads the user when it is not cached yet
+   * @return the user, or empty if none exists
+   */
+  public static Optional<User> user(String email, Function<String, Optional<User>> loader) {
+    if (email == null) {
+      return Optional.empty();
+    }
+    return resolve(USER_PREFIX + email.toLowerCase(), () -> loader.apply(email));
+  }
+
+  /**
+   * Resolves an order by ID, loading it at most once per request.
+   *
+   * @param orderId the ID of the order
+   * @param loader loads the order when it is not cached yet
+   * @return the order, or empty if none exists
+   */
+  public static Optional<Order> order(Long orderId, Function<Long, Optional<Order>> loader) {
+    if (orderId == null) {
+      return Optional.empty();
+    }
+    return resolve(ORDER_PREFIX + orderId, () -> loader.apply(orderId));
+  }
+
+  /**
+   * Resolves a delivery by ID, loading it at most once per request.
+   *
+   * @param deliveryId the ID of the delivery
+   * @param loader loads the delivery when it is not cached yet, returning null if none exists
+   * @return the delivery, or null if none exists
+   */
+  public static Delivery delivery(Long deliveryId, Function<Long, Delivery> loader) {
+    if (deliveryId == null) {
+      return null;
+    }
+    return resolve(
+            DELIVERY_PREFIX + deliveryId, () -> Optional.ofNullable(loader.apply(deliveryId)))
+        .orElse(null);
+  }
+
+  /**
+   * Returns the cached value for a key, invoking the loader on the first lookup in this request.
+   * Loader exceptions are not cached, so a failed lookup is retried by the next caller.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> Optional<T> resolve(String key, Supplier<Optional<T>> loader) {
+    Map<String, Object> values = currentValues();
+    if (values == null) {
+      return loader.get();
+    }
+    Object cached = values.get(key);
+    if (cached != null) {
+      return (Optional<T>) cached;
+    }
+    Optional<T> loaded = loader.get();
+    values.put(key, loaded);
+    return loaded;
+  }
+
+  /**
+   * Returns the memo map bound to the current request, creating it on first use.
+   *
+   * @return the memo map, or null when there is no current request
+   */
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> currentValues() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return null;
+    }
+    Object existing = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (existing instanceof Map) {
+      return (Map<String, Object>) existing;
+    }
+    Map<String, Object> values = new HashMap<>();
+    attributes.setAttribute(ATTRIBUTE, values, RequestAttributes.SCOPE_REQUEST);
+    return values;
+  }
+}
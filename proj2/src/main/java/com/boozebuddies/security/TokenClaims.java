@@ -0,0 +1,38 @@
+package com.boozebuddies.security;
+
+import com.boozebuddies.model.Role;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * The verified claims of an access token.
+ *
+ * <p>{@code merchantId} and {@code driverId} are the merchant a {@link Role#MERCHANT_ADMIN}
+ * manages and the driver profile of a {@link Role#DRIVER}, as they were when the token was issued;
+ * either is null if the user had none.
+ *
+ * @param userId the user's ID
+ * @param email the user's email, the token subject
+ * @param roles the user's role names
+ * @param merchantId the managed merchant's ID, or null
+ * @param driverId the driver profile's ID, or null
+ * @param issuedAt when the token was issued, to the second
+ */
+public record TokenClaims(
+    Long userId,
+    String email,
+    Set<String> roles,
+    Long merchantId,
+    Long driverId,
+    Instant issuedAt) {
+
+  /**
+   * Checks whether the token grants a role.
+   *
+   * @param role the role to check
+   * @return true if the role is among the token's roles
+   */
+  public boolean hasRole(Role role) {
+    return role != null && roles.contains(role.name());
+  }
+}
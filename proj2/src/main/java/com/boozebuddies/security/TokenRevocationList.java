@@ -0,0 +1,83 @@
+package com.boozebuddies.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Remembers which users had their roles or merchant reassigned, so that the claims of access
+ * tokens issued before the change are no longer trusted.
+ *
+ * <p>An entry only has to outlive the tokens it invalidates, so it expires after the access token
+ * lifetime ({@code jwt.expirationMs}) and the list stays small. A token it rejects is not refused:
+ * the request is authorised from the user's database record instead, as it was before claims were
+ * trusted, until the client obtains a fresh token.
+ *
+ * <p>The list is held in memory, so with several instances a reassignment is only seen by the
+ * instance that made it; run a single instance or keep {@code jwt.expirationMs} short.
+ */
+@Component
+public class TokenRevocationList {
+
+  private static final int MAX_ENTRIES = 100_000;
+
+  private final Cache<Long, Instant> revokedAt;
+
+  /**
+   * Creates the revocation list.
+   *
+   * @param jwtExpirationMs the access token lifetime, after which an entry is dropped
+   */
+  public TokenRevocationList(@Value("${jwt.expirationMs:900000}") long jwtExpirationMs) {
+    this.revokedAt =
+        Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(Duration.ofMillis(jwtExpirationMs))
+            .build();
+  }
+
+  /**
+   * Stops trusting the claims of a user's current access tokens. Inside a transaction the
+   * revocation is recorded again after commit, so a token issued while the change was still
+   * uncommitted, and so still carrying the old claims, is not trusted either.
+   *
+   * @param userId the ID of the user whose roles or merchant changed
+   */
+  public void revoke(Long userId) {
+    if (userId == null) {
+      return;
+    }
+    revokedAt.put(userId, Instant.now());
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              revokedAt.put(userId, Instant.now());
+            }
+          });
+    }
+  }
+
+  /**
+   * Checks whether a token's claims were issued before its user's last revocation. Token issue
+   * times are truncated to the second, so a token issued in the same second as the revocation
+   * counts as revoked.
+   *
+   * @param userId the token's user ID
+   * @param issuedAt the token's issue time
+   * @return true if the claims must not be trusted
+   */
+  public boolean isRevoked(Long userId, Instant issuedAt) {
+    if (userId == null || issuedAt == null) {
+      return true;
+    }
+    Instant revoked = revokedAt.getIfPresent(userId);
+    return revoked != null && !issuedAt.isAfter(revoked);
+  }
+}
@@ -32,7 +32,8 @@ public interface AuthenticationService {
   AuthenticationResponse login(AuthenticationRequest request);
 
   /**
-   * Generates a new access token using a valid refresh token.
+   * Generates a new access token using a valid refresh token. The refresh token can only be used
+   * once; the response carries its replacement.
    *
    * @param request The refresh token request containing the user's refresh token.
    * @return A new {@link AuthenticationResponse} containing refreshed authentication tokens.
@@ -40,7 +41,7 @@ public interface AuthenticationService {
   AuthenticationResponse refreshToken(RefreshTokenRequest request);
 
   /**
-   * Logs out a user by revoking or invalidating their active refresh token, preventing further use.
+   * Logs out a user by revoking their refresh tokens on every device, preventing further use.
    *
    * @param userId The ID of the user to log out.
    */
@@ -1,5 +1,6 @@
 package com.boozebuddies.service;
 
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Category;
 import java.util.List;
 
@@ -17,6 +18,13 @@ public interface CategoryService {
    */
   List<Category> getAllCategories();
 
+  /**
+   * Retrieves the number of categories and when any of them last changed, without loading them.
+   *
+   * @return The {@link Watermark} of the categories table.
+   */
+  Watermark getCategoriesWatermark();
+
   /**
    * Retrieves a specific category by its unique identifier.
    *
@@ -0,0 +1,44 @@
+package com.boozebuddies.service;
+
+import com.boozebuddies.model.ExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for bulk exports of orders, payments and deliveries.
+ *
+ * <p>Exports stream rows from the database straight to the output, so memory use does not grow
+ * with the number of rows. The output is flushed but not closed.
+ */
+public interface ExportService {
+
+  /**
+   * Writes every order to the output.
+   *
+   * @param format The output format.
+   * @param output Where the rows are written.
+   * @return The number of rows written.
+   * @throws IOException if writing to the output fails
+   */
+  long exportOrders(ExportFormat format, OutputStream output) throws IOException;
+
+  /**
+   * Writes every payment to the output.
+   *
+   * @param format The output format.
+   * @param output Where the rows are written.
+   * @return The number of rows written.
+   * @throws IOException if writing to the output fails
+   */
+  long exportPayments(ExportFormat format, OutputStream output) throws IOException;
+
+  /**
+   * Writes every delivery to the output.
+   *
+   * @param format The output format.
+   * @param output Where the rows are written.
+   * @return The number of rows written.
+   * @throws IOException if writing to the output fails
+   */
+  long exportDeliveries(ExportFormat format, OutputStream output) throws IOException;
+}
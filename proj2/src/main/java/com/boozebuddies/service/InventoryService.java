@@ -0,0 +1,38 @@
+package com.boozebuddies.service;
+
+import com.boozebuddies.entity.Order;
+
+/**
+ * Service interface for product stock. Units are reserved when an order is placed, released when
+ * it is cancelled and committed, that is removed from stock, when it is delivered. Products whose
+ * stock quantity is null are not tracked and never run out.
+ */
+public interface InventoryService {
+
+  /**
+   * Reserves stock for every item of an order that is about to be saved, all or nothing. Must be
+   * called inside the transaction that saves the order: the reservation is bound to the order when
+   * that transaction commits, and released if it rolls back.
+   *
+   * @param order The order, with its items' products resolved.
+   * @throws com.boozebuddies.exception.InsufficientStockException if a product does not have
+   *     enough units available; nothing is reserved.
+   */
+  void reserve(Order order);
+
+  /**
+   * Puts the units reserved for an order back on sale once the caller's transaction commits. Does
+   * nothing if the order holds no stock.
+   *
+   * @param orderId The ID of the cancelled order.
+   */
+  void release(Long orderId);
+
+  /**
+   * Removes the units reserved for an order from stock once the caller's transaction commits. Does
+   * nothing if the order holds no stock.
+   *
+   * @param orderId The ID of the delivered order.
+   */
+  void commit(Long orderId);
+}
@@ -1,7 +1,9 @@
 package com.boozebuddies.service;
 
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Merchant;
 import com.boozebuddies.entity.Order;
+import com.boozebuddies.geo.MerchantSpatialIndex;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -40,6 +42,21 @@ public interface MerchantService {
    */
   List<Merchant> getAllMerchants();
 
+  /**
+   * Retrieves the number of merchants and when any of them last changed, without loading them.
+   *
+   * @return The watermark of all merchants.
+   */
+  Watermark getMerchantsWatermark();
+
+  /**
+   * Retrieves when a single merchant last changed. The count is 0 if the merchant does not exist.
+   *
+   * @param merchantId The ID of the merchant.
+   * @return The watermark of the merchant.
+   */
+  Watermark getMerchantWatermark(Long merchantId);
+
   /**
    * Retrieves all orders placed with a specific merchant, paginated.
    *
@@ -75,4 +92,23 @@ public interface MerchantService {
 
   /** Get all merchants sorted by distance from a location. */
   List<Merchant> getMerchantsSortedByDistance(Double latitude, Double longitude);
+
+  /**
+   * Finds the nearest active merchants within a radius, one page at a time.
+   *
+   * @param latitude The latitude of the search location.
+   * @param longitude The longitude of the search location.
+   * @param radiusKm The search radius in kilometers.
+   * @param cuisineType Optional cuisine type to match (case-insensitive), or null for any.
+   * @param openNow Whether to only include merchants that are currently open.
+   * @param pageable The page of results to return, ordered by distance.
+   * @return A page of merchants with their distances, closest first.
+   */
+  Page<MerchantSpatialIndex.Neighbor> findNearestMerchants(
+      Double latitude,
+      Double longitude,
+      double radiusKm,
+      String cuisineType,
+      boolean openNow,
+      Pageable pageable);
 }
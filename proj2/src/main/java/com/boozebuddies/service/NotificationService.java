@@ -59,6 +59,40 @@ public interface NotificationService {
    */
   java.util.List<com.boozebuddies.dto.SystemBroadcastDTO> getRecentBroadcasts();
 
+  /**
+   * Returns the version of the broadcast feed: the ID of the newest broadcast. It changes whenever
+   * a message is broadcast, so clients can tell whether their copy of the feed is current.
+   *
+   * @return the feed version, 0 if nothing has been broadcast
+   */
+  long getBroadcastVersion();
+
+  /**
+   * Retrieves the recent broadcasts newer than a given one.
+   *
+   * @param afterId The ID of the newest broadcast the caller already has, or 0 for all.
+   * @return list of the newer broadcast payloads ordered newest first
+   */
+  java.util.List<com.boozebuddies.dto.SystemBroadcastDTO> getBroadcastsAfter(long afterId);
+
+  /**
+   * Returns how far a user has read the broadcast feed. Every broadcast with a higher ID is unread.
+   *
+   * @param userId The user whose cursor to read.
+   * @return the ID of the newest broadcast the user has read, 0 if none
+   */
+  long getBroadcastCursor(Long userId);
+
+  /**
+   * Marks the broadcasts up to and including the given one as read by a user. A cursor is never
+   * moved backwards, nor past the newest broadcast.
+   *
+   * @param userId The user who read the broadcasts.
+   * @param upToId The ID of the newest broadcast read, or null for every current broadcast.
+   * @return the user's cursor after the update
+   */
+  long markBroadcastsRead(Long userId, Long upToId);
+
   /**
    * Sends an order confirmation notification to the customer after the order has been placed
    * successfully.
@@ -0,0 +1,31 @@
+package com.boozebuddies.service;
+
+import com.boozebuddies.entity.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service interface for searching orders by merchant name and item names. Every order is indexed
+ * when it is created; searches can be restricted to one customer's or one merchant's orders.
+ */
+public interface OrderSearchService {
+
+  /**
+   * Indexes a newly saved order. Must run in the transaction that saves the order.
+   *
+   * @param order The saved order, with its items.
+   */
+  void index(Order order);
+
+  /**
+   * Searches orders. Every word of the query must match the start of a word in the merchant name
+   * or an item name; words shorter than three characters are ignored.
+   *
+   * @param query The words to search for.
+   * @param userId The customer whose orders to search, or null for any customer.
+   * @param merchantId The merchant whose orders to search, or null for any merchant.
+   * @param pageable The page to return.
+   * @return One page of matching orders with their items, most relevant first.
+   */
+  Page<Order> search(String query, Long userId, Long merchantId, Pageable pageable);
+}
@@ -1,6 +1,8 @@
 package com.boozebuddies.service;
 
 import com.boozebuddies.entity.Order;
+import com.boozebuddies.entity.OrderItem;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +16,16 @@ public interface OrderService {
    */
   Order createOrder(Order order);
 
+  /**
+   * Creates many orders at once with partial-failure semantics. Products and users are resolved
+   * once for the whole batch, orders are validated in parallel, and valid orders are persisted in
+   * grouped transactions. An order that fails does not prevent the others from being created.
+   *
+   * @param orders The orders to create.
+   * @return One outcome per input order, in input order, plus timing figures for the batch.
+   */
+  BulkCreateResult createOrders(List<Order> orders);
+
   /**
    * Retrieves an order by its unique ID.
    *
@@ -22,6 +34,15 @@ public interface OrderService {
    */
   Optional<Order> getOrderById(Long id);
 
+  /**
+   * Retrieves the items of an order with their products loaded, so they can be read after the
+   * persistence context that loaded them is closed.
+   *
+   * @param orderId The order ID.
+   * @return The order's items in line order, or an empty list if the order does not exist.
+   */
+  List<OrderItem> getOrderItems(Long orderId);
+
   /**
    * Retrieves all orders placed by a specific user.
    *
@@ -46,6 +67,28 @@ public interface OrderService {
    */
   List<Order> getOrdersByDriver(Long driverId);
 
+  /**
+   * Retrieves the changes to a merchant's order board since a watermark. Without a watermark the
+   * result is a snapshot of the merchant's open orders.
+   *
+   * @param merchantId The merchant's ID.
+   * @param since The watermark of the client's last sync, or null for a snapshot.
+   * @param limit The most changed orders to return.
+   * @return The changed orders, the IDs of orders that left the board, and the next watermark.
+   */
+  OrderChanges getMerchantOrderChanges(Long merchantId, ChangeWatermark since, int limit);
+
+  /**
+   * Retrieves the changes to a driver's assigned orders since a watermark. Without a watermark the
+   * result is a snapshot of the driver's open orders.
+   *
+   * @param driverId The driver's ID.
+   * @param since The watermark of the client's last sync, or null for a snapshot.
+   * @param limit The most changed orders to return.
+   * @return The changed orders, the IDs of orders that were closed, and the next watermark.
+   */
+  OrderChanges getDriverOrderChanges(Long driverId, ChangeWatermark since, int limit);
+
   /**
    * Retrieves all orders in the system.
    *
@@ -92,11 +135,98 @@ public interface OrderService {
   double calculateDistance(double lat1, double lon1, double lat2, double lon2);
 
   /**
-   * Update the estimated delivery time for an order.
+   * Update the estimated delivery time for an order, without changing its version.
    *
    * @param orderId The order ID
    * @param estimatedDeliveryTime The estimated delivery time
-   * @return The updated order
    */
-  Order updateEstimatedDeliveryTime(Long orderId, java.time.LocalDateTime estimatedDeliveryTime);
+  void updateEstimatedDeliveryTime(Long orderId, java.time.LocalDateTime estimatedDeliveryTime);
+
+  /**
+   * The result of creating one order in a batch.
+   *
+   * @param index The position of the order in the submitted batch.
+   * @param order The created order, or null if creation failed.
+   * @param error Why creation failed, or null if it succeeded.
+   */
+  record BulkOrderOutcome(int index, Order order, String error) {
+
+    /**
+     * @return true if the order was created
+     */
+    public boolean succeeded() {
+      return error == null;
+    }
+  }
+
+  /**
+   * A position in an order change feed: the update time and ID of the last order seen. Orders
+   * changed after it sort after it by {@code (updatedAt, id)}.
+   *
+   * @param updatedAt The update time of the last order seen.
+   * @param id The ID of the last order seen.
+   */
+  record ChangeWatermark(LocalDateTime updatedAt, long id) {
+
+    /**
+     * Parses a watermark produced by {@link #toString()}.
+     *
+     * @param value The watermark sent by the client.
+     * @return The watermark.
+     * @throws IllegalArgumentException if the value is not a watermark.
+     */
+    public static ChangeWatermark parse(String value) {
+      int separator = value.lastIndexOf('~');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid watermark: " + value);
+      }
+      try {
+        return new ChangeWatermark(
+            LocalDateTime.parse(value.substring(0, separator)),
+            Long.parseLong(value.substring(separator + 1)));
+      } catch (RuntimeException e) {
+        throw new IllegalArgumentException("Invalid watermark: " + value, e);
+      }
+    }
+
+    /**
+     * @return The watermark as sent to clients, {@code <ISO update time>~<id>}.
+     */
+    @Override
+    public String toString() {
+      return updatedAt + "~" + id;
+    }
+  }
+
+  /**
+   * One page of an order change feed.
+   *
+   * @param changed Orders created or changed that are still in the view, oldest change first.
+   * @param removed IDs of orders that changed and left the view.
+   * @param watermark The watermark to send on the next sync.
+   * @param hasMore Whether more changes are waiting; sync again immediately if so.
+   * @param snapshot Whether {@code changed} is the whole view rather than a delta.
+   */
+  record OrderChanges(
+      List<Order> changed,
+      List<Long> removed,
+      ChangeWatermark watermark,
+      boolean hasMore,
+      boolean snapshot) {}
+
+  /**
+   * The result of a bulk order creation.
+   *
+   * @param outcomes One outcome per submitted order, in submission order.
+   * @param resolveMillis Time spent loading products and users for the batch.
+   * @param validationMillis Time spent validating orders.
+   * @param persistenceMillis Time spent saving orders, payments and deliveries.
+   * @param transactions How many database transactions the inserts used.
+   */
+  record BulkCreateResult(
+      List<BulkOrderOutcome> outcomes,
+      long resolveMillis,
+      long validationMillis,
+      long persistenceMillis,
+      int transactions) {}
 }
@@ -0,0 +1,37 @@
+package com.boozebuddies.service;
+
+import com.boozebuddies.model.OutboxEventType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Service interface for recording domain events in the transactional outbox. */
+public interface OutboxService {
+
+  /**
+   * Records a domain event. Joins the caller's transaction, so the event is committed or rolled
+   * back together with the state change it describes.
+   *
+   * @param type The event type; also determines the aggregate type.
+   * @param aggregateId The ID of the order or delivery the event belongs to.
+   * @param payload Event details, serialized as JSON.
+   */
+  void record(OutboxEventType type, Long aggregateId, Map<String, Object> payload);
+
+  /**
+   * Builds an event payload from alternating keys and values. Unlike {@link Map#of}, null values
+   * are kept.
+   *
+   * @param keysAndValues alternating String keys and their values
+   * @return the payload, in argument order
+   */
+  static Map<String, Object> payload(Object... keysAndValues) {
+    if (keysAndValues.length % 2 != 0) {
+      throw new IllegalArgumentException("Payload needs an even number of arguments");
+    }
+    Map<String, Object> payload = new LinkedHashMap<>();
+    for (int i = 0; i < keysAndValues.length; i += 2) {
+      payload.put((String) keysAndValues[i], keysAndValues[i + 1]);
+    }
+    return payload;
+  }
+}
@@ -1,7 +1,9 @@
 package com.boozebuddies.service;
 
 import com.boozebuddies.dto.ProductDTO;
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Product;
+import java.util.Collection;
 import java.util.List;
 
 /** Service interface for managing products. */
@@ -16,6 +18,9 @@ public interface ProductService {
   /** Find a product by its ID. */
   Product getProductById(Long id);
 
+  /** Find all products with the given IDs in one query. Unknown IDs are skipped. */
+  List<Product> getProductsByIds(Collection<Long> ids);
+
   /** Search products by keyword (searches name, description, etc.). */
   List<Product> searchProducts(String keyword);
 
@@ -25,6 +30,12 @@ public interface ProductService {
   /** Get only available products for a specific merchant. */
   List<Product> getAvailableProductsByMerchant(Long merchantId);
 
+  /** Count and latest modification time of the available products, without loading them. */
+  Watermark getAvailableProductsWatermark();
+
+  /** Count and latest modification time of a merchant's available products. */
+  Watermark getAvailableProductsWatermarkByMerchant(Long merchantId);
+
   /** Check if a product is available for purchase. */
   boolean isProductAvailable(Long id);
 
@@ -0,0 +1,45 @@
+package com.boozebuddies.service;
+
+import com.boozebuddies.entity.User;
+
+/**
+ * Service interface for refresh tokens. Each login starts a session with its own token, so a user
+ * can be signed in on several devices. A token can be used once: refreshing exchanges it for its
+ * successor in the same session.
+ */
+public interface RefreshTokenService {
+
+  /**
+   * Starts a new session for a user and issues its first refresh token.
+   *
+   * @param user The user signing in.
+   * @return The refresh token to hand to the client.
+   */
+  String issue(User user);
+
+  /**
+   * Exchanges a refresh token for the next one in its session. Presenting a token that has already
+   * been exchanged ends the whole session, since it means the token was copied.
+   *
+   * @param refreshToken The refresh token sent by the client.
+   * @return The token's user and the new refresh token.
+   * @throws com.boozebuddies.exception.InvalidTokenException if the token is unknown, expired or
+   *     already used.
+   */
+  Rotation rotate(String refreshToken);
+
+  /**
+   * Deletes expired refresh tokens in batches.
+   *
+   * @return The number of tokens deleted.
+   */
+  int purgeExpired();
+
+  /**
+   * The outcome of a rotation.
+   *
+   * @param user The user the token belongs to, loaded with it.
+   * @param refreshToken The new refresh token.
+   */
+  record Rotation(User user, String refreshToken) {}
+}
@@ -2,7 +2,6 @@ package com.boozebuddies.service;
 
 import com.boozebuddies.dto.RegisterUserRequest;
 import com.boozebuddies.entity.User;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -90,35 +89,18 @@ public interface UserService {
    */
   public void updateLastLogin(Long userId);
 
-  // ==================== Token Management Methods ====================
-
   /**
-   * Saves a refresh token for the user.
+   * Replaces a user's stored password hash, e.g. after rehashing it with stronger parameters.
    *
    * @param userId The ID of the user.
-   * @param refreshToken The refresh token to save.
-   * @param expiryDate The expiry date of the refresh token.
-   */
-  void saveRefreshToken(Long userId, String refreshToken, LocalDateTime expiryDate);
-
-  /**
-   * Validates if a refresh token is still valid.
-   *
-   * @param refreshToken The refresh token to validate.
-   * @return true if the token is valid and not expired, false otherwise.
+   * @param passwordHash The new hash.
    */
-  boolean isRefreshTokenValid(String refreshToken);
+  void updatePasswordHash(Long userId, String passwordHash);
 
-  /**
-   * Finds a user by their refresh token.
-   *
-   * @param refreshToken The refresh token.
-   * @return An Optional containing the user if found, otherwise empty.
-   */
-  Optional<User> findByRefreshToken(String refreshToken);
+  // ==================== Token Management Methods ====================
 
   /**
-   * Revokes a user's refresh token (logout).
+   * Revokes a user's refresh tokens on every device (logout).
    *
    * @param userId The ID of the user.
    */
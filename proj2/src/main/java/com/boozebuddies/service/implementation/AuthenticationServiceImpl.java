@@ -8,44 +8,47 @@ import com.boozebuddies.dto.RegisterUserRequest;
 import com.boozebuddies.entity.User;
 import com.boozebuddies.exception.InvalidCredentialsException;
 import com.boozebuddies.exception.InvalidTokenException;
+import com.boozebuddies.exception.ServerBusyException;
 import com.boozebuddies.mapper.UserMapper;
 import com.boozebuddies.security.JwtUtil;
+import com.boozebuddies.security.PasswordHasher;
 import com.boozebuddies.service.AuthenticationService;
 import com.boozebuddies.service.DriverService;
+import com.boozebuddies.service.RefreshTokenService;
+import com.boozebuddies.service.RefreshTokenService.Rotation;
 import com.boozebuddies.service.UserService;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class AuthenticationServiceImpl implements AuthenticationService {
 
+  private static final Logger log = LoggerFactory.getLogger(AuthenticationServiceImpl.class);
+
   private final UserService userService;
   private final DriverService driverService;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHasher passwordHasher;
   private final JwtUtil jwtUtil;
   private final UserMapper userMapper;
-  private final long refreshExpirationMs;
+  private final RefreshTokenService refreshTokenService;
 
   @Autowired
   public AuthenticationServiceImpl(
       UserService userService,
       DriverService driverService,
-      PasswordEncoder passwordEncoder,
+      PasswordHasher passwordHasher,
       JwtUtil jwtUtil,
       UserMapper userMapper,
-      @Value("${jwt.refreshExpirationMs:604800000}") long refreshExpirationMs) {
+      RefreshTokenService refreshTokenService) {
     this.userService = userService;
     this.driverService = driverService;
-    this.passwordEncoder = passwordEncoder;
+    this.passwordHasher = passwordHasher;
     this.jwtUtil = jwtUtil;
     this.userMapper = userMapper;
-    this.refreshExpirationMs = refreshExpirationMs;
+    this.refreshTokenService = refreshTokenService;
   }
 
   @Override
@@ -57,16 +60,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     // Generate access token (short-lived)
     String accessToken = jwtUtil.generateToken(user);
 
-    // Generate refresh token (long-lived)
-    String refreshToken = jwtUtil.generateToken(user);
-    LocalDateTime refreshExpiry =
-        Instant.now()
-            .plusMillis(refreshExpirationMs)
-            .atZone(ZoneId.systemDefault())
-            .toLocalDateTime();
-
-    // Save refresh token in database
-    userService.saveRefreshToken(user.getId(), refreshToken, refreshExpiry);
+    // Start a refresh-token session (long-lived)
+    String refreshToken = refreshTokenService.issue(user);
 
     return AuthenticationResponse.builder()
         .token(accessToken)
@@ -91,7 +86,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             .orElseThrow(() -> new InvalidCredentialsException("Invalid email or password"));
 
     // Verify password
-    if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+    if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
       throw new InvalidCredentialsException("Invalid email or password");
     }
 
@@ -100,20 +95,15 @@ public class AuthenticationServiceImpl implements AuthenticationService {
       throw new InvalidCredentialsException("Account is deactivated. Please contact support.");
     }
 
+    // Upgrade the stored hash while the plain password is at hand
+    rehashIfOutdated(user, request.getPassword());
+
     // Update last login timestamp
     userService.updateLastLogin(user.getId());
 
     // Generate tokens
     String accessToken = jwtUtil.generateToken(user);
-    String refreshToken = jwtUtil.generateToken(user);
-    LocalDateTime refreshExpiry =
-        Instant.now()
-            .plusMillis(refreshExpirationMs)
-            .atZone(ZoneId.systemDefault())
-            .toLocalDateTime();
-
-    // Save refresh token
-    userService.saveRefreshToken(user.getId(), refreshToken, refreshExpiry);
+    String refreshToken = refreshTokenService.issue(user);
 
     return AuthenticationResponse.builder()
         .token(accessToken)
@@ -143,7 +133,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         .orElseThrow(() -> new InvalidCredentialsException("User is not a driver"));
 
     // Verify password
-    if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+    if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
       throw new InvalidCredentialsException("Invalid email or password");
     }
 
@@ -152,20 +142,15 @@ public class AuthenticationServiceImpl implements AuthenticationService {
       throw new InvalidCredentialsException("Account is deactivated. Please contact support.");
     }
 
+    // Upgrade the stored hash while the plain password is at hand
+    rehashIfOutdated(user, request.getPassword());
+
     // Update last login timestamp
     userService.updateLastLogin(user.getId());
 
     // Generate tokens
     String accessToken = jwtUtil.generateToken(user);
-    String refreshToken = jwtUtil.generateToken(user);
-    LocalDateTime refreshExpiry =
-        Instant.now()
-            .plusMillis(refreshExpirationMs)
-            .atZone(ZoneId.systemDefault())
-            .toLocalDateTime();
-
-    // Save refresh token
-    userService.saveRefreshToken(user.getId(), refreshToken, refreshExpiry);
+    String refreshToken = refreshTokenService.issue(user);
 
     return AuthenticationResponse.builder()
         .token(accessToken)
@@ -176,43 +161,27 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   }
 
   @Override
-  @Transactional
+  @Transactional(noRollbackFor = InvalidTokenException.class)
   public AuthenticationResponse refreshToken(RefreshTokenRequest request) {
     // Validate request
     if (request == null || request.getRefreshToken() == null) {
       throw new InvalidTokenException("Refresh token is required");
     }
 
-    String refreshToken = request.getRefreshToken();
-
-    // Validate refresh token exists and is not expired
-    if (!userService.isRefreshTokenValid(refreshToken)) {
-      throw new InvalidTokenException("Invalid or expired refresh token");
-    }
-
-    // Find user by refresh token
-    User user =
-        userService
-            .findByRefreshToken(refreshToken)
-            .orElseThrow(() -> new InvalidTokenException("Refresh token not found"));
-
-    // Verify token matches user
-    String email = jwtUtil.extractUsername(refreshToken);
-    if (!user.getEmail().equals(email)) {
-      throw new InvalidTokenException("Token does not match user");
-    }
+    // Exchange the refresh token for its successor; one lookup by hash also loads the user
+    Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+    User user = rotation.user();
 
     // Check if account is active
     if (!user.isActive()) {
       throw new InvalidCredentialsException("Account is deactivated");
     }
 
-    // Generate new access token (keep same refresh token for simplicity)
     String newAccessToken = jwtUtil.generateToken(user);
 
     return AuthenticationResponse.builder()
         .token(newAccessToken)
-        .refreshToken(refreshToken) // Return same refresh token
+        .refreshToken(rotation.refreshToken())
         .user(userMapper.toDTO(user))
         .message("Token refreshed successfully")
         .build();
@@ -223,4 +192,23 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   public void logout(Long userId) {
     userService.revokeRefreshToken(userId);
   }
+
+  /**
+   * Rehashes a user's password if the stored hash uses another scheme or weaker parameters than
+   * configured. A busy hashing pool skips the upgrade rather than failing the login; it is retried
+   * at the next login.
+   *
+   * @param user the user who just signed in
+   * @param rawPassword the password they signed in with
+   */
+  private void rehashIfOutdated(User user, String rawPassword) {
+    if (!passwordHasher.needsRehash(user.getPasswordHash())) {
+      return;
+    }
+    try {
+      userService.updatePasswordHash(user.getId(), passwordHasher.encode(rawPassword));
+    } catch (ServerBusyException e) {
+      log.debug("Skipped password rehash for user {}: hashing pool busy", user.getId());
+    }
+  }
 }
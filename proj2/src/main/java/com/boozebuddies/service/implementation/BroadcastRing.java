@@ -0,0 +1,95 @@
+package com.boozebuddies.service.implementation;
+
+import com.boozebuddies.dto.SystemBroadcastDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-capacity, lock-free ring of the most recent broadcasts.
+ *
+ * <p>A broadcast is stored in the slot its ID maps to, so the ring is ordered by ID without ever
+ * sorting or shifting entries: reading walks backwards from the newest ID. Publishing is one
+ * compare-and-set on the slot and one on the newest ID, and a slot only ever moves to a higher ID,
+ * so broadcasts may be published in any order, including older ones loaded from the database while
+ * new ones arrive.
+ *
+ * <p>IDs that were never published, such as gaps left by rolled-back inserts, leave their slot
+ * holding an older broadcast, which readers skip. The ring then holds fewer than {@code capacity}
+ * broadcasts until the slot is reused.
+ */
+final class BroadcastRing {
+
+  private final AtomicReferenceArray<SystemBroadcastDTO> slots;
+  private final AtomicLong newestId = new AtomicLong(0L);
+
+  /**
+   * Creates an empty ring.
+   *
+   * @param capacity the most broadcasts held
+   */
+  BroadcastRing(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.slots = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Adds a broadcast, overwriting the one {@code capacity} IDs older. Does nothing if its slot
+   * already holds the same or a newer broadcast.
+   *
+   * @param broadcast the broadcast, with its ID set
+   */
+  void publish(SystemBroadcastDTO broadcast) {
+    long id = broadcast.getId();
+    int slot = slot(id);
+    SystemBroadcastDTO current;
+    do {
+      current = slots.get(slot);
+      if (current != null && current.getId() >= id) {
+        return;
+      }
+    } while (!slots.compareAndSet(slot, current, broadcast));
+    newestId.accumulateAndGet(id, Math::max);
+  }
+
+  /**
+   * Returns the ID of the newest broadcast, which changes whenever a broadcast is published.
+   *
+   * @return the newest ID, or 0 if nothing was published
+   */
+  long version() {
+    return newestId.get();
+  }
+
+  /**
+   * Returns the broadcasts with an ID above {@code afterId}, newest first.
+   *
+   * @param afterId the ID of the newest broadcast the caller already has, or 0 for all
+   * @return the newer broadcasts still held by the ring
+   */
+  List<SystemBroadcastDTO> newerThan(long afterId) {
+    long newest = newestId.get();
+    long oldest = Math.max(afterId + 1, newest - slots.length() + 1);
+    List<SystemBroadcastDTO> result = new ArrayList<>((int) Math.max(0, newest - oldest + 1));
+    for (long id = newest; id >= oldest; id--) {
+      SystemBroadcastDTO broadcast = slots.get(slot(id));
+      // Skip IDs never published and slots already reused by a newer broadcast
+      if (broadcast != null && broadcast.getId() == id) {
+        result.add(broadcast);
+      }
+    }
+    return result;
+  }
+
+  /** Returns the number of broadcasts the ring holds at most. */
+  int capacity() {
+    return slots.length();
+  }
+
+  private int slot(long id) {
+    return (int) Math.floorMod(id, (long) slots.length());
+  }
+}
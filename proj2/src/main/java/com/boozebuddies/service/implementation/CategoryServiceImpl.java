@@ -1,5 +1,6 @@
 package com.boozebuddies.service.implementation;
 
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Category;
 import com.boozebuddies.repository.CategoryRepository;
 import com.boozebuddies.service.CategoryService;
@@ -28,6 +29,16 @@ public class CategoryServiceImpl implements CategoryService {
     return categoryRepository.findAll();
   }
 
+  /**
+   * Retrieves the number of categories and when any of them last changed.
+   *
+   * @return the {@link Watermark} of the categories table.
+   */
+  @Override
+  public Watermark getCategoriesWatermark() {
+    return categoryRepository.findWatermark();
+  }
+
   /**
    * Retrieves a category by its unique identifier.
    *
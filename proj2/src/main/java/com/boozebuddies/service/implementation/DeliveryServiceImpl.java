@@ -1,18 +1,25 @@
 package com.boozebuddies.service.implementation;
 
+import com.boozebuddies.config.ReplicaRead;
 import com.boozebuddies.entity.Delivery;
 import com.boozebuddies.entity.Driver;
 import com.boozebuddies.entity.Order;
 import com.boozebuddies.model.DeliveryStatus;
+import com.boozebuddies.model.OutboxEventType;
 import com.boozebuddies.repository.DeliveryRepository;
 import com.boozebuddies.service.DeliveryService;
+import com.boozebuddies.service.InventoryService;
+import com.boozebuddies.service.OutboxService;
+import io.micrometer.core.annotation.Counted;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Implementation of the {@link DeliveryService} interface.
@@ -20,12 +27,23 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>Provides business logic for managing deliveries, including creation, updates, status
  * transitions, location tracking, and verification processes. This service interacts with the
  * {@link DeliveryRepository} to persist delivery data.
+ *
+ * <p>Assignments, status changes and cancellations are recorded through {@link OutboxService} in
+ * the same transaction as the delivery itself. A delivered order's reserved stock is committed
+ * through {@link InventoryService}.
+ *
+ * <p>Status changes and cancellations are retried through {@link OptimisticRetry} when a concurrent
+ * writer updated the delivery first. Location pings bypass the entity entirely with a single
+ * UPDATE.
  */
 @Service
 @RequiredArgsConstructor
 public class DeliveryServiceImpl implements DeliveryService {
 
   private final DeliveryRepository deliveryRepository;
+  private final OutboxService outboxService;
+  private final PlatformTransactionManager transactionManager;
+  private final InventoryService inventoryService;
 
   /**
    * Assigns a driver to a specific order and creates a new delivery record.
@@ -46,13 +64,21 @@ public class DeliveryServiceImpl implements DeliveryService {
     delivery.setStatus(DeliveryStatus.ASSIGNED);
     delivery.setCreatedAt(LocalDateTime.now());
     delivery.setUpdatedAt(LocalDateTime.now());
-    return deliveryRepository.save(delivery);
+    Delivery saved = deliveryRepository.save(delivery);
+    outboxService.record(
+        OutboxEventType.DELIVERY_ASSIGNED,
+        saved.getId(),
+        OutboxService.payload(
+            "orderId", order != null ? order.getId() : null,
+            "driverId", driver != null ? driver.getId() : null));
+    return saved;
   }
 
   /**
    * Updates the status of a delivery record.
    *
-   * <p>Automatically updates timestamps for pickup or delivery events when applicable.
+   * <p>Automatically updates timestamps for pickup or delivery events when applicable. Retried on
+   * optimistic-lock conflicts.
    *
    * @param deliveryId the ID of the delivery to update
    * @param status the new {@link DeliveryStatus}
@@ -60,13 +86,27 @@ public class DeliveryServiceImpl implements DeliveryService {
    * @throws RuntimeException if the delivery is not found
    */
   @Override
-  @Transactional
   public Delivery updateDeliveryStatus(Long deliveryId, DeliveryStatus status) {
+    return OptimisticRetry.execute(
+        new TransactionTemplate(transactionManager),
+        "delivery " + deliveryId,
+        () -> applyDeliveryStatus(deliveryId, status));
+  }
+
+  /**
+   * Loads a delivery and moves it to a new status. Runs inside the caller's transaction.
+   *
+   * @param deliveryId the ID of the delivery to update
+   * @param status the new {@link DeliveryStatus}
+   * @return the updated {@link Delivery} entity
+   */
+  private Delivery applyDeliveryStatus(Long deliveryId, DeliveryStatus status) {
     Optional<Delivery> deliveryOpt = deliveryRepository.findById(deliveryId);
     if (deliveryOpt.isEmpty()) {
       throw new RuntimeException("Delivery not found");
     }
     Delivery delivery = deliveryOpt.get();
+    DeliveryStatus previousStatus = delivery.getStatus();
     delivery.setStatus(status);
     delivery.setUpdatedAt(LocalDateTime.now());
 
@@ -74,13 +114,21 @@ public class DeliveryServiceImpl implements DeliveryService {
       delivery.setPickupTime(LocalDateTime.now());
     } else if (status == DeliveryStatus.DELIVERED && delivery.getDeliveredTime() == null) {
       delivery.setDeliveredTime(LocalDateTime.now());
+      if (delivery.getOrder() != null) {
+        inventoryService.commit(delivery.getOrder().getId());
+      }
     }
 
-    return deliveryRepository.save(delivery);
+    Delivery saved = deliveryRepository.save(delivery);
+    outboxService.record(
+        OutboxEventType.DELIVERY_STATUS_CHANGED,
+        deliveryId,
+        OutboxService.payload("from", previousStatus, "to", status));
+    return saved;
   }
 
   /**
-   * Cancels a delivery and records the provided reason.
+   * Cancels a delivery and records the provided reason. Retried on optimistic-lock conflicts.
    *
    * @param deliveryId the ID of the delivery to cancel
    * @param reason the cancellation reason
@@ -88,8 +136,21 @@ public class DeliveryServiceImpl implements DeliveryService {
    * @throws RuntimeException if the delivery is not found
    */
   @Override
-  @Transactional
   public Delivery cancelDelivery(Long deliveryId, String reason) {
+    return OptimisticRetry.execute(
+        new TransactionTemplate(transactionManager),
+        "delivery " + deliveryId,
+        () -> applyCancellation(deliveryId, reason));
+  }
+
+  /**
+   * Loads a delivery and cancels it. Runs inside the caller's transaction.
+   *
+   * @param deliveryId the ID of the delivery to cancel
+   * @param reason the cancellation reason
+   * @return the updated {@link Delivery} entity
+   */
+  private Delivery applyCancellation(Long deliveryId, String reason) {
     Optional<Delivery> deliveryOpt = deliveryRepository.findById(deliveryId);
     if (deliveryOpt.isEmpty()) {
       throw new RuntimeException("Delivery not found");
@@ -98,7 +159,10 @@ public class DeliveryServiceImpl implements DeliveryService {
     delivery.setStatus(DeliveryStatus.CANCELLED);
     delivery.setCancellationReason(reason);
     delivery.setUpdatedAt(LocalDateTime.now());
-    return deliveryRepository.save(delivery);
+    Delivery saved = deliveryRepository.save(delivery);
+    outboxService.record(
+        OutboxEventType.DELIVERY_CANCELLED, deliveryId, OutboxService.payload("reason", reason));
+    return saved;
   }
 
   /**
@@ -154,6 +218,8 @@ public class DeliveryServiceImpl implements DeliveryService {
    * @return a list of all {@link Delivery} entities
    */
   @Override
+  @Transactional(readOnly = true)
+  @ReplicaRead
   public List<Delivery> getAllDeliveries() {
     return deliveryRepository.findAll();
   }
@@ -198,7 +264,8 @@ public class DeliveryServiceImpl implements DeliveryService {
   /**
    * Updates the real-time geographic location of a delivery.
    *
-   * <p>Used for tracking the driver’s progress and updating live maps or customer views.
+   * <p>Used for tracking the driver’s progress and updating live maps or customer views. Written
+   * with a single UPDATE that neither loads the delivery nor bumps its version.
    *
    * @param deliveryId the ID of the delivery
    * @param latitude the current latitude
@@ -207,18 +274,14 @@ public class DeliveryServiceImpl implements DeliveryService {
    */
   @Override
   @Transactional
+  @Counted(
+      value = "location.pings",
+      extraTags = {"source", "delivery"},
+      description = "Location updates received")
   public void updateDeliveryLocation(Long deliveryId, Double latitude, Double longitude) {
-    Optional<Delivery> deliveryOpt = deliveryRepository.findById(deliveryId);
-    if (deliveryOpt.isEmpty()) {
+    if (deliveryRepository.updateLocation(deliveryId, latitude, longitude, LocalDateTime.now())
+        == 0) {
       throw new RuntimeException("Delivery not found");
     }
-
-    Delivery delivery = deliveryOpt.get();
-    delivery.setCurrentLatitude(latitude);
-    delivery.setCurrentLongitude(longitude);
-    delivery.setLastLocationUpdate(LocalDateTime.now());
-    delivery.setUpdatedAt(LocalDateTime.now());
-
-    deliveryRepository.save(delivery);
   }
 }
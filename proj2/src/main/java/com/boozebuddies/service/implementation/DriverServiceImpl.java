@@ -6,6 +6,7 @@ import com.boozebuddies.exception.DriverNotFoundException;
 import com.boozebuddies.model.CertificationStatus;
 import com.boozebuddies.repository.DriverRepository;
 import com.boozebuddies.service.DriverService;
+import io.micrometer.core.annotation.Counted;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -68,19 +69,20 @@ public class DriverServiceImpl implements DriverService {
   /**
    * Updates the availability status of a driver for delivery assignments.
    *
+   * <p>Issues a single UPDATE of the availability column instead of saving the whole driver, so a
+   * toggle never overwrites a concurrent change to other driver fields.
+   *
    * @param driverId the ID of the driver to update
    * @param available {@code true} to mark as available; {@code false} otherwise
    * @return the updated {@link Driver}, or {@code null} if no driver is found
    */
   @Override
+  @Transactional
   public Driver updateAvailability(Long driverId, boolean available) {
-    Optional<Driver> driverOpt = driverRepository.findById(driverId);
-    if (driverOpt.isEmpty()) {
+    if (driverRepository.updateAvailability(driverId, available, LocalDateTime.now()) == 0) {
       return null;
     }
-    Driver driver = driverOpt.get();
-    driver.setAvailable(available);
-    return driverRepository.save(driver);
+    return driverRepository.findById(driverId).orElse(null);
   }
 
   /**
@@ -137,7 +139,8 @@ public class DriverServiceImpl implements DriverService {
    * Updates a driver's current geographic location.
    *
    * <p>The driver's {@code latitude}, {@code longitude}, and {@code updatedAt} timestamp are
-   * modified and saved in a transactional operation.
+   * written with a single UPDATE, so frequent location pings neither load the driver first nor
+   * overwrite concurrent changes to other driver fields.
    *
    * @param userId the ID of the driver (same as the associated {@link User} ID)
    * @param latitude the current latitude of the driver
@@ -146,15 +149,17 @@ public class DriverServiceImpl implements DriverService {
    * @throws IllegalArgumentException if the driver is not found
    */
   @Transactional
+  @Counted(
+      value = "location.pings",
+      extraTags = {"source", "driver"},
+      description = "Location updates received")
   public Driver updateDriverLocation(Long userId, Double latitude, Double longitude) {
-    Driver driver =
-        driverRepository
-            .findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("Driver not found"));
-    driver.setCurrentLatitude(latitude);
-    driver.setCurrentLongitude(longitude);
-    driver.setUpdatedAt(LocalDateTime.now());
-    return driverRepository.save(driver);
+    if (driverRepository.updateLocation(userId, latitude, longitude, LocalDateTime.now()) == 0) {
+      throw new IllegalArgumentException("Driver not found");
+    }
+    return driverRepository
+        .findById(userId)
+        .orElseThrow(() -> new IllegalArgumentException("Driver not found"));
   }
 
   /**
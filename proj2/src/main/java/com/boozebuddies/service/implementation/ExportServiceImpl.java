@@ -0,0 +1,104 @@
+package com.boozebuddies.service.implementation;
+
+import static com.boozebuddies.service.implementation.ExportWriter.column;
+
+import com.boozebuddies.config.ReplicaRead;
+import com.boozebuddies.dto.DeliveryExportRow;
+import com.boozebuddies.dto.OrderExportRow;
+import com.boozebuddies.dto.PaymentExportRow;
+import com.boozebuddies.model.ExportFormat;
+import com.boozebuddies.repository.DeliveryRepository;
+import com.boozebuddies.repository.OrderRepository;
+import com.boozebuddies.repository.PaymentRepository;
+import com.boozebuddies.service.ExportService;
+import com.boozebuddies.service.implementation.ExportWriter.Column;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the {@link ExportService} interface.
+ *
+ * <p>Each export runs in one read-only {@link ReplicaRead} transaction, so it is served by the read
+ * replica when one is configured, and reads a repository {@code streamExportRows()} cursor from
+ * start to end.
+ */
+@Service
+@ReplicaRead
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+  private static final List<Column<OrderExportRow>> ORDER_COLUMNS =
+      List.of(
+          column("id", OrderExportRow::getId),
+          column("userId", OrderExportRow::getUserId),
+          column("merchantId", OrderExportRow::getMerchantId),
+          column("driverId", OrderExportRow::getDriverId),
+          column("status", OrderExportRow::getStatus),
+          column("totalAmount", OrderExportRow::getTotalAmount),
+          column("promoCode", OrderExportRow::getPromoCode),
+          column("ageVerified", OrderExportRow::isAgeVerified),
+          column("createdAt", OrderExportRow::getCreatedAt),
+          column("updatedAt", OrderExportRow::getUpdatedAt));
+
+  private static final List<Column<PaymentExportRow>> PAYMENT_COLUMNS =
+      List.of(
+          column("id", PaymentExportRow::getId),
+          column("orderId", PaymentExportRow::getOrderId),
+          column("userId", PaymentExportRow::getUserId),
+          column("amount", PaymentExportRow::getAmount),
+          column("status", PaymentExportRow::getStatus),
+          column("paymentMethod", PaymentExportRow::getPaymentMethod),
+          column("transactionId", PaymentExportRow::getTransactionId),
+          column("refundReason", PaymentExportRow::getRefundReason),
+          column("paymentDate", PaymentExportRow::getPaymentDate),
+          column("createdAt", PaymentExportRow::getCreatedAt),
+          column("updatedAt", PaymentExportRow::getUpdatedAt));
+
+  private static final List<Column<DeliveryExportRow>> DELIVERY_COLUMNS =
+      List.of(
+          column("id", DeliveryExportRow::getId),
+          column("orderId", DeliveryExportRow::getOrderId),
+          column("driverId", DeliveryExportRow::getDriverId),
+          column("status", DeliveryExportRow::getStatus),
+          column("ageVerified", DeliveryExportRow::getAgeVerified),
+          column("pickupTime", DeliveryExportRow::getPickupTime),
+          column("deliveredTime", DeliveryExportRow::getDeliveredTime),
+          column("estimatedDeliveryTime", DeliveryExportRow::getEstimatedDeliveryTime),
+          column("createdAt", DeliveryExportRow::getCreatedAt),
+          column("updatedAt", DeliveryExportRow::getUpdatedAt));
+
+  private final OrderRepository orderRepository;
+  private final PaymentRepository paymentRepository;
+  private final DeliveryRepository deliveryRepository;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  @Transactional(readOnly = true)
+  public long exportOrders(ExportFormat format, OutputStream output) throws IOException {
+    try (Stream<OrderExportRow> rows = orderRepository.streamExportRows()) {
+      return ExportWriter.write(rows, ORDER_COLUMNS, format, output, objectMapper);
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long exportPayments(ExportFormat format, OutputStream output) throws IOException {
+    try (Stream<PaymentExportRow> rows = paymentRepository.streamExportRows()) {
+      return ExportWriter.write(rows, PAYMENT_COLUMNS, format, output, objectMapper);
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long exportDeliveries(ExportFormat format, OutputStream output) throws IOException {
+    try (Stream<DeliveryExportRow> rows = deliveryRepository.streamExportRows()) {
+      return ExportWriter.write(rows, DELIVERY_COLUMNS, format, output, objectMapper);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.boozebuddies.service.implementation;
+
+import com.boozebuddies.model.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes a stream of export rows as NDJSON or CSV, one row at a time.
+ *
+ * <p>Only the current row and a fixed-size output buffer are held in memory. Both formats use the
+ * same named columns, so an NDJSON object has the same keys as the CSV header.
+ */
+final class ExportWriter {
+
+  /** Characters that make a spreadsheet evaluate a cell as a formula. */
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private ExportWriter() {}
+
+  /**
+   * A named column of an export.
+   *
+   * @param name the column name, used as CSV header and JSON key
+   * @param value extracts the column value from a row
+   * @param <T> the row type
+   */
+  record Column<T>(String name, Function<T, Object> value) {}
+
+  /**
+   * Creates a column.
+   *
+   * @param name the column name
+   * @param value extracts the column value from a row
+   * @return the column
+   * @param <T> the row type
+   */
+  static <T> Column<T> column(String name, Function<T, Object> value) {
+    return new Column<>(name, value);
+  }
+
+  /**
+   * Writes rows to the output and flushes it. The output is not closed.
+   *
+   * @param rows the rows to write; consumed but not closed
+   * @param columns the columns to write, in order
+   * @param format the output format
+   * @param output where the rows are written
+   * @param objectMapper serializes NDJSON values
+   * @return the number of rows written
+   * @throws IOException if writing to the output fails
+   */
+  static <T> long write(
+      Stream<T> rows,
+      List<Column<T>> columns,
+      ExportFormat format,
+      OutputStream output,
+      ObjectMapper objectMapper)
+      throws IOException {
+    return switch (format) {
+      case NDJSON -> writeNdjson(rows.iterator(), columns, output, objectMapper);
+      case CSV -> writeCsv(rows.iterator(), columns, output);
+    };
+  }
+
+  private static <T> long writeNdjson(
+      Iterator<T> rows, List<Column<T>> columns, OutputStream output, ObjectMapper objectMapper)
+      throws IOException {
+    long count = 0;
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+      while (rows.hasNext()) {
+        T row = rows.next();
+        generator.writeStartObject();
+        for (Column<T> column : columns) {
+          generator.writeObjectField(column.name(), column.value().apply(row));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        count++;
+      }
+    }
+    output.flush();
+    return count;
+  }
+
+  private static <T> long writeCsv(Iterator<T> rows, List<Column<T>> columns, OutputStream output)
+      throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write(csvValue(columns.get(i).name()));
+    }
+    writer.write("\r\n");
+
+    long count = 0;
+    while (rows.hasNext()) {
+      T row = rows.next();
+      for (int i = 0; i < columns.size(); i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        writer.write(csvValue(columns.get(i).value().apply(row)));
+      }
+      writer.write("\r\n");
+      count++;
+    }
+    writer.flush();
+    return count;
+  }
+
+  /**
+   * Formats one CSV field. Text that a spreadsheet would evaluate as a formula is prefixed with a
+   * quote, and fields containing separators, quotes or line breaks are quoted.
+   */
+  static String csvValue(Object value) {
+    if (value == null) {
+      return "";
+    }
+    String text = value.toString();
+    if (value instanceof CharSequence
+        && !text.isEmpty()
+        && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+      text = "'" + text;
+    }
+    if (text.indexOf(',') >= 0
+        || text.indexOf('"') >= 0
+        || text.indexOf('\n') >= 0
+        || text.indexOf('\r') >= 0) {
+      return '"' + text.replace("\"", "\"\"") + '"';
+    }
+    return text;
+  }
+}
@@ -0,0 +1,354 @@
+package com.boozebuddies.service.implementation;
+
+import com.boozebuddies.entity.Order;
+import com.boozebuddies.entity.OrderItem;
+import com.boozebuddies.entity.StockReservation;
+import com.boozebuddies.exception.InsufficientStockException;
+import com.boozebuddies.model.ReservationStatus;
+import com.boozebuddies.repository.ProductRepository;
+import com.boozebuddies.repository.StockReservationRepository;
+import com.boozebuddies.service.InventoryService;
+import com.boozebuddies.service.implementation.StockLedger.Line;
+import com.boozebuddies.service.implementation.StockLedger.Reservation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implementation of the {@link InventoryService} backed by an in-memory {@link StockLedger}.
+ *
+ * <p>Checkout reserves against the ledger without touching the database, so a limited release
+ * does not turn one product row into a queue. The ledger is written behind to {@code
+ * stock_reservations} every {@code inventory.flush-interval-ms}; delivered units are subtracted
+ * from {@code products.stock_quantity} there, with one update per product per flush. Every {@code
+ * inventory.reconcile-interval-ms} each loaded product's available count is compared with the
+ * database and corrected, which is also how restocks reach the ledger.
+ *
+ * <p>The ledger only knows the reservations made on this instance until the others' are flushed
+ * and reconciled, so checkout should be served by one instance or the reconcile interval kept
+ * short. Reservations whose order transaction never finishes are released after {@code
+ * inventory.reservation-timeout-ms}.
+ *
+ * <p>Outcomes are counted as {@code inventory.reservations} (tag {@code outcome}: reserved,
+ * rejected, released, committed, expired) and corrections as {@code inventory.reconcile.drift}.
+ */
+@Service
+public class InventoryServiceImpl implements InventoryService {
+
+  private static final Logger log = LoggerFactory.getLogger(InventoryServiceImpl.class);
+
+  private final StockLedger ledger;
+  private final ProductRepository productRepository;
+  private final StockReservationRepository reservationRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final int batchSize;
+  private final long reservationTimeoutMs;
+
+  /** Serializes the background flush and reconciliation; checkout never takes it */
+  private final Lock maintenance = new ReentrantLock();
+
+  /**
+   * Constructs the service.
+   *
+   * @param productRepository reads and decrements stock quantities
+   * @param reservationRepository the persisted copy of the ledger
+   * @param transactionManager the transaction manager used for each flushed batch
+   * @param meterRegistry the registry the reservation meters are published to
+   * @param batchSize the most reservations written per transaction
+   * @param reservationTimeoutMs how long a reservation may wait for its order to be saved
+   */
+  public InventoryServiceImpl(
+      ProductRepository productRepository,
+      StockReservationRepository reservationRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${inventory.flush-batch-size:500}") int batchSize,
+      @Value("${inventory.reservation-timeout-ms:300000}") long reservationTimeoutMs) {
+    this.productRepository = productRepository;
+    this.reservationRepository = reservationRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+    this.batchSize = batchSize;
+    this.reservationTimeoutMs = reservationTimeoutMs;
+    this.ledger = new StockLedger(this::loadAvailable, System::currentTimeMillis);
+    Gauge.builder("inventory.reservations.in.memory", ledger, StockLedger::size)
+        .description("Reservations held in memory, including those not yet written")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Reserves stock for an order's items in the ledger. The reservation is bound to the order and
+   * queued for writing when the transaction commits, and discarded if it rolls back.
+   *
+   * @param order the order about to be saved
+   * @throws InsufficientStockException if a product does not have enough units available
+   */
+  @Override
+  public void reserve(Order order) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("Stock must be reserved in the transaction saving the order");
+    }
+    List<Line> lines = new ArrayList<>();
+    if (order.getItems() != null) {
+      for (OrderItem item : order.getItems()) {
+        if (item.getProduct() != null
+            && item.getProduct().getId() != null
+            && item.getQuantity() != null) {
+          lines.add(new Line(item.getProduct().getId(), item.getQuantity()));
+        }
+      }
+    }
+
+    Reservation reservation;
+    try {
+      reservation = ledger.reserve(lines);
+    } catch (InsufficientStockException e) {
+      count("rejected", 1);
+      throw e;
+    }
+    if (reservation.isEmpty()) {
+      return;
+    }
+    count("reserved", 1);
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED && order.getId() != null) {
+              if (ledger.bind(reservation, order.getId())) {
+                log.warn(
+                    "Stock reservation for order {} expired before the order was saved;"
+                        + " its units are held again",
+                    order.getId());
+              }
+            } else {
+              ledger.discard(reservation);
+            }
+          }
+        });
+  }
+
+  /**
+   * Releases the order's reservation once the caller's transaction commits.
+   *
+   * @param orderId the ID of the cancelled order
+   */
+  @Override
+  public void release(Long orderId) {
+    afterCommit(() -> settle(orderId, ReservationStatus.RELEASED));
+  }
+
+  /**
+   * Commits the order's reservation once the caller's transaction commits.
+   *
+   * @param orderId the ID of the delivered order
+   */
+  @Override
+  public void commit(Long orderId) {
+    afterCommit(() -> settle(orderId, ReservationStatus.COMMITTED));
+  }
+
+  /** Writes changed reservations to the database and expires abandoned ones. */
+  @Scheduled(fixedDelayString = "${inventory.flush-interval-ms:500}")
+  public void flush() {
+    maintenance.lock();
+    try {
+      int expired = ledger.expire(reservationTimeoutMs);
+      if (expired > 0) {
+        log.warn("Released {} stock reservations whose orders were never saved", expired);
+        count("expired", expired);
+      }
+      flushDirty();
+    } finally {
+      maintenance.unlock();
+    }
+  }
+
+  /**
+   * Corrects the available count of every loaded product against the database: units on hand
+   * minus reserved units, less what the ledger has not written yet.
+   */
+  @Scheduled(fixedDelayString = "${inventory.reconcile-interval-ms:30000}")
+  public void reconcile() {
+    maintenance.lock();
+    try {
+      flushDirty();
+      Set<Long> productIds = ledger.productIds();
+      if (productIds.isEmpty()) {
+        return;
+      }
+      Map<Long, Integer> onHand = new HashMap<>();
+      for (Object[] row : productRepository.findStockQuantities(productIds)) {
+        onHand.put((Long) row[0], (Integer) row[1]);
+      }
+      Map<Long, Long> reserved = new HashMap<>();
+      for (Object[] row : reservationRepository.sumReservedByProducts(productIds)) {
+        reserved.put((Long) row[0], ((Number) row[1]).longValue());
+      }
+      for (Long productId : productIds) {
+        Integer stock = onHand.get(productId);
+        Integer available =
+            stock == null ? null : Math.toIntExact(stock - reserved.getOrDefault(productId, 0L));
+        int drift = ledger.reconcile(productId, available);
+        if (drift != 0) {
+          log.info("Corrected available stock of product {} by {}", productId, drift);
+          Counter.builder("inventory.reconcile.drift")
+              .description("Units corrected when reconciling the ledger with the database")
+              .register(meterRegistry)
+              .increment(Math.abs(drift));
+        }
+      }
+    } finally {
+      maintenance.unlock();
+    }
+  }
+
+  /**
+   * Returns the units of a product available for new orders according to the database.
+   *
+   * @param productId the product ID
+   * @return units on hand minus reserved units, or null if the product's stock is not tracked
+   */
+  private Integer loadAvailable(Long productId) {
+    Integer stock = productRepository.findStockQuantity(productId);
+    if (stock == null) {
+      return null;
+    }
+    return Math.toIntExact(stock - reservationRepository.sumReservedByProduct(productId));
+  }
+
+  /**
+   * Releases or commits an order's reservation. Reservations the ledger no longer has in memory,
+   * such as those made before a restart, are taken over from the database.
+   */
+  private void settle(Long orderId, ReservationStatus to) {
+    Reservation reservation = ledger.find(orderId);
+    if (reservation == null) {
+      List<Line> persisted =
+          reservationRepository
+              .findByOrderIdAndStatus(orderId, ReservationStatus.RESERVED)
+              .stream()
+              .map(row -> new Line(row.getProductId(), row.getQuantity()))
+              .toList();
+      if (persisted.isEmpty()) {
+        return;
+      }
+      reservation = ledger.adopt(orderId, persisted);
+    }
+    boolean settled =
+        to == ReservationStatus.RELEASED ? ledger.release(reservation) : ledger.commit(reservation);
+    if (settled) {
+      count(to == ReservationStatus.RELEASED ? "released" : "committed", 1);
+    }
+  }
+
+  /** Writes every dirty reservation, one batch per transaction, until the queue is empty. */
+  private void flushDirty() {
+    List<Reservation> batch;
+    while (!(batch = ledger.drainDirty(batchSize)).isEmpty()) {
+      if (!write(batch)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Writes one batch of reservations in a transaction. On failure the batch is queued again for
+   * the next flush.
+   *
+   * @param batch the reservations to write
+   * @return true if the batch was written
+   */
+  private boolean write(List<Reservation> batch) {
+    Map<Reservation, ReservationStatus> written = new IdentityHashMap<>();
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<StockReservation> inserts = new ArrayList<>();
+            // Sorted, so concurrent writers lock product rows in the same order
+            Map<Long, Integer> delivered = new TreeMap<>();
+            for (Reservation reservation : batch) {
+              ReservationStatus current = reservation.getStatus();
+              if (reservation.getPersisted() == null) {
+                for (Line line : reservation.getLines()) {
+                  inserts.add(
+                      StockReservation.builder()
+                          .orderId(reservation.getOrderId())
+                          .productId(line.productId())
+                          .quantity(line.quantity())
+                          .status(current)
+                          .build());
+                }
+              } else {
+                reservationRepository.updateStatus(
+                    reservation.getOrderId(), reservation.getPersisted(), current, now);
+              }
+              if (current == ReservationStatus.COMMITTED) {
+                for (Line line : reservation.getLines()) {
+                  delivered.merge(line.productId(), line.quantity(), Integer::sum);
+                }
+              }
+              written.put(reservation, current);
+            }
+            reservationRepository.saveAll(inserts);
+            delivered.forEach(productRepository::decrementStock);
+          });
+    } catch (RuntimeException e) {
+      log.warn("Failed to write {} stock reservations; retrying next flush", batch.size(), e);
+      ledger.requeue(batch);
+      return false;
+    }
+    written.forEach(ledger::flushed);
+    return true;
+  }
+
+  /** Runs an action after the caller's transaction commits, or now if there is none. */
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            try {
+              action.run();
+            } catch (RuntimeException e) {
+              // The order change is already committed; reconciliation repairs the counts
+              log.error("Failed to settle a stock reservation", e);
+            }
+          }
+        });
+  }
+
+  private void count(String outcome, int amount) {
+    Counter.builder("inventory.reservations")
+        .description("Stock reservation outcomes")
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .increment(amount);
+  }
+}
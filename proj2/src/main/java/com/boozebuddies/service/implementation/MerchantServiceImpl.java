@@ -1,15 +1,22 @@
 package com.boozebuddies.service.implementation;
 
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Merchant;
 import com.boozebuddies.entity.Order;
+import com.boozebuddies.geo.GeoDistance;
+import com.boozebuddies.geo.GeoPoint;
+import com.boozebuddies.geo.MerchantSpatialIndex;
 import com.boozebuddies.repository.MerchantRepository;
 import com.boozebuddies.repository.OrderRepository;
 import com.boozebuddies.service.MerchantService;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -21,25 +28,31 @@ import org.springframework.stereotype.Service;
  * merchant order histories via pagination.
  *
  * <p>All data persistence is delegated to the {@link MerchantRepository} and {@link
- * OrderRepository}.
+ * OrderRepository}. Proximity searches over active merchants are served by the {@link
+ * MerchantSpatialIndex}, which is invalidated whenever a merchant is written here.
  */
 @Service
 public class MerchantServiceImpl implements MerchantService {
 
   private final MerchantRepository merchantRepository;
   private final OrderRepository orderRepository;
+  private final MerchantSpatialIndex merchantSpatialIndex;
 
   /**
    * Constructs a new {@code MerchantServiceImpl} with the required repositories.
    *
    * @param merchantRepository the repository for merchant entities
    * @param orderRepository the repository for order entities
+   * @param merchantSpatialIndex the in-memory index of active merchant locations
    */
   @Autowired
   public MerchantServiceImpl(
-      MerchantRepository merchantRepository, OrderRepository orderRepository) {
+      MerchantRepository merchantRepository,
+      OrderRepository orderRepository,
+      MerchantSpatialIndex merchantSpatialIndex) {
     this.merchantRepository = merchantRepository;
     this.orderRepository = orderRepository;
+    this.merchantSpatialIndex = merchantSpatialIndex;
   }
 
   /**
@@ -71,7 +84,9 @@ public class MerchantServiceImpl implements MerchantService {
     }
 
     merchant.setActive(true);
-    return merchantRepository.save(merchant);
+    Merchant saved = merchantRepository.save(merchant);
+    merchantSpatialIndex.invalidate();
+    return saved;
   }
 
   /**
@@ -95,7 +110,9 @@ public class MerchantServiceImpl implements MerchantService {
 
     Merchant merchant = opt.get();
     merchant.setActive(verified);
-    return merchantRepository.save(merchant);
+    Merchant saved = merchantRepository.save(merchant);
+    merchantSpatialIndex.invalidate();
+    return saved;
   }
 
   /**
@@ -126,6 +143,27 @@ public class MerchantServiceImpl implements MerchantService {
     return merchantRepository.findAll();
   }
 
+  /**
+   * Retrieves the number of merchants and when any of them last changed.
+   *
+   * @return the watermark of all merchants
+   */
+  @Override
+  public Watermark getMerchantsWatermark() {
+    return merchantRepository.findWatermark();
+  }
+
+  /**
+   * Retrieves when a single merchant last changed.
+   *
+   * @param merchantId the ID of the merchant
+   * @return the watermark of the merchant; its count is 0 if the merchant does not exist
+   */
+  @Override
+  public Watermark getMerchantWatermark(Long merchantId) {
+    return merchantRepository.findWatermarkById(merchantId);
+  }
+
   /**
    * Deletes a merchant by ID if it exists.
    *
@@ -144,6 +182,7 @@ public class MerchantServiceImpl implements MerchantService {
     }
 
     merchantRepository.deleteById(merchantId);
+    merchantSpatialIndex.invalidate();
     return true;
   }
 
@@ -196,7 +235,8 @@ public class MerchantServiceImpl implements MerchantService {
    * Retrieves a list of merchants sorted by proximity to a given geographic location.
    *
    * <p>Uses the Haversine formula to calculate distances between coordinates. Only merchants with
-   * valid latitude and longitude values are considered.
+   * valid latitude and longitude values are considered. Each merchant's distance is computed once
+   * from its cached {@link GeoPoint} before sorting, rather than inside the comparator.
    *
    * @param latitude the latitude of the reference point
    * @param longitude the longitude of the reference point
@@ -209,46 +249,65 @@ public class MerchantServiceImpl implements MerchantService {
       throw new IllegalArgumentException("Latitude and longitude are required");
     }
 
+    GeoPoint origin = GeoPoint.of(latitude, longitude);
     List<Merchant> allMerchants = getAllMerchants();
 
     return allMerchants.stream()
-        .filter(m -> m.getLatitude() != null && m.getLongitude() != null)
-        .sorted(
-            (m1, m2) -> {
-              double dist1 =
-                  calculateDistance(latitude, longitude, m1.getLatitude(), m1.getLongitude());
-              double dist2 =
-                  calculateDistance(latitude, longitude, m2.getLatitude(), m2.getLongitude());
-              return Double.compare(dist1, dist2);
-            })
+        .filter(m -> m.getGeoPoint() != null)
+        .map(m -> new MerchantDistance(m, GeoDistance.haversineKm(origin, m.getGeoPoint())))
+        .sorted(Comparator.comparingDouble(MerchantDistance::distanceKm))
+        .map(MerchantDistance::merchant)
         .collect(Collectors.toList());
   }
 
   /**
-   * Calculates the distance between two sets of latitude and longitude coordinates using the
-   * Haversine formula.
+   * Finds the nearest active merchants within a radius using the {@link MerchantSpatialIndex}.
+   *
+   * <p>Only the first {@code offset + pageSize} matches are kept in the index's bounded heap, so a
+   * page costs O(n log k) rather than a full sort of every merchant.
    *
-   * @param lat1 latitude of the first point
-   * @param lon1 longitude of the first point
-   * @param lat2 latitude of the second point
-   * @param lon2 longitude of the second point
-   * @return the distance in kilometers
+   * @param latitude the latitude of the search location
+   * @param longitude the longitude of the search location
+   * @param radiusKm the search radius in kilometers
+   * @param cuisineType optional cuisine type to match, ignoring case
+   * @param openNow whether to only include merchants for which {@link Merchant#isOpen()} holds
+   * @param pageable the page of results to return
+   * @return a page of merchants with their distances, closest first
+   * @throws IllegalArgumentException if the location is missing or the radius is not positive
    */
-  private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-    final int EARTH_RADIUS_KM = 6371;
+  @Override
+  public Page<MerchantSpatialIndex.Neighbor> findNearestMerchants(
+      Double latitude,
+      Double longitude,
+      double radiusKm,
+      String cuisineType,
+      boolean openNow,
+      Pageable pageable) {
+    if (latitude == null || longitude == null) {
+      throw new IllegalArgumentException("Latitude and longitude are required");
+    }
 
-    double dLat = Math.toRadians(lat2 - lat1);
-    double dLon = Math.toRadians(lon2 - lon1);
+    if (radiusKm <= 0) {
+      throw new IllegalArgumentException("Radius must be positive");
+    }
 
-    double a =
-        Math.sin(dLat / 2) * Math.sin(dLat / 2)
-            + Math.cos(Math.toRadians(lat1))
-                * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2)
-                * Math.sin(dLon / 2);
+    Predicate<Merchant> filter =
+        m ->
+            (cuisineType == null
+                    || cuisineType.isBlank()
+                    || cuisineType.equalsIgnoreCase(m.getCuisineType()))
+                && (!openNow || m.isOpen());
 
-    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+    MerchantSpatialIndex.NearestResult result =
+        merchantSpatialIndex.findNearest(
+            GeoPoint.of(latitude, longitude), radiusKm, filter, limit);
 
-    return EARTH_RADIUS_KM * c;
+    List<MerchantSpatialIndex.Neighbor> content =
+        result.neighbors().stream().skip(pageable.getOffset()).toList();
+    return new PageImpl<>(content, pageable, result.totalMatches());
   }
+
+  /** A merchant paired with its precomputed distance from the reference point. */
+  private record MerchantDistance(Merchant merchant, double distanceKm) {}
 }
@@ -1,21 +1,27 @@
 package com.boozebuddies.service.implementation;
 
 import com.boozebuddies.dto.SystemBroadcastDTO;
+import com.boozebuddies.entity.Broadcast;
 import com.boozebuddies.entity.Delivery;
 import com.boozebuddies.entity.Driver;
 import com.boozebuddies.entity.Merchant;
 import com.boozebuddies.entity.User;
+import com.boozebuddies.repository.BroadcastCursorRepository;
+import com.boozebuddies.repository.BroadcastRepository;
 import com.boozebuddies.service.NotificationService;
-import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementation of the {@link NotificationService} that handles sending notifications to users,
- * drivers, and merchants. In this implementation, notifications are simulated through console
+ * drivers, and merchants. In this implementation, notifications are simulated through log
  * output, but it can be extended to integrate with real systems such as email, SMS, or push
  * notifications.
  *
@@ -27,13 +33,54 @@ import org.springframework.stereotype.Service;
  *   <li>Broadcasting global system messages
  *   <li>Convenience methods for order confirmation and cancellation
  * </ul>
+ *
+ * <p>Broadcasts are stored in the {@code broadcasts} table and the most recent ones are served
+ * from a lock-free in-memory ring, which is filled from the table on startup. The ring is local to
+ * this instance, so with several instances a broadcast only appears in the feed of the instance
+ * that sent it until the others restart. Each user's read position is kept in {@code
+ * broadcast_cursors}.
  */
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
-  private final CopyOnWriteArrayList<SystemBroadcastDTO> broadcasts =
-      new CopyOnWriteArrayList<>();
-  private final AtomicLong broadcastIds = new AtomicLong(0L);
+  private static final Logger log = LoggerFactory.getLogger(NotificationServiceImpl.class);
+
+  /** The number of recent broadcasts served from memory */
+  static final int BROADCAST_CAPACITY = 50;
+
+  private final BroadcastRing broadcasts = new BroadcastRing(BROADCAST_CAPACITY);
+  private final BroadcastRepository broadcastRepository;
+  private final BroadcastCursorRepository broadcastCursorRepository;
+
+  /**
+   * Constructs the service.
+   *
+   * @param broadcastRepository the repository broadcasts are stored in
+   * @param broadcastCursorRepository the repository of the users' read positions
+   */
+  public NotificationServiceImpl(
+      BroadcastRepository broadcastRepository,
+      BroadcastCursorRepository broadcastCursorRepository) {
+    this.broadcastRepository = broadcastRepository;
+    this.broadcastCursorRepository = broadcastCursorRepository;
+  }
+
+  /**
+   * Loads the most recent broadcasts into memory once the application has started, so the feed
+   * survives a restart. Broadcasts sent meanwhile are kept: the ring orders entries by ID, not by
+   * when they were added.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRecentBroadcasts() {
+    try {
+      List<Broadcast> recent =
+          broadcastRepository.findLatest(PageRequest.of(0, broadcasts.capacity()));
+      recent.forEach(broadcast -> broadcasts.publish(toDTO(broadcast)));
+      log.info("Loaded {} recent broadcasts", recent.size());
+    } catch (DataAccessException e) {
+      log.warn("Could not load recent broadcasts, starting with an empty feed", e);
+    }
+  }
 
   /**
    * Sends a general notification message to a user.
@@ -44,7 +91,7 @@ public class NotificationServiceImpl implements NotificationService {
   @Override
   public void notifyUser(User user, String message) {
     if (user != null) {
-      System.out.println("[USER NOTIFICATION] To: " + user.getEmail() + " | Message: " + message);
+      log.info("User notification to {}: {}", user.getEmail(), message);
     }
   }
 
@@ -58,13 +105,11 @@ public class NotificationServiceImpl implements NotificationService {
   @Override
   public void notifyDriver(Driver driver, Delivery delivery, String message) {
     if (driver != null) {
-      System.out.println(
-          "[DRIVER NOTIFICATION] To Driver ID: "
-              + driver.getId()
-              + " | Delivery ID: "
-              + (delivery != null ? delivery.getId() : "N/A")
-              + " | Message: "
-              + message);
+      log.info(
+          "Driver notification to driver {} for delivery {}: {}",
+          driver.getId(),
+          delivery != null ? delivery.getId() : "N/A",
+          message);
     }
   }
 
@@ -77,8 +122,7 @@ public class NotificationServiceImpl implements NotificationService {
   @Override
   public void notifyMerchant(Merchant merchant, String message) {
     if (merchant != null) {
-      System.out.println(
-          "[MERCHANT NOTIFICATION] To Merchant ID: " + merchant.getId() + " | Message: " + message);
+      log.info("Merchant notification to merchant {}: {}", merchant.getId(), message);
     }
   }
 
@@ -91,44 +135,65 @@ public class NotificationServiceImpl implements NotificationService {
   @Override
   public void sendDeliveryStatusUpdate(User user, Delivery delivery) {
     if (user != null && delivery != null) {
-      String statusMessage =
-          "[DELIVERY STATUS UPDATE] To: "
-              + user.getEmail()
-              + " | Delivery ID: "
-              + delivery.getId()
-              + " | Status: "
-              + delivery.getStatus();
-      System.out.println(statusMessage);
+      log.info(
+          "Delivery status update to {}: delivery {} is {}",
+          user.getEmail(),
+          delivery.getId(),
+          delivery.getStatus());
     }
   }
 
   /**
    * Broadcasts a system-wide message to all users or listeners.
    *
-   * <p>This is typically used for administrative or platform-wide announcements.
+   * <p>This is typically used for administrative or platform-wide announcements. The broadcast is
+   * stored first, and only added to the feed once its ID is committed.
    *
    * @param message the broadcast message
    */
   @Override
   public void broadcastSystemMessage(String message) {
-    SystemBroadcastDTO payload =
-        SystemBroadcastDTO.builder()
-            .id(broadcastIds.incrementAndGet())
-            .message(message)
-            .createdAt(LocalDateTime.now())
-            .build();
-    broadcasts.add(payload);
-    if (broadcasts.size() > 50) {
-      broadcasts.remove(0);
-    }
-    System.out.println("[SYSTEM BROADCAST] " + message);
+    Broadcast saved = broadcastRepository.save(Broadcast.builder().message(message).build());
+    broadcasts.publish(toDTO(saved));
+    log.info("System broadcast: {}", message);
   }
 
   @Override
   public List<SystemBroadcastDTO> getRecentBroadcasts() {
-    return broadcasts.stream()
-        .sorted(Comparator.comparing(SystemBroadcastDTO::getCreatedAt).reversed())
-        .toList();
+    return broadcasts.newerThan(0L);
+  }
+
+  @Override
+  public long getBroadcastVersion() {
+    return broadcasts.version();
+  }
+
+  @Override
+  public List<SystemBroadcastDTO> getBroadcastsAfter(long afterId) {
+    return broadcasts.newerThan(afterId);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Read from the primary, so a cursor just moved by {@link #markBroadcastsRead(Long, Long)} is
+   * seen even if a replica lags behind.
+   */
+  @Override
+  @Transactional
+  public long getBroadcastCursor(Long userId) {
+    return broadcastCursorRepository.findLastReadId(userId).orElse(0L);
+  }
+
+  @Override
+  @Transactional
+  public long markBroadcastsRead(Long userId, Long upToId) {
+    long version = broadcasts.version();
+    long readId = upToId == null ? version : Math.min(upToId, version);
+    if (readId > 0) {
+      broadcastCursorRepository.advance(userId, readId);
+    }
+    return broadcastCursorRepository.findLastReadId(userId).orElse(0L);
   }
 
   /**
@@ -158,4 +223,12 @@ public class NotificationServiceImpl implements NotificationService {
       notifyMerchant(delivery.getOrder().getMerchant(), "An order has been cancelled.");
     }
   }
+
+  private static SystemBroadcastDTO toDTO(Broadcast broadcast) {
+    return SystemBroadcastDTO.builder()
+        .id(broadcast.getId())
+        .message(broadcast.getMessage())
+        .createdAt(broadcast.getCreatedAt())
+        .build();
+  }
 }
@@ -0,0 +1,53 @@
+package com.boozebuddies.service.implementation;
+
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a read-modify-write in its own transaction and retries it when a concurrent writer bumped
+ * the entity's {@code @Version} first.
+ *
+ * <p>Each attempt reloads the entity, so the update is re-applied to, and re-validated against, the
+ * state the other writer committed. When the caller already has a transaction open the action
+ * joins it and is not retried, because a retry would see the same stale persistence context.
+ */
+final class OptimisticRetry {
+
+  private static final Logger log = LoggerFactory.getLogger(OptimisticRetry.class);
+
+  /** Attempts made before the conflict is passed on to the caller */
+  static final int MAX_ATTEMPTS = 3;
+
+  private OptimisticRetry() {}
+
+  /**
+   * Executes an action, retrying it on optimistic-lock conflicts.
+   *
+   * @param transaction the transaction template each attempt runs in
+   * @param description what is being updated, for logging
+   * @param action the read-modify-write to run
+   * @param <T> the result type
+   * @return the result of the first attempt that commits
+   * @throws OptimisticLockingFailureException if every attempt conflicted
+   */
+  static <T> T execute(TransactionTemplate transaction, String description, Supplier<T> action) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return transaction.execute(status -> action.get());
+    }
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transaction.execute(status -> action.get());
+      } catch (OptimisticLockingFailureException e) {
+        if (attempt >= MAX_ATTEMPTS) {
+          log.warn("Giving up on {} after {} conflicting attempts", description, attempt);
+          throw e;
+        }
+        log.debug("Concurrent update of {}, retrying (attempt {})", description, attempt + 1);
+      }
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.boozebuddies.service.implementation;
+
+import com.boozebuddies.entity.Order;
+import com.boozebuddies.entity.OrderItem;
+import com.boozebuddies.repository.OrderRepository;
+import com.boozebuddies.repository.OrderSearchRepository;
+import com.boozebuddies.repository.OrderSearchRepository.OrderSearchHit;
+import com.boozebuddies.service.OrderSearchService;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the {@link OrderSearchService} interface.
+ *
+ * <p>Each order gets a row in {@code order_search} holding its merchant name and item names,
+ * inserted in the transaction that creates the order. A search turns the user's words into a
+ * MySQL boolean-mode query in which every word is required and matched as a prefix, reads one page
+ * of ranked order IDs from the {@code FULLTEXT} index, and then loads just those orders.
+ */
+@Service
+public class OrderSearchServiceImpl implements OrderSearchService {
+
+  /** The shortest word InnoDB indexes ({@code innodb_ft_min_token_size}) */
+  static final int MIN_TERM_LENGTH = 3;
+
+  /** The most words of a query that are searched for */
+  static final int MAX_TERMS = 8;
+
+  private final OrderSearchRepository orderSearchRepository;
+  private final OrderRepository orderRepository;
+
+  /**
+   * Constructs the service.
+   *
+   * @param orderSearchRepository the repository for the search table
+   * @param orderRepository the repository the matching orders are loaded from
+   */
+  public OrderSearchServiceImpl(
+      OrderSearchRepository orderSearchRepository, OrderRepository orderRepository) {
+    this.orderSearchRepository = orderSearchRepository;
+    this.orderRepository = orderRepository;
+  }
+
+  @Override
+  public void index(Order order) {
+    String itemNames =
+        order.getItems() == null
+            ? ""
+            : order.getItems().stream()
+                .map(OrderItem::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "));
+    orderSearchRepository.insertEntry(
+        order.getId(),
+        order.getUser() != null ? order.getUser().getId() : null,
+        order.getMerchant() != null ? order.getMerchant().getId() : null,
+        order.getCreatedAt(),
+        itemNames);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<Order> search(String query, Long userId, Long merchantId, Pageable pageable) {
+    String terms = toBooleanQuery(query);
+    if (terms == null) {
+      return Page.empty(pageable);
+    }
+
+    Page<OrderSearchHit> hits = orderSearchRepository.search(terms, userId, merchantId, pageable);
+    List<Long> ids = hits.getContent().stream().map(OrderSearchHit::getOrderId).toList();
+    Map<Long, Order> orders =
+        orderRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+    // Keep the ranking of the hits
+    List<Order> ranked = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      Order order = orders.get(id);
+      if (order != null) {
+        Hibernate.initialize(order.getItems());
+        ranked.add(order);
+      }
+    }
+    return new PageImpl<>(ranked, pageable, hits.getTotalElements());
+  }
+
+  /**
+   * Turns free text into a boolean-mode query requiring every word as a prefix, e.g. {@code "Hazy
+   * IPA, brewery"} into {@code "+hazy* +ipa* +brewery*"}. Punctuation, which boolean mode would
+   * read as operators, separates words; words InnoDB does not index are dropped.
+   *
+   * @param query the text the user entered
+   * @return the boolean-mode query, or null if no searchable word remains
+   */
+  static String toBooleanQuery(String query) {
+    if (query == null) {
+      return null;
+    }
+    Set<String> words = new LinkedHashSet<>();
+    for (String word : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+      if (word.length() >= MIN_TERM_LENGTH && words.size() < MAX_TERMS) {
+        words.add(word);
+      }
+    }
+    if (words.isEmpty()) {
+      return null;
+    }
+    return words.stream().map(word -> "+" + word + "*").collect(Collectors.joining(" "));
+  }
+}
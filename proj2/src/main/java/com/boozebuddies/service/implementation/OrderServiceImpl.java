@@ -1,26 +1,54 @@
 package com.boozebuddies.service.implementation;
 
+import com.boozebuddies.config.ReplicaRead;
 import com.boozebuddies.entity.Delivery;
 import com.boozebuddies.entity.Order;
 import com.boozebuddies.entity.OrderItem;
 import com.boozebuddies.entity.Product;
 import com.boozebuddies.entity.User;
+import com.boozebuddies.geo.GeoDistance;
+import com.boozebuddies.geo.GeoPoint;
+import com.boozebuddies.logging.LogContext;
 import com.boozebuddies.model.OrderStatus;
+import com.boozebuddies.model.OutboxEventType;
 import com.boozebuddies.repository.DeliveryRepository;
 import com.boozebuddies.repository.OrderRepository;
-import com.boozebuddies.service.NotificationService;
+import com.boozebuddies.service.InventoryService;
+import com.boozebuddies.service.OrderSearchService;
 import com.boozebuddies.service.OrderService;
+import com.boozebuddies.service.OutboxService;
 import com.boozebuddies.service.PaymentService;
 import com.boozebuddies.service.ProductService;
 import com.boozebuddies.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Implementation of the {@link OrderService} that handles business logic for order creation,
@@ -34,27 +62,66 @@ import org.springframework.transaction.annotation.Transactional;
  *   <li>Managing order lifecycle transitions
  *   <li>Handling payment processing and refunds
  *   <li>Creating and updating delivery records
- *   <li>Sending relevant notifications to users and merchants
+ *   <li>Reserving stock at checkout, releasing it on cancellation and committing it on delivery
+ *   <li>Recording order events in the transactional outbox
  * </ul>
+ *
+ * <p>Notifications are not sent from here. Every state change records an event through {@link
+ * OutboxService} in the same transaction, and the outbox relay delivers it to the notification
+ * subscriber once the transaction has committed.
+ *
+ * <p>Status changes and cancellations are read-modify-writes on a versioned {@link Order}; they are
+ * retried through {@link OptimisticRetry} when a concurrent writer updated the order first.
+ *
+ * <p>Each checkout phase is timed as {@code checkout.phase} (tag {@code phase}: items, validation,
+ * reserve, save, index, payment, delivery, notify) and dispatch matching as {@code dispatch.match}.
  */
 @Service
 public class OrderServiceImpl implements OrderService {
 
+  private static final Logger log = LoggerFactory.getLogger(OrderServiceImpl.class);
+
+  /** Orders saved per transaction by {@link #createOrders(List)} */
+  static final int BULK_TRANSACTION_SIZE = 50;
+
+  /** Statuses that keep an order on merchant boards and driver lists */
+  static final List<OrderStatus> OPEN_STATUSES =
+      List.of(
+          OrderStatus.PENDING,
+          OrderStatus.CONFIRMED,
+          OrderStatus.PREPARING,
+          OrderStatus.READY_FOR_PICKUP,
+          OrderStatus.PICKING_UP,
+          OrderStatus.PICKED_UP,
+          OrderStatus.IN_TRANSIT);
+
   @Autowired private OrderRepository orderRepository;
 
   @Autowired private DeliveryRepository deliveryRepository;
 
   @Autowired private PaymentService paymentService;
 
-  @Autowired private NotificationService notificationService;
+  @Autowired private OutboxService outboxService;
+
+  @Autowired private OrderSearchService orderSearchService;
 
   @Autowired private ProductService productService;
 
+  @Autowired private InventoryService inventoryService;
+
   @Autowired private UserService userService;
 
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  /** How long a change must have been visible before the change feeds return it */
+  @Value("${orders.change-feed.commit-lag-ms:2000}")
+  private long changeFeedLagMs;
+
   /**
-   * Creates a new order, processes payment, generates a delivery record, and sends confirmation
-   * notifications.
+   * Creates a new order, processes payment, generates a delivery record, and records an {@link
+   * OutboxEventType#ORDER_CREATED} event.
    *
    * @param order the order to create
    * @return the persisted order with associated delivery details
@@ -64,27 +131,99 @@ public class OrderServiceImpl implements OrderService {
   public Order createOrder(Order order) {
     // Initialize order items: fetch products, set names, link to order, calculate
     // subtotals
-    initializeOrderItems(order);
+    timePhase("items", () -> initializeOrderItems(order, productService::getProductById));
 
     // Validate business rules
-    validateOrderCreation(order);
-    order.setStatus(OrderStatus.PENDING);
-    order.setCreatedAt(LocalDateTime.now());
-    order.setUpdatedAt(LocalDateTime.now());
-
-    if (order.getTotalAmount() == null) {
-      order.calculateTotal();
-    }
+    timePhase("validation", () -> validateOrderCreation(order, userService::findById));
 
-    Order savedOrder = orderRepository.save(order);
+    return persistNewOrder(order).getOrder();
+  }
 
-    // Process payment with test payment method (for testing purposes)
-    paymentService.processPayment(savedOrder, "test_payment");
+  /**
+   * Creates a batch of orders. Every product and age-checked user referenced by the batch is loaded
+   * once up front, the orders are then validated in parallel against those preloaded entities, and
+   * valid orders are saved {@value #BULK_TRANSACTION_SIZE} per transaction. If a group fails to
+   * commit, its orders are retried one per transaction so a single bad order only fails itself.
+   * Each order's {@link OutboxEventType#ORDER_CREATED} event commits with the order itself.
+   *
+   * @param orders the orders to create
+   * @return one outcome per order, in input order, with timing figures for each phase
+   */
+  @Override
+  public BulkCreateResult createOrders(List<Order> orders) {
+    int size = orders.size();
+    String[] errors = new String[size];
+    Order[] created = new Order[size];
+
+    long start = System.nanoTime();
+    Map<Long, Product> products =
+        productService.getProductsByIds(collectProductIds(orders)).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity(), (a, b) -> a));
+    Map<Long, User> users = resolveAgeCheckedUsers(orders, products);
+    long resolved = System.nanoTime();
+
+    // Validation only reads the preloaded maps, so it is safe to run off the request thread
+    IntStream.range(0, size)
+        .parallel()
+        .forEach(
+            i -> {
+              Order order = orders.get(i);
+              if (order == null) {
+                errors[i] = "Order is required";
+                return;
+              }
+              try {
+                initializeOrderItems(order, products::get);
+                validateOrderCreation(order, userId -> preloadedUser(users, userId));
+              } catch (RuntimeException e) {
+                errors[i] = e.getMessage();
+              }
+            });
+    long validated = System.nanoTime();
+
+    List<Integer> valid =
+        IntStream.range(0, size).filter(i -> errors[i] == null).boxed().toList();
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    int transactions = 0;
+
+    for (int from = 0; from < valid.size(); from += BULK_TRANSACTION_SIZE) {
+      List<Integer> group =
+          valid.subList(from, Math.min(from + BULK_TRANSACTION_SIZE, valid.size()));
+      transactions++;
+      try {
+        List<Delivery> saved =
+            transaction.execute(
+                status -> group.stream().map(i -> persistNewOrder(orders.get(i))).toList());
+        for (int j = 0; j < group.size(); j++) {
+          created[group.get(j)] = saved.get(j).getOrder();
+        }
+      } catch (RuntimeException groupFailure) {
+        for (int i : group) {
+          Order order = orders.get(i);
+          clearGeneratedIds(order);
+          transactions++;
+          try {
+            Delivery delivery = transaction.execute(status -> persistNewOrder(order));
+            created[i] = delivery.getOrder();
+          } catch (RuntimeException e) {
+            clearGeneratedIds(order);
+            errors[i] = e.getMessage();
+          }
+        }
+      }
+    }
+    long persisted = System.nanoTime();
 
-    // Create delivery record
-    Delivery delivery = createDeliveryRecord(savedOrder);
-    notificationService.sendOrderConfirmation(delivery);
-    return savedOrder;
+    List<BulkOrderOutcome> outcomes = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      outcomes.add(new BulkOrderOutcome(i, errors[i] == null ? created[i] : null, errors[i]));
+    }
+    return new BulkCreateResult(
+        outcomes,
+        TimeUnit.NANOSECONDS.toMillis(resolved - start),
+        TimeUnit.NANOSECONDS.toMillis(validated - resolved),
+        TimeUnit.NANOSECONDS.toMillis(persisted - validated),
+        transactions);
   }
 
   /**
@@ -102,14 +241,30 @@ public class OrderServiceImpl implements OrderService {
     return orderOpt.isPresent() ? orderOpt : orderRepository.findById(id);
   }
 
+  /**
+   * Retrieves an order's items, fetching their products in the same query.
+   *
+   * @param orderId the order ID
+   * @return the order's items, or an empty list if the order does not exist
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public List<OrderItem> getOrderItems(Long orderId) {
+    return orderRepository
+        .findWithItems(orderId)
+        .map(order -> order.getItems() != null ? order.getItems() : List.<OrderItem>of())
+        .orElse(List.of());
+  }
+
   /**
    * Retrieves all orders placed by a specific user.
    *
    * @param userId the user's ID
    * @return list of orders associated with the user
    */
+  @Transactional
   public List<Order> getOrdersByUser(Long userId) {
-    return orderRepository.findByCustomerId(userId);
+    return withItems(orderRepository.findByCustomerId(userId));
   }
 
   /**
@@ -118,8 +273,9 @@ public class OrderServiceImpl implements OrderService {
    * @param merchantId the merchant's ID
    * @return list of orders associated with the merchant
    */
+  @Transactional
   public List<Order> getOrdersByMerchant(Long merchantId) {
-    return orderRepository.findByMerchantId(merchantId);
+    return withItems(orderRepository.findByMerchantId(merchantId));
   }
 
   /**
@@ -128,8 +284,110 @@ public class OrderServiceImpl implements OrderService {
    * @param driverId the driver’s ID
    * @return list of orders handled by the driver
    */
+  @Transactional
   public List<Order> getOrdersByDriver(Long driverId) {
-    return orderRepository.findByDriverId(driverId);
+    return withItems(orderRepository.findByDriverId(driverId));
+  }
+
+  /**
+   * Retrieves the changes to a merchant's board of open orders since a watermark. Orders that
+   * changed into a closed status are returned as removed.
+   *
+   * @param merchantId the merchant's ID
+   * @param since the client's watermark, or null for a snapshot of the open orders
+   * @param limit the most changed orders to return
+   * @return the changes and the next watermark
+   */
+  @Override
+  @Transactional
+  public OrderChanges getMerchantOrderChanges(Long merchantId, ChangeWatermark since, int limit) {
+    return changesSince(
+        since,
+        limit,
+        () -> orderRepository.findActiveByMerchant(merchantId, OPEN_STATUSES),
+        (upTo, page) ->
+            orderRepository.findMerchantChanges(
+                merchantId, since.updatedAt(), since.id(), upTo, page));
+  }
+
+  /**
+   * Retrieves the changes to a driver's open assigned orders since a watermark. Orders that
+   * changed into a closed status are returned as removed.
+   *
+   * @param driverId the driver's ID
+   * @param since the client's watermark, or null for a snapshot of the open orders
+   * @param limit the most changed orders to return
+   * @return the changes and the next watermark
+   */
+  @Override
+  @Transactional
+  public OrderChanges getDriverOrderChanges(Long driverId, ChangeWatermark since, int limit) {
+    return changesSince(
+        since,
+        limit,
+        () -> orderRepository.findActiveByDriver(driverId, OPEN_STATUSES),
+        (upTo, page) ->
+            orderRepository.findDriverChanges(driverId, since.updatedAt(), since.id(), upTo, page));
+  }
+
+  /**
+   * Builds one page of a change feed.
+   *
+   * <p>Changes newer than {@code orders.change-feed.commit-lag-ms} are left for the next sync: an
+   * order stamped just before the watermark could otherwise commit after a newer order was read
+   * and be skipped for good. A snapshot's watermark is that cutoff, so the first delta repeats the
+   * orders changed while the snapshot was read rather than missing any. For the same reason the
+   * feeds read from the primary, never from a replica that may be further behind than the cutoff.
+   *
+   * @param since the client's watermark, or null for a snapshot
+   * @param limit the most changed orders to return
+   * @param snapshot loads the open orders in the view
+   * @param changes loads the orders changed after {@code since} up to a cutoff, one page
+   * @return the changes and the next watermark
+   */
+  private OrderChanges changesSince(
+      ChangeWatermark since,
+      int limit,
+      Supplier<List<Order>> snapshot,
+      BiFunction<LocalDateTime, Pageable, List<Order>> changes) {
+    LocalDateTime upTo = LocalDateTime.now().minus(changeFeedLagMs, ChronoUnit.MILLIS);
+    if (since == null) {
+      return new OrderChanges(
+          withItems(snapshot.get()), List.of(), new ChangeWatermark(upTo, 0L), false, true);
+    }
+
+    List<Order> page = changes.apply(upTo, PageRequest.of(0, limit + 1));
+    boolean hasMore = page.size() > limit;
+    if (hasMore) {
+      page = page.subList(0, limit);
+    }
+    List<Order> changed = new ArrayList<>();
+    List<Long> removed = new ArrayList<>();
+    for (Order order : page) {
+      if (OPEN_STATUSES.contains(order.getStatus())) {
+        changed.add(order);
+      } else {
+        removed.add(order.getId());
+      }
+    }
+    ChangeWatermark next =
+        page.isEmpty()
+            ? since
+            : new ChangeWatermark(
+                page.get(page.size() - 1).getUpdatedAt(), page.get(page.size() - 1).getId());
+    return new OrderChanges(withItems(changed), removed, next, hasMore, false);
+  }
+
+  /**
+   * Loads the items of each order before the transaction ends, so the orders can be mapped once
+   * it has. Items are fetched in batches of the collection's {@code @BatchSize}.
+   *
+   * @param orders the orders, managed by the current transaction
+   * @return the same orders
+   */
+  private static List<Order> withItems(List<Order> orders) {
+    orders.forEach(order -> Hibernate.initialize(order.getItems()));
+    return orders;
   }
 
   /**
@@ -137,19 +395,35 @@ public class OrderServiceImpl implements OrderService {
    *
    * @return list of all orders
    */
+  @Transactional(readOnly = true)
+  @ReplicaRead
   public List<Order> getAllOrders() {
-    return orderRepository.findAll();
+    return withItems(orderRepository.findAll());
   }
 
   /**
-   * Cancels an existing order, issues a refund if applicable, and sends cancellation notifications.
+   * Cancels an existing order, issues a refund if applicable, and records an {@link
+   * OutboxEventType#ORDER_CANCELLED} event.
    *
    * @param orderId the ID of the order to cancel
    * @return the updated order with {@link OrderStatus#CANCELLED} status
    * @throws RuntimeException if the order cannot be cancelled or does not exist
    */
-  @Transactional
   public Order cancelOrder(Long orderId) {
+    return OptimisticRetry.execute(
+        new TransactionTemplate(transactionManager),
+        "order " + orderId,
+        () -> applyCancellation(orderId));
+  }
+
+  /**
+   * Loads an order, checks it can still be cancelled, and cancels it. Runs inside the caller's
+   * transaction.
+   *
+   * @param orderId the ID of the order to cancel
+   * @return the cancelled order
+   */
+  private Order applyCancellation(Long orderId) {
     Order order =
         orderRepository
             .findById(orderId)
@@ -165,22 +439,41 @@ public class OrderServiceImpl implements OrderService {
 
     Order cancelledOrder = orderRepository.save(order);
     paymentService.refundPayment(cancelledOrder, "Order cancelled by user");
-    notificationService.sendOrderCancellation(cancelledOrder.getDelivery());
+    inventoryService.release(cancelledOrder.getId());
+    outboxService.record(
+        OutboxEventType.ORDER_CANCELLED,
+        cancelledOrder.getId(),
+        OutboxService.payload("reason", "Order cancelled by user"));
 
+    Hibernate.initialize(cancelledOrder.getItems());
     return cancelledOrder;
   }
 
   /**
-   * Updates the status of an existing order and performs any necessary side-effects such as
-   * notifications or payment actions.
+   * Updates the status of an existing order and records an {@link
+   * OutboxEventType#ORDER_STATUS_CHANGED} event carrying the previous and new status.
    *
    * @param orderId the ID of the order to update
    * @param status the new order status (as a string)
    * @return the updated order
    * @throws RuntimeException if the order is not found or status transition is invalid
    */
-  @Transactional
   public Order updateOrderStatus(Long orderId, String status) {
+    return OptimisticRetry.execute(
+        new TransactionTemplate(transactionManager),
+        "order " + orderId,
+        () -> applyStatus(orderId, status));
+  }
+
+  /**
+   * Loads an order, validates the transition against its current status, and applies it. Runs
+   * inside the caller's transaction, so a retry re-validates against the latest committed status.
+   *
+   * @param orderId the ID of the order to update
+   * @param status the new order status (as a string)
+   * @return the updated order
+   */
+  private Order applyStatus(Long orderId, String status) {
     Order order =
         orderRepository
             .findById(orderId)
@@ -193,20 +486,33 @@ public class OrderServiceImpl implements OrderService {
           "Invalid status transition from " + order.getStatus() + " to " + newStatus);
     }
 
+    OrderStatus previousStatus = order.getStatus();
     order.setStatus(newStatus);
     order.setUpdatedAt(LocalDateTime.now());
-    System.out.println("Updating order " + orderId + " to status " + newStatus);
-    Order updatedOrder = orderRepository.save(order);
-    handleStatusChange(updatedOrder, newStatus);
-    return updatedOrder;
+    try (LogContext.Scope ignored = LogContext.orderId(orderId)) {
+      log.info("Updating order status from {} to {}", previousStatus, newStatus);
+      Order updatedOrder = orderRepository.save(order);
+      if (newStatus == OrderStatus.DELIVERED) {
+        inventoryService.commit(orderId);
+      } else if (newStatus == OrderStatus.CANCELLED) {
+        inventoryService.release(orderId);
+      }
+      outboxService.record(
+          OutboxEventType.ORDER_STATUS_CHANGED,
+          updatedOrder.getId(),
+          OutboxService.payload("from", previousStatus, "to", newStatus));
+      Hibernate.initialize(updatedOrder.getItems());
+      return updatedOrder;
+    }
   }
 
   /**
    * Initialize Order Items in an Order
    *
    * @param order to initialize
+   * @param productLookup resolves a product ID to its product, or null if it does not exist
    */
-  private void initializeOrderItems(Order order) {
+  private void initializeOrderItems(Order order, Function<Long, Product> productLookup) {
     if (order.getItems() == null || order.getItems().isEmpty()) {
       return;
     }
@@ -223,7 +529,7 @@ public class OrderServiceImpl implements OrderService {
 
       // Fetch and set product if productId is available
       if (item.getProduct() != null && item.getProduct().getId() != null) {
-        Product product = productService.getProductById(item.getProduct().getId());
+        Product product = productLookup.apply(item.getProduct().getId());
         if (product != null) {
           item.setProduct(product);
           // Set name from product (required field)
@@ -257,9 +563,10 @@ public class OrderServiceImpl implements OrderService {
    * Validates business rules before creating a new order.
    *
    * @param order the order to validate
+   * @param userLookup loads the current state of a user for the age check
    * @throws RuntimeException if required fields are missing or validation fails
    */
-  private void validateOrderCreation(Order order) {
+  private void validateOrderCreation(Order order, Function<Long, User> userLookup) {
     if (order.getUser() == null) {
       throw new RuntimeException("User is required");
     }
@@ -278,13 +585,171 @@ public class OrderServiceImpl implements OrderService {
     if (hasAlcohol) {
       // Fetch fresh user data from database to ensure we have latest age verification
       // status
-      User user = userService.findById(order.getUser().getId());
+      User user = userLookup.apply(order.getUser().getId());
       if (!user.isAgeVerified()) {
         throw new RuntimeException("User must be age verified for alcohol orders");
       }
     }
   }
 
+  /**
+   * Reserves stock for a validated order and saves it with its payment and delivery record. Runs
+   * inside the caller's transaction, which binds the reservation to the order on commit.
+   *
+   * @param order the validated order
+   * @return the delivery record, which references the saved order
+   */
+  private Delivery persistNewOrder(Order order) {
+    order.setStatus(OrderStatus.PENDING);
+    order.setCreatedAt(LocalDateTime.now());
+    order.setUpdatedAt(LocalDateTime.now());
+
+    if (order.getTotalAmount() == null) {
+      order.calculateTotal();
+    }
+
+    // Fails fast on sold-out products, before anything is written
+    timePhase("reserve", () -> inventoryService.reserve(order));
+
+    Order savedOrder = timePhase("save", () -> orderRepository.save(order));
+    timePhase("index", () -> orderSearchService.index(savedOrder));
+
+    try (LogContext.Scope ignored = LogContext.orderId(savedOrder.getId())) {
+      // Process payment with test payment method (for testing purposes)
+      timePhase("payment", () -> paymentService.processPayment(savedOrder, "test_payment"));
+
+      // Create delivery record
+      Delivery delivery = timePhase("delivery", () -> createDeliveryRecord(savedOrder));
+
+      Long userId = savedOrder.getUser() != null ? savedOrder.getUser().getId() : null;
+      Long merchantId =
+          savedOrder.getMerchant() != null ? savedOrder.getMerchant().getId() : null;
+      timePhase(
+          "notify",
+          () ->
+              outboxService.record(
+                  OutboxEventType.ORDER_CREATED,
+                  savedOrder.getId(),
+                  OutboxService.payload(
+                      "userId", userId, "merchantId", merchantId, "deliveryId", delivery.getId())));
+      log.debug("Created order for user {} at merchant {}", userId, merchantId);
+      return delivery;
+    }
+  }
+
+  /**
+   * Runs one checkout phase, recording its duration on the {@code checkout.phase} timer.
+   *
+   * @param phase the phase tag value
+   * @param work the phase
+   * @return the phase result
+   */
+  private <T> T timePhase(String phase, Supplier<T> work) {
+    return phaseTimer(phase).record(work);
+  }
+
+  /**
+   * Runs one checkout phase that has no result, recording its duration on the {@code
+   * checkout.phase} timer.
+   *
+   * @param phase the phase tag value
+   * @param work the phase
+   */
+  private void timePhase(String phase, Runnable work) {
+    phaseTimer(phase).record(work);
+  }
+
+  private Timer phaseTimer(String phase) {
+    return Timer.builder("checkout.phase")
+        .description("Time spent in each phase of order checkout")
+        .tag("phase", phase)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Collects the distinct product IDs referenced by a batch of orders.
+   *
+   * @param orders the orders
+   * @return the product IDs
+   */
+  private Set<Long> collectProductIds(List<Order> orders) {
+    Set<Long> ids = new HashSet<>();
+    for (Order order : orders) {
+      if (order == null || order.getItems() == null) {
+        continue;
+      }
+      for (OrderItem item : order.getItems()) {
+        if (item.getProduct() != null && item.getProduct().getId() != null) {
+          ids.add(item.getProduct().getId());
+        }
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * Loads, once each, the users whose orders in the batch contain alcohol and therefore need the
+   * age verification check. Users that cannot be loaded are left out and fail validation.
+   *
+   * @param orders the orders
+   * @param products the preloaded products by ID
+   * @return the users by ID
+   */
+  private Map<Long, User> resolveAgeCheckedUsers(List<Order> orders, Map<Long, Product> products) {
+    Map<Long, User> users = new HashMap<>();
+    Set<Long> missing = new HashSet<>();
+    for (Order order : orders) {
+      if (order == null || order.getUser() == null || order.getItems() == null) {
+        continue;
+      }
+      Long userId = order.getUser().getId();
+      boolean hasAlcohol =
+          order.getItems().stream()
+              .filter(item -> item.getProduct() != null)
+              .map(item -> products.get(item.getProduct().getId()))
+              .anyMatch(product -> product != null && product.isAlcohol());
+      if (!hasAlcohol || userId == null || users.containsKey(userId) || missing.contains(userId)) {
+        continue;
+      }
+      try {
+        users.put(userId, userService.findById(userId));
+      } catch (RuntimeException e) {
+        missing.add(userId);
+      }
+    }
+    return users;
+  }
+
+  /**
+   * Returns a user loaded by {@link #resolveAgeCheckedUsers(List, Map)}.
+   *
+   * @param users the preloaded users by ID
+   * @param userId the user ID
+   * @return the user
+   * @throws RuntimeException if the user was not found
+   */
+  private User preloadedUser(Map<Long, User> users, Long userId) {
+    User user = users.get(userId);
+    if (user == null) {
+      throw new RuntimeException("User not found with id: " + userId);
+    }
+    return user;
+  }
+
+  /**
+   * Clears the IDs and version assigned to an order and its items by inserts that were rolled back,
+   * so the order can be saved again as new.
+   *
+   * @param order the order
+   */
+  private void clearGeneratedIds(Order order) {
+    order.setId(null);
+    order.setVersion(null);
+    if (order.getItems() != null) {
+      order.getItems().forEach(item -> item.setId(null));
+    }
+  }
+
   /**
    * Creates a corresponding delivery record for a newly placed order.
    *
@@ -301,33 +766,6 @@ public class OrderServiceImpl implements OrderService {
     return delivery;
   }
 
-  /**
-   * Handles business logic and notifications based on a change in order status.
-   *
-   * @param order the order whose status has changed
-   * @param newStatus the new {@link OrderStatus}
-   */
-  private void handleStatusChange(Order order, OrderStatus newStatus) {
-    switch (newStatus) {
-      case CONFIRMED:
-        notificationService.sendDeliveryStatusUpdate(order.getUser(), order.getDelivery());
-        break;
-      case PREPARING:
-        // notificationService.sendOrderPreparing(order);
-        break;
-      case READY_FOR_PICKUP:
-        // notificationService.sendOrderReady(order);
-        break;
-      case COMPLETED:
-        // paymentService.capturePayment(order);
-        // notificationService.sendOrderCompleted(order);
-        break;
-      case CANCELLED:
-        // notificationService.sendOrderCancellation(order);
-        break;
-    }
-  }
-
   @Override
   public List<Order> getOrdersWithinDistance(double latitude, double longitude, double distanceKm) {
     List<OrderStatus> availableStatuses =
@@ -336,56 +774,46 @@ public class OrderServiceImpl implements OrderService {
             OrderStatus.CONFIRMED,
             OrderStatus.PREPARING,
             OrderStatus.READY_FOR_PICKUP);
+    Timer.Sample sample = Timer.start(meterRegistry);
     List<Order> availOrders = orderRepository.findAvailableForAssignment(availableStatuses);
 
     // Filter orders by distance, excluding orders with null merchant or missing
     // coordinates
-    return availOrders.stream()
-        .filter(
-            order -> {
-              if (order.getMerchant() == null) {
-                return false; // Skip orders without merchant
-              }
-              Double merchantLat = order.getMerchant().getLatitude();
-              Double merchantLng = order.getMerchant().getLongitude();
-              if (merchantLat == null || merchantLng == null) {
-                return false; // Skip orders with merchants that don't have coordinates
-              }
-              double distance = calculateDistance(latitude, longitude, merchantLat, merchantLng);
-              return distance <= distanceKm; // Include orders within the radius
-            })
-        .collect(Collectors.toList());
+    GeoPoint origin = GeoPoint.of(latitude, longitude);
+    List<Order> matched =
+        availOrders.stream()
+            .filter(
+                order -> {
+                  if (order.getMerchant() == null) {
+                    return false; // Skip orders without merchant
+                  }
+                  // Precomputed when the merchant was loaded
+                  GeoPoint merchantPoint = order.getMerchant().getGeoPoint();
+                  if (merchantPoint == null) {
+                    return false; // Skip orders with merchants that don't have coordinates
+                  }
+                  // Include orders within the radius
+                  return GeoDistance.isWithinRadius(origin, merchantPoint, distanceKm);
+                })
+            .collect(Collectors.toList());
+    sample.stop(
+        Timer.builder("dispatch.match")
+            .description("Time to match available orders to a driver location")
+            .register(meterRegistry));
+    return matched;
   }
 
   @Override
   public double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-    final int EARTH_RADIUS_KM = 6371;
-
-    double dLat = Math.toRadians(lat2 - lat1);
-    double dLon = Math.toRadians(lon2 - lon1);
-
-    double a =
-        Math.sin(dLat / 2) * Math.sin(dLat / 2)
-            + Math.cos(Math.toRadians(lat1))
-                * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2)
-                * Math.sin(dLon / 2);
-
-    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-    return EARTH_RADIUS_KM * c;
+    return GeoDistance.haversineKm(lat1, lon1, lat2, lon2);
   }
 
   @Override
   @Transactional
-  public Order updateEstimatedDeliveryTime(Long orderId, LocalDateTime estimatedDeliveryTime) {
-    Optional<Order> orderOpt = orderRepository.findById(orderId);
-    if (orderOpt.isEmpty()) {
+  public void updateEstimatedDeliveryTime(Long orderId, LocalDateTime estimatedDeliveryTime) {
+    int updated = orderRepository.updateEstimatedDeliveryTime(orderId, estimatedDeliveryTime);
+    if (updated == 0) {
       throw new RuntimeException("Order not found");
     }
-    Order order = orderOpt.get();
-    order.setEstimatedDeliveryTime(estimatedDeliveryTime);
-    order.setUpdatedAt(LocalDateTime.now());
-    return orderRepository.save(order);
   }
 }
@@ -0,0 +1,60 @@
+package com.boozebuddies.service.implementation;
+
+import com.boozebuddies.entity.OutboxEvent;
+import com.boozebuddies.model.OutboxEventType;
+import com.boozebuddies.repository.OutboxEventRepository;
+import com.boozebuddies.service.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of the {@link OutboxService} interface.
+ *
+ * <p>Writes one {@link OutboxEvent} row per call. Delivery to subscribers happens later and off the
+ * request thread in {@link com.boozebuddies.outbox.OutboxRelay}.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Records a domain event in the caller's transaction.
+   *
+   * @param type the event type
+   * @param aggregateId the ID of the order or delivery the event belongs to
+   * @param payload event details, serialized as JSON
+   * @throws IllegalArgumentException if the aggregate ID is missing or the payload cannot be
+   *     serialized
+   */
+  @Override
+  @Transactional
+  public void record(OutboxEventType type, Long aggregateId, Map<String, Object> payload) {
+    if (aggregateId == null) {
+      throw new IllegalArgumentException("Outbox events require an aggregate ID");
+    }
+
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Could not serialize outbox payload for " + type, e);
+    }
+
+    outboxEventRepository.save(
+        OutboxEvent.builder()
+            .aggregateType(type.getAggregateType())
+            .aggregateId(aggregateId)
+            .eventType(type)
+            .payload(json)
+            .createdAt(LocalDateTime.now())
+            .build());
+  }
+}
@@ -1,18 +1,24 @@
 package com.boozebuddies.service.implementation;
 
+import com.boozebuddies.config.ReplicaRead;
 import com.boozebuddies.entity.Order;
 import com.boozebuddies.entity.Payment;
 import com.boozebuddies.entity.User;
+import com.boozebuddies.model.OutboxEventType;
 import com.boozebuddies.model.PaymentStatus;
 import com.boozebuddies.repository.PaymentRepository;
+import com.boozebuddies.service.OutboxService;
 import com.boozebuddies.service.PaymentService;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementation of the {@link PaymentService} interface that handles payment processing, refund
@@ -22,22 +28,30 @@ import org.springframework.stereotype.Service;
  * data. It supports creating, refunding, validating, and aggregating payment transactions.
  *
  * <p>All payments are associated with {@link Order} and {@link User} entities and maintain their
- * corresponding {@link PaymentStatus}.
+ * corresponding {@link PaymentStatus}. Authorizations and refunds are recorded as outbox events on
+ * the order aggregate so subscribers see them in order with the order's own events.
  */
 @Service
 public class PaymentServiceImpl implements PaymentService {
 
+  private static final Logger log = LoggerFactory.getLogger(PaymentServiceImpl.class);
+
   /** Repository used for performing CRUD operations on {@link Payment} entities. */
   private final PaymentRepository paymentRepository;
 
+  /** Records payment events in the caller's transaction. */
+  private final OutboxService outboxService;
+
   /**
    * Constructs a new {@code PaymentServiceImpl} with the specified payment repository.
    *
    * @param paymentRepository the {@link PaymentRepository} to use for database interactions
+   * @param outboxService the {@link OutboxService} payment events are recorded with
    */
   @Autowired
-  public PaymentServiceImpl(PaymentRepository paymentRepository) {
+  public PaymentServiceImpl(PaymentRepository paymentRepository, OutboxService outboxService) {
     this.paymentRepository = paymentRepository;
+    this.outboxService = outboxService;
   }
 
   /**
@@ -75,14 +89,16 @@ public class PaymentServiceImpl implements PaymentService {
     payment.setUpdatedAt(LocalDateTime.now());
 
     paymentRepository.save(payment);
-
-    System.out.println(
-        "[PAYMENT] Processed payment of "
-            + payment.getAmount()
-            + " for Order ID: "
-            + order.getId()
-            + " via "
-            + paymentMethod);
+    outboxService.record(
+        OutboxEventType.PAYMENT_AUTHORIZED,
+        order.getId(),
+        OutboxService.payload("amount", payment.getAmount(), "paymentMethod", paymentMethod));
+
+    log.info(
+        "Authorized payment of {} for order {} via {}",
+        payment.getAmount(),
+        order.getId(),
+        paymentMethod);
     return payment;
   }
 
@@ -116,13 +132,11 @@ public class PaymentServiceImpl implements PaymentService {
     refund.setRefundReason(reason);
 
     paymentRepository.save(refund);
-    System.out.println(
-        "[PAYMENT] Refunded "
-            + refund.getAmount()
-            + " for Order ID: "
-            + order.getId()
-            + " Reason: "
-            + reason);
+    outboxService.record(
+        OutboxEventType.PAYMENT_REFUNDED,
+        order.getId(),
+        OutboxService.payload("amount", refund.getAmount(), "reason", reason));
+    log.info("Refunded {} for order {}: {}", refund.getAmount(), order.getId(), reason);
     return refund;
   }
 
@@ -156,6 +170,8 @@ public class PaymentServiceImpl implements PaymentService {
    * @return a {@link Page} of all {@link Payment} records
    */
   @Override
+  @Transactional(readOnly = true)
+  @ReplicaRead
   public Page<Payment> getAllPayments(Pageable pageable) {
     return paymentRepository.findAll(pageable);
   }
@@ -168,6 +184,8 @@ public class PaymentServiceImpl implements PaymentService {
    * @return the total revenue as a {@link BigDecimal}
    */
   @Override
+  @Transactional(readOnly = true)
+  @ReplicaRead
   public BigDecimal calculateTotalRevenue(LocalDateTime startDate, LocalDateTime endDate) {
     return paymentRepository.findByCreatedAtBetween(startDate, endDate, Pageable.unpaged()).stream()
         .filter(p -> p.getStatus() == PaymentStatus.AUTHORIZED)
@@ -1,11 +1,17 @@
 package com.boozebuddies.service.implementation;
 
+import com.boozebuddies.entity.Order;
 import com.boozebuddies.entity.User;
 import com.boozebuddies.model.Role;
+import com.boozebuddies.security.JwtAuthenticationToken;
+import com.boozebuddies.security.RequestResolutionContext;
+import com.boozebuddies.security.TokenClaims;
 import com.boozebuddies.service.DeliveryService;
 import com.boozebuddies.service.OrderService;
 import com.boozebuddies.service.PermissionService;
 import com.boozebuddies.service.UserService;
+import io.micrometer.core.annotation.Timed;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -20,8 +26,19 @@ import org.springframework.stereotype.Service;
  * <p>It integrates with {@link UserService}, {@link OrderService}, and {@link DeliveryService} to
  * verify relationships between authenticated users and resources (e.g., merchants, orders,
  * deliveries).
+ *
+ * <p>When the request was authenticated with an access token whose claims are still current (a
+ * {@link JwtAuthenticationToken}), roles, merchant ownership and the driver profile are read from
+ * the token's {@link TokenClaims} without touching the database. Otherwise, and for a driver whose
+ * token predates their driver profile, the user record is loaded.
+ *
+ * <p>Users, orders and deliveries are resolved through {@link RequestResolutionContext}, so the
+ * several checks evaluated for one request and the controller body share a single load of each.
+ *
+ * <p>Every check is timed as {@code security.permission.check}, tagged by {@code method}.
  */
 @Service
+@Timed(value = "security.permission.check", description = "Time spent on a permission check")
 @RequiredArgsConstructor
 public class PermissionServiceImpl implements PermissionService {
 
@@ -55,8 +72,7 @@ public class PermissionServiceImpl implements PermissionService {
     }
 
     // Fallback: look up by email if principal is not a User object
-    String email = authentication.getName();
-    return userService.findByEmail(email).map(user -> user.getId().equals(userId)).orElse(false);
+    return findUser(authentication).map(user -> user.getId().equals(userId)).orElse(false);
   }
 
   /**
@@ -71,8 +87,11 @@ public class PermissionServiceImpl implements PermissionService {
     if (authentication == null || merchantId == null) {
       return false;
     }
-    String email = authentication.getName();
-    return userService.findByEmail(email).map(user -> user.ownsMerchant(merchantId)).orElse(false);
+    Optional<TokenClaims> claims = tokenClaims(authentication);
+    if (claims.isPresent()) {
+      return claimsOwnMerchant(claims.get(), merchantId);
+    }
+    return findUser(authentication).map(user -> user.ownsMerchant(merchantId)).orElse(false);
   }
 
   /**
@@ -87,8 +106,11 @@ public class PermissionServiceImpl implements PermissionService {
     if (authentication == null || role == null) {
       return false;
     }
-    String email = authentication.getName();
-    return userService.findByEmail(email).map(user -> user.hasRole(role)).orElse(false);
+    Optional<TokenClaims> claims = tokenClaims(authentication);
+    if (claims.isPresent()) {
+      return claims.get().hasRole(role);
+    }
+    return findUser(authentication).map(user -> user.hasRole(role)).orElse(false);
   }
 
   /**
@@ -110,8 +132,7 @@ public class PermissionServiceImpl implements PermissionService {
     }
 
     // Fallback: look up by email (for other authentication types)
-    String email = authentication.getName();
-    return userService.findByEmail(email).orElse(null);
+    return findUser(authentication).orElse(null);
   }
 
   /**
@@ -126,12 +147,7 @@ public class PermissionServiceImpl implements PermissionService {
     if (authentication == null || driverId == null) {
       return false;
     }
-    String email = authentication.getName();
-    return userService
-        .findByEmail(email)
-        .filter(user -> user.hasRole(Role.DRIVER))
-        .map(user -> user.getDriver() != null && user.getDriver().getId().equals(driverId))
-        .orElse(false);
+    return findDriverId(authentication).map(driverId::equals).orElse(false);
   }
 
   /**
@@ -146,14 +162,12 @@ public class PermissionServiceImpl implements PermissionService {
     if (authentication == null || orderId == null) {
       return false;
     }
-    String email = authentication.getName();
-    User user = userService.findByEmail(email).orElse(null);
-    if (user == null) {
+    Long userId = findUserId(authentication).orElse(null);
+    if (userId == null) {
       return false;
     }
-    return orderService
-        .getOrderById(orderId)
-        .map(order -> order.getUser() != null && order.getUser().getId().equals(user.getId()))
+    return findOrder(orderId)
+        .map(order -> order.getUser() != null && order.getUser().getId().equals(userId))
         .orElse(false);
   }
 
@@ -169,13 +183,23 @@ public class PermissionServiceImpl implements PermissionService {
     if (authentication == null || orderId == null) {
       return false;
     }
-    String email = authentication.getName();
-    User user = userService.findByEmail(email).orElse(null);
+    Optional<TokenClaims> claims = tokenClaims(authentication);
+    if (claims.isPresent()) {
+      if (!claims.get().hasRole(Role.MERCHANT_ADMIN)) {
+        return false;
+      }
+      return findOrder(orderId)
+          .map(
+              order ->
+                  order.getMerchant() != null
+                      && claimsOwnMerchant(claims.get(), order.getMerchant().getId()))
+          .orElse(false);
+    }
+    User user = findUser(authentication).orElse(null);
     if (user == null || !user.hasRole(Role.MERCHANT_ADMIN)) {
       return false;
     }
-    return orderService
-        .getOrderById(orderId)
+    return findOrder(orderId)
         .map(order -> order.getMerchant() != null && user.ownsMerchant(order.getMerchant().getId()))
         .orElse(false);
   }
@@ -192,17 +216,17 @@ public class PermissionServiceImpl implements PermissionService {
     if (authentication == null || deliveryId == null) {
       return false;
     }
-    String email = authentication.getName();
-    User user = userService.findByEmail(email).orElse(null);
-    if (user == null || !user.hasRole(Role.DRIVER) || user.getDriver() == null) {
+    Long driverId = findDriverId(authentication).orElse(null);
+    if (driverId == null) {
       return false;
     }
     try {
-      var delivery = deliveryService.getDeliveryById(deliveryId);
+      var delivery =
+          RequestResolutionContext.delivery(deliveryId, deliveryService::getDeliveryById);
       if (delivery == null || delivery.getDriver() == null) {
         return false;
       }
-      return delivery.getDriver().getId().equals(user.getDriver().getId());
+      return delivery.getDriver().getId().equals(driverId);
     } catch (Exception e) {
       return false;
     }
@@ -220,21 +244,107 @@ public class PermissionServiceImpl implements PermissionService {
     if (authentication == null || orderId == null) {
       return false;
     }
-    String email = authentication.getName();
-    User user = userService.findByEmail(email).orElse(null);
-    if (user == null || !user.hasRole(Role.DRIVER) || user.getDriver() == null) {
+    Long driverId = findDriverId(authentication).orElse(null);
+    if (driverId == null) {
       return false;
     }
     try {
-      return orderService
-          .getOrderById(orderId)
-          .map(
-              order ->
-                  order.getDriver() != null
-                      && order.getDriver().getId().equals(user.getDriver().getId()))
+      return findOrder(orderId)
+          .map(order -> order.getDriver() != null && order.getDriver().getId().equals(driverId))
           .orElse(false);
     } catch (Exception e) {
       return false;
     }
   }
+
+  /**
+   * Returns the claims of the request's access token, if they are still current.
+   *
+   * @param authentication the current authentication object
+   * @return the token claims, or empty if the request was not authenticated with a current token
+   */
+  private static Optional<TokenClaims> tokenClaims(Authentication authentication) {
+    if (authentication instanceof JwtAuthenticationToken token) {
+      return Optional.ofNullable(token.getTokenClaims());
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Checks merchant ownership the way {@link User#ownsMerchant(Long)} does, from token claims.
+   *
+   * @param claims the token claims
+   * @param merchantId the ID of the merchant
+   * @return true if the claims name a merchant admin of that merchant
+   */
+  private static boolean claimsOwnMerchant(TokenClaims claims, Long merchantId) {
+    return claims.hasRole(Role.MERCHANT_ADMIN)
+        && claims.merchantId() != null
+        && claims.merchantId().equals(merchantId);
+  }
+
+  /**
+   * Resolves the authenticated user's ID, from the token if possible.
+   *
+   * @param authentication the current authentication object
+   * @return the user ID, or empty if the user does not exist
+   */
+  private Optional<Long> findUserId(Authentication authentication) {
+    Optional<Long> fromClaims = tokenClaims(authentication).map(TokenClaims::userId);
+    if (fromClaims.isPresent()) {
+      return fromClaims;
+    }
+    return findUser(authentication).map(User::getId);
+  }
+
+  /**
+   * Resolves the authenticated driver's profile ID, from the token if possible. A driver whose
+   * token was issued before their profile existed has no {@code driverId} claim, so the profile is
+   * looked up for them.
+   *
+   * @param authentication the current authentication object
+   * @return the driver profile ID, or empty if the user is not a driver or has no profile
+   */
+  private Optional<Long> findDriverId(Authentication authentication) {
+    Optional<TokenClaims> claims = tokenClaims(authentication);
+    if (claims.isPresent()) {
+      if (!claims.get().hasRole(Role.DRIVER)) {
+        return Optional.empty();
+      }
+      if (claims.get().driverId() != null) {
+        return Optional.of(claims.get().driverId());
+      }
+    }
+    return findUser(authentication)
+        .filter(user -> user.hasRole(Role.DRIVER) && user.getDriver() != null)
+        .map(user -> user.getDriver().getId());
+  }
+
+  /**
+   * Resolves the authenticated user. Requests authenticated by the {@code JwtAuthenticationFilter}
+   * carry the loaded user as their principal; otherwise it is looked up by the token's email, or
+   * else the authentication name, at most once per request.
+   *
+   * @param authentication the current authentication object
+   * @return the matching user, or empty if none exists
+   */
+  private Optional<User> findUser(Authentication authentication) {
+    if (authentication.getPrincipal() instanceof User user) {
+      return Optional.of(user);
+    }
+    String email =
+        tokenClaims(authentication).map(TokenClaims::email).orElseGet(authentication::getName);
+    return RequestResolutionContext.user(email, userService::findByEmail);
+  }
+
+  /**
+   * Looks up an order, at most once per request. The controller handling the request resolves
+   * the same order through {@link RequestResolutionContext} and reuses this instance.
+   *
+   * @param orderId the ID of the order
+   * @return the order, or empty if none exists
+   */
+  private Optional<Order> findOrder(Long orderId) {
+    return RequestResolutionContext.order(orderId, orderService::getOrderById);
+  }
 }
@@ -1,6 +1,7 @@
 package com.boozebuddies.service.implementation;
 
 import com.boozebuddies.dto.ProductDTO;
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Category;
 import com.boozebuddies.entity.Merchant;
 import com.boozebuddies.entity.Product;
@@ -9,6 +10,7 @@ import com.boozebuddies.repository.CategoryRepository;
 import com.boozebuddies.repository.MerchantRepository;
 import com.boozebuddies.repository.ProductRepository;
 import com.boozebuddies.service.ProductService;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -58,6 +60,20 @@ public class ProductServiceImpl implements ProductService {
     return productRepository.findById(id).orElse(null);
   }
 
+  /**
+   * Retrieves all products with the given IDs in a single query.
+   *
+   * @param ids the product IDs
+   * @return the products found; IDs with no matching product are skipped
+   */
+  @Override
+  public List<Product> getProductsByIds(Collection<Long> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return List.of();
+    }
+    return productRepository.findAllById(ids);
+  }
+
   /**
    * Searches for products based on a keyword. Returns all available products if the keyword is null
    * or empty.
@@ -95,6 +111,27 @@ public class ProductServiceImpl implements ProductService {
     return productRepository.findByMerchantIdAndAvailableTrue(merchantId);
   }
 
+  /**
+   * Retrieves the count and latest modification time of all available products.
+   *
+   * @return the watermark of the available products
+   */
+  @Override
+  public Watermark getAvailableProductsWatermark() {
+    return productRepository.findAvailableWatermark();
+  }
+
+  /**
+   * Retrieves the count and latest modification time of a merchant's available products.
+   *
+   * @param merchantId the merchant ID
+   * @return the watermark of the merchant's available products
+   */
+  @Override
+  public Watermark getAvailableProductsWatermarkByMerchant(Long merchantId) {
+    return productRepository.findAvailableWatermarkByMerchant(merchantId);
+  }
+
   /**
    * Checks if a product is available.
    *
@@ -212,7 +249,8 @@ public class ProductServiceImpl implements ProductService {
   }
 
   /**
-   * Updates an existing product from a ProductDTO.
+   * Updates an existing product from a ProductDTO. A non-null stock quantity replaces the units on
+   * hand.
    *
    * @param id the ID of the product to update
    * @param productDTO the updated product data
@@ -250,7 +288,15 @@ public class ProductServiceImpl implements ProductService {
     }
 
     validateProduct(existing);
-    return productRepository.save(existing);
+    Product saved = productRepository.save(existing);
+
+    // Stock is not updatable through the entity; a restock reaches the ledger on reconciliation
+    if (productDTO.getStockQuantity() != null
+        && !productDTO.getStockQuantity().equals(existing.getStockQuantity())) {
+      productRepository.updateStockQuantity(id, productDTO.getStockQuantity());
+      saved.setStockQuantity(productDTO.getStockQuantity());
+    }
+    return saved;
   }
 
   /**
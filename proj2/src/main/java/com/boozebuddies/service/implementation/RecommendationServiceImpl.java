@@ -15,6 +15,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Generates recommendations for merchants by combining rating insights and sales popularity.
@@ -30,7 +31,9 @@ public class RecommendationServiceImpl implements RecommendationService {
   private final RatingRepository ratingRepository;
   private final ProductMapper productMapper;
 
+  // The best seller comes from a native query that leaves its merchant lazy; map it in here
   @Override
+  @Transactional(readOnly = true)
   public MerchantRecommendationDTO recommendProductForMerchant(Long merchantId) {
     if (merchantId == null || merchantId <= 0) {
       throw new IllegalArgumentException("Merchant id must be provided");
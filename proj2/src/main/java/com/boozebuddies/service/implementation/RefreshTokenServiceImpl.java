@@ -0,0 +1,171 @@
+package com.boozebuddies.service.implementation;
+
+import com.boozebuddies.entity.RefreshToken;
+import com.boozebuddies.entity.User;
+import com.boozebuddies.exception.InvalidTokenException;
+import com.boozebuddies.repository.RefreshTokenRepository;
+import com.boozebuddies.service.RefreshTokenService;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Implementation of the {@link RefreshTokenService} backed by the {@code refresh_tokens} table.
+ *
+ * <p>Refresh tokens are 256 random bits, URL-safe base64 encoded, rather than JWTs: nothing reads
+ * claims from them, and they must differ from the access token. Only their SHA-256 hash is stored,
+ * so a copy of the table cannot be used to sign in.
+ *
+ * <p>A rotated token is marked used rather than deleted. Presenting it again deletes every token of
+ * its session, so whichever of the client and the thief refreshes second is signed out. Expired
+ * tokens are deleted in batches of {@code jwt.refresh-cleanup.batch-size}, one transaction each,
+ * on {@code jwt.refresh-cleanup.cron}.
+ */
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+  private static final Logger log = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+
+  private static final int TOKEN_BYTES = 32;
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final long refreshExpirationMs;
+  private final int cleanupBatchSize;
+  private final SecureRandom random = new SecureRandom();
+
+  /**
+   * Constructs the service.
+   *
+   * @param refreshTokenRepository the issued tokens
+   * @param transactionManager the transaction manager used for each cleanup batch
+   * @param refreshExpirationMs how long a token is accepted after it is issued
+   * @param cleanupBatchSize the most expired tokens deleted per transaction
+   */
+  public RefreshTokenServiceImpl(
+      RefreshTokenRepository refreshTokenRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${jwt.refreshExpirationMs:604800000}") long refreshExpirationMs,
+      @Value("${jwt.refresh-cleanup.batch-size:1000}") int cleanupBatchSize) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.refreshExpirationMs = refreshExpirationMs;
+    this.cleanupBatchSize = cleanupBatchSize;
+  }
+
+  /**
+   * Starts a session with a random ID and issues its first token.
+   *
+   * @param user the user signing in
+   * @return the refresh token
+   */
+  @Override
+  @Transactional
+  public String issue(User user) {
+    return save(user, random.nextLong() & Long.MAX_VALUE);
+  }
+
+  /**
+   * Looks the token up by its hash, marks it used and issues its successor. A token that two
+   * requests present at the same moment is rotated for the first and rejected for the other,
+   * without ending the session.
+   *
+   * @param refreshToken the refresh token sent by the client
+   * @return the token's user and the new refresh token
+   */
+  @Override
+  @Transactional(noRollbackFor = InvalidTokenException.class)
+  public Rotation rotate(String refreshToken) {
+    RefreshToken current =
+        refreshTokenRepository
+            .findByTokenHash(hash(refreshToken))
+            .orElseThrow(() -> new InvalidTokenException("Invalid or expired refresh token"));
+
+    if (current.getUsedAt() != null) {
+      int revoked = refreshTokenRepository.deleteBySessionId(current.getSessionId());
+      log.warn(
+          "Refresh token reused for user {}; revoked {} tokens of its session",
+          current.getUser().getId(),
+          revoked);
+      throw new InvalidTokenException("Refresh token has already been used");
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    if (!current.getExpiresAt().isAfter(now)) {
+      throw new InvalidTokenException("Invalid or expired refresh token");
+    }
+    if (refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+      throw new InvalidTokenException("Refresh token has already been used");
+    }
+
+    User user = current.getUser();
+    return new Rotation(user, save(user, current.getSessionId()));
+  }
+
+  /** Deletes expired tokens, hourly by default. */
+  @Override
+  @Scheduled(cron = "${jwt.refresh-cleanup.cron:0 30 * * * *}")
+  public int purgeExpired() {
+    LocalDateTime cutoff = LocalDateTime.now();
+    int total = 0;
+    Integer deleted;
+    do {
+      deleted =
+          transactionTemplate.execute(
+              status -> refreshTokenRepository.deleteExpired(cutoff, cleanupBatchSize));
+      total += deleted != null ? deleted : 0;
+    } while (deleted != null && deleted >= cleanupBatchSize);
+    if (total > 0) {
+      log.info("Deleted {} expired refresh tokens", total);
+    }
+    return total;
+  }
+
+  /**
+   * Generates a token and stores its hash.
+   *
+   * @param user the token's user
+   * @param sessionId the session the token belongs to
+   * @return the token
+   */
+  private String save(User user, long sessionId) {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    random.nextBytes(bytes);
+    String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    refreshTokenRepository.save(
+        RefreshToken.builder()
+            .user(user)
+            .tokenHash(hash(token))
+            .sessionId(sessionId)
+            .expiresAt(LocalDateTime.now().plus(refreshExpirationMs, ChronoUnit.MILLIS))
+            .build());
+    return token;
+  }
+
+  /**
+   * Hashes a token for storage and lookup.
+   *
+   * @param token the token
+   * @return its SHA-256 hash
+   */
+  static byte[] hash(String token) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -5,6 +5,7 @@ import com.boozebuddies.entity.User;
 import com.boozebuddies.exception.UnauthorizedException;
 import com.boozebuddies.exception.ValidationException;
 import com.boozebuddies.model.Role;
+import com.boozebuddies.security.TokenRevocationList;
 import com.boozebuddies.service.MerchantService;
 import com.boozebuddies.service.RoleService;
 import com.boozebuddies.service.UserService;
@@ -22,6 +23,10 @@ import org.springframework.transaction.annotation.Transactional;
  * DRIVER and MERCHANT_ADMIN) are enforced.
  *
  * <p>It also manages associations between users and merchants for merchant administrators.
+ *
+ * <p>Access tokens carry the user's roles and merchant, so every change made here is recorded in
+ * the {@link TokenRevocationList}; until the user obtains a new token, their requests are
+ * authorised from the database.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,6 +34,7 @@ public class RoleServiceImpl implements RoleService {
 
   private final UserService userService;
   private final MerchantService merchantService;
+  private final TokenRevocationList revocationList;
 
   /**
    * Assigns a new role to a user after validating eligibility and existing role combinations.
@@ -47,7 +53,7 @@ public class RoleServiceImpl implements RoleService {
     validateRoleAssignment(user, role);
 
     user.addRole(role);
-    return userService.updateUser(userId, user);
+    return update(userId, user);
   }
 
   /**
@@ -76,7 +82,7 @@ public class RoleServiceImpl implements RoleService {
     validateRoleAssignment(user, role);
 
     user.addRole(role);
-    return userService.updateUser(userId, user);
+    return update(userId, user);
   }
 
   /**
@@ -104,7 +110,7 @@ public class RoleServiceImpl implements RoleService {
       user.setMerchantId(null);
     }
 
-    return userService.updateUser(userId, user);
+    return update(userId, user);
   }
 
   /**
@@ -130,7 +136,7 @@ public class RoleServiceImpl implements RoleService {
       user.setMerchantId(null);
     }
 
-    return userService.updateUser(userId, user);
+    return update(userId, user);
   }
 
   /**
@@ -163,7 +169,7 @@ public class RoleServiceImpl implements RoleService {
     }
 
     user.setMerchantId(merchantId);
-    return userService.updateUser(userId, user);
+    return update(userId, user);
   }
 
   /**
@@ -178,7 +184,7 @@ public class RoleServiceImpl implements RoleService {
   public User removeMerchantFromUser(Long userId) {
     User user = userService.findById(userId);
     user.setMerchantId(null);
-    return userService.updateUser(userId, user);
+    return update(userId, user);
   }
 
   /**
@@ -222,6 +228,19 @@ public class RoleServiceImpl implements RoleService {
     return Role.USER;
   }
 
+  /**
+   * Saves a user whose roles or merchant changed and stops trusting their current tokens' claims.
+   *
+   * @param userId the ID of the user
+   * @param user the modified user
+   * @return the saved {@link User}
+   */
+  private User update(Long userId, User user) {
+    User updated = userService.updateUser(userId, user);
+    revocationList.revoke(userId);
+    return updated;
+  }
+
   /**
    * Validates role assignment rules to prevent conflicts or violations of business constraints.
    *
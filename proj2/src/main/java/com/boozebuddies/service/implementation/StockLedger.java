@@ -0,0 +1,459 @@
+package com.boozebuddies.service.implementation;
+
+import com.boozebuddies.exception.InsufficientStockException;
+import com.boozebuddies.model.ReservationStatus;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory ledger of the units each product has available for new orders, and of the
+ * reservations holding the rest.
+ *
+ * <p>Reserving takes no lock: each product's available count is decremented with a
+ * compare-and-set, so concurrent orders for one product retry a CAS instead of queuing on its
+ * database row. Each reservation moves once from {@link ReservationStatus#RESERVED} to {@link
+ * ReservationStatus#COMMITTED} or {@link ReservationStatus#RELEASED}, also by compare-and-set, so
+ * a release or commit takes effect exactly once however many callers race.
+ *
+ * <p>The database copy is written behind: every change marks its reservation dirty, {@link
+ * #drainDirty(int)} hands dirty reservations to the writer, and {@link #flushed(Reservation,
+ * ReservationStatus)} records what was written. Per product the ledger tracks how many units it has
+ * taken that the database does not know about yet, so {@link #reconcile(Long, Integer)} can compare
+ * the two and correct drift such as a restock.
+ *
+ * <p>Draining, flushing, expiring and reconciling must be called from one thread at a time.
+ */
+final class StockLedger {
+
+  /** Reads a product's stock from the database. */
+  @FunctionalInterface
+  interface StockSource {
+    /**
+     * Returns the units available for new orders according to the database.
+     *
+     * @param productId the product ID
+     * @return units on hand minus persisted reserved units, or null if stock is not tracked
+     */
+    Integer available(Long productId);
+  }
+
+  /**
+   * One product of a reservation.
+   *
+   * @param productId the product ID
+   * @param quantity the number of units
+   */
+  record Line(Long productId, int quantity) {}
+
+  /** The units held for one order. */
+  static final class Reservation {
+    private final List<Line> lines;
+    private final long createdAtMillis;
+    private final AtomicReference<ReservationStatus> status;
+    private volatile Long orderId;
+
+    /** What the database holds; null until first written. Only read and written while flushing */
+    private ReservationStatus persisted;
+
+    private Reservation(
+        List<Line> lines, long createdAtMillis, Long orderId, ReservationStatus persisted) {
+      this.lines = lines;
+      this.createdAtMillis = createdAtMillis;
+      this.status = new AtomicReference<>(ReservationStatus.RESERVED);
+      this.orderId = orderId;
+      this.persisted = persisted;
+    }
+
+    List<Line> getLines() {
+      return lines;
+    }
+
+    Long getOrderId() {
+      return orderId;
+    }
+
+    ReservationStatus getStatus() {
+      return status.get();
+    }
+
+    ReservationStatus getPersisted() {
+      return persisted;
+    }
+
+    boolean isEmpty() {
+      return lines.isEmpty();
+    }
+  }
+
+  /** The available count of one product. */
+  static final class Stock {
+    private final AtomicInteger available = new AtomicInteger();
+
+    /** Units the ledger has taken (reserved or sold) that the database does not know about yet */
+    private final AtomicInteger unflushed = new AtomicInteger();
+
+    /** Changes in progress and completed, so reconciliation can read a consistent snapshot */
+    private final AtomicInteger writers = new AtomicInteger();
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile boolean tracked;
+
+    /** Takes units if enough are available. */
+    private boolean take(int quantity) {
+      writers.incrementAndGet();
+      try {
+        int current;
+        do {
+          current = available.get();
+          if (current < quantity) {
+            return false;
+          }
+        } while (!available.compareAndSet(current, current - quantity));
+        unflushed.addAndGet(quantity);
+        return true;
+      } finally {
+        version.incrementAndGet();
+        writers.decrementAndGet();
+      }
+    }
+
+    private void change(int availableDelta, int unflushedDelta) {
+      writers.incrementAndGet();
+      try {
+        available.addAndGet(availableDelta);
+        unflushed.addAndGet(unflushedDelta);
+      } finally {
+        version.incrementAndGet();
+        writers.decrementAndGet();
+      }
+    }
+
+    int getAvailable() {
+      return available.get();
+    }
+  }
+
+  private final ConcurrentMap<Long, Stock> stocks = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, Reservation> byOrder = new ConcurrentHashMap<>();
+  private final Set<Reservation> unbound = ConcurrentHashMap.newKeySet();
+  private final Queue<Reservation> dirty = new ConcurrentLinkedQueue<>();
+  private final StockSource source;
+  private final LongSupplier clock;
+
+  /**
+   * Creates an empty ledger. Products are loaded from the source the first time they are reserved.
+   *
+   * @param source reads a product's stock from the database
+   * @param clock the current time in milliseconds, for expiring unbound reservations
+   */
+  StockLedger(StockSource source, LongSupplier clock) {
+    this.source = source;
+    this.clock = clock;
+  }
+
+  /**
+   * Reserves units of each product, all or nothing. Products whose stock is not tracked are left
+   * out of the reservation. Lines for the same product are merged.
+   *
+   * @param requested the products and quantities to reserve
+   * @return the reservation, not yet bound to an order
+   * @throws InsufficientStockException if a product does not have enough units available
+   */
+  Reservation reserve(List<Line> requested) {
+    Map<Long, Integer> merged = new LinkedHashMap<>();
+    for (Line line : requested) {
+      merged.merge(line.productId(), line.quantity(), Integer::sum);
+    }
+
+    List<Line> held = new ArrayList<>(merged.size());
+    for (Map.Entry<Long, Integer> entry : merged.entrySet()) {
+      Stock stock = stock(entry.getKey());
+      if (!stock.tracked) {
+        continue;
+      }
+      if (!stock.take(entry.getValue())) {
+        for (Line line : held) {
+          stock(line.productId()).change(line.quantity(), -line.quantity());
+        }
+        throw new InsufficientStockException(entry.getKey());
+      }
+      held.add(new Line(entry.getKey(), entry.getValue()));
+    }
+
+    Reservation reservation =
+        new Reservation(Collections.unmodifiableList(held), clock.getAsLong(), null, null);
+    if (!reservation.isEmpty()) {
+      unbound.add(reservation);
+    }
+    return reservation;
+  }
+
+  /**
+   * Binds a reservation to the order it was made for, once that order has been saved, and marks
+   * it for writing. A reservation that expired in the meantime takes its units again, even if
+   * that leaves the product oversold, because the order now exists.
+   *
+   * @param reservation the reservation
+   * @param orderId the ID of the saved order
+   * @return true if the reservation had expired
+   */
+  boolean bind(Reservation reservation, Long orderId) {
+    if (reservation.isEmpty()) {
+      return false;
+    }
+    reservation.orderId = orderId;
+    // Whoever removes an unbound reservation owns it, so bind and expire never both win
+    boolean expired = !unbound.remove(reservation);
+    if (expired) {
+      // expire() releases right after removing; wait for that, then hold the units again
+      while (!reservation.status.compareAndSet(
+          ReservationStatus.RELEASED, ReservationStatus.RESERVED)) {
+        Thread.onSpinWait();
+      }
+      for (Line line : reservation.lines) {
+        stock(line.productId()).change(-line.quantity(), line.quantity());
+      }
+    }
+    byOrder.put(orderId, reservation);
+    dirty.add(reservation);
+    return expired;
+  }
+
+  /**
+   * Releases a reservation whose order was never saved, unless it already expired. It was never
+   * written, so nothing is marked dirty.
+   *
+   * @param reservation the reservation
+   */
+  void discard(Reservation reservation) {
+    if (unbound.remove(reservation)) {
+      reservation.status.set(ReservationStatus.RELEASED);
+      giveBack(reservation);
+    }
+  }
+
+  /**
+   * Returns the reservation of an order known to this ledger.
+   *
+   * @param orderId the order ID
+   * @return the reservation, or null if the ledger has none for the order
+   */
+  Reservation find(Long orderId) {
+    return byOrder.get(orderId);
+  }
+
+  /**
+   * Takes over a reservation that was persisted but is not in memory, for example one made before
+   * a restart. Its units are already subtracted from the database's available count.
+   *
+   * @param orderId the order ID
+   * @param lines the persisted reserved lines
+   * @return the ledger's reservation for the order, which may have been adopted concurrently
+   */
+  Reservation adopt(Long orderId, List<Line> lines) {
+    Reservation adopted =
+        new Reservation(List.copyOf(lines), clock.getAsLong(), orderId, ReservationStatus.RESERVED);
+    Reservation existing = byOrder.putIfAbsent(orderId, adopted);
+    return existing != null ? existing : adopted;
+  }
+
+  /**
+   * Puts a reservation's units back on sale.
+   *
+   * @param reservation the reservation
+   * @return true if this call released it, false if it was already committed or released
+   */
+  boolean release(Reservation reservation) {
+    if (!reservation.status.compareAndSet(
+        ReservationStatus.RESERVED, ReservationStatus.RELEASED)) {
+      return false;
+    }
+    giveBack(reservation);
+    dirty.add(reservation);
+    return true;
+  }
+
+  /**
+   * Marks a reservation's units as sold. The available count is unchanged: the units leave the
+   * shelf and the reservation at once.
+   *
+   * @param reservation the reservation
+   * @return true if this call committed it, false if it was already committed or released
+   */
+  boolean commit(Reservation reservation) {
+    if (!reservation.status.compareAndSet(
+        ReservationStatus.RESERVED, ReservationStatus.COMMITTED)) {
+      return false;
+    }
+    dirty.add(reservation);
+    return true;
+  }
+
+  /**
+   * Releases unbound reservations older than the timeout; their order transaction never finished.
+   *
+   * @param timeoutMillis how long a reservation may stay unbound
+   * @return the number of reservations released
+   */
+  int expire(long timeoutMillis) {
+    long cutoff = clock.getAsLong() - timeoutMillis;
+    int expired = 0;
+    for (Reservation reservation : unbound) {
+      if (reservation.createdAtMillis <= cutoff && unbound.remove(reservation)) {
+        reservation.status.set(ReservationStatus.RELEASED);
+        giveBack(reservation);
+        expired++;
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * Removes up to {@code max} reservations from the dirty queue, skipping those whose status is
+   * already written.
+   *
+   * @param max the most reservations to return
+   * @return distinct reservations that need writing
+   */
+  List<Reservation> drainDirty(int max) {
+    Set<Reservation> drained = Collections.newSetFromMap(new IdentityHashMap<>());
+    Reservation reservation;
+    while (drained.size() < max && (reservation = dirty.poll()) != null) {
+      if (reservation.getStatus() != reservation.persisted) {
+        drained.add(reservation);
+      }
+    }
+    return new ArrayList<>(drained);
+  }
+
+  /**
+   * Returns reservations whose write failed to the dirty queue.
+   *
+   * @param reservations the reservations to write again
+   */
+  void requeue(List<Reservation> reservations) {
+    dirty.addAll(reservations);
+  }
+
+  /**
+   * Records that a reservation's status was written to the database. Settled reservations are
+   * forgotten once written, after which the database alone remembers them.
+   *
+   * @param reservation the reservation
+   * @param written the status that was written
+   */
+  void flushed(Reservation reservation, ReservationStatus written) {
+    for (Line line : reservation.lines) {
+      int delta = taken(written, line.quantity()) - taken(reservation.persisted, line.quantity());
+      if (delta != 0) {
+        stock(line.productId()).change(0, -delta);
+      }
+    }
+    reservation.persisted = written;
+    if (written != ReservationStatus.RESERVED) {
+      byOrder.remove(reservation.orderId, reservation);
+    }
+  }
+
+  /**
+   * Returns the products this ledger has loaded.
+   *
+   * @return a snapshot of the product IDs
+   */
+  Set<Long> productIds() {
+    return Set.copyOf(stocks.keySet());
+  }
+
+  /**
+   * Corrects a product's available count against the database. Skipped, returning 0, if the
+   * product changed while it was being read; the next reconciliation tries again.
+   *
+   * @param productId the product ID
+   * @param databaseAvailable units on hand minus persisted reserved units, or null if the product
+   *     is not tracked (any more)
+   * @return the correction applied to the available count
+   */
+  int reconcile(Long productId, Integer databaseAvailable) {
+    Stock stock = stocks.get(productId);
+    if (stock == null) {
+      return 0;
+    }
+    if (databaseAvailable == null) {
+      stock.tracked = false;
+      return 0;
+    }
+    if (stock.writers.get() != 0) {
+      return 0;
+    }
+    long version = stock.version.get();
+    int drift = databaseAvailable - stock.unflushed.get() - stock.available.get();
+    if (stock.writers.get() != 0 || stock.version.get() != version) {
+      return 0;
+    }
+    if (drift != 0) {
+      stock.change(drift, 0);
+    }
+    stock.tracked = true;
+    return drift;
+  }
+
+  /**
+   * Returns the units available for new orders, loading the product if needed.
+   *
+   * @param productId the product ID
+   * @return the available units, or null if the product's stock is not tracked
+   */
+  Integer available(Long productId) {
+    Stock stock = stock(productId);
+    return stock.tracked ? stock.getAvailable() : null;
+  }
+
+  /**
+   * Returns the number of reservations held in memory, bound or not.
+   *
+   * @return the number of reservations
+   */
+  int size() {
+    return byOrder.size() + unbound.size();
+  }
+
+  private Stock stock(Long productId) {
+    return stocks.computeIfAbsent(
+        productId,
+        id -> {
+          Stock stock = new Stock();
+          Integer available = source.available(id);
+          if (available != null) {
+            stock.available.set(available);
+            stock.tracked = true;
+          }
+          return stock;
+        });
+  }
+
+  private void giveBack(Reservation reservation) {
+    for (Line line : reservation.lines) {
+      stock(line.productId()).change(line.quantity(), -line.quantity());
+    }
+  }
+
+  /** Units a reservation line takes from the available count in a given status. */
+  private static int taken(ReservationStatus status, int quantity) {
+    return status == ReservationStatus.RESERVED || status == ReservationStatus.COMMITTED
+        ? quantity
+        : 0;
+  }
+}
@@ -5,6 +5,7 @@ import com.boozebuddies.entity.User;
 import com.boozebuddies.exception.UserAlreadyExistsException;
 import com.boozebuddies.exception.UserNotFoundException;
 import com.boozebuddies.model.Role;
+import com.boozebuddies.repository.RefreshTokenRepository;
 import com.boozebuddies.repository.UserRepository;
 import com.boozebuddies.service.UserService;
 import com.boozebuddies.service.ValidationService;
@@ -30,6 +31,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
 
   private final UserRepository userRepository;
+  private final RefreshTokenRepository refreshTokenRepository;
   private final ValidationService validationService;
   private final PasswordEncoder passwordEncoder;
 
@@ -37,6 +39,7 @@ public class UserServiceImpl implements UserService {
    * Constructs a {@code UserServiceImpl} instance.
    *
    * @param userRepository the repository for user persistence
+   * @param refreshTokenRepository the repository of issued refresh tokens
    * @param validationService the service for validating user data such as email, password, and age
    * @param passwordEncoder the encoder for securing user passwords; defaults to {@link
    *     BCryptPasswordEncoder} if null
@@ -44,9 +47,11 @@ public class UserServiceImpl implements UserService {
   @Autowired
   public UserServiceImpl(
       UserRepository userRepository,
+      RefreshTokenRepository refreshTokenRepository,
       ValidationService validationService,
       PasswordEncoder passwordEncoder) {
     this.userRepository = userRepository;
+    this.refreshTokenRepository = refreshTokenRepository;
     this.validationService = validationService;
     this.passwordEncoder = passwordEncoder != null ? passwordEncoder : new BCryptPasswordEncoder();
   }
@@ -244,63 +249,29 @@ public class UserServiceImpl implements UserService {
   }
 
   /**
-   * Saves a refresh token for a user with an expiration date.
+   * Replaces a user's stored password hash.
    *
-   * @param userId the ID of the user
-   * @param refreshToken the token to save
-   * @param expiryDate the date when the token expires
+   * @param userId the ID of the user to update
+   * @param passwordHash the new hash
    */
   @Override
   @Transactional
-  public void saveRefreshToken(Long userId, String refreshToken, LocalDateTime expiryDate) {
+  public void updatePasswordHash(Long userId, String passwordHash) {
     User user = findById(userId);
-    user.setRefreshToken(refreshToken);
-    user.setRefreshTokenExpiryDate(expiryDate);
+    user.setPasswordHash(passwordHash);
     userRepository.save(user);
   }
 
   /**
-   * Checks if a given refresh token is valid and not expired.
-   *
-   * @param refreshToken the refresh token string
-   * @return {@code true} if the token is valid and active, otherwise {@code false}
-   */
-  @Override
-  public boolean isRefreshTokenValid(String refreshToken) {
-    Optional<User> userOpt = userRepository.findByRefreshToken(refreshToken);
-    if (userOpt.isEmpty()) {
-      return false;
-    }
-
-    User user = userOpt.get();
-    return user.isActive()
-        && user.getRefreshTokenExpiryDate() != null
-        && user.getRefreshTokenExpiryDate().isAfter(LocalDateTime.now());
-  }
-
-  /**
-   * Retrieves a user by their refresh token.
-   *
-   * @param refreshToken the refresh token
-   * @return an {@code Optional<User>} if found, otherwise empty
-   */
-  @Override
-  public Optional<User> findByRefreshToken(String refreshToken) {
-    return userRepository.findByRefreshToken(refreshToken);
-  }
-
-  /**
-   * Revokes a user's refresh token, making it invalid for future authentication.
+   * Revokes all of a user's refresh tokens, making them invalid for future authentication.
    *
    * @param userId the ID of the user
    */
   @Override
   @Transactional
   public void revokeRefreshToken(Long userId) {
-    User user = findById(userId);
-    user.setRefreshToken(null);
-    user.setRefreshTokenExpiryDate(null);
-    userRepository.save(user);
+    findById(userId);
+    refreshTokenRepository.deleteByUserId(userId);
   }
 
   /**
@@ -313,9 +284,8 @@ public class UserServiceImpl implements UserService {
   public void deactivateUser(Long userId) {
     User user = findById(userId);
     user.setActive(false);
-    user.setRefreshToken(null);
-    user.setRefreshTokenExpiryDate(null);
     userRepository.save(user);
+    refreshTokenRepository.deleteByUserId(userId);
   }
 
   /**
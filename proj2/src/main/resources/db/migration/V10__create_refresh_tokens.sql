@@ -0,0 +1,36 @@
+-- ===================================================================
+-- V10__create_refresh_tokens.sql
+-- Refresh tokens move out of users into their own table, one row per
+-- issued token, so a user can stay signed in on several devices.
+-- Only the SHA-256 of a token is stored, in a fixed-size BINARY(32)
+-- key, and a refresh is one unique-index lookup by that hash.
+-- Every token rotated from the same login shares a session_id. A
+-- rotated token keeps its row, with used_at set, until it expires,
+-- so presenting it again can be detected and ends the session.
+-- Existing refresh tokens are dropped; users sign in again once.
+-- ===================================================================
+
+CREATE TABLE refresh_tokens (
+  id          BIGINT PRIMARY KEY AUTO_INCREMENT,
+  user_id     BIGINT     NOT NULL,
+  token_hash  BINARY(32) NOT NULL,
+  session_id  BIGINT     NOT NULL,
+  expires_at  TIMESTAMP  NOT NULL,
+  used_at     TIMESTAMP  NULL,
+  created_at  TIMESTAMP  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT uq_refresh_tokens_token_hash UNIQUE (token_hash),
+  CONSTRAINT fk_refresh_tokens_user
+      FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- deleteByUserId (logout, deactivation)
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens(user_id);
+-- deleteBySessionId (reuse of a rotated token)
+CREATE INDEX idx_refresh_tokens_session ON refresh_tokens(session_id);
+-- deleteExpired (batch cleanup)
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens(expires_at);
+
+ALTER TABLE users
+  DROP INDEX idx_users_refresh_token,
+  DROP COLUMN refresh_token,
+  DROP COLUMN refresh_token_expiry;
@@ -0,0 +1,33 @@
+-- ===================================================================
+-- V11__create_order_search.sql
+-- Order search table. One row per order, written in the same
+-- transaction as the order, holding the merchant name and the item
+-- names in a single FULLTEXT-indexed column next to the user and
+-- merchant a search is scoped to. Searches become one FULLTEXT lookup
+-- instead of a LIKE '%...%' scan of order_items joined to merchants,
+-- and page without DISTINCT. Existing orders are backfilled here.
+-- ===================================================================
+
+CREATE TABLE order_search (
+  order_id     BIGINT    PRIMARY KEY,
+  user_id      BIGINT    NOT NULL,
+  merchant_id  BIGINT    NOT NULL,
+  created_at   TIMESTAMP NOT NULL,
+  search_text  TEXT      NOT NULL,
+  CONSTRAINT fk_order_search_order
+      FOREIGN KEY (order_id) REFERENCES orders(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- GROUP_CONCAT truncates at 1024 bytes by default
+SET SESSION group_concat_max_len = 65535;
+
+INSERT INTO order_search (order_id, user_id, merchant_id, created_at, search_text)
+SELECT o.id, o.user_id, o.merchant_id, o.created_at,
+       CONCAT_WS(' ', m.name, GROUP_CONCAT(oi.name ORDER BY oi.line_no SEPARATOR ' '))
+FROM orders o
+JOIN merchants m ON m.id = o.merchant_id
+LEFT JOIN order_items oi ON oi.order_id = o.id
+GROUP BY o.id, o.user_id, o.merchant_id, o.created_at, m.name;
+
+-- Built after the backfill, which is faster than maintaining it row by row
+CREATE FULLTEXT INDEX ft_order_search_text ON order_search(search_text);
@@ -0,0 +1,23 @@
+-- ===================================================================
+-- V12__create_broadcasts.sql
+-- System broadcasts were kept only in memory and lost on restart.
+-- They are now stored here, one row per broadcast; the newest ones
+-- are loaded back into the in-memory feed on startup. Broadcast IDs
+-- only grow, so the feed version is the newest ID.
+-- broadcast_cursors holds, per user, the ID of the newest broadcast
+-- the user has read; everything above it is unread.
+-- ===================================================================
+
+CREATE TABLE broadcasts (
+  id          BIGINT PRIMARY KEY AUTO_INCREMENT,
+  message     VARCHAR(1000) NOT NULL,
+  created_at  TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE broadcast_cursors (
+  user_id       BIGINT    PRIMARY KEY,
+  last_read_id  BIGINT    NOT NULL,
+  updated_at    TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT fk_broadcast_cursors_user
+      FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
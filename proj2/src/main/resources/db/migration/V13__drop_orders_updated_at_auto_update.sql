@@ -0,0 +1,11 @@
+-- ===================================================================
+-- V13__drop_orders_updated_at_auto_update.sql
+-- V9 kept ON UPDATE CURRENT_TIMESTAMP on orders.updated_at, so MySQL
+-- moved the change feed watermark on every row update, including the
+-- targeted ETA refresh that is meant to leave it alone. Order.preUpdate
+-- already sets the column whenever the order itself changes, so the
+-- database no longer does.
+-- ===================================================================
+
+ALTER TABLE orders
+  MODIFY COLUMN updated_at TIMESTAMP(6) NULL DEFAULT NULL;
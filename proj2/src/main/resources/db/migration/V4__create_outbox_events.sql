@@ -0,0 +1,24 @@
+-- ===================================================================
+-- V4__create_outbox_events.sql
+-- Transactional outbox for order, payment and delivery domain events.
+-- Rows are written in the same transaction as the state change and
+-- drained by OutboxRelay, oldest first within each aggregate.
+-- ===================================================================
+
+CREATE TABLE outbox_events (
+  id              BIGINT PRIMARY KEY AUTO_INCREMENT,
+  aggregate_type  VARCHAR(40)   NOT NULL,
+  aggregate_id    BIGINT        NOT NULL,
+  event_type      VARCHAR(60)   NOT NULL,
+  payload         TEXT          NOT NULL,
+  created_at      TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  published_at    TIMESTAMP     NULL,
+  attempts        INT           NOT NULL DEFAULT 0,
+  next_attempt_at TIMESTAMP     NULL,
+  last_error      VARCHAR(1000) NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Relay poll: unpublished events in id order
+CREATE INDEX idx_outbox_unpublished ON outbox_events(published_at, id);
+-- Per-aggregate ordering check and retention cleanup
+CREATE INDEX idx_outbox_aggregate ON outbox_events(aggregate_type, aggregate_id, published_at, id);
@@ -0,0 +1,12 @@
+-- ===================================================================
+-- V5__add_optimistic_lock_versions.sql
+-- Optimistic-lock version columns for orders, deliveries and drivers.
+-- Existing rows start at version 0; Hibernate increments the column on
+-- every versioned update and rejects writes made from a stale copy.
+-- ===================================================================
+
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE deliveries ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE drivers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
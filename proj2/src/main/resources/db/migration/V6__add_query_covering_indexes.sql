@@ -0,0 +1,91 @@
+-- ===================================================================
+-- V6__add_query_covering_indexes.sql
+-- Composite indexes for the repository queries V1 left unsupported.
+-- Each index leads with the equality columns of its query, then the
+-- range or ORDER BY column, and where cheap ends with the aggregated
+-- column so AVG/SUM/COUNT are answered from the index alone.
+-- Leading-wildcard LIKE searches cannot use a B-tree and are not
+-- covered here.
+-- ===================================================================
+
+-- ============= RATINGS ==============
+-- findMerchantReviews / findProductReviews ORDER BY created_at DESC;
+-- computeAverageRatingFor* and count*Reviews read rating from the index
+CREATE INDEX idx_ratings_merchant_created ON ratings(merchant_id, created_at, rating);
+CREATE INDEX idx_ratings_product_created ON ratings(product_id, created_at, rating);
+CREATE INDEX idx_ratings_driver_created ON ratings(driver_id, created_at, rating);
+
+-- ============= DELIVERIES ==============
+-- findByDriverIdAndStatus(In), countCompletedDeliveriesByDriverAndDateRange
+-- and findAverageDeliveryTimeByDriver (covered: pickup and delivered times)
+CREATE INDEX idx_deliveries_driver_status
+  ON deliveries(driver_id, status, delivered_time, pickup_time);
+-- findRecentDeliveriesByDriver ORDER BY created_at DESC LIMIT n
+CREATE INDEX idx_deliveries_driver_created ON deliveries(driver_id, created_at);
+-- findOverdueDeliveries: estimated_delivery_time < now AND status NOT IN (...)
+CREATE INDEX idx_deliveries_eta_status ON deliveries(estimated_delivery_time, status);
+-- findByDeliveryDateBetween
+CREATE INDEX idx_deliveries_created ON deliveries(created_at);
+
+-- ============= ORDERS ==============
+-- findByDriverId ORDER BY created_at DESC
+CREATE INDEX idx_orders_driver_created ON orders(driver_id, created_at);
+-- findByMerchantId ORDER BY created_at DESC (list and paged)
+CREATE INDEX idx_orders_merchant_created ON orders(merchant_id, created_at);
+-- findActiveByMerchant: merchant_id = ? AND status IN (...) ORDER BY created_at
+DROP INDEX idx_orders_merchant_status ON orders;
+CREATE INDEX idx_orders_merchant_status ON orders(merchant_id, status, created_at);
+-- findAvailableForAssignment: status IN (...) AND driver_id IS NULL
+CREATE INDEX idx_orders_status_driver ON orders(status, driver_id);
+-- sumDeliveredTotalsByMerchant (covered: GROUP BY merchant_id, SUM(total_amount))
+CREATE INDEX idx_orders_status_merchant_total ON orders(status, merchant_id, total_amount);
+-- findByStatus is served by the two indexes above
+DROP INDEX idx_orders_status ON orders;
+
+-- ============= PAYMENTS ==============
+-- findByUser_Id, usually sorted by created_at
+CREATE INDEX idx_payments_user_created ON payments(user_id, created_at);
+-- findByStatus and sumAmountByStatus (covered: SUM(amount))
+CREATE INDEX idx_payments_status_amount ON payments(status, amount);
+-- findByCreatedAtBetween
+CREATE INDEX idx_payments_created ON payments(created_at);
+-- findByTransactionId
+CREATE INDEX idx_payments_transaction ON payments(transaction_id);
+
+-- ============= DRIVERS ==============
+-- findAvailableCertifiedDrivers
+CREATE INDEX idx_drivers_available_cert ON drivers(is_available, certification_status);
+-- findAvailableDriversByRating ORDER BY rating DESC
+CREATE INDEX idx_drivers_available_rating ON drivers(is_available, rating);
+-- findByMinDeliveries
+CREATE INDEX idx_drivers_total_deliveries ON drivers(total_deliveries);
+-- findByPhone / existsByPhone, existsByLicensePlate
+CREATE INDEX idx_drivers_phone ON drivers(phone);
+CREATE INDEX idx_drivers_license_plate ON drivers(license_plate);
+
+-- ============= MERCHANTS ==============
+-- findTopRatedActiveMerchants ORDER BY rating DESC
+CREATE INDEX idx_merchants_active_rating ON merchants(is_active, rating);
+-- findRecentActiveMerchants ORDER BY created_at DESC LIMIT n
+CREATE INDEX idx_merchants_active_created ON merchants(is_active, created_at);
+-- findByName / existsByName
+CREATE INDEX idx_merchants_name ON merchants(name);
+
+-- ============= PRODUCTS ==============
+-- findByMerchantIdAndAvailableTrue, countAvailableProductsByMerchant,
+-- findTopRecommendedProduct
+CREATE INDEX idx_products_merchant_available ON products(merchant_id, available);
+-- findByCategoryIdAndAvailableTrue
+CREATE INDEX idx_products_category_available ON products(category_id, available);
+-- findByPriceRange / findByAlcoholContentRange
+CREATE INDEX idx_products_available_price ON products(available, price);
+CREATE INDEX idx_products_available_alcohol ON products(available, alcohol_content);
+
+-- ============= USERS ==============
+-- findByRole joins user_roles on role; the primary key leads with user_id
+CREATE INDEX idx_user_roles_role ON user_roles(role, user_id);
+-- findUsersOfLegalAge: date_of_birth <= cutoff
+CREATE INDEX idx_users_date_of_birth ON users(date_of_birth);
+-- findEligibleUsers and the active / email-verified pages
+CREATE INDEX idx_users_active_verified
+  ON users(is_active, is_email_verified, age_verified);
@@ -0,0 +1,32 @@
+-- ===================================================================
+-- V7__add_catalog_modification_watermarks.sql
+-- Microsecond updated_at columns for products, categories and
+-- merchants, maintained by MySQL on every change. The catalog
+-- endpoints derive their ETags from COUNT(*) and MAX(updated_at), so
+-- the indexes below let those aggregates be read from the index alone.
+-- ===================================================================
+
+ALTER TABLE products
+  ADD COLUMN updated_at TIMESTAMP(6) NOT NULL
+      DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+ALTER TABLE categories
+  ADD COLUMN updated_at TIMESTAMP(6) NOT NULL
+      DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+-- Second precision could hide two changes within the same second
+ALTER TABLE merchants
+  MODIFY COLUMN updated_at TIMESTAMP(6) NOT NULL
+      DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+-- ============= PRODUCTS =================
+-- findAvailableWatermark
+CREATE INDEX idx_products_available_updated ON products(available, updated_at);
+-- findAvailableWatermarkByMerchant; supersedes (merchant_id, available)
+CREATE INDEX idx_products_merchant_available_updated
+  ON products(merchant_id, available, updated_at);
+DROP INDEX idx_products_merchant_available ON products;
+
+-- ============= MERCHANTS =================
+-- findWatermark
+CREATE INDEX idx_merchants_updated ON merchants(updated_at);
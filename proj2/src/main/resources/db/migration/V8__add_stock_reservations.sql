@@ -0,0 +1,32 @@
+-- ===================================================================
+-- V8__add_stock_reservations.sql
+-- Stock tracking for products. stock_quantity is the number of units
+-- on hand; NULL means the product is not stock-tracked and never
+-- sells out, which keeps every existing product orderable.
+-- stock_reservations is the write-behind copy of the in-memory ledger:
+-- one row per order and product, RESERVED until the order is
+-- delivered (COMMITTED, and stock_quantity is decremented) or
+-- cancelled (RELEASED). Units available for new orders are
+-- stock_quantity minus the RESERVED quantities.
+-- ===================================================================
+
+ALTER TABLE products ADD COLUMN stock_quantity INT NULL;
+
+CREATE TABLE stock_reservations (
+  id          BIGINT PRIMARY KEY AUTO_INCREMENT,
+  order_id    BIGINT      NOT NULL,
+  product_id  BIGINT      NOT NULL,
+  quantity    INT         NOT NULL,
+  status      VARCHAR(20) NOT NULL,
+  created_at  TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at  TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT uq_stock_reservations_order_product UNIQUE (order_id, product_id),
+  CONSTRAINT fk_stock_reservations_order
+      FOREIGN KEY (order_id) REFERENCES orders(id) ON DELETE CASCADE,
+  CONSTRAINT fk_stock_reservations_product
+      FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- sumReservedByProduct(s): RESERVED quantities per product, from the index
+CREATE INDEX idx_stock_reservations_product_status
+  ON stock_reservations(product_id, status, quantity);
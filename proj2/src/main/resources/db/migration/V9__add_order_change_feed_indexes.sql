@@ -0,0 +1,21 @@
+-- ===================================================================
+-- V9__add_order_change_feed_indexes.sql
+-- Keyset indexes for the order change feeds of merchant boards and
+-- drivers. Each feed reads "scope = ? AND (updated_at, id) > (?, ?)
+-- ORDER BY updated_at, id LIMIT n", so its cost follows the number of
+-- changed rows rather than the size of the board.
+-- ===================================================================
+
+-- Microsecond precision, as for the catalog in V7, so a watermark
+-- rarely ties with later changes
+ALTER TABLE orders
+  MODIFY COLUMN updated_at TIMESTAMP(6) NULL
+      DEFAULT NULL ON UPDATE CURRENT_TIMESTAMP(6);
+
+-- Rows that were never updated would otherwise never enter a feed
+UPDATE orders SET updated_at = created_at WHERE updated_at IS NULL;
+
+-- findMerchantChanges
+CREATE INDEX idx_orders_merchant_updated ON orders(merchant_id, updated_at, id);
+-- findDriverChanges
+CREATE INDEX idx_orders_driver_updated ON orders(driver_id, updated_at, id);
@@ -0,0 +1,93 @@
+package com.boozebuddies.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.servlet.ServletException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("ConnectionPoolAdmissionFilter Tests")
+class ConnectionPoolAdmissionFilterTest {
+
+  private static MockHttpServletRequest apiRequest() {
+    return new MockHttpServletRequest("GET", "/api/orders/1");
+  }
+
+  @Test
+  void testRequestWithinLimit_PassesThroughAndReleasesSlot() throws Exception {
+    ConnectionPoolAdmissionFilter filter = new ConnectionPoolAdmissionFilter(1, 10);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(apiRequest(), response, chain);
+
+    assertEquals(200, response.getStatus());
+    assertNotNull(chain.getRequest());
+    assertEquals(0, filter.getInFlightRequests());
+  }
+
+  @Test
+  void testRequestOverLimit_Returns503WithRetryAfter() throws Exception {
+    ConnectionPoolAdmissionFilter filter = new ConnectionPoolAdmissionFilter(1, 10);
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    AtomicInteger innerCalls = new AtomicInteger();
+
+    // The outer request holds the only slot while the nested one tries to get in
+    filter.doFilter(
+        apiRequest(),
+        new MockHttpServletResponse(),
+        (request, response) -> {
+          assertEquals(1, filter.getInFlightRequests());
+          filter.doFilter(apiRequest(), rejected, (req, res) -> innerCalls.incrementAndGet());
+        });
+
+    assertEquals(503, rejected.getStatus());
+    assertEquals("1", rejected.getHeader("Retry-After"));
+    assertTrue(rejected.getContentAsString().contains("\"success\":false"));
+    assertEquals(0, innerCalls.get());
+    assertEquals(0, filter.getInFlightRequests());
+  }
+
+  @Test
+  void testChainFailure_StillReleasesSlot() {
+    ConnectionPoolAdmissionFilter filter = new ConnectionPoolAdmissionFilter(1, 10);
+
+    assertThrows(
+        ServletException.class,
+        () ->
+            filter.doFilter(
+                apiRequest(),
+                new MockHttpServletResponse(),
+                (request, response) -> {
+                  throw new ServletException("boom");
+                }));
+
+    assertEquals(0, filter.getInFlightRequests());
+  }
+
+  @Test
+  void testNonApiPath_IsNotLimited() throws Exception {
+    ConnectionPoolAdmissionFilter filter = new ConnectionPoolAdmissionFilter(1, 10);
+    MockHttpServletResponse health = new MockHttpServletResponse();
+
+    filter.doFilter(
+        apiRequest(),
+        new MockHttpServletResponse(),
+        (request, response) ->
+            filter.doFilter(
+                new MockHttpServletRequest("GET", "/actuator/health"),
+                health,
+                new MockFilterChain()));
+
+    assertEquals(200, health.getStatus());
+  }
+
+  @Test
+  void testNonPositiveLimit_Throws() {
+    assertThrows(IllegalArgumentException.class, () -> new ConnectionPoolAdmissionFilter(0, 10));
+  }
+}
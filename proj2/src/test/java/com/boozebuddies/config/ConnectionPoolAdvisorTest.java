@@ -0,0 +1,118 @@
+package com.boozebuddies.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConnectionPoolAdvisor Tests")
+class ConnectionPoolAdvisorTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final HikariDataSource pool = pool("primary", 10);
+
+  @AfterEach
+  void tearDown() {
+    pool.close();
+  }
+
+  /** Creates an unstarted pool over an in-memory H2 database. */
+  private static HikariDataSource pool(String name, int maximumPoolSize) {
+    HikariDataSource pool = new HikariDataSource();
+    pool.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    pool.setPoolName(name);
+    pool.setMaximumPoolSize(maximumPoolSize);
+    return pool;
+  }
+
+  private ConnectionPoolAdvisor advisor(int window, boolean autoApply) {
+    return new ConnectionPoolAdvisor(List.of(pool), meterRegistry, window, 0.25, 2, 20, autoApply);
+  }
+
+  private double gauge() {
+    return meterRegistry
+        .get("hikaricp.connections.recommended")
+        .tag("pool", "primary")
+        .gauge()
+        .value();
+  }
+
+  @Test
+  @DisplayName("the configured size is reported until the window is full")
+  void partialWindow_keepsConfiguredSize() {
+    ConnectionPoolAdvisor advisor = advisor(4, false);
+
+    advisor.record(pool, 1);
+    advisor.record(pool, 1);
+    advisor.record(pool, 1);
+
+    assertEquals(10, advisor.recommendedSize("primary"));
+    assertEquals(10.0, gauge());
+  }
+
+  @Test
+  @DisplayName("the recommendation is the p95 demand plus headroom")
+  void fullWindow_recommendsPercentileWithHeadroom() {
+    ConnectionPoolAdvisor advisor = advisor(20, false);
+
+    for (int i = 0; i < 19; i++) {
+      advisor.record(pool, 4);
+    }
+    // A single spike above the 95th percentile does not size the pool
+    advisor.record(pool, 18);
+
+    assertEquals(5, advisor.recommendedSize("primary"));
+    assertEquals(5.0, gauge());
+    assertEquals(10, pool.getMaximumPoolSize());
+  }
+
+  @Test
+  @DisplayName("the recommendation follows the window and stays within min and max size")
+  void slidingWindow_isClamped() {
+    ConnectionPoolAdvisor advisor = advisor(2, false);
+
+    advisor.record(pool, 0);
+    advisor.record(pool, 0);
+    assertEquals(2, advisor.recommendedSize("primary"));
+
+    advisor.record(pool, 40);
+    advisor.record(pool, 40);
+    assertEquals(20, advisor.recommendedSize("primary"));
+  }
+
+  @Test
+  @DisplayName("auto-apply resizes the pool to the recommendation")
+  void autoApply_resizesPool() {
+    ConnectionPoolAdvisor advisor = advisor(2, true);
+
+    advisor.record(pool, 12);
+    advisor.record(pool, 12);
+
+    assertEquals(15, pool.getMaximumPoolSize());
+  }
+
+  @Test
+  @DisplayName("sample counts the connections in use on started pools")
+  void sample_countsActiveConnections() throws Exception {
+    ConnectionPoolAdvisor advisor = advisor(1, false);
+
+    advisor.sample();
+    assertNull(advisor.recommendedSize("primary"));
+
+    try (Connection first = pool.getConnection();
+        Connection second = pool.getConnection();
+        Connection third = pool.getConnection();
+        Connection fourth = pool.getConnection()) {
+      advisor.sample();
+    }
+
+    assertEquals(5, advisor.recommendedSize("primary"));
+  }
+}
@@ -0,0 +1,149 @@
+package com.boozebuddies.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("ParallelLookups Tests")
+class ParallelLookupsTest {
+
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private final ParallelLookups lookups = new ParallelLookups(transactionManager, 4, 1000, false);
+
+  @AfterEach
+  void tearDown() {
+    lookups.destroy();
+  }
+
+  /** Waits for the latch, failing the lookup rather than hanging the test */
+  private static void await(CountDownLatch latch, long timeoutMs) {
+    try {
+      if (!latch.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+        throw new IllegalStateException("latch not released");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  void testForkedLookups_RunConcurrently() throws Exception {
+    // Each lookup only finishes once both have started
+    CountDownLatch started = new CountDownLatch(2);
+
+    try (ParallelLookups.Scope scope = lookups.open()) {
+      ParallelLookups.Lookup<String> first =
+          scope.fork(
+              () -> {
+                started.countDown();
+                await(started, 500);
+                return "order";
+              },
+              true);
+      ParallelLookups.Lookup<Integer> second =
+          scope.fork(
+              () -> {
+                started.countDown();
+                await(started, 500);
+                return 3;
+              },
+              true);
+      scope.join();
+
+      assertEquals("order", first.get());
+      assertEquals(3, second.get());
+    }
+    verify(transactionManager, times(2)).getTransaction(argThat(def -> def.isReadOnly()));
+  }
+
+  @Test
+  void testDefaultFork_ReadsFromThePrimary() throws Exception {
+    try (ParallelLookups.Scope scope = lookups.open()) {
+      ParallelLookups.Lookup<String> lookup = scope.fork(() -> "order");
+      scope.join();
+
+      assertEquals("order", lookup.get());
+    }
+    verify(transactionManager).getTransaction(argThat(def -> !def.isReadOnly()));
+    verify(transactionManager, never()).getTransaction(argThat(def -> def.isReadOnly()));
+  }
+
+  @Test
+  void testFailedLookup_RethrownWithoutWaitingForTheOthers() {
+    CountDownLatch never = new CountDownLatch(1);
+
+    try (ParallelLookups.Scope scope = lookups.open()) {
+      ParallelLookups.Lookup<String> slow =
+          scope.fork(
+              () -> {
+                await(never, 900);
+                return "late";
+              });
+      scope.fork(
+          () -> {
+            throw new IllegalArgumentException("Database error");
+          });
+
+      long start = System.nanoTime();
+      IllegalArgumentException e = assertThrows(IllegalArgumentException.class, scope::join);
+      assertEquals("Database error", e.getMessage());
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 800);
+      assertThrows(IllegalStateException.class, slow::get);
+    } finally {
+      never.countDown();
+    }
+  }
+
+  @Test
+  void testSlowLookup_TimesOut() {
+    ParallelLookups quick = new ParallelLookups(transactionManager, 2, 50, false);
+    CountDownLatch never = new CountDownLatch(1);
+    try (ParallelLookups.Scope scope = quick.open()) {
+      scope.fork(
+          () -> {
+            await(never, 1000);
+            return null;
+          });
+
+      assertThrows(TimeoutException.class, scope::join);
+    } finally {
+      never.countDown();
+      quick.destroy();
+    }
+  }
+
+  @Test
+  void testSaturatedPool_RunsLookupOnCallingThread() throws Exception {
+    ParallelLookups single = new ParallelLookups(transactionManager, 1, 1000, false);
+    CountDownLatch release = new CountDownLatch(1);
+    try (ParallelLookups.Scope scope = single.open()) {
+      scope.fork(
+          () -> {
+            await(release, 500);
+            return null;
+          });
+      ParallelLookups.Lookup<Thread> second =
+          scope.fork(
+              () -> {
+                release.countDown();
+                return Thread.currentThread();
+              });
+      scope.join();
+
+      assertSame(Thread.currentThread(), second.get());
+    } finally {
+      release.countDown();
+      single.destroy();
+    }
+  }
+}
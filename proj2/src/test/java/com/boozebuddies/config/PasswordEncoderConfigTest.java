@@ -0,0 +1,69 @@
+package com.boozebuddies.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@DisplayName("PasswordEncoderConfig Tests")
+class PasswordEncoderConfigTest {
+
+  private final PasswordEncoderConfig config = new PasswordEncoderConfig();
+
+  private PasswordEncoder bcrypt(int strength) {
+    return config.passwordEncoder("bcrypt", strength, 16384, 2);
+  }
+
+  @Test
+  @DisplayName("new hashes carry the configured scheme's prefix")
+  void encode_prefixesScheme() {
+    PasswordEncoder encoder = bcrypt(4);
+
+    String hash = encoder.encode("Password123");
+
+    assertTrue(hash.startsWith("{bcrypt}$2a$04$"));
+    assertTrue(encoder.matches("Password123", hash));
+    assertFalse(encoder.upgradeEncoding(hash));
+  }
+
+  @Test
+  @DisplayName("hashes stored without a prefix still verify and are marked for upgrade")
+  void legacyHash_matchesAndNeedsUpgrade() {
+    PasswordEncoder encoder = bcrypt(4);
+    String legacy = new BCryptPasswordEncoder(4).encode("Password123");
+
+    assertTrue(encoder.matches("Password123", legacy));
+    assertFalse(encoder.matches("WrongPassword", legacy));
+    assertTrue(encoder.upgradeEncoding(legacy));
+  }
+
+  @Test
+  @DisplayName("hashes with a lower cost than configured are marked for upgrade")
+  void weakerCost_needsUpgrade() {
+    String weak = bcrypt(4).encode("Password123");
+
+    PasswordEncoder stronger = bcrypt(5);
+
+    assertTrue(stronger.matches("Password123", weak));
+    assertTrue(stronger.upgradeEncoding(weak));
+  }
+
+  @Test
+  @DisplayName("switching to argon2 marks bcrypt hashes for upgrade")
+  void argon2_upgradesBcrypt() {
+    String bcryptHash = bcrypt(4).encode("Password123");
+
+    PasswordEncoder argon2 = config.passwordEncoder("argon2", 4, 16384, 2);
+
+    assertTrue(argon2.matches("Password123", bcryptHash));
+    assertTrue(argon2.upgradeEncoding(bcryptHash));
+  }
+
+  @Test
+  @DisplayName("an unknown scheme fails at startup")
+  void unknownScheme_throws() {
+    assertThrows(IllegalStateException.class, () -> config.passwordEncoder("md5", 10, 16384, 2));
+  }
+}
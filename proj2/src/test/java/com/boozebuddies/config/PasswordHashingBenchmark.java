@@ -0,0 +1,147 @@
+package com.boozebuddies.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Calibrates the password hashing parameters of {@link PasswordEncoderConfig} to a target login
+ * latency on the machine it runs on.
+ *
+ * <p>JMH measures one password check (what a login costs) for each BCrypt strength and a grid of
+ * Argon2 memory and time costs. The test then prints the strongest setting of each scheme whose
+ * mean stays within {@code -DtargetMs} (100 ms by default), along with how many logins per second
+ * one hashing thread sustains at that setting. Copy the result into {@code
+ * security.password.bcrypt.strength} or {@code security.password.argon2.*}; existing users are
+ * rehashed as they sign in.
+ *
+ * <p>Skipped by default. Run it on production-class hardware with {@code mvn test
+ * -Dtest=PasswordHashingBenchmark -Dbenchmark=true -DtargetMs=100}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+  private static final String PASSWORD = "correct horse battery staple";
+
+  /** A BCrypt hash at one strength. */
+  @State(Scope.Benchmark)
+  public static class Bcrypt {
+    @Param({"10", "11", "12", "13", "14"})
+    public int strength;
+
+    PasswordEncoder encoder;
+    String hash;
+
+    @Setup
+    public void setUp() {
+      encoder = new PasswordEncoderConfig().passwordEncoder("bcrypt", strength, 16384, 2);
+      hash = encoder.encode(PASSWORD);
+    }
+  }
+
+  /** An Argon2 hash at one memory and time cost. */
+  @State(Scope.Benchmark)
+  public static class Argon2 {
+    @Param({"16384", "32768", "65536"})
+    public int memoryKib;
+
+    @Param({"2", "3", "4"})
+    public int iterations;
+
+    PasswordEncoder encoder;
+    String hash;
+
+    @Setup
+    public void setUp() {
+      encoder = new PasswordEncoderConfig().passwordEncoder("argon2", 10, memoryKib, iterations);
+      hash = encoder.encode(PASSWORD);
+    }
+  }
+
+  @Benchmark
+  public boolean bcrypt(Bcrypt state) {
+    return state.encoder.matches(PASSWORD, state.hash);
+  }
+
+  @Benchmark
+  public boolean argon2(Argon2 state) {
+    return state.encoder.matches(PASSWORD, state.hash);
+  }
+
+  @Test
+  void calibrateToTargetLatency() throws Exception {
+    double targetMs = Double.parseDouble(System.getProperty("targetMs", "100"));
+    Collection<RunResult> results =
+        new Runner(
+                new OptionsBuilder()
+                    .include(PasswordHashingBenchmark.class.getName() + "\\.")
+                    .build())
+            .run();
+    assertFalse(results.isEmpty());
+
+    for (RunResult result : results) {
+      report(result);
+    }
+    System.out.printf("Target: %.0f ms per login%n", targetMs);
+    recommend("bcrypt", results, targetMs);
+    recommend("argon2", results, targetMs);
+  }
+
+  /** Prints the slowest setting of one scheme that still meets the target. */
+  private static void recommend(String scheme, Collection<RunResult> results, double targetMs) {
+    Optional<RunResult> best =
+        results.stream()
+            .filter(result -> result.getParams().getBenchmark().endsWith("." + scheme))
+            .filter(result -> meanMillis(result) <= targetMs)
+            .max(Comparator.comparingDouble(PasswordHashingBenchmark::meanMillis));
+    if (best.isEmpty()) {
+      System.out.printf("%s: no setting is fast enough; use the cheapest one%n", scheme);
+      return;
+    }
+    System.out.printf("%s: recommended %s%n", scheme, describe(best.get()));
+  }
+
+  private static void report(RunResult result) {
+    System.out.printf(
+        "%s %s%n", result.getParams().getBenchmark().replaceAll(".*\\.", ""), describe(result));
+  }
+
+  private static String describe(RunResult result) {
+    StringBuilder params = new StringBuilder();
+    for (String key : result.getParams().getParamsKeys()) {
+      params.append(key).append('=').append(result.getParams().getParam(key)).append(' ');
+    }
+    return String.format(
+        "%s(%.1f ms, %.1f logins/s per hashing thread)",
+        params, meanMillis(result), 1000.0 / meanMillis(result));
+  }
+
+  private static double meanMillis(RunResult result) {
+    return result.getPrimaryResult().getScore();
+  }
+}
@@ -0,0 +1,118 @@
+package com.boozebuddies.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Uses two in-memory H2 databases standing in for the primary and the replica. */
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+  private final DataSource primary = database("primary");
+  private final DataSource replica = database("replica");
+
+  /** Creates a database whose single-row {@code instance} table names the database. */
+  private static DataSource database(String name) {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("CREATE TABLE instance (name VARCHAR(20))");
+    jdbc.update("INSERT INTO instance (name) VALUES (?)", name);
+    return dataSource;
+  }
+
+  /** Reads the name of the database that served the query, inside a transaction. */
+  private static String instanceIn(DataSource routing, boolean readOnly) {
+    TransactionTemplate transaction =
+        new TransactionTemplate(new DataSourceTransactionManager(routing));
+    transaction.setReadOnly(readOnly);
+    return transaction.execute(status -> instance(routing));
+  }
+
+  /** Like {@link #instanceIn}, with replica reads allowed. */
+  private static String replicaInstanceIn(DataSource routing, boolean readOnly) {
+    try (ReadWriteRoutingDataSource.ReplicaScope scope =
+        ReadWriteRoutingDataSource.allowReplica()) {
+      return instanceIn(routing, readOnly);
+    }
+  }
+
+  private static String instance(DataSource dataSource) {
+    return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM instance", String.class);
+  }
+
+  @Test
+  void testOptedInReadOnlyTransaction_UsesReplica() {
+    DataSource routing = DataSourceConfig.readWriteRouting(primary, replica);
+
+    assertEquals("replica", replicaInstanceIn(routing, true));
+  }
+
+  @Test
+  void testReadOnlyTransactionWithoutOptIn_UsesPrimary() {
+    DataSource routing = DataSourceConfig.readWriteRouting(primary, replica);
+
+    assertEquals("primary", instanceIn(routing, true));
+  }
+
+  @Test
+  void testReadWriteTransaction_UsesPrimary() {
+    DataSource routing = DataSourceConfig.readWriteRouting(primary, replica);
+
+    assertEquals("primary", instanceIn(routing, false));
+    assertEquals("primary", replicaInstanceIn(routing, false));
+  }
+
+  @Test
+  void testReplicaScope_RestoresPreviousSettingOnClose() {
+    DataSource routing = DataSourceConfig.readWriteRouting(primary, replica);
+
+    try (ReadWriteRoutingDataSource.ReplicaScope outer =
+        ReadWriteRoutingDataSource.allowReplica()) {
+      assertEquals("replica", replicaInstanceIn(routing, true));
+      assertEquals("replica", instanceIn(routing, true));
+    }
+    assertEquals("primary", instanceIn(routing, true));
+  }
+
+  @Test
+  void testNoTransaction_UsesPrimary() {
+    DataSource routing = DataSourceConfig.readWriteRouting(primary, replica);
+
+    assertEquals("primary", instance(routing));
+  }
+
+  @Test
+  void testWriteAfterReadOnlyTransaction_GoesToPrimary() {
+    DataSource routing = DataSourceConfig.readWriteRouting(primary, replica);
+    TransactionTemplate writes = new TransactionTemplate(new DataSourceTransactionManager(routing));
+
+    assertEquals("replica", replicaInstanceIn(routing, true));
+    writes.executeWithoutResult(
+        status -> new JdbcTemplate(routing).update("UPDATE instance SET name = 'written'"));
+
+    assertEquals("written", instance(primary));
+    assertEquals("replica", instance(replica));
+  }
+
+  @Test
+  void testNoReplica_ReadOnlyTransactionFallsBackToPrimary() {
+    DataSource routing = DataSourceConfig.readWriteRouting(primary, null);
+
+    assertEquals("primary", replicaInstanceIn(routing, true));
+  }
+
+  @Test
+  void testHasReplica_ReflectsConfiguration() {
+    assertTrue(new ReadWriteRoutingDataSource(primary, replica).hasReplica());
+    assertFalse(new ReadWriteRoutingDataSource(primary, null).hasReplica());
+  }
+}
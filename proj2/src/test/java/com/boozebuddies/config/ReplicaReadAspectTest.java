@@ -0,0 +1,96 @@
+package com.boozebuddies.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Uses two in-memory H2 databases standing in for the primary and the replica. */
+@DisplayName("ReplicaReadAspect Tests")
+class ReplicaReadAspectTest {
+
+  private final DataSource routing =
+      DataSourceConfig.readWriteRouting(database("primary"), database("replica"));
+
+  /** Creates a database whose single-row {@code instance} table names the database. */
+  private static DataSource database(String name) {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("CREATE TABLE instance (name VARCHAR(20))");
+    jdbc.update("INSERT INTO instance (name) VALUES (?)", name);
+    return dataSource;
+  }
+
+  /** Reads the name of the database that served the query in a read-only transaction. */
+  private static String instance(DataSource routing) {
+    TransactionTemplate transaction =
+        new TransactionTemplate(new DataSourceTransactionManager(routing));
+    transaction.setReadOnly(true);
+    return transaction.execute(
+        status ->
+            new JdbcTemplate(routing).queryForObject("SELECT name FROM instance", String.class));
+  }
+
+  static class Reports {
+
+    private final DataSource routing;
+
+    Reports(DataSource routing) {
+      this.routing = routing;
+    }
+
+    @ReplicaRead
+    public String report() {
+      return instance(routing);
+    }
+
+    public String lookup() {
+      return instance(routing);
+    }
+  }
+
+  @ReplicaRead
+  static class AllReports {
+
+    private final DataSource routing;
+
+    AllReports(DataSource routing) {
+      this.routing = routing;
+    }
+
+    public String report() {
+      return instance(routing);
+    }
+  }
+
+  private static <T> T proxy(T target) {
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new ReplicaReadAspect());
+    return factory.getProxy();
+  }
+
+  @Test
+  void testAnnotatedMethod_ReadsFromReplica() {
+    Reports reports = proxy(new Reports(routing));
+
+    assertEquals("replica", reports.report());
+    assertEquals("primary", reports.lookup());
+  }
+
+  @Test
+  void testAnnotatedClass_ReadsFromReplica() {
+    AllReports reports = proxy(new AllReports(routing));
+
+    assertEquals("replica", reports.report());
+  }
+}
@@ -0,0 +1,122 @@
+package com.boozebuddies.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+
+/**
+ * Compares platform-thread and virtual-thread request handling for a JDBC-bound workload.
+ *
+ * <p>Each simulated request spends {@value #NON_DB_MILLIS} ms blocked outside the database (JWT
+ * parsing, remote calls, response writing) and {@value #DB_MILLIS} ms holding one of {@value
+ * #POOL_SIZE} pooled connections, mirroring the default Hikari pool. Platform mode uses a fixed
+ * pool of {@value #TOMCAT_MAX_THREADS} threads like Tomcat's default; virtual mode starts a thread
+ * per request, once unbounded and once behind {@link ConnectionPoolAdmissionFilter}'s limit.
+ *
+ * <p>Skipped by default and needs Java 21. Run with {@code mvn -Pvirtual-threads test
+ * -Dtest=VirtualThreadBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadBenchmark {
+
+  private static final int POOL_SIZE = 10;
+  private static final int TOMCAT_MAX_THREADS = 200;
+  private static final int REQUESTS = 4_000;
+  private static final long NON_DB_MILLIS = 20;
+  private static final long DB_MILLIS = 5;
+  private static final long POOL_TIMEOUT_MILLIS = 30_000;
+
+  @Test
+  void benchmarkPlatformVersusVirtualThreads() throws Exception {
+    Result platform = run(Executors.newFixedThreadPool(TOMCAT_MAX_THREADS), Integer.MAX_VALUE);
+    Result virtual = run(newVirtualThreadPerTaskExecutor(), Integer.MAX_VALUE);
+    Result guarded = run(newVirtualThreadPerTaskExecutor(), POOL_SIZE * 2);
+
+    report("platform (200 threads)", platform);
+    report("virtual (unbounded)", virtual);
+    report("virtual (admission limit)", guarded);
+
+    assertEquals(0, platform.failures() + virtual.failures() + guarded.failures());
+    assertTrue(virtual.elapsedMillis() < platform.elapsedMillis());
+  }
+
+  private static Result run(ExecutorService executor, int admissionLimit) throws Exception {
+    Semaphore connections = new Semaphore(POOL_SIZE, true);
+    Semaphore admission = new Semaphore(admissionLimit, true);
+    List<Future<Long>> latencies = new ArrayList<>(REQUESTS);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < REQUESTS; i++) {
+      latencies.add(executor.submit(() -> handleRequest(connections, admission)));
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    List<Long> sorted = new ArrayList<>(REQUESTS);
+    int failures = 0;
+    for (Future<Long> latency : latencies) {
+      long value = latency.get();
+      if (value < 0) {
+        failures++;
+      } else {
+        sorted.add(value);
+      }
+    }
+    Collections.sort(sorted);
+    long p99 = sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+    return new Result(elapsedMillis, p99, failures);
+  }
+
+  /** Simulates one request, returning its latency in ms or -1 if no connection was obtained. */
+  private static long handleRequest(Semaphore connections, Semaphore admission)
+      throws InterruptedException {
+    long start = System.nanoTime();
+    admission.acquire();
+    try {
+      Thread.sleep(NON_DB_MILLIS);
+      if (!connections.tryAcquire(POOL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        return -1;
+      }
+      try {
+        Thread.sleep(DB_MILLIS);
+      } finally {
+        connections.release();
+      }
+    } finally {
+      admission.release();
+    }
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  /** Calls the Java 21 factory reflectively so the class still compiles for release 17. */
+  private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+    return (ExecutorService)
+        Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+  }
+
+  private static void report(String name, Result result) {
+    System.out.printf(
+        "%s: %d requests in %d ms (%.0f req/s), p99 %d ms, %d failures%n",
+        name,
+        REQUESTS,
+        result.elapsedMillis(),
+        REQUESTS * 1000.0 / result.elapsedMillis(),
+        result.p99Millis(),
+        result.failures());
+  }
+
+  private record Result(long elapsedMillis, long p99Millis, int failures) {}
+}
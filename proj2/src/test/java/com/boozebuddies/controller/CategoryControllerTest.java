@@ -7,11 +7,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.boozebuddies.config.TestSecurityConfig;
 import com.boozebuddies.dto.CategoryDTO;
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Category;
 import com.boozebuddies.mapper.CategoryMapper;
 import com.boozebuddies.security.JwtAuthenticationFilter;
 import com.boozebuddies.service.CategoryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -177,6 +180,69 @@ class CategoryControllerTest {
     verify(categoryService, times(1)).getAllCategories();
   }
 
+  @Test
+  @DisplayName("GET /api/categories should return ETag, Last-Modified and Cache-Control")
+  void testGetAllCategories_WithWatermark_SetsValidators() throws Exception {
+    when(categoryService.getCategoriesWatermark())
+        .thenReturn(new Watermark(1L, LocalDateTime.of(2025, 1, 15, 10, 30)));
+    when(categoryService.getAllCategories()).thenReturn(List.of(testCategory));
+    when(categoryMapper.toDTO(testCategory)).thenReturn(testCategoryDTO);
+
+    mockMvc
+        .perform(get("/api/categories"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+        .andExpect(jsonPath("$.data[0].name").value("Beer"));
+  }
+
+  @Test
+  @DisplayName("GET /api/categories should return 304 without loading categories when unchanged")
+  void testGetAllCategories_MatchingETag_ReturnsNotModified() throws Exception {
+    when(categoryService.getCategoriesWatermark())
+        .thenReturn(new Watermark(1L, LocalDateTime.of(2025, 1, 15, 10, 30)));
+    when(categoryService.getAllCategories()).thenReturn(List.of(testCategory));
+    when(categoryMapper.toDTO(testCategory)).thenReturn(testCategoryDTO);
+    String etag =
+        mockMvc
+            .perform(get("/api/categories"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(content().string(""));
+
+    verify(categoryService, times(1)).getAllCategories();
+  }
+
+  @Test
+  @DisplayName("GET /api/categories should return 200 when a category changed since the ETag")
+  void testGetAllCategories_ChangedWatermark_ReturnsBody() throws Exception {
+    when(categoryService.getCategoriesWatermark())
+        .thenReturn(new Watermark(1L, LocalDateTime.of(2025, 1, 15, 10, 30)))
+        .thenReturn(new Watermark(1L, LocalDateTime.of(2025, 1, 15, 10, 31)));
+    when(categoryService.getAllCategories()).thenReturn(List.of(testCategory));
+    when(categoryMapper.toDTO(testCategory)).thenReturn(testCategoryDTO);
+    String etag =
+        mockMvc
+            .perform(get("/api/categories"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data[0].name").value("Beer"));
+
+    verify(categoryService, times(2)).getAllCategories();
+  }
+
   // ==================== getCategoryById() Tests ====================
 
   @Test
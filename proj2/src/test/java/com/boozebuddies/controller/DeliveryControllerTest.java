@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.boozebuddies.config.ParallelLookups;
 import com.boozebuddies.config.TestSecurityConfig;
 import com.boozebuddies.dto.DeliveryDTO;
 import com.boozebuddies.entity.Delivery;
@@ -36,6 +37,7 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @WebMvcTest(
     controllers = DeliveryController.class,
@@ -44,7 +46,7 @@ import org.springframework.test.web.servlet.MockMvc;
             type = FilterType.ASSIGNABLE_TYPE,
             classes = JwtAuthenticationFilter.class))
 @AutoConfigureMockMvc(addFilters = false)
-@Import(TestSecurityConfig.class)
+@Import({TestSecurityConfig.class, ParallelLookups.class})
 @DisplayName("DeliveryController Tests")
 public class DeliveryControllerTest {
 
@@ -62,6 +64,8 @@ public class DeliveryControllerTest {
 
   @MockBean private OrderService orderService;
 
+  @MockBean private PlatformTransactionManager transactionManager;
+
   private Delivery testDelivery;
   private DeliveryDTO testDeliveryDTO;
   private User testDriverUser;
@@ -914,6 +918,7 @@ public class DeliveryControllerTest {
 
     when(permissionService.getAuthenticatedUser(any())).thenReturn(orderOwner);
     when(deliveryService.getDeliveryByOrderId(100L)).thenReturn(testDelivery);
+    when(orderService.getOrderById(100L)).thenReturn(Optional.of(testDelivery.getOrder()));
     when(deliveryMapper.toDTO(testDelivery)).thenReturn(testDeliveryDTO);
 
     mockMvc
@@ -961,6 +966,7 @@ public class DeliveryControllerTest {
 
     when(permissionService.getAuthenticatedUser(any())).thenReturn(otherUser);
     when(deliveryService.getDeliveryByOrderId(100L)).thenReturn(testDelivery);
+    when(orderService.getOrderById(100L)).thenReturn(Optional.of(testDelivery.getOrder()));
 
     mockMvc
         .perform(get("/api/deliveries/order/100"))
@@ -1004,6 +1010,7 @@ public class DeliveryControllerTest {
 
     when(permissionService.getAuthenticatedUser(any())).thenReturn(otherUser);
     when(deliveryService.getDeliveryByOrderId(100L)).thenReturn(testDelivery);
+    when(orderService.getOrderById(100L)).thenReturn(Optional.of(testDelivery.getOrder()));
 
     mockMvc
         .perform(get("/api/deliveries/order/100"))
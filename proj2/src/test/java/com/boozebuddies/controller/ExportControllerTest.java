@@ -0,0 +1,108 @@
+package com.boozebuddies.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.boozebuddies.config.TestSecurityConfig;
+import com.boozebuddies.model.ExportFormat;
+import com.boozebuddies.security.JwtAuthenticationFilter;
+import com.boozebuddies.service.ExportService;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(
+    controllers = ExportController.class,
+    excludeFilters =
+        @ComponentScan.Filter(
+            type = FilterType.ASSIGNABLE_TYPE,
+            classes = JwtAuthenticationFilter.class))
+@AutoConfigureMockMvc(addFilters = false)
+@Import(TestSecurityConfig.class)
+@DisplayName("ExportController Tests")
+public class ExportControllerTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockBean private ExportService exportService;
+
+  @Test
+  @DisplayName("GET /api/orders/export should stream NDJSON by default")
+  void exportOrders_DefaultFormat_StreamsNdjson() throws Exception {
+    when(exportService.exportOrders(eq(ExportFormat.NDJSON), any()))
+        .thenAnswer(
+            invocation -> {
+              OutputStream output = invocation.getArgument(1);
+              output.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+              return 2L;
+            });
+
+    mockMvc
+        .perform(get("/api/orders/export"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+        .andExpect(
+            header().string("Content-Disposition", "attachment; filename=\"orders.ndjson\""))
+        .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+  }
+
+  @Test
+  @DisplayName("GET /api/payments/export?format=csv should stream CSV")
+  void exportPayments_Csv_StreamsCsv() throws Exception {
+    when(exportService.exportPayments(eq(ExportFormat.CSV), any()))
+        .thenAnswer(
+            invocation -> {
+              OutputStream output = invocation.getArgument(1);
+              output.write("id\r\n7\r\n".getBytes(StandardCharsets.UTF_8));
+              return 1L;
+            });
+
+    mockMvc
+        .perform(get("/api/payments/export").param("format", "CSV"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("text/csv"))
+        .andExpect(
+            header().string("Content-Disposition", "attachment; filename=\"payments.csv\""))
+        .andExpect(content().string("id\r\n7\r\n"));
+  }
+
+  @Test
+  @DisplayName("GET /api/deliveries/export should return 400 for an unknown format")
+  void exportDeliveries_UnknownFormat_Returns400() throws Exception {
+    mockMvc
+        .perform(get("/api/deliveries/export").param("format", "xml"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false))
+        .andExpect(
+            jsonPath("$.message")
+                .value(org.hamcrest.Matchers.containsString("Unsupported export format")));
+
+    verifyNoInteractions(exportService);
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/export should return 400 when the export fails before streaming")
+  void exportOrders_FailureBeforeFirstRow_Returns400() throws Exception {
+    when(exportService.exportOrders(any(), any()))
+        .thenThrow(new RuntimeException("Database error"));
+
+    mockMvc
+        .perform(get("/api/orders/export"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false))
+        .andExpect(
+            jsonPath("$.message")
+                .value(org.hamcrest.Matchers.containsString("Failed to export orders")));
+  }
+}
@@ -11,6 +11,7 @@ import com.boozebuddies.dto.MerchantRecommendationDTO;
 import com.boozebuddies.entity.Merchant;
 import com.boozebuddies.entity.Order;
 import com.boozebuddies.entity.User;
+import com.boozebuddies.geo.MerchantSpatialIndex;
 import com.boozebuddies.mapper.MerchantMapper;
 import com.boozebuddies.model.Role;
 import com.boozebuddies.security.JwtAuthenticationFilter;
@@ -471,6 +472,84 @@ class MerchantControllerTest {
                 .value(org.hamcrest.Matchers.containsString("Failed to retrieve merchants")));
   }
 
+  // ==================== GET NEAREST MERCHANTS TESTS ====================
+
+  @Test
+  @DisplayName("GET /api/merchants/nearest should return 200 with a page of merchants")
+  void testGetNearestMerchants_Success() throws Exception {
+    MerchantDTO nearestDTO =
+        MerchantDTO.builder().id(1L).name("Test Restaurant").distanceKm(1.2).build();
+    Page<MerchantSpatialIndex.Neighbor> nearest =
+        new PageImpl<>(
+            List.of(new MerchantSpatialIndex.Neighbor(testMerchant, 1.2)),
+            PageRequest.of(0, 5),
+            6);
+
+    when(merchantService.findNearestMerchants(
+            eq(40.75), eq(-73.99), eq(10.0), eq("Italian"), eq(true), any(Pageable.class)))
+        .thenReturn(nearest);
+    when(merchantMapper.toDTO(testMerchant, 1.2)).thenReturn(nearestDTO);
+
+    mockMvc
+        .perform(
+            get("/api/merchants/nearest")
+                .param("latitude", "40.75")
+                .param("longitude", "-73.99")
+                .param("radiusKm", "10")
+                .param("cuisine", "Italian")
+                .param("openNow", "true")
+                .param("size", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.data.content[0].name").value("Test Restaurant"))
+        .andExpect(jsonPath("$.data.content[0].distanceKm").value(1.2))
+        .andExpect(jsonPath("$.data.totalItems").value(6))
+        .andExpect(jsonPath("$.data.hasNext").value(true));
+
+    verify(permissionService, never()).getAuthenticatedUser(any());
+  }
+
+  @Test
+  @DisplayName("GET /api/merchants/nearest should default to the user's saved location")
+  void testGetNearestMerchants_DefaultsToUserLocation() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
+    when(merchantService.findNearestMerchants(
+            eq(40.7589), eq(-73.9851), eq(25.0), isNull(), eq(false), any(Pageable.class)))
+        .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
+
+    mockMvc
+        .perform(get("/api/merchants/nearest"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content").isEmpty());
+  }
+
+  @Test
+  @DisplayName("GET /api/merchants/nearest should return 400 when no location is available")
+  void testGetNearestMerchants_NoLocation() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(merchantAdminUser);
+
+    mockMvc
+        .perform(get("/api/merchants/nearest"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+
+    verify(merchantService, never())
+        .findNearestMerchants(any(), any(), anyDouble(), any(), anyBoolean(), any());
+  }
+
+  @Test
+  @DisplayName("GET /api/merchants/nearest should return 400 on invalid radius")
+  void testGetNearestMerchants_InvalidRadius() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/merchants/nearest")
+                .param("latitude", "40.75")
+                .param("longitude", "-73.99")
+                .param("radiusKm", "0"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Invalid location or radius"));
+  }
+
   // ==================== GET ALL MERCHANTS TESTS ====================
 
   @Test
@@ -1,20 +1,25 @@
 package com.boozebuddies.controller;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.boozebuddies.config.TestSecurityConfig;
 import com.boozebuddies.dto.SystemBroadcastDTO;
 import com.boozebuddies.dto.SystemBroadcastRequest;
+import com.boozebuddies.entity.User;
 import com.boozebuddies.security.JwtAuthenticationFilter;
 import com.boozebuddies.service.NotificationService;
+import com.boozebuddies.service.PermissionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,6 +44,7 @@ class NotificationControllerTest {
   @Autowired private ObjectMapper objectMapper;
 
   @MockBean private NotificationService notificationService;
+  @MockBean private PermissionService permissionService;
   @MockBean private JwtAuthenticationFilter jwtAuthenticationFilter;
 
   @Test
@@ -61,6 +67,26 @@ class NotificationControllerTest {
     verify(notificationService, times(1)).broadcastSystemMessage("Hello");
   }
 
+  @Test
+  @WithMockUser
+  @DisplayName("POST /api/notifications/broadcast rejects a message too long to store")
+  void broadcastSystemMessage_tooLong() throws Exception {
+    String payload =
+        objectMapper.writeValueAsString(
+            new SystemBroadcastRequest(
+                "x".repeat(NotificationController.MAX_MESSAGE_LENGTH + 1)));
+
+    mockMvc
+        .perform(
+            post("/api/notifications/broadcast")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+
+    verify(notificationService, never()).broadcastSystemMessage(anyString());
+  }
+
   @Test
   @WithMockUser
   @DisplayName("GET /api/notifications returns broadcast list")
@@ -83,6 +109,79 @@ class NotificationControllerTest {
 
     verify(notificationService, times(1)).getRecentBroadcasts();
   }
-}
 
+  @Test
+  @WithMockUser
+  @DisplayName("GET /api/notifications returns 304 while the feed version is unchanged")
+  void getBroadcasts_notModified() throws Exception {
+    when(notificationService.getBroadcastVersion()).thenReturn(7L);
+
+    mockMvc
+        .perform(get("/api/notifications").header("If-None-Match", "\"broadcasts-7\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", "\"broadcasts-7\""));
+
+    verify(notificationService, never()).getRecentBroadcasts();
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("GET /api/notifications?after= returns only newer broadcasts")
+  void getBroadcasts_after() throws Exception {
+    when(notificationService.getBroadcastVersion()).thenReturn(8L);
+    when(notificationService.getBroadcastsAfter(7L))
+        .thenReturn(List.of(SystemBroadcastDTO.builder().id(8L).message("New").build()));
+
+    mockMvc
+        .perform(get("/api/notifications").param("after", "7"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"broadcasts-8\""))
+        .andExpect(jsonPath("$.data[0].id").value(8));
 
+    verify(notificationService, never()).getRecentBroadcasts();
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("GET /api/notifications/unread returns broadcasts past the user's cursor")
+  void getUnreadBroadcasts_success() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(User.builder().id(3L).build());
+    when(notificationService.getBroadcastCursor(3L)).thenReturn(4L);
+    when(notificationService.getBroadcastVersion()).thenReturn(5L);
+    when(notificationService.getBroadcastsAfter(4L))
+        .thenReturn(List.of(SystemBroadcastDTO.builder().id(5L).message("Unread").build()));
+
+    mockMvc
+        .perform(get("/api/notifications/unread"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"unread-5-4\""))
+        .andExpect(jsonPath("$.data[0].message").value("Unread"));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("POST /api/notifications/read moves the user's cursor")
+  void markBroadcastsRead_success() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(User.builder().id(3L).build());
+    when(notificationService.markBroadcastsRead(3L, 5L)).thenReturn(5L);
+
+    mockMvc
+        .perform(post("/api/notifications/read").param("upTo", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data").value(5));
+
+    verify(notificationService, times(1)).markBroadcastsRead(3L, 5L);
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("POST /api/notifications/read rejects a negative broadcast ID")
+  void markBroadcastsRead_negative() throws Exception {
+    mockMvc
+        .perform(post("/api/notifications/read").param("upTo", "-1"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+
+    verify(notificationService, never()).markBroadcastsRead(any(), any());
+  }
+}
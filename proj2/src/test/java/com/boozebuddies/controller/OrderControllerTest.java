@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.boozebuddies.config.ParallelLookups;
 import com.boozebuddies.config.TestSecurityConfig;
 import com.boozebuddies.dto.*;
 import com.boozebuddies.entity.*;
@@ -12,6 +13,7 @@ import com.boozebuddies.mapper.OrderMapper;
 import com.boozebuddies.model.OrderStatus;
 import com.boozebuddies.model.Role;
 import com.boozebuddies.security.JwtAuthenticationFilter;
+import com.boozebuddies.service.OrderSearchService;
 import com.boozebuddies.service.OrderService;
 import com.boozebuddies.service.PermissionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,8 +30,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @WebMvcTest(
     controllers = OrderController.class,
@@ -38,7 +43,7 @@ import org.springframework.test.web.servlet.MockMvc;
             type = FilterType.ASSIGNABLE_TYPE,
             classes = JwtAuthenticationFilter.class))
 @AutoConfigureMockMvc(addFilters = false)
-@Import(TestSecurityConfig.class)
+@Import({TestSecurityConfig.class, ParallelLookups.class})
 @DisplayName("OrderController Tests")
 public class OrderControllerTest {
 
@@ -47,8 +52,10 @@ public class OrderControllerTest {
   @Autowired private ObjectMapper objectMapper;
 
   @MockBean private OrderService orderService;
+  @MockBean private OrderSearchService orderSearchService;
   @MockBean private OrderMapper orderMapper;
   @MockBean private PermissionService permissionService;
+  @MockBean private PlatformTransactionManager transactionManager;
 
   private User testUser;
   private User adminUser;
@@ -246,6 +253,132 @@ public class OrderControllerTest {
                 .value(org.hamcrest.Matchers.containsString("Failed to create order")));
   }
 
+  // ==================== BULK CREATE ORDER TESTS ====================
+
+  private String bulkBody(CreateOrderRequest... requests) throws Exception {
+    return objectMapper.writeValueAsString(
+        BulkCreateOrderRequest.builder().orders(List.of(requests)).build());
+  }
+
+  @Test
+  @DisplayName("POST /api/orders/bulk should return 200 when every order is created")
+  void createOrdersInBulk_AllSucceed() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
+    when(orderMapper.toEntity(any(CreateOrderRequest.class))).thenReturn(testOrder);
+    when(orderService.createOrders(anyList()))
+        .thenReturn(
+            new OrderService.BulkCreateResult(
+                List.of(
+                    new OrderService.BulkOrderOutcome(0, testOrder, null),
+                    new OrderService.BulkOrderOutcome(1, testOrder, null)),
+                3,
+                4,
+                20,
+                1));
+    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+
+    mockMvc
+        .perform(
+            post("/api/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(bulkBody(testCreateRequest, testCreateRequest)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.message").value("Created 2 of 2 orders"))
+        .andExpect(jsonPath("$.data.created").value(2))
+        .andExpect(jsonPath("$.data.transactions").value(1))
+        .andExpect(jsonPath("$.data.persistenceMs").value(20))
+        .andExpect(jsonPath("$.data.results[1].index").value(1))
+        .andExpect(jsonPath("$.data.results[1].order.id").value(1));
+  }
+
+  @Test
+  @DisplayName("POST /api/orders/bulk should return 207 with per-order results on partial failure")
+  void createOrdersInBulk_PartialFailure() throws Exception {
+    CreateOrderRequest someoneElses =
+        CreateOrderRequest.builder().userId(99L).merchantId(1L).build();
+
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
+    when(orderMapper.toEntity(any(CreateOrderRequest.class))).thenReturn(testOrder);
+    when(orderService.createOrders(argThat(orders -> orders.size() == 2)))
+        .thenReturn(
+            new OrderService.BulkCreateResult(
+                List.of(
+                    new OrderService.BulkOrderOutcome(0, testOrder, null),
+                    new OrderService.BulkOrderOutcome(1, null, "Product not found with id: 5")),
+                0,
+                0,
+                0,
+                1));
+    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+
+    mockMvc
+        .perform(
+            post("/api/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(bulkBody(testCreateRequest, someoneElses, testCreateRequest)))
+        .andExpect(status().isMultiStatus())
+        .andExpect(jsonPath("$.success").value(false))
+        .andExpect(jsonPath("$.data.created").value(1))
+        .andExpect(jsonPath("$.data.failed").value(2))
+        .andExpect(jsonPath("$.data.results[0].success").value(true))
+        .andExpect(
+            jsonPath("$.data.results[1].error").value("You can only create orders for yourself"))
+        .andExpect(jsonPath("$.data.results[2].index").value(2))
+        .andExpect(jsonPath("$.data.results[2].error").value("Product not found with id: 5"));
+  }
+
+  @Test
+  @DisplayName("POST /api/orders/bulk should reject merchant admins ordering from another merchant")
+  void createOrdersInBulk_MerchantAdminOtherMerchant() throws Exception {
+    CreateOrderRequest otherMerchant =
+        CreateOrderRequest.builder().userId(1L).merchantId(2L).build();
+
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(merchantAdminUser);
+
+    mockMvc
+        .perform(
+            post("/api/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(bulkBody(otherMerchant)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.data.created").value(0))
+        .andExpect(
+            jsonPath("$.data.results[0].error")
+                .value("You can only create orders for your own merchant"));
+
+    verify(orderService, never()).createOrders(anyList());
+  }
+
+  @Test
+  @DisplayName("POST /api/orders/bulk should return 400 for an empty batch")
+  void createOrdersInBulk_Empty() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkCreateOrderRequest(List.of()))))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("No orders provided"));
+  }
+
+  @Test
+  @DisplayName("POST /api/orders/bulk should return 400 when the batch is too large")
+  void createOrdersInBulk_TooLarge() throws Exception {
+    List<CreateOrderRequest> orders =
+        Collections.nCopies(OrderController.MAX_BULK_ORDERS + 1, testCreateRequest);
+
+    mockMvc
+        .perform(
+            post("/api/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BulkCreateOrderRequest(orders))))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+
+    verifyNoInteractions(orderService);
+  }
+
   // ==================== GET ORDER BY ID TESTS ====================
 
   @Test
@@ -253,7 +386,7 @@ public class OrderControllerTest {
   void getOrderById_Success() throws Exception {
     when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
     when(orderService.getOrderById(1L)).thenReturn(Optional.of(testOrder));
-    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+    when(orderMapper.toDTO(testOrder, List.of())).thenReturn(testOrderDTO);
 
     mockMvc
         .perform(get("/api/orders/1"))
@@ -269,7 +402,7 @@ public class OrderControllerTest {
     testOrder.setUser(testUser); // testUser owns the order
     when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
     when(orderService.getOrderById(1L)).thenReturn(Optional.of(testOrder));
-    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+    when(orderMapper.toDTO(testOrder, List.of())).thenReturn(testOrderDTO);
 
     mockMvc
         .perform(get("/api/orders/1"))
@@ -278,6 +411,22 @@ public class OrderControllerTest {
         .andExpect(jsonPath("$.data.id").value(1));
   }
 
+  @Test
+  @DisplayName("GET /api/orders/{id} maps the items loaded alongside the order")
+  void getOrderById_UsesItemsLoadedInParallel() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
+    when(orderService.getOrderById(1L)).thenReturn(Optional.of(testOrder));
+    when(orderService.getOrderItems(1L)).thenReturn(List.of(testOrderItem));
+    when(orderMapper.toDTO(testOrder, List.of(testOrderItem))).thenReturn(testOrderDTO);
+
+    mockMvc
+        .perform(get("/api/orders/1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.id").value(1));
+
+    verify(orderMapper, never()).toDTO(testOrder);
+  }
+
   @Test
   @DisplayName("GET /api/orders/{id} should return 404 when order not found")
   void getOrderById_NotFound() throws Exception {
@@ -333,7 +482,7 @@ public class OrderControllerTest {
 
     when(permissionService.getAuthenticatedUser(any())).thenReturn(adminUser);
     when(orderService.getOrderById(1L)).thenReturn(Optional.of(otherUserOrder));
-    when(orderMapper.toDTO(otherUserOrder)).thenReturn(testOrderDTO);
+    when(orderMapper.toDTO(otherUserOrder, List.of())).thenReturn(testOrderDTO);
 
     mockMvc
         .perform(get("/api/orders/1"))
@@ -386,7 +535,7 @@ public class OrderControllerTest {
 
     when(permissionService.getAuthenticatedUser(any())).thenReturn(driverUser);
     when(orderService.getOrderById(1L)).thenReturn(Optional.of(driverOrder));
-    when(orderMapper.toDTO(driverOrder)).thenReturn(testOrderDTO);
+    when(orderMapper.toDTO(driverOrder, List.of())).thenReturn(testOrderDTO);
 
     mockMvc
         .perform(get("/api/orders/1"))
@@ -608,6 +757,71 @@ public class OrderControllerTest {
                 .value(org.hamcrest.Matchers.containsString("Failed to retrieve merchant orders")));
   }
 
+  @Test
+  @DisplayName("GET /api/orders/merchant/my-orders/changes returns a snapshot and watermark")
+  void getMyMerchantOrderChanges_Snapshot() throws Exception {
+    OrderService.ChangeWatermark watermark =
+        new OrderService.ChangeWatermark(LocalDateTime.of(2026, 1, 1, 12, 0, 5), 0L);
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(merchantAdminUser);
+    when(orderService.getMerchantOrderChanges(1L, null, 100))
+        .thenReturn(
+            new OrderService.OrderChanges(List.of(testOrder), List.of(), watermark, false, true));
+    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+
+    mockMvc
+        .perform(get("/api/orders/merchant/my-orders/changes"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.snapshot").value(true))
+        .andExpect(jsonPath("$.data.orders[0].id").value(1))
+        .andExpect(jsonPath("$.data.watermark").value("2026-01-01T12:00:05~0"));
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/merchant/my-orders/changes passes the watermark and limit on")
+  void getMyMerchantOrderChanges_Delta() throws Exception {
+    OrderService.ChangeWatermark since =
+        new OrderService.ChangeWatermark(LocalDateTime.of(2026, 1, 1, 12, 0, 5), 9L);
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(merchantAdminUser);
+    when(orderService.getMerchantOrderChanges(1L, since, 20))
+        .thenReturn(new OrderService.OrderChanges(List.of(), List.of(3L), since, true, false));
+
+    mockMvc
+        .perform(
+            get("/api/orders/merchant/my-orders/changes")
+                .param("since", since.toString())
+                .param("limit", "20"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.snapshot").value(false))
+        .andExpect(jsonPath("$.data.removed[0]").value(3))
+        .andExpect(jsonPath("$.data.hasMore").value(true));
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/merchant/my-orders/changes should return 400 for a bad watermark")
+  void getMyMerchantOrderChanges_BadWatermark() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(merchantAdminUser);
+
+    mockMvc
+        .perform(get("/api/orders/merchant/my-orders/changes").param("since", "yesterday"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+
+    verify(orderService, never()).getMerchantOrderChanges(any(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/driver/assigned/changes should return 400 for an oversized limit")
+  void getDriverOrderChanges_LimitTooLarge() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(driverUser);
+
+    mockMvc
+        .perform(get("/api/orders/driver/assigned/changes").param("limit", "5000"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+
+    verify(orderService, never()).getDriverOrderChanges(any(), any(), anyInt());
+  }
+
   // ==================== GET ORDERS BY MERCHANT TESTS ====================
 
   @Test
@@ -747,6 +961,90 @@ public class OrderControllerTest {
                 .value(org.hamcrest.Matchers.containsString("Failed to retrieve driver orders")));
   }
 
+  // ==================== SEARCH ORDERS TESTS ====================
+
+  @Test
+  @DisplayName("GET /api/orders/search should search only the customer's own orders")
+  void searchOrders_User_ScopedToSelf() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
+    when(orderSearchService.search(eq("beer"), eq(1L), isNull(), any()))
+        .thenReturn(new PageImpl<>(List.of(testOrder), PageRequest.of(0, 20), 1));
+    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+
+    mockMvc
+        .perform(get("/api/orders/search").param("q", "beer"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.message").value("Orders found"))
+        .andExpect(jsonPath("$.data.content[0].id").value(1))
+        .andExpect(jsonPath("$.data.totalItems").value(1));
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/search should return 403 for another customer's orders")
+  void searchOrders_User_OtherUser_Forbidden() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
+
+    mockMvc
+        .perform(get("/api/orders/search").param("q", "beer").param("userId", "2"))
+        .andExpect(status().isForbidden())
+        .andExpect(jsonPath("$.success").value(false));
+
+    verify(orderSearchService, never()).search(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/search should return 403 for another merchant's orders")
+  void searchOrders_MerchantAdmin_OtherMerchant_Forbidden() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(merchantAdminUser);
+
+    mockMvc
+        .perform(get("/api/orders/search").param("q", "beer").param("merchantId", "2"))
+        .andExpect(status().isForbidden())
+        .andExpect(jsonPath("$.success").value(false));
+
+    verify(orderSearchService, never()).search(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/search should scope a merchant admin to their merchant")
+  void searchOrders_MerchantAdmin_ScopedToMerchant() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(merchantAdminUser);
+    when(orderSearchService.search(eq("beer"), eq(1L), eq(1L), any()))
+        .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+    mockMvc
+        .perform(get("/api/orders/search").param("q", "beer").param("userId", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content").isArray())
+        .andExpect(jsonPath("$.data.totalItems").value(0));
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/search should let an admin search any merchant")
+  void searchOrders_Admin_PassesFilters() throws Exception {
+    when(permissionService.getAuthenticatedUser(any())).thenReturn(adminUser);
+    when(orderSearchService.search(eq("beer"), isNull(), eq(2L), any()))
+        .thenReturn(new PageImpl<>(List.of(testOrder), PageRequest.of(0, 20), 1));
+    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+
+    mockMvc
+        .perform(get("/api/orders/search").param("q", "beer").param("merchantId", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.content[0].id").value(1));
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/search should return 400 for an oversized page")
+  void searchOrders_OversizedPage_BadRequest() throws Exception {
+    mockMvc
+        .perform(get("/api/orders/search").param("q", "beer").param("size", "101"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Invalid page or size"));
+
+    verify(orderSearchService, never()).search(any(), any(), any(), any());
+  }
+
   // ==================== CANCEL ORDER TESTS ====================
 
   @Test
@@ -901,7 +1199,8 @@ public class OrderControllerTest {
 
     when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
     when(orderService.getOrderById(1L)).thenReturn(Optional.of(testOrder));
-    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+    when(orderService.getOrderItems(1L)).thenReturn(List.of(testOrderItem));
+    when(orderMapper.toDTO(testOrder, List.of(testOrderItem))).thenReturn(testOrderDTO);
 
     mockMvc
         .perform(get("/api/orders/1"))
@@ -918,7 +1217,8 @@ public class OrderControllerTest {
 
     when(permissionService.getAuthenticatedUser(any())).thenReturn(merchantAdminUser);
     when(orderService.getOrderById(1L)).thenReturn(Optional.of(testOrder));
-    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+    when(orderService.getOrderItems(1L)).thenReturn(List.of(testOrderItem));
+    when(orderMapper.toDTO(testOrder, List.of(testOrderItem))).thenReturn(testOrderDTO);
 
     mockMvc
         .perform(get("/api/orders/1"))
@@ -953,7 +1253,8 @@ public class OrderControllerTest {
 
     when(permissionService.getAuthenticatedUser(any())).thenReturn(driverUser);
     when(orderService.getOrderById(1L)).thenReturn(Optional.of(testOrder));
-    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+    when(orderService.getOrderItems(1L)).thenReturn(List.of(testOrderItem));
+    when(orderMapper.toDTO(testOrder, List.of(testOrderItem))).thenReturn(testOrderDTO);
 
     mockMvc
         .perform(get("/api/orders/1"))
@@ -1021,7 +1322,8 @@ public class OrderControllerTest {
 
     when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
     when(orderService.getOrderById(1L)).thenReturn(Optional.of(testOrder));
-    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+    when(orderService.getOrderItems(1L)).thenReturn(List.of(testOrderItem));
+    when(orderMapper.toDTO(testOrder, List.of(testOrderItem))).thenReturn(testOrderDTO);
 
     mockMvc
         .perform(get("/api/orders/1"))
@@ -1038,7 +1340,8 @@ public class OrderControllerTest {
 
     when(permissionService.getAuthenticatedUser(any())).thenReturn(testUser);
     when(orderService.getOrderById(1L)).thenReturn(Optional.of(testOrder));
-    when(orderMapper.toDTO(testOrder)).thenReturn(testOrderDTO);
+    when(orderService.getOrderItems(1L)).thenReturn(List.of(testOrderItem));
+    when(orderMapper.toDTO(testOrder, List.of(testOrderItem))).thenReturn(testOrderDTO);
 
     mockMvc
         .perform(get("/api/orders/1"))
@@ -1102,8 +1405,6 @@ public class OrderControllerTest {
         .thenReturn(List.of(testOrder));
     when(orderService.calculateDistance(eq(latitude), eq(longitude), eq(35.51), eq(-78.91)))
         .thenReturn(5.5);
-    when(orderService.updateEstimatedDeliveryTime(eq(1L), any(java.time.LocalDateTime.class)))
-        .thenReturn(testOrder);
     when(orderMapper.toDriverDTO(eq(testOrder), eq(5.5))).thenReturn(testDriverOrderDTO);
 
     mockMvc
@@ -1311,6 +1612,124 @@ public class OrderControllerTest {
                 .value(org.hamcrest.Matchers.containsString("Failed to retrieve orders")));
   }
 
+  private DriverOrderSummaryDTO summaryOf(Order order) {
+    return DriverOrderSummaryDTO.builder()
+        .id(order.getId())
+        .merchantId(1L)
+        .merchantName("Test Liquor Store")
+        .totalAmount(order.getTotalAmount())
+        .status(order.getStatus().name())
+        .build();
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/by-distance?view=summary returns a snapshot with a token")
+  void getOrderFeed_SummarySnapshot() throws Exception {
+    when(orderService.getOrdersWithinDistance(35.5, -78.9, 10.0)).thenReturn(List.of(testOrder));
+    when(orderMapper.toDriverSummaryDTO(testOrder, null)).thenReturn(summaryOf(testOrder));
+
+    mockMvc
+        .perform(
+            get("/api/orders/by-distance")
+                .param("latitude", "35.5")
+                .param("longitude", "-78.9")
+                .param("radiusKm", "10.0")
+                .param("view", "summary"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.delta").value(false))
+        .andExpect(jsonPath("$.data.orders[0].id").value(1))
+        .andExpect(jsonPath("$.data.orders[0].items").doesNotExist())
+        .andExpect(jsonPath("$.data.removed").isEmpty())
+        .andExpect(jsonPath("$.data.token").isNotEmpty());
+
+    verify(orderMapper, never()).toDriverDTO(any(), any());
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/by-distance with since returns only changed and removed orders")
+  void getOrderFeed_DeltaSinceToken() throws Exception {
+    Order newOrder =
+        Order.builder()
+            .id(2L)
+            .merchant(testMerchant)
+            .totalAmount(new BigDecimal("12.00"))
+            .status(OrderStatus.READY_FOR_PICKUP)
+            .build();
+    DriverOrderSummaryDTO unchanged = summaryOf(testOrder);
+    String since = DriverFeedToken.encode(Map.of(1L, unchanged.hashCode(), 3L, 42));
+
+    when(orderService.getOrdersWithinDistance(35.5, -78.9, 10.0))
+        .thenReturn(List.of(testOrder, newOrder));
+    when(orderMapper.toDriverSummaryDTO(testOrder, null)).thenReturn(unchanged);
+    when(orderMapper.toDriverSummaryDTO(newOrder, null)).thenReturn(summaryOf(newOrder));
+
+    mockMvc
+        .perform(
+            get("/api/orders/by-distance")
+                .param("latitude", "35.5")
+                .param("longitude", "-78.9")
+                .param("radiusKm", "10.0")
+                .param("view", "summary")
+                .param("since", since))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.delta").value(true))
+        .andExpect(jsonPath("$.data.orders.length()").value(1))
+        .andExpect(jsonPath("$.data.orders[0].id").value(2))
+        .andExpect(jsonPath("$.data.removed[0]").value(3));
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/by-distance with a malformed token falls back to a snapshot")
+  void getOrderFeed_MalformedTokenSendsSnapshot() throws Exception {
+    when(orderService.getOrdersWithinDistance(35.5, -78.9, 10.0)).thenReturn(List.of(testOrder));
+    when(orderMapper.toDriverSummaryDTO(testOrder, null)).thenReturn(summaryOf(testOrder));
+    when(orderMapper.toDriverDTO(testOrder, null)).thenReturn(testDriverOrderDTO);
+
+    mockMvc
+        .perform(
+            get("/api/orders/by-distance")
+                .param("latitude", "35.5")
+                .param("longitude", "-78.9")
+                .param("radiusKm", "10.0")
+                .param("view", "full")
+                .param("since", "not a token"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.delta").value(false))
+        .andExpect(jsonPath("$.data.orders[0].customerName").value("John Doe"));
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/by-distance should return 400 for an unknown view")
+  void getOrderFeed_UnknownView() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/orders/by-distance")
+                .param("latitude", "35.5")
+                .param("longitude", "-78.9")
+                .param("radiusKm", "10.0")
+                .param("view", "tiny"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+  }
+
+  @Test
+  @DisplayName("GET /api/orders/by-distance can be served as CBOR")
+  void getOrderFeed_Cbor() throws Exception {
+    when(orderService.getOrdersWithinDistance(35.5, -78.9, 10.0)).thenReturn(List.of(testOrder));
+    when(orderMapper.toDriverSummaryDTO(testOrder, null)).thenReturn(summaryOf(testOrder));
+
+    mockMvc
+        .perform(
+            get("/api/orders/by-distance")
+                .param("latitude", "35.5")
+                .param("longitude", "-78.9")
+                .param("radiusKm", "10.0")
+                .param("view", "summary")
+                .accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+  }
+
   // ==================== ADDITIONAL EDGE CASE TESTS ====================
 
   @Test
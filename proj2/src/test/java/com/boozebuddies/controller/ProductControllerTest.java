@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.boozebuddies.config.TestSecurityConfig;
 import com.boozebuddies.dto.CreateProductRequest;
 import com.boozebuddies.dto.ProductDTO;
+import com.boozebuddies.dto.Watermark;
 import com.boozebuddies.entity.Category;
 import com.boozebuddies.entity.Merchant;
 import com.boozebuddies.entity.Product;
@@ -21,6 +22,7 @@ import com.boozebuddies.service.PermissionService;
 import com.boozebuddies.service.ProductService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +35,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -456,6 +459,54 @@ public class ProductControllerTest {
             jsonPath("$.message").value("Failed to retrieve merchant products: Database error"));
   }
 
+  @Test
+  @DisplayName("GET /api/products/merchant/{merchantId} should return 304 for a matching ETag")
+  void getProductsByMerchant_MatchingETag_ReturnsNotModified() throws Exception {
+    when(productService.getAvailableProductsWatermarkByMerchant(1L))
+        .thenReturn(new Watermark(1L, LocalDateTime.of(2025, 1, 15, 10, 30)));
+    when(merchantService.getMerchantWatermark(1L))
+        .thenReturn(new Watermark(1L, LocalDateTime.of(2025, 1, 10, 8, 0)));
+    when(productService.getAvailableProductsByMerchant(1L)).thenReturn(List.of(testProduct));
+    when(productMapper.toDTO(testProduct)).thenReturn(testProductDTO);
+    String etag =
+        mockMvc
+            .perform(get("/api/products/merchant/1"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(get("/api/products/merchant/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    verify(productService, times(1)).getAvailableProductsByMerchant(1L);
+  }
+
+  @Test
+  @DisplayName("GET /api/products/merchant/{merchantId} returns 200 after the merchant changes")
+  void getProductsByMerchant_MerchantChanged_ReturnsBody() throws Exception {
+    when(productService.getAvailableProductsWatermarkByMerchant(1L))
+        .thenReturn(new Watermark(1L, LocalDateTime.of(2025, 1, 15, 10, 30)));
+    when(merchantService.getMerchantWatermark(1L))
+        .thenReturn(new Watermark(1L, LocalDateTime.of(2025, 1, 10, 8, 0)))
+        .thenReturn(new Watermark(1L, LocalDateTime.of(2025, 1, 16, 9, 0)));
+    when(productService.getAvailableProductsByMerchant(1L)).thenReturn(List.of(testProduct));
+    when(productMapper.toDTO(testProduct)).thenReturn(testProductDTO);
+    String etag =
+        mockMvc
+            .perform(get("/api/products/merchant/1"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(get("/api/products/merchant/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data[0].name").value("Test Beer"));
+  }
+
   @Test
   @DisplayName("GET /api/products/{id}/available should return false when not available")
   void isProductAvailable_NotAvailable() throws Exception {
@@ -513,6 +513,7 @@ class OrderTest {
     Order testOrder =
         new Order(
             5L,
+            null,
             testUser,
             testMerchant,
             testDriver,
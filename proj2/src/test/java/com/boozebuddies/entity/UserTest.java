@@ -54,8 +54,6 @@ class UserTest {
             .isActive(true)
             .isEmailVerified(true)
             .lastLoginAt(now)
-            .refreshToken("token123")
-            .refreshTokenExpiryDate(now.plusDays(7))
             .build();
 
     assertNotNull(testUser);
@@ -414,8 +412,6 @@ class UserTest {
             true, // isActive
             false, // isEmailVerified
             now, // lastLoginAt
-            "token", // refreshToken
-            now.plusDays(7), // refreshTokenExpiryDate
             null, // address
             now, // createdAt
             now, // updatedAt
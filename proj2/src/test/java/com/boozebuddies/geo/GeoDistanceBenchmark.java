@@ -0,0 +1,142 @@
+package com.boozebuddies.geo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Micro-benchmarks comparing the original per-comparison Haversine sort and radius filter against
+ * the precomputed {@link GeoPoint} paths.
+ *
+ * <p>The timings are reported, not asserted, since they depend on the machine and its load.
+ *
+ * <p>Skipped by default. Run with {@code mvn test -Dtest=GeoDistanceBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class GeoDistanceBenchmark {
+
+  private static final int POINTS = 20_000;
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 10;
+  private static final double ORIGIN_LAT = 35.7796;
+  private static final double ORIGIN_LON = -78.6382;
+
+  /** A point paired with its distance from the origin, computed once before sorting. */
+  private record Keyed(GeoPoint point, double distanceKm) {}
+
+  @Test
+  void benchmarkSortByDistance() {
+    List<double[]> coordinates = randomCoordinates();
+    List<GeoPoint> points = coordinates.stream().map(c -> GeoPoint.of(c[0], c[1])).toList();
+    GeoPoint origin = GeoPoint.of(ORIGIN_LAT, ORIGIN_LON);
+
+    long comparatorNanos =
+        measure(
+            () -> {
+              List<double[]> copy = new ArrayList<>(coordinates);
+              copy.sort(
+                  (a, b) ->
+                      Double.compare(
+                          legacyHaversine(ORIGIN_LAT, ORIGIN_LON, a[0], a[1]),
+                          legacyHaversine(ORIGIN_LAT, ORIGIN_LON, b[0], b[1])));
+              return copy.size();
+            });
+
+    long precomputedNanos =
+        measure(
+            () -> {
+              List<Keyed> keyed = new ArrayList<>(points.size());
+              for (GeoPoint point : points) {
+                keyed.add(new Keyed(point, GeoDistance.haversineKm(origin, point)));
+              }
+              keyed.sort(Comparator.comparingDouble(Keyed::distanceKm));
+              return keyed.size();
+            });
+
+    report("sort by distance", comparatorNanos, precomputedNanos);
+  }
+
+  @Test
+  void benchmarkWithinRadius() {
+    List<double[]> coordinates = randomCoordinates();
+    List<GeoPoint> points = coordinates.stream().map(c -> GeoPoint.of(c[0], c[1])).toList();
+    GeoPoint origin = GeoPoint.of(ORIGIN_LAT, ORIGIN_LON);
+    double radiusKm = 25.0;
+
+    long haversineNanos =
+        measure(
+            () -> {
+              int count = 0;
+              for (double[] c : coordinates) {
+                if (legacyHaversine(ORIGIN_LAT, ORIGIN_LON, c[0], c[1]) <= radiusKm) {
+                  count++;
+                }
+              }
+              return count;
+            });
+
+    long fastPathNanos =
+        measure(
+            () -> {
+              int count = 0;
+              for (GeoPoint point : points) {
+                if (GeoDistance.isWithinRadius(origin, point, radiusKm)) {
+                  count++;
+                }
+              }
+              return count;
+            });
+
+    report("within radius", haversineNanos, fastPathNanos);
+  }
+
+  /** The Haversine implementation previously duplicated across the order and merchant services. */
+  private static double legacyHaversine(double lat1, double lon1, double lat2, double lon2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLon = Math.toRadians(lon2 - lon1);
+    double a =
+        Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1))
+                * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2)
+                * Math.sin(dLon / 2);
+    return GeoDistance.EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+  }
+
+  private static List<double[]> randomCoordinates() {
+    Random random = new Random(7);
+    List<double[]> coordinates = new ArrayList<>(POINTS);
+    for (int i = 0; i < POINTS; i++) {
+      coordinates.add(
+          new double[] {
+            ORIGIN_LAT + random.nextDouble() - 0.5, ORIGIN_LON + random.nextDouble() - 0.5
+          });
+    }
+    return coordinates;
+  }
+
+  private static long measure(java.util.function.IntSupplier work) {
+    int sink = 0;
+    for (int i = 0; i < WARMUP_ROUNDS; i++) {
+      sink += work.getAsInt();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ROUNDS; i++) {
+      sink += work.getAsInt();
+    }
+    long elapsed = (System.nanoTime() - start) / MEASURED_ROUNDS;
+    assertTrue(sink >= 0);
+    return elapsed;
+  }
+
+  private static void report(String name, long baselineNanos, long optimizedNanos) {
+    System.out.printf(
+        "%s: baseline %.2f ms, precomputed %.2f ms, speedup %.1fx%n",
+        name, baselineNanos / 1e6, optimizedNanos / 1e6, (double) baselineNanos / optimizedNanos);
+  }
+}
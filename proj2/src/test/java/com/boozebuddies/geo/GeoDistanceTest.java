@@ -0,0 +1,97 @@
+package com.boozebuddies.geo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("GeoDistance Tests")
+class GeoDistanceTest {
+
+  @Test
+  void testHaversineKm_NewYorkToPhiladelphia() {
+    double distance = GeoDistance.haversineKm(40.7128, -74.0060, 39.9526, -75.1652);
+
+    assertEquals(129.6, distance, 1.0);
+  }
+
+  @Test
+  void testHaversineKm_SameLocationIsZero() {
+    assertEquals(0.0, GeoDistance.haversineKm(35.7796, -78.6382, 35.7796, -78.6382), 1e-9);
+  }
+
+  @Test
+  void testHaversineKm_PointOverloadMatchesDegreeOverload() {
+    GeoPoint a = GeoPoint.of(-33.8688, 151.2093);
+    GeoPoint b = GeoPoint.of(-34.9285, 138.6007);
+
+    assertEquals(
+        GeoDistance.haversineKm(-33.8688, 151.2093, -34.9285, 138.6007),
+        GeoDistance.haversineKm(a, b),
+        1e-9);
+  }
+
+  @Test
+  void testEquirectangularKm_CloseToHaversineAtCityScale() {
+    GeoPoint a = GeoPoint.of(35.7789, -78.6392);
+    GeoPoint b = GeoPoint.of(35.9940, -78.8986);
+
+    double exact = GeoDistance.haversineKm(a, b);
+    double estimate = GeoDistance.equirectangularKm(a, b);
+
+    assertEquals(exact, estimate, exact * 0.001);
+  }
+
+  @Test
+  void testEquirectangularKm_WrapsAcrossAntimeridian() {
+    GeoPoint a = GeoPoint.of(10.0, 179.9);
+    GeoPoint b = GeoPoint.of(10.0, -179.9);
+
+    assertTrue(GeoDistance.equirectangularKm(a, b) < 25.0);
+  }
+
+  @Test
+  void testIsWithinRadius_AgreesWithHaversine() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      GeoPoint a = GeoPoint.of(random.nextDouble() * 170 - 85, random.nextDouble() * 360 - 180);
+      GeoPoint b =
+          GeoPoint.of(
+              Math.max(-90, Math.min(90, a.latitude() + random.nextDouble() * 4 - 2)),
+              a.longitude() + random.nextDouble() * 4 - 2);
+      double radius = random.nextDouble() * 300;
+
+      assertEquals(
+          GeoDistance.haversineKm(a, b) <= radius,
+          GeoDistance.isWithinRadius(a, b, radius),
+          "Mismatch for " + a + " -> " + b + " within " + radius);
+    }
+  }
+
+  @Test
+  void testIsWithinRadius_ZeroRadius() {
+    GeoPoint a = GeoPoint.of(35.5, -78.9);
+
+    assertTrue(GeoDistance.isWithinRadius(a, GeoPoint.of(35.5, -78.9), 0.0));
+    assertFalse(GeoDistance.isWithinRadius(a, GeoPoint.of(35.51, -78.9), 0.0));
+  }
+
+  @Test
+  void testGeoPoint_OfNullable() {
+    assertNull(GeoPoint.ofNullable(null, -78.9));
+    assertNull(GeoPoint.ofNullable(35.5, null));
+    assertNotNull(GeoPoint.ofNullable(35.5, -78.9));
+  }
+
+  @Test
+  void testGeoPoint_PrecomputesTerms() {
+    GeoPoint point = GeoPoint.of(60.0, 90.0);
+
+    assertEquals(Math.PI / 3, point.latRad(), 1e-12);
+    assertEquals(Math.PI / 2, point.lonRad(), 1e-12);
+    assertEquals(0.5, point.cosLat(), 1e-12);
+    assertTrue(point.matches(60.0, 90.0));
+    assertFalse(point.matches(60.0, 90.1));
+  }
+}
@@ -0,0 +1,139 @@
+package com.boozebuddies.geo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.boozebuddies.entity.Merchant;
+import com.boozebuddies.repository.MerchantRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MerchantSpatialIndex Tests")
+class MerchantSpatialIndexTest {
+
+  private static final GeoPoint RALEIGH = GeoPoint.of(35.7796, -78.6382);
+
+  private MerchantRepository merchantRepository;
+  private MerchantSpatialIndex index;
+
+  @BeforeEach
+  void setUp() {
+    merchantRepository = mock(MerchantRepository.class);
+    index = new MerchantSpatialIndex(merchantRepository, 60_000);
+  }
+
+  private static Merchant merchant(long id, double latitude, double longitude) {
+    return Merchant.builder().id(id).name("M" + id).latitude(latitude).longitude(longitude).build();
+  }
+
+  @Test
+  void testFindNearest_ReturnsClosestFirstWithinRadius() {
+    when(merchantRepository.findByIsActive(true))
+        .thenReturn(
+            List.of(
+                merchant(1L, 35.80, -78.64),
+                merchant(2L, 35.78, -78.64),
+                merchant(3L, 36.50, -79.50),
+                merchant(4L, 35.70, -78.60)));
+
+    MerchantSpatialIndex.NearestResult result = index.findNearest(RALEIGH, 20, m -> true, 10);
+
+    assertEquals(3, result.totalMatches());
+    assertEquals(
+        List.of(2L, 1L, 4L),
+        result.neighbors().stream().map(n -> n.merchant().getId()).toList());
+  }
+
+  @Test
+  void testFindNearest_LimitsToTopK() {
+    when(merchantRepository.findByIsActive(true))
+        .thenReturn(
+            List.of(
+                merchant(1L, 35.80, -78.64),
+                merchant(2L, 35.78, -78.64),
+                merchant(4L, 35.70, -78.60)));
+
+    MerchantSpatialIndex.NearestResult result = index.findNearest(RALEIGH, 20, m -> true, 2);
+
+    assertEquals(3, result.totalMatches());
+    assertEquals(2, result.neighbors().size());
+    assertEquals(2L, result.neighbors().get(0).merchant().getId());
+    assertEquals(1L, result.neighbors().get(1).merchant().getId());
+  }
+
+  @Test
+  void testFindNearest_AppliesFilterAndSkipsInactiveOrUnlocated() {
+    Merchant inactive = merchant(5L, 35.78, -78.64);
+    inactive.setActive(false);
+    Merchant unlocated = Merchant.builder().id(6L).name("M6").build();
+    Merchant thai = merchant(7L, 35.79, -78.64);
+    thai.setCuisineType("Thai");
+    when(merchantRepository.findByIsActive(true))
+        .thenReturn(List.of(inactive, unlocated, thai, merchant(8L, 35.78, -78.63)));
+
+    MerchantSpatialIndex.NearestResult result =
+        index.findNearest(RALEIGH, 20, m -> "Thai".equals(m.getCuisineType()), 10);
+
+    assertEquals(1, result.totalMatches());
+    assertEquals(7L, result.neighbors().get(0).merchant().getId());
+  }
+
+  @Test
+  void testFindNearest_MatchesBruteForceAcrossCells() {
+    Random random = new Random(11);
+    List<Merchant> merchants = new ArrayList<>();
+    for (long id = 1; id <= 2_000; id++) {
+      merchants.add(
+          merchant(
+              id,
+              RALEIGH.latitude() + random.nextDouble() * 4 - 2,
+              RALEIGH.longitude() + random.nextDouble() * 4 - 2));
+    }
+    when(merchantRepository.findByIsActive(true)).thenReturn(merchants);
+
+    MerchantSpatialIndex.NearestResult result = index.findNearest(RALEIGH, 30, m -> true, 25);
+
+    List<Long> expected =
+        merchants.stream()
+            .filter(m -> GeoDistance.haversineKm(RALEIGH, m.getGeoPoint()) <= 30)
+            .sorted(
+                Comparator.comparingDouble(
+                    (Merchant m) -> GeoDistance.haversineKm(RALEIGH, m.getGeoPoint())))
+            .map(Merchant::getId)
+            .toList();
+    assertEquals(expected.size(), result.totalMatches());
+    assertEquals(
+        expected.subList(0, 25),
+        result.neighbors().stream().map(n -> n.merchant().getId()).toList());
+  }
+
+  @Test
+  void testFindNearest_WrapsAcrossAntimeridian() {
+    when(merchantRepository.findByIsActive(true))
+        .thenReturn(List.of(merchant(1L, 10.0, -179.95), merchant(2L, 10.0, 170.0)));
+
+    MerchantSpatialIndex.NearestResult result =
+        index.findNearest(GeoPoint.of(10.0, 179.95), 50, m -> true, 10);
+
+    assertEquals(1, result.totalMatches());
+    assertEquals(1L, result.neighbors().get(0).merchant().getId());
+  }
+
+  @Test
+  void testIndexIsCachedUntilInvalidated() {
+    when(merchantRepository.findByIsActive(true)).thenReturn(List.of(merchant(1L, 35.78, -78.64)));
+
+    index.findNearest(RALEIGH, 10, m -> true, 10);
+    index.findNearest(RALEIGH, 10, m -> true, 10);
+    verify(merchantRepository, times(1)).findByIsActive(true);
+
+    index.invalidate();
+    index.findNearest(RALEIGH, 10, m -> true, 10);
+    verify(merchantRepository, times(2)).findByIsActive(true);
+  }
+}
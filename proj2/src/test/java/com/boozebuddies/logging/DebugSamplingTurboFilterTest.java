@@ -0,0 +1,83 @@
+package com.boozebuddies.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Uses a private logger context so the application's logging configuration is not touched. */
+@DisplayName("DebugSamplingTurboFilter Tests")
+class DebugSamplingTurboFilterTest {
+
+  private final LoggerContext context = new LoggerContext();
+  private final DebugSamplingTurboFilter filter = new DebugSamplingTurboFilter();
+  private Logger sampled;
+  private Logger other;
+
+  @BeforeEach
+  void setUp() {
+    filter.setContext(context);
+    filter.setSampleRate(10);
+    filter.addLogger("com.boozebuddies.security");
+    filter.start();
+
+    sampled = context.getLogger("com.boozebuddies.security.JwtUtil");
+    sampled.setLevel(Level.DEBUG);
+    other = context.getLogger("com.boozebuddies.controller.ProductController");
+    other.setLevel(Level.DEBUG);
+  }
+
+  private int passed(Logger logger, Level level, String format, int events) {
+    int passed = 0;
+    for (int i = 0; i < events; i++) {
+      if (filter.decide(null, logger, level, format, null, null) != FilterReply.DENY) {
+        passed++;
+      }
+    }
+    return passed;
+  }
+
+  @Test
+  void testDebugEvents_KeepsOneInSampleRate() {
+    assertEquals(10, passed(sampled, Level.DEBUG, "Token validation for {}", 100));
+  }
+
+  @Test
+  void testSampling_IsPerMessageTemplate() {
+    passed(sampled, Level.DEBUG, "frequent {}", 5);
+
+    // The first occurrence of another template is logged despite the busy one
+    assertEquals(1, passed(sampled, Level.DEBUG, "rare {}", 1));
+  }
+
+  @Test
+  void testInfoAndAbove_AreNeverSampled() {
+    assertEquals(100, passed(sampled, Level.INFO, "Token refreshed", 100));
+    assertEquals(100, passed(sampled, Level.WARN, "Token validation failed", 100));
+  }
+
+  @Test
+  void testOtherLoggers_AreNotSampled() {
+    assertEquals(100, passed(other, Level.DEBUG, "Creating product {}", 100));
+  }
+
+  @Test
+  void testDisabledDebug_IsNotCounted() {
+    sampled.setLevel(Level.INFO);
+    passed(sampled, Level.DEBUG, "Token validation for {}", 5);
+    sampled.setLevel(Level.DEBUG);
+
+    assertEquals(1, passed(sampled, Level.DEBUG, "Token validation for {}", 1));
+  }
+
+  @Test
+  void testEnabledChecks_AreNotCounted() {
+    assertEquals(100, passed(sampled, Level.DEBUG, null, 100));
+    assertEquals(1, passed(sampled, Level.DEBUG, "Token validation for {}", 1));
+  }
+}
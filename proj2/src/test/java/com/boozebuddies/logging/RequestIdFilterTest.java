@@ -0,0 +1,65 @@
+package com.boozebuddies.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("RequestIdFilter Tests")
+class RequestIdFilterTest {
+
+  private final RequestIdFilter filter = new RequestIdFilter();
+
+  /** Runs a request through the filter and returns the request ID seen by the chain. */
+  private String requestIdSeenBy(MockHttpServletRequest request, MockHttpServletResponse response)
+      throws Exception {
+    AtomicReference<String> seen = new AtomicReference<>();
+    filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(LogContext.REQUEST_ID)));
+    return seen.get();
+  }
+
+  @Test
+  void testNoHeader_GeneratesIdAndEchoesIt() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    String requestId = requestIdSeenBy(new MockHttpServletRequest("GET", "/api/orders"), response);
+
+    assertNotNull(requestId);
+    assertEquals(requestId, response.getHeader(RequestIdFilter.REQUEST_ID_HEADER));
+    assertNull(MDC.get(LogContext.REQUEST_ID));
+  }
+
+  @Test
+  void testValidHeader_IsReused() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+    request.addHeader(RequestIdFilter.REQUEST_ID_HEADER, "gateway-123");
+
+    assertEquals("gateway-123", requestIdSeenBy(request, new MockHttpServletResponse()));
+  }
+
+  @Test
+  void testInvalidHeader_IsReplaced() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+    request.addHeader(RequestIdFilter.REQUEST_ID_HEADER, "bad\nid {\"level\":\"ERROR\"}");
+
+    String requestId = requestIdSeenBy(request, new MockHttpServletResponse());
+
+    assertNotNull(requestId);
+    assertNotEquals("bad\nid {\"level\":\"ERROR\"}", requestId);
+  }
+
+  @Test
+  void testOrderIdScope_RestoresPreviousValue() {
+    try (LogContext.Scope outer = LogContext.orderId(1L)) {
+      try (LogContext.Scope inner = LogContext.orderId(2L)) {
+        assertEquals("2", MDC.get(LogContext.ORDER_ID));
+      }
+      assertEquals("1", MDC.get(LogContext.ORDER_ID));
+    }
+    assertNull(MDC.get(LogContext.ORDER_ID));
+  }
+}
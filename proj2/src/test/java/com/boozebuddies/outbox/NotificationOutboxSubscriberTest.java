@@ -0,0 +1,108 @@
+package com.boozebuddies.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.boozebuddies.entity.Delivery;
+import com.boozebuddies.entity.Order;
+import com.boozebuddies.entity.OutboxEvent;
+import com.boozebuddies.entity.User;
+import com.boozebuddies.model.OutboxEventType;
+import com.boozebuddies.repository.DeliveryRepository;
+import com.boozebuddies.repository.OrderRepository;
+import com.boozebuddies.service.NotificationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxSubscriberTest {
+
+  @Mock private OrderRepository orderRepository;
+  @Mock private DeliveryRepository deliveryRepository;
+  @Mock private NotificationService notificationService;
+
+  private NotificationOutboxSubscriber subscriber;
+
+  @BeforeEach
+  void setUp() {
+    subscriber =
+        new NotificationOutboxSubscriber(
+            orderRepository, deliveryRepository, notificationService, new ObjectMapper());
+  }
+
+  private static OutboxEvent event(OutboxEventType type, String payload) {
+    return OutboxEvent.builder()
+        .id(1L)
+        .aggregateType(type.getAggregateType())
+        .aggregateId(7L)
+        .eventType(type)
+        .payload(payload)
+        .build();
+  }
+
+  @Test
+  void supports_onlyNotifyingOrderEvents() {
+    assertTrue(subscriber.supports(OutboxEventType.ORDER_CREATED));
+    assertTrue(subscriber.supports(OutboxEventType.ORDER_CANCELLED));
+    assertTrue(subscriber.supports(OutboxEventType.ORDER_STATUS_CHANGED));
+    assertFalse(subscriber.supports(OutboxEventType.PAYMENT_AUTHORIZED));
+    assertFalse(subscriber.supports(OutboxEventType.DELIVERY_ASSIGNED));
+  }
+
+  @Test
+  void handle_orderCreated_sendsConfirmation() {
+    Delivery delivery = new Delivery();
+    when(deliveryRepository.findByOrderId(7L)).thenReturn(Optional.of(delivery));
+
+    subscriber.handle(event(OutboxEventType.ORDER_CREATED, "{}"));
+
+    verify(notificationService).sendOrderConfirmation(delivery);
+  }
+
+  @Test
+  void handle_orderCancelled_sendsCancellation() {
+    Delivery delivery = new Delivery();
+    Order order = Order.builder().id(7L).delivery(delivery).build();
+    when(orderRepository.findById(7L)).thenReturn(Optional.of(order));
+
+    subscriber.handle(event(OutboxEventType.ORDER_CANCELLED, "{\"reason\":\"x\"}"));
+
+    verify(notificationService).sendOrderCancellation(delivery);
+  }
+
+  @Test
+  void handle_statusChangedToConfirmed_sendsStatusUpdate() {
+    User user = User.builder().id(3L).build();
+    Delivery delivery = new Delivery();
+    Order order = Order.builder().id(7L).user(user).delivery(delivery).build();
+    when(orderRepository.findById(7L)).thenReturn(Optional.of(order));
+
+    subscriber.handle(
+        event(OutboxEventType.ORDER_STATUS_CHANGED, "{\"from\":\"PENDING\",\"to\":\"CONFIRMED\"}"));
+
+    verify(notificationService).sendDeliveryStatusUpdate(user, delivery);
+  }
+
+  @Test
+  void handle_statusChangedToPreparing_sendsNothing() {
+    subscriber.handle(
+        event(
+            OutboxEventType.ORDER_STATUS_CHANGED, "{\"from\":\"CONFIRMED\",\"to\":\"PREPARING\"}"));
+
+    verifyNoInteractions(orderRepository, notificationService);
+  }
+
+  @Test
+  void handle_malformedPayload_throwsSoTheRelayRetries() {
+    assertThrows(
+        IllegalStateException.class,
+        () -> subscriber.handle(event(OutboxEventType.ORDER_STATUS_CHANGED, "not json")));
+    verify(notificationService, never()).sendDeliveryStatusUpdate(any(), any());
+  }
+}
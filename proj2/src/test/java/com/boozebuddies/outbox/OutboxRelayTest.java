@@ -0,0 +1,177 @@
+package com.boozebuddies.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.boozebuddies.entity.OutboxEvent;
+import com.boozebuddies.model.OutboxEventType;
+import com.boozebuddies.repository.OutboxEventRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+  @Mock private OutboxEventRepository outboxEventRepository;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private final List<Long> handled = new ArrayList<>();
+  private final List<Long> failing = new ArrayList<>();
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    OutboxSubscriber recorder =
+        new OutboxSubscriber() {
+          @Override
+          public boolean supports(OutboxEventType type) {
+            return type != OutboxEventType.PAYMENT_REFUNDED;
+          }
+
+          @Override
+          public void handle(OutboxEvent event) {
+            if (failing.contains(event.getId())) {
+              throw new IllegalStateException("Subscriber down");
+            }
+            handled.add(event.getId());
+          }
+        };
+    relay =
+        new OutboxRelay(outboxEventRepository, List.of(recorder), transactionManager, 10, 1000, 7);
+  }
+
+  private static OutboxEvent event(Long id, OutboxEventType type, Long aggregateId) {
+    return OutboxEvent.builder()
+        .id(id)
+        .aggregateType(type.getAggregateType())
+        .aggregateId(aggregateId)
+        .eventType(type)
+        .payload("{}")
+        .build();
+  }
+
+  // ==================== Relay Tests ====================
+
+  @Test
+  void relayBatch_publishesEventsInIdOrder() {
+    when(outboxEventRepository.findRelayable(any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(
+            List.of(
+                event(1L, OutboxEventType.ORDER_CREATED, 10L),
+                event(2L, OutboxEventType.DELIVERY_ASSIGNED, 20L),
+                event(3L, OutboxEventType.ORDER_STATUS_CHANGED, 10L)));
+
+    int published = relay.relayBatch();
+
+    assertEquals(3, published);
+    assertEquals(List.of(1L, 2L, 3L), handled);
+    verify(outboxEventRepository).markPublished(eq(1L), any(LocalDateTime.class));
+    verify(outboxEventRepository).markPublished(eq(2L), any(LocalDateTime.class));
+    verify(outboxEventRepository).markPublished(eq(3L), any(LocalDateTime.class));
+    verify(transactionManager, times(3)).commit(any());
+  }
+
+  @Test
+  void relayBatch_unsupportedEventIsStillMarkedPublished() {
+    when(outboxEventRepository.findRelayable(any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(List.of(event(1L, OutboxEventType.PAYMENT_REFUNDED, 10L)));
+
+    assertEquals(1, relay.relayBatch());
+    assertTrue(handled.isEmpty());
+    verify(outboxEventRepository).markPublished(eq(1L), any(LocalDateTime.class));
+  }
+
+  @Test
+  void relayBatch_failureBlocksLaterEventsOfSameAggregateOnly() {
+    failing.add(1L);
+    OutboxEvent first = event(1L, OutboxEventType.ORDER_CREATED, 10L);
+    when(outboxEventRepository.findRelayable(any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(
+            List.of(
+                first,
+                event(2L, OutboxEventType.ORDER_CREATED, 11L),
+                event(3L, OutboxEventType.ORDER_CANCELLED, 10L)));
+
+    int published = relay.relayBatch();
+
+    assertEquals(1, published);
+    assertEquals(List.of(2L), handled);
+    verify(outboxEventRepository, never()).markPublished(eq(1L), any());
+    verify(outboxEventRepository, never()).markPublished(eq(3L), any());
+    verify(outboxEventRepository).recordFailure(eq(1L), eq("Subscriber down"), any());
+    verify(transactionManager).rollback(any());
+  }
+
+  @Test
+  void relayBatch_failureBacksOffExponentially() {
+    failing.add(1L);
+    OutboxEvent event = event(1L, OutboxEventType.ORDER_CREATED, 10L);
+    event.setAttempts(3);
+    when(outboxEventRepository.findRelayable(any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(List.of(event));
+
+    LocalDateTime before = LocalDateTime.now();
+    relay.relayBatch();
+
+    ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(outboxEventRepository).recordFailure(eq(1L), anyString(), nextAttempt.capture());
+    // Fourth failure: 1000 ms doubled three times
+    assertFalse(nextAttempt.getValue().isBefore(before.plusSeconds(8)));
+    assertTrue(nextAttempt.getValue().isBefore(before.plusSeconds(9)));
+  }
+
+  @Test
+  void relayBatch_backoffIsCapped() {
+    failing.add(1L);
+    OutboxEvent event = event(1L, OutboxEventType.ORDER_CREATED, 10L);
+    event.setAttempts(40);
+    when(outboxEventRepository.findRelayable(any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(List.of(event));
+
+    LocalDateTime before = LocalDateTime.now();
+    relay.relayBatch();
+
+    ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(outboxEventRepository).recordFailure(eq(1L), anyString(), nextAttempt.capture());
+    LocalDateTime cap = before.plusNanos(OutboxRelay.MAX_BACKOFF_MS * 1_000_000);
+    assertFalse(nextAttempt.getValue().isBefore(cap));
+    assertTrue(nextAttempt.getValue().isBefore(cap.plusSeconds(1)));
+  }
+
+  @Test
+  void relayBatch_emptyOutboxPublishesNothing() {
+    when(outboxEventRepository.findRelayable(any(LocalDateTime.class), any(Pageable.class)))
+        .thenReturn(List.of());
+
+    assertEquals(0, relay.relayBatch());
+    verify(outboxEventRepository, never()).markPublished(anyLong(), any());
+  }
+
+  // ==================== Cleanup Tests ====================
+
+  @Test
+  void cleanup_deletesEventsPastRetention() {
+    when(outboxEventRepository.deletePublishedBefore(any(LocalDateTime.class))).thenReturn(4);
+
+    LocalDateTime before = LocalDateTime.now();
+    relay.cleanup();
+
+    ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(outboxEventRepository).deletePublishedBefore(cutoff.capture());
+    assertFalse(cutoff.getValue().isBefore(before.minusDays(7)));
+    assertTrue(cutoff.getValue().isBefore(before.minusDays(7).plusSeconds(1)));
+  }
+}
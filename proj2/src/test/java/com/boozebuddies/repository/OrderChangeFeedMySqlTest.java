@@ -0,0 +1,31 @@
+package com.boozebuddies.repository;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Runs the {@link OrderChangeFeedTest} checks against MySQL with the schema Flyway migrates, so
+ * column defaults and {@code ON UPDATE} clauses the entity mapping does not declare are covered.
+ *
+ * <p>Skipped unless {@code explain.url} points at a MySQL database, as for {@link
+ * RepositoryQueryPlanTest}. Each test is rolled back.
+ */
+@DataJpaTest(properties = {"spring.flyway.enabled=true", "spring.jpa.hibernate.ddl-auto=none"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "explain.url", matches = ".+")
+class OrderChangeFeedMySqlTest extends OrderChangeFeedTest {
+
+  @DynamicPropertySource
+  static void mysqlProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> System.getProperty("explain.url"));
+    registry.add(
+        "spring.datasource.username", () -> System.getProperty("explain.username", "app"));
+    registry.add(
+        "spring.datasource.password", () -> System.getProperty("explain.password", "app"));
+    registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+    registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+  }
+}
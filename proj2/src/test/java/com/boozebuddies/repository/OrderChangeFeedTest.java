@@ -0,0 +1,94 @@
+package com.boozebuddies.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.boozebuddies.entity.Merchant;
+import com.boozebuddies.entity.Order;
+import com.boozebuddies.entity.User;
+import com.boozebuddies.model.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Checks against the H2 test database which writes put an order into the merchant change feed.
+ * {@link OrderChangeFeedMySqlTest} runs the same checks against the Flyway-migrated MySQL schema.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderChangeFeedTest {
+
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private OrderRepository orderRepository;
+
+  private Merchant merchant;
+  private Order order;
+  private LocalDateTime seenAt;
+
+  @BeforeEach
+  void setUp() {
+    User user =
+        entityManager.persist(
+            User.builder().name("Customer").email("feed@example.com").passwordHash("x").build());
+    merchant =
+        entityManager.persist(Merchant.builder().name("Corner Store").address("1 Main St").build());
+    seenAt = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.SECONDS);
+    order =
+        entityManager.persist(
+            Order.builder()
+                .user(user)
+                .merchant(merchant)
+                .status(OrderStatus.PENDING)
+                .totalAmount(new BigDecimal("19.99"))
+                .deliveryAddress("2 Side St")
+                .createdAt(seenAt)
+                .updatedAt(seenAt)
+                .build());
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  /** Returns the merchant's orders changed since the client last saw the order. */
+  private List<Order> delta() {
+    return orderRepository.findMerchantChanges(
+        merchant.getId(),
+        seenAt,
+        order.getId(),
+        LocalDateTime.now().plusSeconds(1),
+        PageRequest.of(0, 10));
+  }
+
+  @Test
+  @DisplayName("refreshing the estimated delivery time does not surface the order in the delta")
+  void etaRefresh_notInDelta() {
+    LocalDateTime eta = LocalDateTime.now().plusMinutes(20).truncatedTo(ChronoUnit.SECONDS);
+
+    assertEquals(1, orderRepository.updateEstimatedDeliveryTime(order.getId(), eta));
+
+    Order reloaded = orderRepository.findById(order.getId()).orElseThrow();
+    assertEquals(eta, reloaded.getEstimatedDeliveryTime());
+    assertEquals(seenAt, reloaded.getUpdatedAt());
+    assertEquals(order.getVersion(), reloaded.getVersion());
+    assertTrue(delta().isEmpty());
+  }
+
+  @Test
+  @DisplayName("a status change surfaces the order in the delta")
+  void statusChange_inDelta() {
+    Order loaded = orderRepository.findById(order.getId()).orElseThrow();
+    loaded.setStatus(OrderStatus.CONFIRMED);
+    orderRepository.saveAndFlush(loaded);
+    entityManager.clear();
+
+    assertEquals(List.of(order.getId()), delta().stream().map(Order::getId).toList());
+  }
+}
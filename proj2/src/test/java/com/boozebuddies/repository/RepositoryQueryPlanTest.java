@@ -0,0 +1,380 @@
+package com.boozebuddies.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL behind every {@code @Query} repository method and fails when
+ * MySQL plans a full table or full index scan over more than {@code explain.max-scan-rows} rows.
+ *
+ * <p>Plans depend on table statistics, so the check is only meaningful against a MySQL database
+ * loaded with production-like volumes. It is skipped unless {@code explain.url} is set:
+ *
+ * <pre>
+ * mvn test -Dtest=RepositoryQueryPlanTest \
+ *     -Dexplain.url=jdbc:mysql://localhost:3306/boozebuddies \
+ *     -Dexplain.username=app -Dexplain.password=app -Dexplain.max-scan-rows=1000
+ * </pre>
+ *
+ * <p>Flyway migrates the schema on startup. Each method is invoked with sample arguments in a
+ * transaction that is rolled back, the statements it issues are captured by a recording proxy
+ * around the {@link DataSource}, and each one is replayed as {@code EXPLAIN} with the same bound
+ * parameters.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "explain.url", matches = ".+")
+class RepositoryQueryPlanTest {
+
+  /**
+   * Queries that scan by design: leading-wildcard searches, catalogue-wide rankings, bulk exports
+   * and table-wide row counts.
+   */
+  private static final Set<String> FULL_SCAN_EXPECTED =
+      Set.of(
+          "DeliveryRepository.streamExportRows",
+          "CategoryRepository.findWatermark",
+          "MerchantRepository.findWatermark",
+          "MerchantRepository.searchActiveMerchants",
+          "OrderRepository.streamExportRows",
+          "PaymentRepository.streamExportRows",
+          "ProductRepository.searchByKeyword",
+          "ProductRepository.findTopSellingProducts",
+          "UserRepository.searchUsers");
+
+  /** EXPLAIN access types that read every row of a table or index. */
+  private static final Set<String> FULL_SCAN_TYPES = Set.of("ALL", "index");
+
+  private static final ThreadLocal<List<CapturedStatement>> RECORDING = new ThreadLocal<>();
+
+  @Autowired private ApplicationContext context;
+  @Autowired private DataSource dataSource;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @DynamicPropertySource
+  static void mysqlProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> System.getProperty("explain.url"));
+    registry.add(
+        "spring.datasource.username", () -> System.getProperty("explain.username", "app"));
+    registry.add(
+        "spring.datasource.password", () -> System.getProperty("explain.password", "app"));
+    registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+    registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQLDialect");
+    registry.add("spring.flyway.enabled", () -> "true");
+  }
+
+  /**
+   * Wraps the application's routing data source so statements can be captured per test. The
+   * pools behind it are left alone so each statement is recorded once.
+   */
+  @TestConfiguration
+  static class RecordingDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor recordingDataSourcePostProcessor() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          return bean instanceof DataSource target && beanName.equals("dataSource")
+              ? recording(target)
+              : bean;
+        }
+      };
+    }
+  }
+
+  @TestFactory
+  Stream<DynamicTest> queryPlansAvoidLargeFullScans() {
+    long maxScanRows = Long.getLong("explain.max-scan-rows", 1000L);
+    List<DynamicTest> tests = new ArrayList<>();
+    for (Object repository : context.getBeansOfType(Repository.class).values()) {
+      for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(repository)) {
+        if (!type.getPackageName().equals(getClass().getPackageName())) {
+          continue;
+        }
+        Arrays.stream(type.getDeclaredMethods())
+            .filter(method -> method.isAnnotationPresent(Query.class))
+            .sorted(Comparator.comparing(Method::getName))
+            .forEach(
+                method -> {
+                  String name = type.getSimpleName() + "." + method.getName();
+                  tests.add(
+                      DynamicTest.dynamicTest(
+                          name, () -> assertPlan(name, repository, method, maxScanRows)));
+                });
+      }
+    }
+    tests.sort(Comparator.comparing(DynamicTest::getDisplayName));
+    return tests.stream();
+  }
+
+  private void assertPlan(String name, Object repository, Method method, long maxScanRows)
+      throws SQLException {
+    List<CapturedStatement> statements = capture(repository, method);
+    assertThat(statements).as("statements issued by %s", name).isNotEmpty();
+
+    List<String> violations = new ArrayList<>();
+    for (CapturedStatement statement : statements) {
+      for (PlanRow row : explain(statement)) {
+        if (FULL_SCAN_TYPES.contains(row.type()) && row.rows() > maxScanRows) {
+          violations.add(
+              String.format(
+                  "%s scans %d rows of %s (type=%s, key=%s)%n  %s",
+                  name, row.rows(), row.table(), row.type(), row.key(), statement.sql()));
+        }
+      }
+    }
+
+    if (!FULL_SCAN_EXPECTED.contains(name)) {
+      assertThat(violations).as("full scans above %d rows", maxScanRows).isEmpty();
+    }
+  }
+
+  /**
+   * Invokes a repository method with sample arguments and returns the statements it issued. The
+   * transaction is always rolled back so {@code @Modifying} queries leave no trace.
+   */
+  private List<CapturedStatement> capture(Object repository, Method method) {
+    Object[] arguments = sampleArguments(method);
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    return transaction.execute(
+        status -> {
+          status.setRollbackOnly();
+          List<CapturedStatement> statements = new ArrayList<>();
+          RECORDING.set(statements);
+          try {
+            // Close streaming results so the cursor is released before the rollback
+            if (method.invoke(repository, arguments) instanceof AutoCloseable result) {
+              result.close();
+            }
+          } catch (InvocationTargetException e) {
+            throw new IllegalStateException(
+                "Failed to invoke " + method.getName(), e.getTargetException());
+          } catch (Exception e) {
+            throw new IllegalStateException(e);
+          } finally {
+            RECORDING.remove();
+          }
+          return statements;
+        });
+  }
+
+  private List<PlanRow> explain(CapturedStatement statement) throws SQLException {
+    List<PlanRow> rows = new ArrayList<>();
+    if (!statement.isExplainable()) {
+      return rows;
+    }
+    try (Connection connection = dataSource.getConnection();
+        PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+      statement.bindTo(explain);
+      try (ResultSet result = explain.executeQuery()) {
+        while (result.next()) {
+          rows.add(
+              new PlanRow(
+                  result.getString("table"),
+                  result.getString("type"),
+                  result.getString("key"),
+                  result.getLong("rows")));
+        }
+      }
+    }
+    return rows;
+  }
+
+  // ==================== Sample Arguments ====================
+
+  private static Object[] sampleArguments(Method method) {
+    Type[] types = method.getGenericParameterTypes();
+    Object[] arguments = new Object[types.length];
+    for (int i = 0; i < types.length; i++) {
+      arguments[i] = sample(types[i], method);
+    }
+    return arguments;
+  }
+
+  private static Object sample(Type type, Method method) {
+    if (type instanceof ParameterizedType parameterized
+        && parameterized.getRawType() instanceof Class<?> raw
+        && Collection.class.isAssignableFrom(raw)) {
+      Type element = parameterized.getActualTypeArguments()[0];
+      if (element instanceof Class<?> elementClass && elementClass.isEnum()) {
+        return List.of(elementClass.getEnumConstants());
+      }
+      return List.of(sample(element, method));
+    }
+    if (!(type instanceof Class<?> cls)) {
+      throw new IllegalStateException("No sample value for " + type + " in " + method);
+    }
+    if (cls == Long.class || cls == long.class) {
+      return 1L;
+    }
+    if (cls == Integer.class || cls == int.class) {
+      return 10;
+    }
+    if (cls == Double.class || cls == double.class) {
+      return 1.0;
+    }
+    if (cls == Boolean.class || cls == boolean.class) {
+      return true;
+    }
+    if (cls == String.class) {
+      return "sample";
+    }
+    if (cls == BigDecimal.class) {
+      return BigDecimal.ONE;
+    }
+    if (cls == byte[].class) {
+      return new byte[32];
+    }
+    if (cls == LocalDateTime.class) {
+      return LocalDateTime.now();
+    }
+    if (cls == LocalDate.class) {
+      return LocalDate.now().minusYears(21);
+    }
+    if (cls == Instant.class) {
+      return Instant.now();
+    }
+    if (cls.isEnum()) {
+      return cls.getEnumConstants()[0];
+    }
+    if (cls == Pageable.class) {
+      return PageRequest.of(0, 20);
+    }
+    throw new IllegalStateException("No sample value for " + cls.getName() + " in " + method);
+  }
+
+  // ==================== Statement Recording ====================
+
+  /** A statement issued during a recording, with the setter calls that bound its parameters. */
+  private record CapturedStatement(String sql, List<Binding> bindings) {
+
+    boolean isExplainable() {
+      String verb = sql.stripLeading().toLowerCase(Locale.ROOT);
+      return verb.startsWith("select")
+          || verb.startsWith("with")
+          || verb.startsWith("update")
+          || verb.startsWith("delete");
+    }
+
+    void bindTo(PreparedStatement statement) throws SQLException {
+      for (Binding binding : bindings) {
+        try {
+          binding.setter().invoke(statement, binding.arguments());
+        } catch (IllegalAccessException | InvocationTargetException e) {
+          throw new SQLException("Failed to bind " + binding.setter().getName(), e);
+        }
+      }
+    }
+  }
+
+  /** A {@code PreparedStatement.setXxx(index, value, ...)} call to replay on the EXPLAIN. */
+  private record Binding(Method setter, Object[] arguments) {}
+
+  /** One row of MySQL's tabular EXPLAIN output. */
+  private record PlanRow(String table, String type, String key, long rows) {}
+
+  private static DataSource recording(DataSource target) {
+    return proxy(
+        DataSource.class,
+        target,
+        (proxy, method, args) -> {
+          Object result = invoke(target, method, args);
+          return result instanceof Connection connection ? recording(connection) : result;
+        });
+  }
+
+  private static Connection recording(Connection target) {
+    return proxy(
+        Connection.class,
+        target,
+        (proxy, method, args) -> {
+          Object result = invoke(target, method, args);
+          if (method.getName().equals("prepareStatement")
+              && result instanceof PreparedStatement statement) {
+            return recording(statement, (String) args[0]);
+          }
+          return result;
+        });
+  }
+
+  private static PreparedStatement recording(PreparedStatement target, String sql) {
+    Map<Integer, Binding> bindings = new TreeMap<>();
+    return proxy(
+        PreparedStatement.class,
+        target,
+        (proxy, method, args) -> {
+          String name = method.getName();
+          if (name.startsWith("set")
+              && args != null
+              && args.length >= 2
+              && args[0] instanceof Integer index) {
+            bindings.put(index, new Binding(method, args.clone()));
+          } else if (name.equals("clearParameters")) {
+            bindings.clear();
+          } else if (name.startsWith("execute") && RECORDING.get() != null) {
+            RECORDING.get().add(new CapturedStatement(sql, List.copyOf(bindings.values())));
+          }
+          return invoke(target, method, args);
+        });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+    return (T)
+        Proxy.newProxyInstance(
+            RepositoryQueryPlanTest.class.getClassLoader(), new Class<?>[] {type}, handler);
+  }
+}
@@ -0,0 +1,70 @@
+package com.boozebuddies.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.boozebuddies.entity.Driver;
+import com.boozebuddies.entity.User;
+import com.boozebuddies.model.Role;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JwtUtil Tests")
+class JwtUtilTest {
+
+  private final JwtUtil jwtUtil =
+      new JwtUtil("change_me_test_secret_which_is_long_enough_for_hmac", 60_000);
+
+  private User user(Role role) {
+    User user = new User();
+    user.setId(1L);
+    user.setEmail("john@example.com");
+    user.setName("John Doe");
+    user.addRole(role);
+    return user;
+  }
+
+  @Test
+  @DisplayName("a merchant admin's token carries their merchant")
+  void parseTokenClaims_merchantAdmin() {
+    User user = user(Role.MERCHANT_ADMIN);
+    user.setMerchantId(10L);
+
+    TokenClaims claims = jwtUtil.parseTokenClaims(jwtUtil.generateToken(user));
+
+    assertEquals(1L, claims.userId());
+    assertEquals("john@example.com", claims.email());
+    assertEquals(Set.of("MERCHANT_ADMIN"), claims.roles());
+    assertEquals(10L, claims.merchantId());
+    assertNull(claims.driverId());
+    assertNotNull(claims.issuedAt());
+  }
+
+  @Test
+  @DisplayName("a driver's token carries their driver profile")
+  void parseTokenClaims_driver() {
+    User user = user(Role.DRIVER);
+    Driver driver = new Driver();
+    driver.setId(7L);
+    user.setDriver(driver);
+
+    TokenClaims claims = jwtUtil.parseTokenClaims(jwtUtil.generateToken(user));
+
+    assertTrue(claims.hasRole(Role.DRIVER));
+    assertEquals(7L, claims.driverId());
+    assertNull(claims.merchantId());
+  }
+
+  @Test
+  @DisplayName("tampered, foreign and expired tokens have no claims")
+  void parseTokenClaims_invalidTokens() {
+    String token = jwtUtil.generateToken(user(Role.USER));
+    JwtUtil otherKey = new JwtUtil("another_test_secret_which_is_long_enough_for_hmac", 60_000);
+    JwtUtil expired = new JwtUtil("change_me_test_secret_which_is_long_enough_for_hmac", -1_000);
+
+    assertNull(jwtUtil.parseTokenClaims(token + "x"));
+    assertNull(otherKey.parseTokenClaims(token));
+    assertNull(jwtUtil.parseTokenClaims(expired.generateToken(user(Role.USER))));
+    assertNull(jwtUtil.parseTokenClaims("not-a-jwt"));
+  }
+}
@@ -0,0 +1,110 @@
+package com.boozebuddies.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.boozebuddies.exception.ServerBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordHasher Tests")
+class PasswordHasherTest {
+
+  @Mock private PasswordEncoder passwordEncoder;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private PasswordHasher hasher;
+
+  @AfterEach
+  void tearDown() {
+    if (hasher != null) {
+      hasher.destroy();
+    }
+  }
+
+  @Test
+  @DisplayName("matches and encode run on the monitored hashing pool")
+  void matchesAndEncode_runOnPool() {
+    hasher = new PasswordHasher(passwordEncoder, meterRegistry, 2, 4, 2000);
+    when(passwordEncoder.matches("secret", "hash"))
+        .thenAnswer(invocation -> Thread.currentThread().getName().startsWith("password-hash-"));
+    when(passwordEncoder.encode("secret")).thenReturn("{bcrypt}hash");
+
+    assertTrue(hasher.matches("secret", "hash"));
+    assertEquals("{bcrypt}hash", hasher.encode("secret"));
+    assertNotNull(meterRegistry.find("executor.queued").tag("name", "password.hashing").gauge());
+  }
+
+  @Test
+  @DisplayName("needsRehash asks the encoder on the calling thread")
+  void needsRehash_delegatesToEncoder() {
+    hasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, 2000);
+    when(passwordEncoder.upgradeEncoding("$2a$10$legacy")).thenReturn(true);
+
+    assertTrue(hasher.needsRehash("$2a$10$legacy"));
+  }
+
+  @Test
+  @DisplayName("a full queue sheds the hash with ServerBusyException")
+  void saturatedPool_rejects() throws Exception {
+    hasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 0, 5000);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(passwordEncoder.matches("slow", "hash"))
+        .thenAnswer(
+            invocation -> {
+              started.countDown();
+              return release.await(5, TimeUnit.SECONDS);
+            });
+
+    CompletableFuture<Boolean> first =
+        CompletableFuture.supplyAsync(() -> hasher.matches("slow", "hash"));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    assertThrows(ServerBusyException.class, () -> hasher.matches("fast", "hash"));
+    assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+    release.countDown();
+    assertTrue(first.get(5, TimeUnit.SECONDS));
+    verify(passwordEncoder, never()).matches("fast", "hash");
+  }
+
+  @Test
+  @DisplayName("a hash that does not finish in time fails with ServerBusyException")
+  void slowHash_timesOut() {
+    hasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, 50);
+    when(passwordEncoder.matches("slow", "hash"))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(5000);
+              return true;
+            });
+
+    assertThrows(ServerBusyException.class, () -> hasher.matches("slow", "hash"));
+    assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+  }
+
+  @Test
+  @DisplayName("encoder failures are rethrown unchanged")
+  void encoderFailure_isRethrown() {
+    hasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1, 2000);
+    when(passwordEncoder.matches("secret", "garbage"))
+        .thenThrow(new IllegalArgumentException("Encoded password does not look like BCrypt"));
+
+    IllegalArgumentException e =
+        assertThrows(IllegalArgumentException.class, () -> hasher.matches("secret", "garbage"));
+
+    assertEquals("Encoded password does not look like BCrypt", e.getMessage());
+  }
+}
@@ -0,0 +1,87 @@
+package com.boozebuddies.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.boozebuddies.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@DisplayName("RateLimitFilter Tests")
+class RateLimitFilterTest {
+
+  private RateLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    MockEnvironment environment =
+        new MockEnvironment()
+            .withProperty("rate-limit.driver-polling.capacity", "1")
+            .withProperty("rate-limit.driver-polling.refill-per-second", "0.5");
+    filter =
+        new RateLimitFilter(new RateLimiter(environment, new SimpleMeterRegistry(), 100, 4));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private static void authenticate(long userId, String role) {
+    User user = User.builder().id(userId).email("u" + userId + "@example.com").build();
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            new UsernamePasswordAuthenticationToken(
+                user, null, List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+  }
+
+  private MockHttpServletResponse locationPing() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(
+        new MockHttpServletRequest("PUT", "/api/drivers/my-profile/location"),
+        response,
+        new MockFilterChain());
+    return response;
+  }
+
+  @Test
+  void testOverLimit_Returns429WithRetryAfter() throws Exception {
+    authenticate(1L, "DRIVER");
+
+    assertEquals(200, locationPing().getStatus());
+    MockHttpServletResponse limited = locationPing();
+
+    assertEquals(429, limited.getStatus());
+    assertEquals("2", limited.getHeader("Retry-After"));
+    assertTrue(limited.getContentAsString().contains("Too many requests"));
+  }
+
+  @Test
+  void testAdmin_IsNotLimited() throws Exception {
+    authenticate(1L, "ADMIN");
+
+    assertEquals(200, locationPing().getStatus());
+    assertEquals(200, locationPing().getStatus());
+  }
+
+  @Test
+  void testNonApiPath_IsNotLimited() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, chain);
+
+    assertNotNull(chain.getRequest());
+    assertEquals(200, response.getStatus());
+  }
+}
@@ -0,0 +1,152 @@
+package com.boozebuddies.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+@DisplayName("RateLimiter Tests")
+class RateLimiterTest {
+
+  private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private RateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    MockEnvironment environment =
+        new MockEnvironment()
+            .withProperty("rate-limit.driver-polling.capacity", "2")
+            .withProperty("rate-limit.driver-polling.refill-per-second", "1");
+    rateLimiter = new RateLimiter(environment, meterRegistry, 100, 1, clock::get);
+  }
+
+  private void advance(Duration duration) {
+    clock.addAndGet(duration.toNanos());
+  }
+
+  private double decisions(RateLimitGroup group, String outcome) {
+    return meterRegistry
+        .get("rate.limit.decisions")
+        .tag("group", group.getPropertyName())
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  /** Acquires and immediately releases, as a completed request would. */
+  private RateLimiter.Decision request(RateLimitGroup group, String client) {
+    RateLimiter.Decision decision = rateLimiter.tryAcquire(group, client);
+    if (decision.admitted()) {
+      rateLimiter.release(group);
+    }
+    return decision;
+  }
+
+  // ==================== Token Bucket Tests ====================
+
+  @Test
+  void testBurstUpToCapacity_ThenLimitedWithRetryAfter() {
+    assertTrue(request(RateLimitGroup.DRIVER_POLLING, "user:1").admitted());
+    assertTrue(request(RateLimitGroup.DRIVER_POLLING, "user:1").admitted());
+
+    RateLimiter.Decision limited = request(RateLimitGroup.DRIVER_POLLING, "user:1");
+
+    assertFalse(limited.admitted());
+    assertEquals(1, limited.retryAfterSeconds());
+    assertEquals(2, decisions(RateLimitGroup.DRIVER_POLLING, "allowed"));
+    assertEquals(1, decisions(RateLimitGroup.DRIVER_POLLING, "limited"));
+  }
+
+  @Test
+  void testTokensRefillOverTime() {
+    request(RateLimitGroup.DRIVER_POLLING, "user:1");
+    request(RateLimitGroup.DRIVER_POLLING, "user:1");
+    assertFalse(request(RateLimitGroup.DRIVER_POLLING, "user:1").admitted());
+
+    advance(Duration.ofSeconds(1));
+
+    assertTrue(request(RateLimitGroup.DRIVER_POLLING, "user:1").admitted());
+  }
+
+  @Test
+  void testClientsAndGroups_HaveSeparateBuckets() {
+    request(RateLimitGroup.DRIVER_POLLING, "user:1");
+    request(RateLimitGroup.DRIVER_POLLING, "user:1");
+
+    assertTrue(request(RateLimitGroup.DRIVER_POLLING, "user:2").admitted());
+    assertTrue(request(RateLimitGroup.CHECKOUT, "user:1").admitted());
+  }
+
+  // ==================== Load Shedding Tests ====================
+
+  @Test
+  void testSaturatedPool_ShedsSheddableGroupsOverConcurrency() {
+    Timer.builder("hikaricp.connections.acquire")
+        .tag("pool", "primary")
+        .register(meterRegistry)
+        .record(500, TimeUnit.MILLISECONDS);
+
+    RateLimiter.Decision first = rateLimiter.tryAcquire(RateLimitGroup.DEFAULT, "user:1");
+    RateLimiter.Decision second = rateLimiter.tryAcquire(RateLimitGroup.DEFAULT, "user:2");
+
+    assertTrue(rateLimiter.isPoolSaturated());
+    assertTrue(first.admitted());
+    assertFalse(second.admitted());
+    assertEquals(1, second.retryAfterSeconds());
+    assertEquals(1, decisions(RateLimitGroup.DEFAULT, "shed"));
+    assertEquals(
+        1, meterRegistry.get("rate.limit.in.flight").tag("group", "default").gauge().value());
+
+    rateLimiter.release(RateLimitGroup.DEFAULT);
+    assertTrue(request(RateLimitGroup.DEFAULT, "user:2").admitted());
+  }
+
+  @Test
+  void testSaturatedPool_NeverShedsCheckout() {
+    Timer.builder("hikaricp.connections.acquire")
+        .tag("pool", "primary")
+        .register(meterRegistry)
+        .record(500, TimeUnit.MILLISECONDS);
+
+    assertTrue(rateLimiter.tryAcquire(RateLimitGroup.CHECKOUT, "user:1").admitted());
+    assertTrue(rateLimiter.tryAcquire(RateLimitGroup.CHECKOUT, "user:2").admitted());
+  }
+
+  @Test
+  void testFastPool_DoesNotShed() {
+    Timer.builder("hikaricp.connections.acquire")
+        .tag("pool", "primary")
+        .register(meterRegistry)
+        .record(5, TimeUnit.MILLISECONDS);
+
+    assertTrue(rateLimiter.tryAcquire(RateLimitGroup.DEFAULT, "user:1").admitted());
+    assertTrue(rateLimiter.tryAcquire(RateLimitGroup.DEFAULT, "user:2").admitted());
+    assertFalse(rateLimiter.isPoolSaturated());
+  }
+
+  // ==================== Group Classification Tests ====================
+
+  @Test
+  void testGroupClassification() {
+    assertEquals(RateLimitGroup.CHECKOUT, RateLimitGroup.of("POST", "/api/orders", true));
+    assertEquals(
+        RateLimitGroup.DRIVER_POLLING, RateLimitGroup.of("GET", "/api/orders/by-distance", true));
+    assertEquals(
+        RateLimitGroup.DRIVER_POLLING,
+        RateLimitGroup.of("PUT", "/api/drivers/my-profile/location", true));
+    assertEquals(
+        RateLimitGroup.DRIVER_POLLING,
+        RateLimitGroup.of("PUT", "/api/deliveries/7/location", true));
+    assertEquals(RateLimitGroup.DEFAULT, RateLimitGroup.of("GET", "/api/orders", true));
+    assertEquals(RateLimitGroup.PUBLIC, RateLimitGroup.of("GET", "/api/products", false));
+  }
+}
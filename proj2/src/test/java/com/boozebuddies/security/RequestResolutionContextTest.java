@@ -0,0 +1,169 @@
+package com.boozebuddies.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.boozebuddies.entity.Delivery;
+import com.boozebuddies.entity.Order;
+import com.boozebuddies.entity.User;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DisplayName("RequestResolutionContext Tests")
+class RequestResolutionContextTest {
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  private void startRequest() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+  }
+
+  @Test
+  void testUser_LoadedOncePerRequest() {
+    startRequest();
+    AtomicInteger loads = new AtomicInteger();
+    User user = User.builder().id(1L).email("test@example.com").build();
+
+    Optional<User> first =
+        RequestResolutionContext.user(
+            "test@example.com",
+            email -> {
+              loads.incrementAndGet();
+              return Optional.of(user);
+            });
+    Optional<User> second =
+        RequestResolutionContext.user(
+            "TEST@example.com",
+            email -> {
+              loads.incrementAndGet();
+              return Optional.of(user);
+            });
+
+    assertSame(first.get(), second.get());
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testOrder_MissingOrderIsAlsoMemoized() {
+    startRequest();
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      Optional<Order> order =
+          RequestResolutionContext.order(
+              42L,
+              id -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+              });
+      assertTrue(order.isEmpty());
+    }
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testDelivery_DistinctIdsLoadedSeparately() {
+    startRequest();
+    AtomicInteger loads = new AtomicInteger();
+
+    Delivery first =
+        RequestResolutionContext.delivery(
+            1L,
+            id -> {
+              loads.incrementAndGet();
+              return Delivery.builder().id(id).build();
+            });
+    Delivery second =
+        RequestResolutionContext.delivery(
+            2L,
+            id -> {
+              loads.incrementAndGet();
+              return Delivery.builder().id(id).build();
+            });
+
+    assertEquals(1L, first.getId());
+    assertEquals(2L, second.getId());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testNewRequest_StartsWithEmptyContext() {
+    AtomicInteger loads = new AtomicInteger();
+
+    startRequest();
+    RequestResolutionContext.order(7L, id -> Optional.of(countedOrder(loads, id)));
+    startRequest();
+    RequestResolutionContext.order(7L, id -> Optional.of(countedOrder(loads, id)));
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testNoRequest_LoaderCalledEveryTime() {
+    AtomicInteger loads = new AtomicInteger();
+
+    RequestResolutionContext.order(7L, id -> Optional.of(countedOrder(loads, id)));
+    RequestResolutionContext.order(7L, id -> Optional.of(countedOrder(loads, id)));
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testLoaderFailure_IsNotCached() {
+    startRequest();
+
+    assertThrows(
+        RuntimeException.class,
+        () ->
+            RequestResolutionContext.order(
+                9L,
+                id -> {
+                  throw new RuntimeException("db down");
+                }));
+    Optional<Order> retried =
+        RequestResolutionContext.order(9L, id -> Optional.of(Order.builder().id(id).build()));
+
+    assertEquals(9L, retried.get().getId());
+  }
+
+  @Test
+  void testNullIds_ReturnEmptyWithoutLoading() {
+    startRequest();
+
+    assertTrue(
+        RequestResolutionContext.order(
+                null,
+                id -> {
+                  throw new AssertionError("should not load");
+                })
+            .isEmpty());
+    assertNull(
+        RequestResolutionContext.delivery(
+            null,
+            id -> {
+              throw new AssertionError("should not load");
+            }));
+    assertTrue(
+        RequestResolutionContext.user(
+                null,
+                email -> {
+                  throw new AssertionError("should not load");
+                })
+            .isEmpty());
+  }
+
+  private static Order countedOrder(AtomicInteger loads, Long id) {
+    loads.incrementAndGet();
+    return Order.builder().id(id).build();
+  }
+}
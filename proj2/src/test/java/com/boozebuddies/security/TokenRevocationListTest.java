@@ -0,0 +1,50 @@
+package com.boozebuddies.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenRevocationList Tests")
+class TokenRevocationListTest {
+
+  private final TokenRevocationList revocationList = new TokenRevocationList(60_000);
+
+  @Test
+  @DisplayName("tokens issued before a revocation are revoked, later ones are not")
+  void revoke_onlyAffectsEarlierTokens() {
+    Instant before = Instant.now().minusSeconds(5);
+
+    revocationList.revoke(1L);
+
+    assertTrue(revocationList.isRevoked(1L, before));
+    assertFalse(revocationList.isRevoked(1L, Instant.now().plusSeconds(5)));
+  }
+
+  @Test
+  @DisplayName("a token issued in the same second as the revocation counts as revoked")
+  void revoke_sameSecondIsRevoked() {
+    Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    revocationList.revoke(1L);
+
+    assertTrue(revocationList.isRevoked(1L, issuedAt));
+  }
+
+  @Test
+  @DisplayName("other users' tokens are unaffected")
+  void revoke_isPerUser() {
+    revocationList.revoke(1L);
+
+    assertFalse(revocationList.isRevoked(2L, Instant.now().minusSeconds(5)));
+  }
+
+  @Test
+  @DisplayName("tokens without a user or issue time are never trusted")
+  void isRevoked_missingClaims() {
+    assertTrue(revocationList.isRevoked(null, Instant.now()));
+    assertTrue(revocationList.isRevoked(1L, null));
+  }
+}
@@ -12,12 +12,15 @@ import com.boozebuddies.dto.UserDTO;
 import com.boozebuddies.entity.User;
 import com.boozebuddies.exception.InvalidCredentialsException;
 import com.boozebuddies.exception.InvalidTokenException;
+import com.boozebuddies.exception.ServerBusyException;
 import com.boozebuddies.mapper.UserMapper;
 import com.boozebuddies.security.JwtUtil;
+import com.boozebuddies.security.PasswordHasher;
 import com.boozebuddies.service.DriverService;
+import com.boozebuddies.service.RefreshTokenService;
+import com.boozebuddies.service.RefreshTokenService.Rotation;
 import com.boozebuddies.service.UserService;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,7 +28,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AuthenticationService Tests")
@@ -33,9 +35,10 @@ class AuthenticationServiceImplTest {
 
   @Mock private UserService userService;
   @Mock private DriverService driverService;
-  @Mock private PasswordEncoder passwordEncoder;
+  @Mock private PasswordHasher passwordHasher;
   @Mock private JwtUtil jwtUtil;
   @Mock private UserMapper userMapper;
+  @Mock private RefreshTokenService refreshTokenService;
 
   private AuthenticationServiceImpl authenticationService;
 
@@ -51,11 +54,10 @@ class AuthenticationServiceImplTest {
         new AuthenticationServiceImpl(
             userService,
             driverService,
-            passwordEncoder,
+            passwordHasher,
             jwtUtil,
             userMapper,
-            604800000L // refreshExpirationMs value
-            );
+            refreshTokenService);
 
     testUser =
         User.builder()
@@ -92,11 +94,9 @@ class AuthenticationServiceImplTest {
   @DisplayName("register should successfully register a new user")
   void register_ValidRequest_Success() {
     when(userService.registerUser(registerRequest)).thenReturn(testUser);
-    when(jwtUtil.generateToken(testUser)).thenReturn("access-token", "refresh-token");
+    when(jwtUtil.generateToken(testUser)).thenReturn("access-token");
+    when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
     when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
-    doNothing()
-        .when(userService)
-        .saveRefreshToken(anyLong(), anyString(), any(LocalDateTime.class));
 
     AuthenticationResponse response = authenticationService.register(registerRequest);
 
@@ -107,29 +107,23 @@ class AuthenticationServiceImplTest {
     assertEquals("Registration successful", response.getMessage());
 
     verify(userService, times(1)).registerUser(registerRequest);
-    verify(jwtUtil, times(2)).generateToken(testUser);
-    verify(userService, times(1))
-        .saveRefreshToken(eq(1L), eq("refresh-token"), any(LocalDateTime.class));
+    verify(jwtUtil, times(1)).generateToken(testUser);
+    verify(refreshTokenService, times(1)).issue(testUser);
     verify(userMapper, times(1)).toDTO(testUser);
   }
 
   @Test
-  @DisplayName("register should save refresh token with correct expiry")
-  void register_SavesRefreshTokenWithExpiry() {
+  @DisplayName("register should issue a refresh token distinct from the access token")
+  void register_IssuesSeparateRefreshToken() {
     when(userService.registerUser(registerRequest)).thenReturn(testUser);
-    when(jwtUtil.generateToken(testUser)).thenReturn("access-token", "refresh-token");
+    when(jwtUtil.generateToken(testUser)).thenReturn("access-token");
+    when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
     when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
-    doNothing()
-        .when(userService)
-        .saveRefreshToken(anyLong(), anyString(), any(LocalDateTime.class));
 
-    authenticationService.register(registerRequest);
+    AuthenticationResponse response = authenticationService.register(registerRequest);
 
-    verify(userService)
-        .saveRefreshToken(
-            eq(1L),
-            eq("refresh-token"),
-            argThat(expiry -> expiry != null && expiry.isAfter(LocalDateTime.now())));
+    assertNotEquals(response.getToken(), response.getRefreshToken());
+    verify(refreshTokenService).issue(testUser);
   }
 
   // ==================== LOGIN TESTS ====================
@@ -138,13 +132,11 @@ class AuthenticationServiceImplTest {
   @DisplayName("login should successfully authenticate user with valid credentials")
   void login_ValidCredentials_Success() {
     when(userService.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
-    when(passwordEncoder.matches("Password123", testUser.getPasswordHash())).thenReturn(true);
-    when(jwtUtil.generateToken(testUser)).thenReturn("access-token", "refresh-token");
+    when(passwordHasher.matches("Password123", testUser.getPasswordHash())).thenReturn(true);
+    when(jwtUtil.generateToken(testUser)).thenReturn("access-token");
+    when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
     when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
     doNothing().when(userService).updateLastLogin(1L);
-    doNothing()
-        .when(userService)
-        .saveRefreshToken(anyLong(), anyString(), any(LocalDateTime.class));
 
     AuthenticationResponse response = authenticationService.login(loginRequest);
 
@@ -155,10 +147,10 @@ class AuthenticationServiceImplTest {
     assertEquals("Login successful", response.getMessage());
 
     verify(userService, times(1)).findByEmail("john@example.com");
-    verify(passwordEncoder, times(1)).matches("Password123", testUser.getPasswordHash());
+    verify(passwordHasher, times(1)).matches("Password123", testUser.getPasswordHash());
     verify(userService, times(1)).updateLastLogin(1L);
-    verify(jwtUtil, times(2)).generateToken(testUser);
-    verify(userService, times(1)).saveRefreshToken(eq(1L), anyString(), any(LocalDateTime.class));
+    verify(jwtUtil, times(1)).generateToken(testUser);
+    verify(refreshTokenService, times(1)).issue(testUser);
   }
 
   @Test
@@ -208,14 +200,14 @@ class AuthenticationServiceImplTest {
 
     assertEquals("Invalid email or password", exception.getMessage());
     verify(userService, times(1)).findByEmail("john@example.com");
-    verify(passwordEncoder, never()).matches(any(), any());
+    verify(passwordHasher, never()).matches(any(), any());
   }
 
   @Test
   @DisplayName("login should throw exception when password is incorrect")
   void login_IncorrectPassword_ThrowsException() {
     when(userService.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
-    when(passwordEncoder.matches("WrongPassword", testUser.getPasswordHash())).thenReturn(false);
+    when(passwordHasher.matches("WrongPassword", testUser.getPasswordHash())).thenReturn(false);
 
     loginRequest.setPassword("WrongPassword");
 
@@ -224,7 +216,7 @@ class AuthenticationServiceImplTest {
             InvalidCredentialsException.class, () -> authenticationService.login(loginRequest));
 
     assertEquals("Invalid email or password", exception.getMessage());
-    verify(passwordEncoder, times(1)).matches("WrongPassword", testUser.getPasswordHash());
+    verify(passwordHasher, times(1)).matches("WrongPassword", testUser.getPasswordHash());
     verify(jwtUtil, never()).generateToken(any());
   }
 
@@ -233,7 +225,7 @@ class AuthenticationServiceImplTest {
   void login_DeactivatedAccount_ThrowsException() {
     testUser.setActive(false);
     when(userService.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
-    when(passwordEncoder.matches("Password123", testUser.getPasswordHash())).thenReturn(true);
+    when(passwordHasher.matches("Password123", testUser.getPasswordHash())).thenReturn(true);
 
     InvalidCredentialsException exception =
         assertThrows(
@@ -248,30 +240,89 @@ class AuthenticationServiceImplTest {
   @DisplayName("login should update last login timestamp")
   void login_UpdatesLastLogin() {
     when(userService.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
-    when(passwordEncoder.matches("Password123", testUser.getPasswordHash())).thenReturn(true);
-    when(jwtUtil.generateToken(testUser)).thenReturn("access-token", "refresh-token");
+    when(passwordHasher.matches("Password123", testUser.getPasswordHash())).thenReturn(true);
+    when(jwtUtil.generateToken(testUser)).thenReturn("access-token");
+    when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
     when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
     doNothing().when(userService).updateLastLogin(1L);
-    doNothing()
-        .when(userService)
-        .saveRefreshToken(anyLong(), anyString(), any(LocalDateTime.class));
 
     authenticationService.login(loginRequest);
 
     verify(userService, times(1)).updateLastLogin(1L);
   }
 
+  @Test
+  @DisplayName("login should rehash a password stored with outdated parameters")
+  void login_OutdatedHash_Rehashes() {
+    when(userService.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
+    when(passwordHasher.matches("Password123", testUser.getPasswordHash())).thenReturn(true);
+    when(passwordHasher.needsRehash(testUser.getPasswordHash())).thenReturn(true);
+    when(passwordHasher.encode("Password123")).thenReturn("{bcrypt}$2a$12$rehashed...");
+    when(jwtUtil.generateToken(testUser)).thenReturn("access-token");
+    when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
+    when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
+
+    authenticationService.login(loginRequest);
+
+    verify(userService).updatePasswordHash(1L, "{bcrypt}$2a$12$rehashed...");
+  }
+
+  @Test
+  @DisplayName("login should keep a password hash that is already up to date")
+  void login_CurrentHash_NotRehashed() {
+    when(userService.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
+    when(passwordHasher.matches("Password123", testUser.getPasswordHash())).thenReturn(true);
+    when(passwordHasher.needsRehash(testUser.getPasswordHash())).thenReturn(false);
+    when(jwtUtil.generateToken(testUser)).thenReturn("access-token");
+    when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
+    when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
+
+    authenticationService.login(loginRequest);
+
+    verify(passwordHasher, never()).encode(any());
+    verify(userService, never()).updatePasswordHash(any(), any());
+  }
+
+  @Test
+  @DisplayName("login should still succeed when the hashing pool is too busy to rehash")
+  void login_RehashBusy_StillSucceeds() {
+    when(userService.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
+    when(passwordHasher.matches("Password123", testUser.getPasswordHash())).thenReturn(true);
+    when(passwordHasher.needsRehash(testUser.getPasswordHash())).thenReturn(true);
+    when(passwordHasher.encode("Password123")).thenThrow(new ServerBusyException("busy"));
+    when(jwtUtil.generateToken(testUser)).thenReturn("access-token");
+    when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
+    when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
+
+    AuthenticationResponse response = authenticationService.login(loginRequest);
+
+    assertEquals("access-token", response.getToken());
+    verify(userService, never()).updatePasswordHash(any(), any());
+  }
+
+  @Test
+  @DisplayName("login should fail fast when the hashing pool is saturated")
+  void login_HashingBusy_Throws() {
+    when(userService.findByEmail("john@example.com")).thenReturn(Optional.of(testUser));
+    when(passwordHasher.matches("Password123", testUser.getPasswordHash()))
+        .thenThrow(new ServerBusyException("busy"));
+
+    assertThrows(ServerBusyException.class, () -> authenticationService.login(loginRequest));
+
+    verify(userService, never()).updateLastLogin(any());
+    verify(jwtUtil, never()).generateToken(any());
+  }
+
   // ==================== REFRESH TOKEN TESTS ====================
 
   @Test
-  @DisplayName("refreshToken should generate new access token with valid refresh token")
+  @DisplayName("refreshToken should rotate the refresh token and issue a new access token")
   void refreshToken_ValidToken_Success() {
     RefreshTokenRequest request = new RefreshTokenRequest();
     request.setRefreshToken("valid-refresh-token");
 
-    when(userService.isRefreshTokenValid("valid-refresh-token")).thenReturn(true);
-    when(userService.findByRefreshToken("valid-refresh-token")).thenReturn(Optional.of(testUser));
-    when(jwtUtil.extractUsername("valid-refresh-token")).thenReturn("john@example.com");
+    when(refreshTokenService.rotate("valid-refresh-token"))
+        .thenReturn(new Rotation(testUser, "next-refresh-token"));
     when(jwtUtil.generateToken(testUser)).thenReturn("new-access-token");
     when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
 
@@ -279,13 +330,11 @@ class AuthenticationServiceImplTest {
 
     assertNotNull(response);
     assertEquals("new-access-token", response.getToken());
-    assertEquals("valid-refresh-token", response.getRefreshToken()); // Same refresh token
+    assertEquals("next-refresh-token", response.getRefreshToken());
     assertEquals("john@example.com", response.getUser().getEmail());
     assertEquals("Token refreshed successfully", response.getMessage());
 
-    verify(userService, times(1)).isRefreshTokenValid("valid-refresh-token");
-    verify(userService, times(1)).findByRefreshToken("valid-refresh-token");
-    verify(jwtUtil, times(1)).extractUsername("valid-refresh-token");
+    verify(refreshTokenService, times(1)).rotate("valid-refresh-token");
     verify(jwtUtil, times(1)).generateToken(testUser);
   }
 
@@ -296,7 +345,7 @@ class AuthenticationServiceImplTest {
         assertThrows(InvalidTokenException.class, () -> authenticationService.refreshToken(null));
 
     assertEquals("Refresh token is required", exception.getMessage());
-    verify(userService, never()).isRefreshTokenValid(any());
+    verify(refreshTokenService, never()).rotate(any());
   }
 
   @Test
@@ -310,7 +359,7 @@ class AuthenticationServiceImplTest {
             InvalidTokenException.class, () -> authenticationService.refreshToken(request));
 
     assertEquals("Refresh token is required", exception.getMessage());
-    verify(userService, never()).isRefreshTokenValid(any());
+    verify(refreshTokenService, never()).rotate(any());
   }
 
   @Test
@@ -319,50 +368,14 @@ class AuthenticationServiceImplTest {
     RefreshTokenRequest request = new RefreshTokenRequest();
     request.setRefreshToken("invalid-token");
 
-    when(userService.isRefreshTokenValid("invalid-token")).thenReturn(false);
+    when(refreshTokenService.rotate("invalid-token"))
+        .thenThrow(new InvalidTokenException("Invalid or expired refresh token"));
 
     InvalidTokenException exception =
         assertThrows(
             InvalidTokenException.class, () -> authenticationService.refreshToken(request));
 
     assertEquals("Invalid or expired refresh token", exception.getMessage());
-    verify(userService, times(1)).isRefreshTokenValid("invalid-token");
-    verify(userService, never()).findByRefreshToken(any());
-  }
-
-  @Test
-  @DisplayName("refreshToken should throw exception when user not found")
-  void refreshToken_UserNotFound_ThrowsException() {
-    RefreshTokenRequest request = new RefreshTokenRequest();
-    request.setRefreshToken("valid-token");
-
-    when(userService.isRefreshTokenValid("valid-token")).thenReturn(true);
-    when(userService.findByRefreshToken("valid-token")).thenReturn(Optional.empty());
-
-    InvalidTokenException exception =
-        assertThrows(
-            InvalidTokenException.class, () -> authenticationService.refreshToken(request));
-
-    assertEquals("Refresh token not found", exception.getMessage());
-    verify(userService, times(1)).findByRefreshToken("valid-token");
-  }
-
-  @Test
-  @DisplayName("refreshToken should throw exception when token doesn't match user")
-  void refreshToken_TokenMismatch_ThrowsException() {
-    RefreshTokenRequest request = new RefreshTokenRequest();
-    request.setRefreshToken("valid-token");
-
-    when(userService.isRefreshTokenValid("valid-token")).thenReturn(true);
-    when(userService.findByRefreshToken("valid-token")).thenReturn(Optional.of(testUser));
-    when(jwtUtil.extractUsername("valid-token")).thenReturn("different@example.com");
-
-    InvalidTokenException exception =
-        assertThrows(
-            InvalidTokenException.class, () -> authenticationService.refreshToken(request));
-
-    assertEquals("Token does not match user", exception.getMessage());
-    verify(jwtUtil, times(1)).extractUsername("valid-token");
     verify(jwtUtil, never()).generateToken(any());
   }
 
@@ -373,9 +386,8 @@ class AuthenticationServiceImplTest {
     request.setRefreshToken("valid-token");
 
     testUser.setActive(false);
-    when(userService.isRefreshTokenValid("valid-token")).thenReturn(true);
-    when(userService.findByRefreshToken("valid-token")).thenReturn(Optional.of(testUser));
-    when(jwtUtil.extractUsername("valid-token")).thenReturn("john@example.com");
+    when(refreshTokenService.rotate("valid-token"))
+        .thenReturn(new Rotation(testUser, "next-refresh-token"));
 
     InvalidCredentialsException exception =
         assertThrows(
@@ -0,0 +1,103 @@
+package com.boozebuddies.service.implementation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.boozebuddies.dto.SystemBroadcastDTO;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BroadcastRingTest {
+
+  private final BroadcastRing ring = new BroadcastRing(4);
+
+  private static SystemBroadcastDTO broadcast(long id) {
+    return SystemBroadcastDTO.builder().id(id).message("message " + id).build();
+  }
+
+  private static List<Long> ids(List<SystemBroadcastDTO> broadcasts) {
+    return broadcasts.stream().map(SystemBroadcastDTO::getId).toList();
+  }
+
+  @Test
+  @DisplayName("an empty ring has version 0 and no broadcasts")
+  void empty() {
+    assertEquals(0, ring.version());
+    assertTrue(ring.newerThan(0).isEmpty());
+  }
+
+  @Test
+  @DisplayName("broadcasts are returned newest first and the oldest are overwritten")
+  void publish_keepsNewestInOrder() {
+    for (long id = 1; id <= 6; id++) {
+      ring.publish(broadcast(id));
+    }
+
+    assertEquals(6, ring.version());
+    assertEquals(List.of(6L, 5L, 4L, 3L), ids(ring.newerThan(0)));
+    assertEquals(List.of(6L, 5L), ids(ring.newerThan(4)));
+    assertTrue(ring.newerThan(6).isEmpty());
+  }
+
+  @Test
+  @DisplayName("publishing out of order, as a warm start racing new broadcasts does, keeps order")
+  void publish_outOfOrder_keepsOrder() {
+    ring.publish(broadcast(9));
+    ring.publish(broadcast(8));
+    ring.publish(broadcast(7));
+    // 5 maps to the slot that 9 holds and is older, so it is dropped
+    ring.publish(broadcast(5));
+    ring.publish(broadcast(6));
+
+    assertEquals(9, ring.version());
+    assertEquals(List.of(9L, 8L, 7L, 6L), ids(ring.newerThan(0)));
+  }
+
+  @Test
+  @DisplayName("IDs that were never published are skipped")
+  void newerThan_skipsGaps() {
+    ring.publish(broadcast(1));
+    ring.publish(broadcast(3));
+    ring.publish(broadcast(6));
+
+    assertEquals(List.of(6L, 3L), ids(ring.newerThan(0)));
+  }
+
+  @Test
+  @DisplayName("concurrent publishers leave the newest broadcasts, each exactly once")
+  void publish_concurrent_keepsNewest() throws Exception {
+    BroadcastRing large = new BroadcastRing(50);
+    int threads = 16;
+    AtomicLong ids = new AtomicLong();
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      for (int i = 0; i < 1_000; i++) {
+        pool.execute(
+            () -> {
+              try {
+                start.await();
+                large.publish(broadcast(ids.incrementAndGet()));
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+      }
+      start.countDown();
+    } finally {
+      pool.shutdown();
+      assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    List<Long> result = ids(large.newerThan(0));
+    assertEquals(1_000, large.version());
+    assertEquals(50, result.size());
+    assertEquals(1_000L, result.get(0));
+    assertEquals(951L, result.get(49));
+  }
+}
@@ -9,7 +9,10 @@ import com.boozebuddies.entity.Delivery;
 import com.boozebuddies.entity.Driver;
 import com.boozebuddies.entity.Order;
 import com.boozebuddies.model.DeliveryStatus;
+import com.boozebuddies.model.OutboxEventType;
 import com.boozebuddies.repository.DeliveryRepository;
+import com.boozebuddies.service.InventoryService;
+import com.boozebuddies.service.OutboxService;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -17,16 +20,25 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 class DeliveryServiceImplTest {
 
   private DeliveryRepository repository;
+  private OutboxService outboxService;
+  private PlatformTransactionManager transactionManager;
+  private InventoryService inventoryService;
   private DeliveryServiceImpl service;
 
   @BeforeEach
   void setUp() {
     repository = mock(DeliveryRepository.class);
-    service = new DeliveryServiceImpl(repository);
+    outboxService = mock(OutboxService.class);
+    transactionManager = mock(PlatformTransactionManager.class);
+    inventoryService = mock(InventoryService.class);
+    service =
+        new DeliveryServiceImpl(repository, outboxService, transactionManager, inventoryService);
   }
 
   @Test
@@ -88,6 +100,11 @@ class DeliveryServiceImplTest {
     assertNotNull(cancelled);
     assertEquals(DeliveryStatus.CANCELLED, cancelled.getStatus());
     assertEquals("Customer requested", cancelled.getCancellationReason());
+    verify(outboxService)
+        .record(
+            OutboxEventType.DELIVERY_CANCELLED,
+            2L,
+            OutboxService.payload("reason", "Customer requested"));
     assertThrows(RuntimeException.class, () -> service.cancelDelivery(404L, "x"));
   }
 
@@ -205,26 +222,20 @@ class DeliveryServiceImplTest {
   @Test
   @DisplayName("updateDeliveryLocation updates coordinates and timestamps")
   void updateDeliveryLocation_updatesCoordinates() {
-    Delivery existing = Delivery.builder().id(3L).build();
-    when(repository.findById(3L)).thenReturn(Optional.of(existing));
-    when(repository.save(any(Delivery.class))).thenAnswer(inv -> inv.getArgument(0));
+    when(repository.updateLocation(eq(3L), eq(35.123), eq(-80.987), any())).thenReturn(1);
 
     service.updateDeliveryLocation(3L, 35.123, -80.987);
 
     verify(repository, times(1))
-        .save(
-            argThat(
-                delivery ->
-                    delivery.getCurrentLatitude().equals(35.123)
-                        && delivery.getCurrentLongitude().equals(-80.987)
-                        && delivery.getLastLocationUpdate() != null
-                        && delivery.getUpdatedAt() != null));
+        .updateLocation(eq(3L), eq(35.123), eq(-80.987), argThat(now -> now != null));
+    verify(repository, never()).findById(any());
+    verify(repository, never()).save(any());
   }
 
   @Test
   @DisplayName("updateDeliveryLocation throws when delivery not found")
   void updateDeliveryLocation_notFoundThrows() {
-    when(repository.findById(404L)).thenReturn(Optional.empty());
+    when(repository.updateLocation(eq(404L), any(), any(), any())).thenReturn(0);
     assertThrows(RuntimeException.class, () -> service.updateDeliveryLocation(404L, 1.0, 2.0));
   }
 
@@ -247,6 +258,42 @@ class DeliveryServiceImplTest {
     assertEquals(DeliveryStatus.DELIVERED, delivered.getStatus());
   }
 
+  @Test
+  @DisplayName("updateDeliveryStatus commits the order's stock once on delivery")
+  void updateDeliveryStatus_commitsStock() {
+    Order order = new Order();
+    order.setId(7L);
+    Delivery delivery =
+        Delivery.builder().id(12L).order(order).status(DeliveryStatus.PICKED_UP).build();
+    when(repository.findById(12L)).thenReturn(Optional.of(delivery));
+    when(repository.save(any(Delivery.class))).thenAnswer(inv -> inv.getArgument(0));
+
+    service.updateDeliveryStatus(12L, DeliveryStatus.DELIVERED);
+    service.updateDeliveryStatus(12L, DeliveryStatus.DELIVERED);
+
+    verify(inventoryService, times(1)).commit(7L);
+  }
+
+  @Test
+  @DisplayName("updateDeliveryStatus reloads and retries after a concurrent update")
+  void updateDeliveryStatus_retriesOnConflict() {
+    Delivery stale = Delivery.builder().id(11L).status(DeliveryStatus.ASSIGNED).build();
+    Delivery fresh = Delivery.builder().id(11L).status(DeliveryStatus.ASSIGNED).build();
+    when(repository.findById(11L)).thenReturn(Optional.of(stale)).thenReturn(Optional.of(fresh));
+    when(repository.save(any(Delivery.class))).thenAnswer(inv -> inv.getArgument(0));
+    doThrow(new ObjectOptimisticLockingFailureException(Delivery.class, 11L))
+        .doNothing()
+        .when(transactionManager)
+        .commit(any());
+
+    Delivery result = service.updateDeliveryStatus(11L, DeliveryStatus.PICKED_UP);
+
+    assertSame(fresh, result);
+    assertEquals(DeliveryStatus.PICKED_UP, result.getStatus());
+    verify(repository, times(2)).findById(11L);
+    verify(transactionManager, times(2)).commit(any());
+  }
+
   @Test
   @DisplayName("getDeliveryByOrderId returns delivery when found")
   void getDeliveryByOrderId_returnsDelivery() {
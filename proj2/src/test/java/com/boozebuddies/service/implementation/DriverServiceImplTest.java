@@ -2,6 +2,7 @@ package com.boozebuddies.service.implementation;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.boozebuddies.entity.Driver;
@@ -62,14 +63,16 @@ class DriverServiceImplTest {
   @DisplayName("updateAvailability toggles availability when driver exists, null otherwise")
   void updateAvailability_updatesOrNull() {
     Driver driver = Driver.builder().id(2L).name("Charlie").build();
+    driver.setAvailable(true);
+    when(repository.updateAvailability(eq(2L), eq(true), any())).thenReturn(1);
+    when(repository.updateAvailability(eq(404L), eq(true), any())).thenReturn(0);
     when(repository.findById(2L)).thenReturn(Optional.of(driver));
-    when(repository.findById(404L)).thenReturn(Optional.empty());
-    when(repository.save(any(Driver.class))).thenAnswer(inv -> inv.getArgument(0));
 
     Driver updated = service.updateAvailability(2L, true);
     assertNotNull(updated);
     assertTrue(updated.isAvailable());
     assertNull(service.updateAvailability(404L, true));
+    verify(repository, never()).save(any(Driver.class));
   }
 
   @Test
@@ -130,22 +133,25 @@ class DriverServiceImplTest {
   @Test
   @DisplayName("updateDriverLocation updates coordinates and time when found")
   void updateDriverLocation_updatesSuccessfully() {
-    Driver existing = Driver.builder().id(1L).name("GeoDriver").build();
+    Driver existing =
+        Driver.builder().id(1L).name("GeoDriver").currentLatitude(40.7128).build();
+    existing.setCurrentLongitude(-74.0060);
+    when(repository.updateLocation(eq(1L), eq(40.7128), eq(-74.0060), any())).thenReturn(1);
     when(repository.findById(1L)).thenReturn(Optional.of(existing));
-    when(repository.save(any(Driver.class))).thenAnswer(inv -> inv.getArgument(0));
 
     Driver updated = service.updateDriverLocation(1L, 40.7128, -74.0060);
 
     assertEquals(40.7128, updated.getCurrentLatitude());
     assertEquals(-74.0060, updated.getCurrentLongitude());
     assertNotNull(updated.getUpdatedAt());
-    verify(repository).save(any(Driver.class));
+    verify(repository).updateLocation(eq(1L), eq(40.7128), eq(-74.0060), any());
+    verify(repository, never()).save(any(Driver.class));
   }
 
   @Test
   @DisplayName("updateDriverLocation throws when driver not found")
   void updateDriverLocation_notFoundThrows() {
-    when(repository.findById(404L)).thenReturn(Optional.empty());
+    when(repository.updateLocation(eq(404L), any(), any(), any())).thenReturn(0);
     assertThrows(
         IllegalArgumentException.class, () -> service.updateDriverLocation(404L, 0.0, 0.0));
   }
@@ -0,0 +1,171 @@
+package com.boozebuddies.service.implementation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.boozebuddies.dto.DeliveryExportRow;
+import com.boozebuddies.dto.OrderExportRow;
+import com.boozebuddies.dto.PaymentExportRow;
+import com.boozebuddies.model.DeliveryStatus;
+import com.boozebuddies.model.ExportFormat;
+import com.boozebuddies.model.OrderStatus;
+import com.boozebuddies.model.PaymentStatus;
+import com.boozebuddies.repository.DeliveryRepository;
+import com.boozebuddies.repository.OrderRepository;
+import com.boozebuddies.repository.PaymentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExportServiceImplTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 30);
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  private OrderRepository orderRepository;
+  private PaymentRepository paymentRepository;
+  private DeliveryRepository deliveryRepository;
+  private ExportServiceImpl service;
+  private ByteArrayOutputStream output;
+
+  @BeforeEach
+  void setUp() {
+    orderRepository = mock(OrderRepository.class);
+    paymentRepository = mock(PaymentRepository.class);
+    deliveryRepository = mock(DeliveryRepository.class);
+    service =
+        new ExportServiceImpl(orderRepository, paymentRepository, deliveryRepository, objectMapper);
+    output = new ByteArrayOutputStream();
+  }
+
+  private static OrderExportRow order(long id, Long driverId) {
+    return OrderExportRow.builder()
+        .id(id)
+        .userId(10L)
+        .merchantId(20L)
+        .driverId(driverId)
+        .status(OrderStatus.DELIVERED)
+        .totalAmount(new BigDecimal("42.50"))
+        .createdAt(CREATED_AT)
+        .build();
+  }
+
+  private String written() {
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  // ==================== NDJSON Tests ====================
+
+  @Test
+  void exportOrders_ndjson_writesOneObjectPerLine() throws Exception {
+    when(orderRepository.streamExportRows()).thenReturn(Stream.of(order(1L, 5L), order(2L, null)));
+
+    long count = service.exportOrders(ExportFormat.NDJSON, output);
+
+    assertEquals(2, count);
+    String[] lines = written().split("\n");
+    assertEquals(2, lines.length);
+    assertTrue(written().endsWith("\n"));
+
+    JsonNode first = objectMapper.readTree(lines[0]);
+    assertEquals(1L, first.get("id").asLong());
+    assertEquals(5L, first.get("driverId").asLong());
+    assertEquals("DELIVERED", first.get("status").asText());
+    assertEquals(42.5, first.get("totalAmount").asDouble());
+    assertEquals("2025-03-01T12:30:00", first.get("createdAt").asText());
+
+    JsonNode second = objectMapper.readTree(lines[1]);
+    assertTrue(second.get("driverId").isNull());
+  }
+
+  @Test
+  void exportOrders_noRows_writesNothing() throws Exception {
+    when(orderRepository.streamExportRows()).thenReturn(Stream.empty());
+
+    assertEquals(0, service.exportOrders(ExportFormat.NDJSON, output));
+    assertEquals("", written());
+  }
+
+  // ==================== CSV Tests ====================
+
+  @Test
+  void exportPayments_csv_writesHeaderAndQuotesSpecialValues() throws Exception {
+    PaymentExportRow payment =
+        PaymentExportRow.builder()
+            .id(7L)
+            .orderId(3L)
+            .userId(10L)
+            .amount(new BigDecimal("-5.00"))
+            .status(PaymentStatus.REFUNDED)
+            .paymentMethod("=HYPERLINK(\"x\")")
+            .refundReason("Late, \"cold\"")
+            .createdAt(CREATED_AT)
+            .build();
+    when(paymentRepository.streamExportRows()).thenReturn(Stream.of(payment));
+
+    long count = service.exportPayments(ExportFormat.CSV, output);
+
+    assertEquals(1, count);
+    String[] lines = written().split("\r\n");
+    assertEquals(
+        "id,orderId,userId,amount,status,paymentMethod,transactionId,refundReason,paymentDate,"
+            + "createdAt,updatedAt",
+        lines[0]);
+    assertEquals(
+        "7,3,10,-5.00,REFUNDED,\"'=HYPERLINK(\"\"x\"\")\",,\"Late, \"\"cold\"\"\",,"
+            + "2025-03-01T12:30,",
+        lines[1]);
+  }
+
+  @Test
+  void csvValue_leavesPlainValuesUnquoted() {
+    assertEquals("", ExportWriter.csvValue(null));
+    assertEquals("plain", ExportWriter.csvValue("plain"));
+    assertEquals("-3", ExportWriter.csvValue(-3));
+    assertEquals("'+1 555", ExportWriter.csvValue("+1 555"));
+    assertEquals("\"a\nb\"", ExportWriter.csvValue("a\nb"));
+  }
+
+  // ==================== Stream Lifecycle Tests ====================
+
+  @Test
+  void exportDeliveries_closesRepositoryStream() throws Exception {
+    AtomicBoolean closed = new AtomicBoolean();
+    DeliveryExportRow delivery =
+        DeliveryExportRow.builder().id(1L).orderId(2L).status(DeliveryStatus.DELIVERED).build();
+    when(deliveryRepository.streamExportRows())
+        .thenReturn(Stream.of(delivery).onClose(() -> closed.set(true)));
+
+    assertEquals(1, service.exportDeliveries(ExportFormat.CSV, output));
+    assertTrue(closed.get());
+  }
+
+  @Test
+  void exportDeliveries_writeFailure_stillClosesRepositoryStream() {
+    AtomicBoolean closed = new AtomicBoolean();
+    when(deliveryRepository.streamExportRows())
+        .thenReturn(
+            Stream.<DeliveryExportRow>generate(
+                    () -> {
+                      throw new IllegalStateException("cursor lost");
+                    })
+                .onClose(() -> closed.set(true)));
+
+    assertThrows(
+        IllegalStateException.class, () -> service.exportDeliveries(ExportFormat.NDJSON, output));
+    assertTrue(closed.get());
+  }
+}
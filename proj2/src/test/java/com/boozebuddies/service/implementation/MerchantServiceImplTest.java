@@ -6,13 +6,17 @@ import static org.mockito.Mockito.*;
 
 import com.boozebuddies.entity.Merchant;
 import com.boozebuddies.entity.Order;
+import com.boozebuddies.geo.GeoPoint;
+import com.boozebuddies.geo.MerchantSpatialIndex;
 import com.boozebuddies.repository.MerchantRepository;
 import com.boozebuddies.repository.OrderRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,6 +32,8 @@ class MerchantServiceImplTest {
 
   @Mock private OrderRepository orderRepository;
 
+  @Mock private MerchantSpatialIndex merchantSpatialIndex;
+
   @InjectMocks private MerchantServiceImpl merchantService;
 
   private Merchant testMerchant;
@@ -464,4 +470,72 @@ class MerchantServiceImplTest {
         () -> merchantService.getMerchantsSortedByDistance(35.0, null),
         "Latitude and longitude are required");
   }
+
+  // ==================== findNearestMerchants Tests ====================
+
+  @Test
+  void testFindNearestMerchants_ReturnsRequestedPage() {
+    Merchant m1 = Merchant.builder().id(1L).name("A").build();
+    Merchant m2 = Merchant.builder().id(2L).name("B").build();
+    Merchant m3 = Merchant.builder().id(3L).name("C").build();
+    List<MerchantSpatialIndex.Neighbor> neighbors =
+        List.of(
+            new MerchantSpatialIndex.Neighbor(m1, 0.5),
+            new MerchantSpatialIndex.Neighbor(m2, 1.0),
+            new MerchantSpatialIndex.Neighbor(m3, 1.5));
+    when(merchantSpatialIndex.findNearest(any(GeoPoint.class), eq(10.0), any(), eq(4)))
+        .thenReturn(new MerchantSpatialIndex.NearestResult(neighbors, 7));
+
+    Page<MerchantSpatialIndex.Neighbor> page =
+        merchantService.findNearestMerchants(
+            35.0, -80.0, 10.0, null, false, PageRequest.of(1, 2));
+
+    assertEquals(1, page.getContent().size());
+    assertEquals("C", page.getContent().get(0).merchant().getName());
+    assertEquals(7, page.getTotalElements());
+    assertTrue(page.hasNext());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testFindNearestMerchants_AppliesCuisineFilter() {
+    when(merchantSpatialIndex.findNearest(any(GeoPoint.class), anyDouble(), any(), anyInt()))
+        .thenReturn(new MerchantSpatialIndex.NearestResult(List.of(), 0));
+
+    merchantService.findNearestMerchants(35.0, -80.0, 5.0, "thai", false, PageRequest.of(0, 10));
+
+    ArgumentCaptor<Predicate<Merchant>> filter = ArgumentCaptor.forClass(Predicate.class);
+    verify(merchantSpatialIndex)
+        .findNearest(any(GeoPoint.class), eq(5.0), filter.capture(), eq(10));
+    assertTrue(filter.getValue().test(Merchant.builder().cuisineType("Thai").build()));
+    assertFalse(filter.getValue().test(Merchant.builder().cuisineType("Italian").build()));
+  }
+
+  @Test
+  void testFindNearestMerchants_InvalidRadius() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            merchantService.findNearestMerchants(
+                35.0, -80.0, 0.0, null, false, PageRequest.of(0, 10)));
+  }
+
+  @Test
+  void testFindNearestMerchants_LocationNull() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            merchantService.findNearestMerchants(
+                null, -80.0, 5.0, null, false, PageRequest.of(0, 10)));
+  }
+
+  @Test
+  void testVerifyMerchant_InvalidatesSpatialIndex() {
+    when(merchantRepository.findById(1L)).thenReturn(Optional.of(testMerchant));
+    when(merchantRepository.save(testMerchant)).thenReturn(testMerchant);
+
+    merchantService.verifyMerchant(1L, true);
+
+    verify(merchantSpatialIndex).invalidate();
+  }
 }
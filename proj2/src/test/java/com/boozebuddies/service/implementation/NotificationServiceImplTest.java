@@ -1,27 +1,68 @@
 package com.boozebuddies.service.implementation;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.boozebuddies.dto.SystemBroadcastDTO;
+import com.boozebuddies.entity.Broadcast;
 import com.boozebuddies.entity.Delivery;
 import com.boozebuddies.entity.Driver;
 import com.boozebuddies.entity.Merchant;
 import com.boozebuddies.entity.Order;
 import com.boozebuddies.entity.User;
 import com.boozebuddies.model.DeliveryStatus;
-import java.io.ByteArrayOutputStream;
-import java.io.PrintStream;
+import com.boozebuddies.repository.BroadcastCursorRepository;
+import com.boozebuddies.repository.BroadcastRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
 
 public class NotificationServiceImplTest {
 
   private NotificationServiceImpl notificationService;
-  private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+  private BroadcastRepository broadcastRepository;
+  private BroadcastCursorRepository broadcastCursorRepository;
+  private final AtomicLong broadcastIds = new AtomicLong();
+  private final Logger logger = (Logger) LoggerFactory.getLogger(NotificationServiceImpl.class);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
 
   @BeforeEach
   void setUp() {
-    notificationService = new NotificationServiceImpl();
-    System.setOut(new PrintStream(outputStream));
+    broadcastRepository = mock(BroadcastRepository.class);
+    broadcastCursorRepository = mock(BroadcastCursorRepository.class);
+    when(broadcastRepository.save(any()))
+        .thenAnswer(
+            invocation -> {
+              Broadcast broadcast = invocation.getArgument(0);
+              broadcast.setId(broadcastIds.incrementAndGet());
+              return broadcast;
+            });
+    notificationService =
+        new NotificationServiceImpl(broadcastRepository, broadcastCursorRepository);
+    appender.start();
+    logger.addAppender(appender);
+  }
+
+  @AfterEach
+  void tearDown() {
+    logger.detachAppender(appender);
+  }
+
+  /** Returns the notifications logged so far, one formatted message per line. */
+  private String output() {
+    return appender.list.stream()
+        .map(ILoggingEvent::getFormattedMessage)
+        .collect(Collectors.joining("\n"));
   }
 
   @Test
@@ -30,8 +71,8 @@ public class NotificationServiceImplTest {
 
     notificationService.notifyUser(user, "Test message");
 
-    String output = outputStream.toString();
-    assertTrue(output.contains("[USER NOTIFICATION]"));
+    String output = output();
+    assertTrue(output.contains("User notification"));
     assertTrue(output.contains("customer@example.com"));
     assertTrue(output.contains("Test message"));
   }
@@ -40,7 +81,7 @@ public class NotificationServiceImplTest {
   void testNotifyUser_NullUser_NoOutput() {
     notificationService.notifyUser(null, "Test message");
 
-    String output = outputStream.toString();
+    String output = output();
     assertEquals("", output);
   }
 
@@ -52,10 +93,10 @@ public class NotificationServiceImplTest {
 
     notificationService.notifyDriver(driver, delivery, "Delivery assigned");
 
-    String output = outputStream.toString();
-    assertTrue(output.contains("[DRIVER NOTIFICATION]"));
-    assertTrue(output.contains("Driver ID: 1"));
-    assertTrue(output.contains("Delivery ID: 100"));
+    String output = output();
+    assertTrue(output.contains("Driver notification"));
+    assertTrue(output.contains("driver 1"));
+    assertTrue(output.contains("delivery 100"));
     assertTrue(output.contains("Delivery assigned"));
   }
 
@@ -65,8 +106,8 @@ public class NotificationServiceImplTest {
 
     notificationService.notifyDriver(driver, null, "Test message");
 
-    String output = outputStream.toString();
-    assertTrue(output.contains("Delivery ID: N/A"));
+    String output = output();
+    assertTrue(output.contains("delivery N/A"));
   }
 
   @Test
@@ -75,7 +116,7 @@ public class NotificationServiceImplTest {
 
     notificationService.notifyDriver(null, delivery, "Test message");
 
-    String output = outputStream.toString();
+    String output = output();
     assertEquals("", output);
   }
 
@@ -85,9 +126,9 @@ public class NotificationServiceImplTest {
 
     notificationService.notifyMerchant(merchant, "New order received");
 
-    String output = outputStream.toString();
-    assertTrue(output.contains("[MERCHANT NOTIFICATION]"));
-    assertTrue(output.contains("Merchant ID: 5"));
+    String output = output();
+    assertTrue(output.contains("Merchant notification"));
+    assertTrue(output.contains("merchant 5"));
     assertTrue(output.contains("New order received"));
   }
 
@@ -95,7 +136,7 @@ public class NotificationServiceImplTest {
   void testNotifyMerchant_NullMerchant_NoOutput() {
     notificationService.notifyMerchant(null, "Test message");
 
-    String output = outputStream.toString();
+    String output = output();
     assertEquals("", output);
   }
 
@@ -107,11 +148,11 @@ public class NotificationServiceImplTest {
 
     notificationService.sendDeliveryStatusUpdate(user, delivery);
 
-    String output = outputStream.toString();
-    assertTrue(output.contains("[DELIVERY STATUS UPDATE]"));
+    String output = output();
+    assertTrue(output.contains("Delivery status update"));
     assertTrue(output.contains("customer@example.com"));
-    assertTrue(output.contains("Delivery ID: 200"));
-    assertTrue(output.contains("Status: IN_TRANSIT"));
+    assertTrue(output.contains("delivery 200"));
+    assertTrue(output.contains("is IN_TRANSIT"));
   }
 
   @Test
@@ -120,7 +161,7 @@ public class NotificationServiceImplTest {
 
     notificationService.sendDeliveryStatusUpdate(null, delivery);
 
-    String output = outputStream.toString();
+    String output = output();
     assertEquals("", output);
   }
 
@@ -130,7 +171,7 @@ public class NotificationServiceImplTest {
 
     notificationService.sendDeliveryStatusUpdate(user, null);
 
-    String output = outputStream.toString();
+    String output = output();
     assertEquals("", output);
   }
 
@@ -138,11 +179,75 @@ public class NotificationServiceImplTest {
   void testBroadcastSystemMessage_ValidMessage_PrintsSystemBroadcast() {
     notificationService.broadcastSystemMessage("System maintenance scheduled");
 
-    String output = outputStream.toString();
-    assertTrue(output.contains("[SYSTEM BROADCAST]"));
+    String output = output();
+    assertTrue(output.contains("System broadcast"));
     assertTrue(output.contains("System maintenance scheduled"));
   }
 
+  @Test
+  void testBroadcastSystemMessage_StoresAndServesNewestFirst() {
+    notificationService.broadcastSystemMessage("First");
+    notificationService.broadcastSystemMessage("Second");
+
+    verify(broadcastRepository, times(2)).save(any());
+    List<SystemBroadcastDTO> recent = notificationService.getRecentBroadcasts();
+    assertEquals(
+        List.of("Second", "First"), recent.stream().map(SystemBroadcastDTO::getMessage).toList());
+    assertEquals(2, notificationService.getBroadcastVersion());
+    assertEquals(1, notificationService.getBroadcastsAfter(1).size());
+  }
+
+  @Test
+  void testGetRecentBroadcasts_KeepsOnlyTheNewest() {
+    int total = NotificationServiceImpl.BROADCAST_CAPACITY + 10;
+    for (int i = 1; i <= total; i++) {
+      notificationService.broadcastSystemMessage("Message " + i);
+    }
+
+    List<SystemBroadcastDTO> recent = notificationService.getRecentBroadcasts();
+    assertEquals(NotificationServiceImpl.BROADCAST_CAPACITY, recent.size());
+    assertEquals("Message " + total, recent.get(0).getMessage());
+  }
+
+  @Test
+  void testLoadRecentBroadcasts_RestoresStoredBroadcasts() {
+    List<Broadcast> stored =
+        LongStream.of(12, 11, 10)
+            .mapToObj(
+                id ->
+                    Broadcast.builder()
+                        .id(id)
+                        .message("Stored " + id)
+                        .createdAt(LocalDateTime.now())
+                        .build())
+            .toList();
+    when(broadcastRepository.findLatest(any())).thenReturn(stored);
+
+    notificationService.loadRecentBroadcasts();
+
+    assertEquals(12, notificationService.getBroadcastVersion());
+    assertEquals(
+        List.of(12L, 11L, 10L),
+        notificationService.getRecentBroadcasts().stream().map(SystemBroadcastDTO::getId).toList());
+  }
+
+  @Test
+  void testMarkBroadcastsRead_NeverPastTheNewestBroadcast() {
+    notificationService.broadcastSystemMessage("Only");
+    when(broadcastCursorRepository.findLastReadId(7L)).thenReturn(Optional.of(1L));
+
+    assertEquals(1, notificationService.markBroadcastsRead(7L, 99L));
+    verify(broadcastCursorRepository).advance(7L, 1L);
+  }
+
+  @Test
+  void testMarkBroadcastsRead_NothingBroadcast_LeavesCursor() {
+    when(broadcastCursorRepository.findLastReadId(7L)).thenReturn(Optional.empty());
+
+    assertEquals(0, notificationService.markBroadcastsRead(7L, null));
+    verify(broadcastCursorRepository, never()).advance(any(), anyLong());
+  }
+
   @Test
   void testSendOrderConfirmation_ValidDelivery_SendsUserAndMerchantNotifications() {
     User user = User.builder().email("customer@example.com").build();
@@ -155,12 +260,12 @@ public class NotificationServiceImplTest {
 
     notificationService.sendOrderConfirmation(delivery);
 
-    String output = outputStream.toString();
-    assertTrue(output.contains("[USER NOTIFICATION]"));
+    String output = output();
+    assertTrue(output.contains("User notification"));
     assertTrue(output.contains("customer@example.com"));
     assertTrue(output.contains("Your order has been confirmed!"));
-    assertTrue(output.contains("[MERCHANT NOTIFICATION]"));
-    assertTrue(output.contains("Merchant ID: 5"));
+    assertTrue(output.contains("Merchant notification"));
+    assertTrue(output.contains("merchant 5"));
     assertTrue(output.contains("A new order has been placed."));
   }
 
@@ -168,7 +273,7 @@ public class NotificationServiceImplTest {
   void testSendOrderConfirmation_NullDelivery_NoOutput() {
     notificationService.sendOrderConfirmation(null);
 
-    String output = outputStream.toString();
+    String output = output();
     assertEquals("", output);
   }
 
@@ -178,7 +283,7 @@ public class NotificationServiceImplTest {
 
     notificationService.sendOrderConfirmation(delivery);
 
-    String output = outputStream.toString();
+    String output = output();
     assertEquals("", output);
   }
 
@@ -194,12 +299,12 @@ public class NotificationServiceImplTest {
 
     notificationService.sendOrderCancellation(delivery);
 
-    String output = outputStream.toString();
-    assertTrue(output.contains("[USER NOTIFICATION]"));
+    String output = output();
+    assertTrue(output.contains("User notification"));
     assertTrue(output.contains("customer@example.com"));
     assertTrue(output.contains("Your order has been cancelled."));
-    assertTrue(output.contains("[MERCHANT NOTIFICATION]"));
-    assertTrue(output.contains("Merchant ID: 5"));
+    assertTrue(output.contains("Merchant notification"));
+    assertTrue(output.contains("merchant 5"));
     assertTrue(output.contains("An order has been cancelled."));
   }
 
@@ -207,7 +312,7 @@ public class NotificationServiceImplTest {
   void testSendOrderCancellation_NullDelivery_NoOutput() {
     notificationService.sendOrderCancellation(null);
 
-    String output = outputStream.toString();
+    String output = output();
     assertEquals("", output);
   }
 }
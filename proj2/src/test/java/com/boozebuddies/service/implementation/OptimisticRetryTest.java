@@ -0,0 +1,118 @@
+package com.boozebuddies.service.implementation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OptimisticRetryTest {
+
+  private PlatformTransactionManager transactionManager;
+  private TransactionTemplate transaction;
+
+  @BeforeEach
+  void setUp() {
+    transactionManager = mock(PlatformTransactionManager.class);
+    transaction = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+  }
+
+  private static ObjectOptimisticLockingFailureException conflict() {
+    return new ObjectOptimisticLockingFailureException(Object.class, 1L);
+  }
+
+  @Test
+  void execute_noConflict_runsOnce() {
+    AtomicInteger calls = new AtomicInteger();
+
+    String result =
+        OptimisticRetry.execute(transaction, "test", () -> "v" + calls.incrementAndGet());
+
+    assertEquals("v1", result);
+    verify(transactionManager, times(1)).commit(any());
+  }
+
+  @Test
+  void execute_conflictOnCommit_retriesInNewTransaction() {
+    doThrow(conflict()).doNothing().when(transactionManager).commit(any());
+    AtomicInteger calls = new AtomicInteger();
+
+    String result =
+        OptimisticRetry.execute(transaction, "test", () -> "v" + calls.incrementAndGet());
+
+    assertEquals("v2", result);
+    verify(transactionManager, times(2)).getTransaction(any());
+  }
+
+  @Test
+  void execute_conflictInAction_rollsBackAndRetries() {
+    AtomicInteger calls = new AtomicInteger();
+
+    String result =
+        OptimisticRetry.execute(
+            transaction,
+            "test",
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                throw conflict();
+              }
+              return "done";
+            });
+
+    assertEquals("done", result);
+    verify(transactionManager, times(1)).rollback(any());
+    verify(transactionManager, times(1)).commit(any());
+  }
+
+  @Test
+  void execute_persistentConflict_givesUpAfterMaxAttempts() {
+    doThrow(conflict()).when(transactionManager).commit(any());
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThrows(
+        ObjectOptimisticLockingFailureException.class,
+        () -> OptimisticRetry.execute(transaction, "test", calls::incrementAndGet));
+    assertEquals(OptimisticRetry.MAX_ATTEMPTS, calls.get());
+  }
+
+  @Test
+  void execute_otherFailure_isNotRetried() {
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            OptimisticRetry.execute(
+                transaction,
+                "test",
+                () -> {
+                  calls.incrementAndGet();
+                  throw new IllegalStateException("boom");
+                }));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void execute_insideCallerTransaction_isNotRetried() {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    doThrow(conflict()).when(transactionManager).commit(any());
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThrows(
+        ObjectOptimisticLockingFailureException.class,
+        () -> OptimisticRetry.execute(transaction, "test", calls::incrementAndGet));
+    assertEquals(1, calls.get());
+  }
+}
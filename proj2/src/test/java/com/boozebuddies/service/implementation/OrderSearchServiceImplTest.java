@@ -0,0 +1,116 @@
+package com.boozebuddies.service.implementation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.boozebuddies.entity.Merchant;
+import com.boozebuddies.entity.Order;
+import com.boozebuddies.entity.OrderItem;
+import com.boozebuddies.entity.User;
+import com.boozebuddies.repository.OrderRepository;
+import com.boozebuddies.repository.OrderSearchRepository;
+import com.boozebuddies.repository.OrderSearchRepository.OrderSearchHit;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSearchService Tests")
+class OrderSearchServiceImplTest {
+
+  @Mock private OrderSearchRepository orderSearchRepository;
+  @Mock private OrderRepository orderRepository;
+
+  private OrderSearchServiceImpl orderSearchService;
+
+  @BeforeEach
+  void setUp() {
+    orderSearchService = new OrderSearchServiceImpl(orderSearchRepository, orderRepository);
+  }
+
+  private static OrderSearchHit hit(long orderId) {
+    return new OrderSearchHit() {
+      @Override
+      public Long getOrderId() {
+        return orderId;
+      }
+
+      @Override
+      public Double getScore() {
+        return 1.0;
+      }
+    };
+  }
+
+  @Test
+  @DisplayName("every word becomes a required prefix term")
+  void toBooleanQuery_requiresEveryWordAsPrefix() {
+    assertEquals(
+        "+hazy* +ipa* +brewery*", OrderSearchServiceImpl.toBooleanQuery("Hazy IPA, brewery"));
+  }
+
+  @Test
+  @DisplayName("boolean operators are stripped and unindexed words dropped")
+  void toBooleanQuery_stripsOperatorsAndShortWords() {
+    assertEquals("+wine*", OrderSearchServiceImpl.toBooleanQuery("-a \"wine\" +to* wine"));
+    assertNull(OrderSearchServiceImpl.toBooleanQuery("a to ()"));
+    assertNull(OrderSearchServiceImpl.toBooleanQuery(null));
+  }
+
+  @Test
+  @DisplayName("index writes the item names of the order")
+  void index_writesItemNames() {
+    LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+    Order order =
+        Order.builder()
+            .id(7L)
+            .user(User.builder().id(1L).build())
+            .merchant(Merchant.builder().id(2L).build())
+            .createdAt(createdAt)
+            .items(
+                List.of(
+                    OrderItem.builder().name("Hazy IPA").build(),
+                    OrderItem.builder().name("Dry Cider").build()))
+            .build();
+
+    orderSearchService.index(order);
+
+    verify(orderSearchRepository).insertEntry(7L, 1L, 2L, createdAt, "Hazy IPA Dry Cider");
+  }
+
+  @Test
+  @DisplayName("search returns the orders in ranking order with the total of all matches")
+  void search_keepsRanking() {
+    Pageable pageable = PageRequest.of(1, 2);
+    Order first = Order.builder().id(5L).build();
+    Order second = Order.builder().id(3L).build();
+    when(orderSearchRepository.search("+ipa*", 1L, null, pageable))
+        .thenReturn(new PageImpl<>(List.of(hit(5L), hit(3L)), pageable, 9));
+    when(orderRepository.findAllById(List.of(5L, 3L))).thenReturn(List.of(second, first));
+
+    Page<Order> result = orderSearchService.search("ipa", 1L, null, pageable);
+
+    assertEquals(List.of(first, second), result.getContent());
+    assertEquals(9, result.getTotalElements());
+    assertEquals(1, result.getNumber());
+  }
+
+  @Test
+  @DisplayName("search without a searchable word returns an empty page")
+  void search_noTerms_returnsEmpty() {
+    Page<Order> result = orderSearchService.search("  ", null, 2L, PageRequest.of(0, 20));
+
+    assertTrue(result.isEmpty());
+    verify(orderSearchRepository, never()).search(any(), any(), any(), any());
+  }
+}
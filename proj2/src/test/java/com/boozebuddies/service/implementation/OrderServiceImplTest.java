@@ -2,6 +2,7 @@ package com.boozebuddies.service.implementation;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.boozebuddies.entity.Delivery;
@@ -10,18 +11,29 @@ import com.boozebuddies.entity.Order;
 import com.boozebuddies.entity.OrderItem;
 import com.boozebuddies.entity.Product;
 import com.boozebuddies.entity.User;
+import com.boozebuddies.exception.InsufficientStockException;
 import com.boozebuddies.model.DeliveryStatus;
 import com.boozebuddies.model.OrderStatus;
+import com.boozebuddies.model.OutboxEventType;
 import com.boozebuddies.repository.DeliveryRepository;
 import com.boozebuddies.repository.MerchantRepository;
 import com.boozebuddies.repository.OrderRepository;
 import com.boozebuddies.repository.UserRepository;
-import com.boozebuddies.service.NotificationService;
+import com.boozebuddies.service.InventoryService;
+import com.boozebuddies.service.OrderSearchService;
+import com.boozebuddies.service.OrderService.ChangeWatermark;
+import com.boozebuddies.service.OrderService.OrderChanges;
+import com.boozebuddies.service.OrderService.BulkCreateResult;
+import com.boozebuddies.service.OrderService.BulkOrderOutcome;
+import com.boozebuddies.service.OutboxService;
 import com.boozebuddies.service.PaymentService;
 import com.boozebuddies.service.ProductService;
 import com.boozebuddies.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,7 +42,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 public class OrderServiceImplTest {
@@ -40,9 +55,13 @@ public class OrderServiceImplTest {
   @Mock private MerchantRepository merchantRepository;
   @Mock private DeliveryRepository deliveryRepository;
   @Mock private PaymentService paymentService;
-  @Mock private NotificationService notificationService;
+  @Mock private OutboxService outboxService;
+  @Mock private OrderSearchService orderSearchService;
   @Mock private ProductService productService;
   @Mock private UserService userService;
+  @Mock private InventoryService inventoryService;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   @InjectMocks private OrderServiceImpl orderService;
 
@@ -92,6 +111,11 @@ public class OrderServiceImplTest {
     verify(order).getTotalAmount();
     verify(order).calculateTotal();
 
+    // stock reserved before the order was saved
+    var inOrder = inOrder(inventoryService, orderRepository);
+    inOrder.verify(inventoryService).reserve(order);
+    inOrder.verify(orderRepository).save(order);
+
     // payment processed with test_payment method
     verify(paymentService).processPayment(order, "test_payment");
     ArgumentCaptor<Delivery> deliveryCaptor = ArgumentCaptor.forClass(Delivery.class);
@@ -99,7 +123,8 @@ public class OrderServiceImplTest {
     Delivery savedDelivery = deliveryCaptor.getValue();
     assertNotNull(savedDelivery);
     assertEquals(DeliveryStatus.PENDING, savedDelivery.getStatus());
-    verify(notificationService).sendOrderConfirmation(savedDelivery);
+    verify(outboxService).record(eq(OutboxEventType.ORDER_CREATED), any(), any());
+    verify(orderSearchService).index(order);
 
     // ensure initial status was set to PENDING
     verify(order).setStatus(OrderStatus.PENDING);
@@ -110,6 +135,13 @@ public class OrderServiceImplTest {
     assertEquals(productPrice, realItem.getUnitPrice());
     assertEquals("Test Product", realItem.getName());
     assertNotNull(realItem.getSubtotal());
+
+    // every checkout phase was timed once
+    for (String phase :
+        List.of("items", "validation", "reserve", "save", "payment", "delivery", "notify")) {
+      assertEquals(
+          1, meterRegistry.get("checkout.phase").tag("phase", phase).timer().count(), phase);
+    }
   }
 
   @Test
@@ -145,15 +177,14 @@ public class OrderServiceImplTest {
   }
 
   @Test
-  public void cancelOrder_success_callsRefundAndNotifies() {
+  public void cancelOrder_success_callsRefundAndRecordsEvent() {
     Long id = 1L;
     Order order = mock(Order.class);
-    Delivery delivery = mock(Delivery.class);
 
     when(orderRepository.findById(id)).thenReturn(Optional.of(order));
     when(order.canBeCancelled()).thenReturn(true);
     when(orderRepository.save(order)).thenReturn(order);
-    when(order.getDelivery()).thenReturn(delivery);
+    when(order.getId()).thenReturn(id);
 
     Order result = orderService.cancelOrder(id);
 
@@ -162,7 +193,35 @@ public class OrderServiceImplTest {
     verify(order).setUpdatedAt(any());
     verify(orderRepository).save(order);
     verify(paymentService).refundPayment(order, "Order cancelled by user");
-    verify(notificationService).sendOrderCancellation(delivery);
+    verify(outboxService)
+        .record(
+            OutboxEventType.ORDER_CANCELLED,
+            id,
+            OutboxService.payload("reason", "Order cancelled by user"));
+    verify(inventoryService).release(id);
+  }
+
+  @Test
+  public void createOrder_soldOutProduct_savesNothing() {
+    Order order = mock(Order.class);
+    OrderItem item = OrderItem.builder().product(product).quantity(3).build();
+
+    when(product.getId()).thenReturn(5L);
+    when(product.getPrice()).thenReturn(new BigDecimal("4.50"));
+    when(product.getName()).thenReturn("Limited Release");
+    when(product.isAlcohol()).thenReturn(false);
+    when(productService.getProductById(5L)).thenReturn(product);
+    when(order.getUser()).thenReturn(user);
+    when(order.getMerchant()).thenReturn(merchant);
+    when(order.getItems()).thenReturn(List.of(item));
+    doThrow(new InsufficientStockException(5L)).when(inventoryService).reserve(order);
+
+    InsufficientStockException ex =
+        assertThrows(InsufficientStockException.class, () -> orderService.createOrder(order));
+    assertEquals(5L, ex.getProductId());
+    verify(orderRepository, never()).save(any());
+    verify(paymentService, never()).processPayment(any(), any());
+    verify(outboxService, never()).record(any(), any(), any());
   }
 
   @Test
@@ -194,15 +253,14 @@ public class OrderServiceImplTest {
   }
 
   @Test
-  public void updateOrderStatus_confirmed_triggersNotification() {
+  public void updateOrderStatus_confirmed_recordsStatusChange() {
     Long id = 4L;
     Order order = mock(Order.class);
-    Delivery delivery = mock(Delivery.class);
     when(orderRepository.findById(id)).thenReturn(Optional.of(order));
     when(order.isValidStatusTransition(OrderStatus.CONFIRMED)).thenReturn(true);
     when(orderRepository.save(order)).thenReturn(order);
-    when(order.getUser()).thenReturn(user);
-    when(order.getDelivery()).thenReturn(delivery);
+    when(order.getStatus()).thenReturn(OrderStatus.PENDING);
+    when(order.getId()).thenReturn(id);
 
     Order result = orderService.updateOrderStatus(id, "CONFIRMED");
 
@@ -210,7 +268,11 @@ public class OrderServiceImplTest {
     verify(order).setStatus(OrderStatus.CONFIRMED);
     verify(order).setUpdatedAt(any());
     verify(orderRepository).save(order);
-    verify(notificationService).sendDeliveryStatusUpdate(user, delivery);
+    verify(outboxService)
+        .record(
+            OutboxEventType.ORDER_STATUS_CHANGED,
+            id,
+            OutboxService.payload("from", OrderStatus.PENDING, "to", OrderStatus.CONFIRMED));
   }
 
   @Test
@@ -302,7 +364,7 @@ public class OrderServiceImplTest {
     verify(order).setStatus(OrderStatus.PREPARING);
     verify(order).setUpdatedAt(any());
     verify(orderRepository).save(order);
-    verify(notificationService, never()).sendDeliveryStatusUpdate(any(), any());
+    verify(outboxService).record(eq(OutboxEventType.ORDER_STATUS_CHANGED), any(), any());
   }
 
   @Test
@@ -723,6 +785,69 @@ public class OrderServiceImplTest {
     verify(orderRepository).findByDriverId(driverId);
   }
 
+  // ==================== ORDER CHANGE FEED TESTS ====================
+
+  @Test
+  public void getMerchantOrderChanges_withoutWatermark_returnsOpenOrders() {
+    Order open = Order.builder().id(1L).status(OrderStatus.PREPARING).build();
+    when(orderRepository.findActiveByMerchant(10L, OrderServiceImpl.OPEN_STATUSES))
+        .thenReturn(List.of(open));
+
+    ChangeWatermark before = new ChangeWatermark(LocalDateTime.now().minusSeconds(1), 0L);
+    OrderChanges changes = orderService.getMerchantOrderChanges(10L, null, 100);
+
+    assertTrue(changes.snapshot());
+    assertEquals(List.of(open), changes.changed());
+    assertTrue(changes.removed().isEmpty());
+    assertFalse(changes.hasMore());
+    assertFalse(changes.watermark().updatedAt().isBefore(before.updatedAt()));
+    verify(orderRepository, never()).findMerchantChanges(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void getMerchantOrderChanges_splitsClosedOrdersIntoRemoved() {
+    LocalDateTime t = LocalDateTime.of(2026, 1, 1, 12, 0);
+    ChangeWatermark since = new ChangeWatermark(t, 4L);
+    Order changed = Order.builder().id(7L).status(OrderStatus.READY_FOR_PICKUP).build();
+    changed.setUpdatedAt(t.plusSeconds(1));
+    Order delivered = Order.builder().id(5L).status(OrderStatus.DELIVERED).build();
+    delivered.setUpdatedAt(t.plusSeconds(2));
+    Order beyondLimit = Order.builder().id(8L).status(OrderStatus.PENDING).build();
+    beyondLimit.setUpdatedAt(t.plusSeconds(3));
+    when(orderRepository.findMerchantChanges(eq(10L), eq(t), eq(4L), any(), any()))
+        .thenReturn(List.of(changed, delivered, beyondLimit));
+
+    OrderChanges changes = orderService.getMerchantOrderChanges(10L, since, 2);
+
+    assertFalse(changes.snapshot());
+    assertEquals(List.of(changed), changes.changed());
+    assertEquals(List.of(5L), changes.removed());
+    assertTrue(changes.hasMore());
+    assertEquals(new ChangeWatermark(t.plusSeconds(2), 5L), changes.watermark());
+  }
+
+  @Test
+  public void getDriverOrderChanges_noChanges_keepsWatermark() {
+    ChangeWatermark since = new ChangeWatermark(LocalDateTime.of(2026, 1, 1, 12, 0), 4L);
+    when(orderRepository.findDriverChanges(eq(3L), any(), any(), any(), any()))
+        .thenReturn(List.of());
+
+    OrderChanges changes = orderService.getDriverOrderChanges(3L, since, 100);
+
+    assertEquals(since, changes.watermark());
+    assertTrue(changes.changed().isEmpty());
+    assertFalse(changes.hasMore());
+  }
+
+  @Test
+  public void changeWatermark_roundTrips() {
+    ChangeWatermark watermark =
+        new ChangeWatermark(LocalDateTime.of(2026, 3, 4, 5, 6, 7, 123_456_000), 42L);
+
+    assertEquals(watermark, ChangeWatermark.parse(watermark.toString()));
+    assertThrows(IllegalArgumentException.class, () -> ChangeWatermark.parse("yesterday"));
+  }
+
   // ==================== UPDATE ORDER STATUS - ADDITIONAL STATUS TESTS
   // ====================
 
@@ -738,7 +863,7 @@ public class OrderServiceImplTest {
 
     assertSame(order, result);
     verify(order).setStatus(OrderStatus.READY_FOR_PICKUP);
-    verify(notificationService, never()).sendDeliveryStatusUpdate(any(), any());
+    verify(outboxService).record(eq(OutboxEventType.ORDER_STATUS_CHANGED), any(), any());
   }
 
   @Test
@@ -753,7 +878,7 @@ public class OrderServiceImplTest {
 
     assertSame(order, result);
     verify(order).setStatus(OrderStatus.COMPLETED);
-    verify(notificationService, never()).sendDeliveryStatusUpdate(any(), any());
+    verify(outboxService).record(eq(OutboxEventType.ORDER_STATUS_CHANGED), any(), any());
   }
 
   @Test
@@ -768,7 +893,7 @@ public class OrderServiceImplTest {
 
     assertSame(order, result);
     verify(order).setStatus(OrderStatus.CANCELLED);
-    verify(notificationService, never()).sendDeliveryStatusUpdate(any(), any());
+    verify(outboxService).record(eq(OutboxEventType.ORDER_STATUS_CHANGED), any(), any());
   }
 
   @Test
@@ -778,8 +903,6 @@ public class OrderServiceImplTest {
     when(orderRepository.findById(id)).thenReturn(Optional.of(order));
     when(order.isValidStatusTransition(OrderStatus.CONFIRMED)).thenReturn(true);
     when(orderRepository.save(order)).thenReturn(order);
-    when(order.getUser()).thenReturn(user);
-    when(order.getDelivery()).thenReturn(mock(Delivery.class));
 
     Order result = orderService.updateOrderStatus(id, "confirmed");
 
@@ -807,12 +930,10 @@ public class OrderServiceImplTest {
   public void cancelOrder_updatesTimestamp() {
     Long id = 14L;
     Order order = mock(Order.class);
-    Delivery delivery = mock(Delivery.class);
 
     when(orderRepository.findById(id)).thenReturn(Optional.of(order));
     when(order.canBeCancelled()).thenReturn(true);
     when(orderRepository.save(order)).thenReturn(order);
-    when(order.getDelivery()).thenReturn(delivery);
 
     orderService.cancelOrder(id);
 
@@ -822,21 +943,110 @@ public class OrderServiceImplTest {
   }
 
   @Test
-  public void cancelOrder_handlesNullDelivery() {
+  public void cancelOrder_doesNotLoadDelivery() {
     Long id = 15L;
     Order order = mock(Order.class);
 
     when(orderRepository.findById(id)).thenReturn(Optional.of(order));
     when(order.canBeCancelled()).thenReturn(true);
     when(orderRepository.save(order)).thenReturn(order);
-    when(order.getDelivery()).thenReturn(null);
 
     Order result = orderService.cancelOrder(id);
 
     assertSame(order, result);
     verify(order).setStatus(OrderStatus.CANCELLED);
     verify(paymentService).refundPayment(order, "Order cancelled by user");
-    verify(notificationService).sendOrderCancellation(null);
+    // The notification subscriber loads the delivery after commit
+    verify(order, never()).getDelivery();
+  }
+
+  // ==================== OPTIMISTIC LOCKING TESTS ====================
+
+  @Test
+  public void updateOrderStatus_conflict_reloadsAndRetries() {
+    Long id = 16L;
+    Order stale = mock(Order.class);
+    Order fresh = mock(Order.class);
+    when(orderRepository.findById(id))
+        .thenReturn(Optional.of(stale))
+        .thenReturn(Optional.of(fresh));
+    when(stale.isValidStatusTransition(OrderStatus.CONFIRMED)).thenReturn(true);
+    when(fresh.isValidStatusTransition(OrderStatus.CONFIRMED)).thenReturn(true);
+    when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+    doThrow(new ObjectOptimisticLockingFailureException(Order.class, id))
+        .doNothing()
+        .when(transactionManager)
+        .commit(any());
+
+    Order result = orderService.updateOrderStatus(id, "CONFIRMED");
+
+    assertSame(fresh, result);
+    verify(fresh).setStatus(OrderStatus.CONFIRMED);
+    verify(orderRepository, times(2)).findById(id);
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  @Test
+  public void updateOrderStatus_conflict_revalidatesAgainstNewStatus() {
+    Long id = 17L;
+    Order stale = mock(Order.class);
+    Order cancelledMeanwhile = mock(Order.class);
+    when(orderRepository.findById(id))
+        .thenReturn(Optional.of(stale))
+        .thenReturn(Optional.of(cancelledMeanwhile));
+    when(stale.isValidStatusTransition(OrderStatus.PREPARING)).thenReturn(true);
+    when(cancelledMeanwhile.isValidStatusTransition(OrderStatus.PREPARING)).thenReturn(false);
+    when(cancelledMeanwhile.getStatus()).thenReturn(OrderStatus.CANCELLED);
+    when(orderRepository.save(stale)).thenReturn(stale);
+    doThrow(new ObjectOptimisticLockingFailureException(Order.class, id))
+        .when(transactionManager)
+        .commit(any());
+
+    RuntimeException ex =
+        assertThrows(RuntimeException.class, () -> orderService.updateOrderStatus(id, "PREPARING"));
+
+    assertEquals("Invalid status transition from CANCELLED to PREPARING", ex.getMessage());
+    verify(cancelledMeanwhile, never()).setStatus(any());
+  }
+
+  @Test
+  public void cancelOrder_persistentConflict_givesUpAfterMaxAttempts() {
+    Long id = 18L;
+    Order order = mock(Order.class);
+    when(orderRepository.findById(id)).thenReturn(Optional.of(order));
+    when(order.canBeCancelled()).thenReturn(true);
+    when(orderRepository.save(order)).thenReturn(order);
+    doThrow(new ObjectOptimisticLockingFailureException(Order.class, id))
+        .when(transactionManager)
+        .commit(any());
+
+    assertThrows(ObjectOptimisticLockingFailureException.class, () -> orderService.cancelOrder(id));
+    verify(orderRepository, times(OptimisticRetry.MAX_ATTEMPTS)).findById(id);
+  }
+
+  @Test
+  public void createOrders_groupCommitFailure_resetsIdAndVersionBeforeRetry() {
+    when(productService.getProductsByIds(any())).thenReturn(List.of(bulkProduct(1L, false)));
+    Order order = bulkOrder(1L, 1L);
+    when(orderRepository.save(any(Order.class)))
+        .thenAnswer(
+            invocation -> {
+              Order saved = invocation.getArgument(0);
+              if (saved.getId() != null || saved.getVersion() != null) {
+                throw new IllegalStateException("Order was not reset before retry");
+              }
+              saved.setId(99L);
+              saved.setVersion(0L);
+              return saved;
+            });
+    when(deliveryRepository.save(any(Delivery.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    doThrow(new RuntimeException("Deadlock")).doNothing().when(transactionManager).commit(any());
+
+    BulkCreateResult result = orderService.createOrders(List.of(order));
+
+    assertTrue(result.outcomes().get(0).succeeded());
+    assertEquals(2, result.transactions());
   }
 
   // ==================== GET ORDERS WITHIN DISTANCE TESTS ====================
@@ -849,15 +1059,12 @@ public class OrderServiceImplTest {
 
     Order order1 = mock(Order.class);
     Order order2 = mock(Order.class);
-    Merchant merchant1 = mock(Merchant.class);
-    Merchant merchant2 = mock(Merchant.class);
+    // Close merchant (within 5km)
+    Merchant merchant1 = Merchant.builder().latitude(35.51).longitude(-78.91).build();
+    Merchant merchant2 = Merchant.builder().latitude(35.52).longitude(-78.92).build();
 
     when(order1.getMerchant()).thenReturn(merchant1);
     when(order2.getMerchant()).thenReturn(merchant2);
-    when(merchant1.getLatitude()).thenReturn(35.51);
-    when(merchant1.getLongitude()).thenReturn(-78.91);
-    when(merchant2.getLatitude()).thenReturn(35.52);
-    when(merchant2.getLongitude()).thenReturn(-78.92);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -873,6 +1080,7 @@ public class OrderServiceImplTest {
     assertNotNull(result);
     assertEquals(2, result.size());
     verify(orderRepository).findAvailableForAssignment(availableStatuses);
+    assertEquals(1, meterRegistry.get("dispatch.match").timer().count());
   }
 
   @Test
@@ -904,11 +1112,9 @@ public class OrderServiceImplTest {
     double radiusKm = 0.0;
 
     Order order = mock(Order.class);
-    Merchant merchant = mock(Merchant.class);
+    Merchant merchant = Merchant.builder().latitude(35.5).longitude(-78.9).build();
 
     when(order.getMerchant()).thenReturn(merchant);
-    when(merchant.getLatitude()).thenReturn(35.5);
-    when(merchant.getLongitude()).thenReturn(-78.9);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -934,15 +1140,11 @@ public class OrderServiceImplTest {
 
     Order order1 = mock(Order.class);
     Order order2 = mock(Order.class);
-    Merchant merchant1 = mock(Merchant.class);
-    Merchant merchant2 = mock(Merchant.class);
+    Merchant merchant1 = Merchant.builder().latitude(40.0).longitude(-74.0).build();
+    Merchant merchant2 = Merchant.builder().latitude(34.0).longitude(-118.0).build();
 
     when(order1.getMerchant()).thenReturn(merchant1);
     when(order2.getMerchant()).thenReturn(merchant2);
-    when(merchant1.getLatitude()).thenReturn(40.0);
-    when(merchant1.getLongitude()).thenReturn(-74.0);
-    when(merchant2.getLatitude()).thenReturn(34.0);
-    when(merchant2.getLongitude()).thenReturn(-118.0);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -967,11 +1169,9 @@ public class OrderServiceImplTest {
     double radiusKm = 100.0;
 
     Order order = mock(Order.class);
-    Merchant merchant = mock(Merchant.class);
+    Merchant merchant = Merchant.builder().latitude(89.5).longitude(0.0).build();
 
     when(order.getMerchant()).thenReturn(merchant);
-    when(merchant.getLatitude()).thenReturn(89.5);
-    when(merchant.getLongitude()).thenReturn(0.0);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -995,11 +1195,9 @@ public class OrderServiceImplTest {
     double radiusKm = 100.0;
 
     Order order = mock(Order.class);
-    Merchant merchant = mock(Merchant.class);
+    Merchant merchant = Merchant.builder().latitude(35.5).longitude(-180.0).build();
 
     when(order.getMerchant()).thenReturn(merchant);
-    when(merchant.getLatitude()).thenReturn(35.5);
-    when(merchant.getLongitude()).thenReturn(-180.0);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -1023,11 +1221,9 @@ public class OrderServiceImplTest {
     double radiusKm = 50.0;
 
     Order order = mock(Order.class);
-    Merchant merchant = mock(Merchant.class);
+    Merchant merchant = Merchant.builder().latitude(-33.9).longitude(151.3).build();
 
     when(order.getMerchant()).thenReturn(merchant);
-    when(merchant.getLatitude()).thenReturn(-33.9);
-    when(merchant.getLongitude()).thenReturn(151.3);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -1054,11 +1250,9 @@ public class OrderServiceImplTest {
     double radiusKm = 10.0;
 
     Order order = mock(Order.class);
-    Merchant merchant = mock(Merchant.class);
+    Merchant merchant = Merchant.builder().latitude(lat2).longitude(lon2).build();
 
     when(order.getMerchant()).thenReturn(merchant);
-    when(merchant.getLatitude()).thenReturn(lat2);
-    when(merchant.getLongitude()).thenReturn(lon2);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -1116,19 +1310,18 @@ public class OrderServiceImplTest {
     verify(orderRepository).save(order);
     verify(paymentService).processPayment(order, "test_payment");
     verify(deliveryRepository).save(any(Delivery.class));
-    verify(notificationService).sendOrderConfirmation(any(Delivery.class));
+    verify(outboxService).record(eq(OutboxEventType.ORDER_CREATED), any(), any());
   }
 
   @Test
   public void cancelOrder_fullWorkflow_allStepsExecuted() {
     Long id = 1L;
     Order order = mock(Order.class);
-    Delivery delivery = mock(Delivery.class);
 
     when(orderRepository.findById(id)).thenReturn(Optional.of(order));
     when(order.canBeCancelled()).thenReturn(true);
     when(orderRepository.save(order)).thenReturn(order);
-    when(order.getDelivery()).thenReturn(delivery);
+    when(order.getId()).thenReturn(id);
 
     Order result = orderService.cancelOrder(id);
 
@@ -1141,20 +1334,18 @@ public class OrderServiceImplTest {
     verify(order).setUpdatedAt(any(LocalDateTime.class));
     verify(orderRepository).save(order);
     verify(paymentService).refundPayment(order, "Order cancelled by user");
-    verify(notificationService).sendOrderCancellation(delivery);
+    verify(outboxService).record(eq(OutboxEventType.ORDER_CANCELLED), eq(id), any());
   }
 
   @Test
   public void updateOrderStatus_confirmedWorkflow_allStepsExecuted() {
     Long id = 1L;
     Order order = mock(Order.class);
-    Delivery delivery = mock(Delivery.class);
 
     when(orderRepository.findById(id)).thenReturn(Optional.of(order));
     when(order.isValidStatusTransition(OrderStatus.CONFIRMED)).thenReturn(true);
     when(orderRepository.save(order)).thenReturn(order);
-    when(order.getUser()).thenReturn(user);
-    when(order.getDelivery()).thenReturn(delivery);
+    when(order.getId()).thenReturn(id);
 
     Order result = orderService.updateOrderStatus(id, "CONFIRMED");
 
@@ -1166,7 +1357,7 @@ public class OrderServiceImplTest {
     verify(order).setStatus(OrderStatus.CONFIRMED);
     verify(order).setUpdatedAt(any(LocalDateTime.class));
     verify(orderRepository).save(order);
-    verify(notificationService).sendDeliveryStatusUpdate(user, delivery);
+    verify(outboxService).record(eq(OutboxEventType.ORDER_STATUS_CHANGED), eq(id), any());
   }
 
   // ==================== EDGE CASES AND ERROR CONDITIONS ====================
@@ -1210,20 +1401,19 @@ public class OrderServiceImplTest {
   }
 
   @Test
-  public void updateOrderStatus_confirmedWithNullDelivery_doesNotCrash() {
+  public void updateOrderStatus_confirmed_doesNotLoadDelivery() {
     Long id = 1L;
     Order order = mock(Order.class);
 
     when(orderRepository.findById(id)).thenReturn(Optional.of(order));
     when(order.isValidStatusTransition(OrderStatus.CONFIRMED)).thenReturn(true);
     when(orderRepository.save(order)).thenReturn(order);
-    when(order.getUser()).thenReturn(user);
-    when(order.getDelivery()).thenReturn(null);
 
     Order result = orderService.updateOrderStatus(id, "CONFIRMED");
 
     assertSame(order, result);
-    verify(notificationService).sendDeliveryStatusUpdate(user, null);
+    // The notification subscriber loads the delivery after commit
+    verify(order, never()).getDelivery();
   }
 
   @Test
@@ -1340,17 +1530,14 @@ public class OrderServiceImplTest {
   public void updateEstimatedDeliveryTime_updatesOrderSuccessfully() {
     Long orderId = 1L;
     LocalDateTime estimatedTime = LocalDateTime.now().plusMinutes(30);
-    Order order = mock(Order.class);
 
-    when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-    when(orderRepository.save(order)).thenReturn(order);
+    when(orderRepository.updateEstimatedDeliveryTime(orderId, estimatedTime)).thenReturn(1);
 
-    Order result = orderService.updateEstimatedDeliveryTime(orderId, estimatedTime);
+    orderService.updateEstimatedDeliveryTime(orderId, estimatedTime);
 
-    assertSame(order, result);
-    verify(order).setEstimatedDeliveryTime(estimatedTime);
-    verify(order).setUpdatedAt(any(LocalDateTime.class));
-    verify(orderRepository).save(order);
+    verify(orderRepository).updateEstimatedDeliveryTime(orderId, estimatedTime);
+    verify(orderRepository, never()).findById(any());
+    verify(orderRepository, never()).save(any());
   }
 
   @Test
@@ -1358,7 +1545,7 @@ public class OrderServiceImplTest {
     Long orderId = 999L;
     LocalDateTime estimatedTime = LocalDateTime.now().plusMinutes(30);
 
-    when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+    when(orderRepository.updateEstimatedDeliveryTime(orderId, estimatedTime)).thenReturn(0);
 
     RuntimeException exception =
         assertThrows(
@@ -1380,12 +1567,10 @@ public class OrderServiceImplTest {
 
     Order orderWithMerchant = mock(Order.class);
     Order orderWithoutMerchant = mock(Order.class);
-    Merchant merchant = mock(Merchant.class);
+    Merchant merchant = Merchant.builder().latitude(35.51).longitude(-78.91).build();
 
     when(orderWithMerchant.getMerchant()).thenReturn(merchant);
     when(orderWithoutMerchant.getMerchant()).thenReturn(null);
-    when(merchant.getLatitude()).thenReturn(35.51);
-    when(merchant.getLongitude()).thenReturn(-78.91);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -1412,15 +1597,11 @@ public class OrderServiceImplTest {
 
     Order orderWithCoords = mock(Order.class);
     Order orderWithoutCoords = mock(Order.class);
-    Merchant merchantWithCoords = mock(Merchant.class);
-    Merchant merchantWithoutCoords = mock(Merchant.class);
+    Merchant merchantWithCoords = Merchant.builder().latitude(35.51).longitude(-78.91).build();
+    Merchant merchantWithoutCoords = Merchant.builder().build();
 
     when(orderWithCoords.getMerchant()).thenReturn(merchantWithCoords);
     when(orderWithoutCoords.getMerchant()).thenReturn(merchantWithoutCoords);
-    when(merchantWithCoords.getLatitude()).thenReturn(35.51);
-    when(merchantWithCoords.getLongitude()).thenReturn(-78.91);
-    when(merchantWithoutCoords.getLatitude()).thenReturn(null);
-    when(merchantWithoutCoords.getLongitude()).thenReturn(null);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -1447,17 +1628,13 @@ public class OrderServiceImplTest {
 
     Order orderWithinRadius = mock(Order.class);
     Order orderOutsideRadius = mock(Order.class);
-    Merchant merchant1 = mock(Merchant.class);
-    Merchant merchant2 = mock(Merchant.class);
+    // Close merchant (within 5km)
+    Merchant merchant1 = Merchant.builder().latitude(35.51).longitude(-78.91).build();
+    // Far merchant (outside 5km)
+    Merchant merchant2 = Merchant.builder().latitude(35.6).longitude(-78.8).build();
 
     when(orderWithinRadius.getMerchant()).thenReturn(merchant1);
     when(orderOutsideRadius.getMerchant()).thenReturn(merchant2);
-    // Close merchant (within 5km)
-    when(merchant1.getLatitude()).thenReturn(35.51);
-    when(merchant1.getLongitude()).thenReturn(-78.91);
-    // Far merchant (outside 5km)
-    when(merchant2.getLatitude()).thenReturn(35.6);
-    when(merchant2.getLongitude()).thenReturn(-78.8);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -1488,11 +1665,9 @@ public class OrderServiceImplTest {
     double radiusKm = 10.0;
 
     Order order = mock(Order.class);
-    Merchant merchant = mock(Merchant.class);
+    Merchant merchant = Merchant.builder().longitude(-78.91).build();
 
     when(order.getMerchant()).thenReturn(merchant);
-    when(merchant.getLatitude()).thenReturn(null);
-    when(merchant.getLongitude()).thenReturn(-78.91);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -1515,11 +1690,9 @@ public class OrderServiceImplTest {
     double radiusKm = 10.0;
 
     Order order = mock(Order.class);
-    Merchant merchant = mock(Merchant.class);
+    Merchant merchant = Merchant.builder().latitude(35.51).build();
 
     when(order.getMerchant()).thenReturn(merchant);
-    when(merchant.getLatitude()).thenReturn(35.51);
-    when(merchant.getLongitude()).thenReturn(null);
 
     List<OrderStatus> availableStatuses =
         List.of(
@@ -1536,20 +1709,18 @@ public class OrderServiceImplTest {
   }
 
   @Test
-  public void updateEstimatedDeliveryTime_updatesTimestamp() {
+  public void updateEstimatedDeliveryTime_leavesOrderUnsaved() {
     Long orderId = 1L;
     LocalDateTime estimatedTime = LocalDateTime.now().plusMinutes(30);
-    Order order = mock(Order.class);
 
-    when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-    when(orderRepository.save(order)).thenReturn(order);
+    when(orderRepository.updateEstimatedDeliveryTime(orderId, estimatedTime)).thenReturn(1);
 
-    Order result = orderService.updateEstimatedDeliveryTime(orderId, estimatedTime);
+    orderService.updateEstimatedDeliveryTime(orderId, estimatedTime);
 
-    assertSame(order, result);
-    verify(order).setEstimatedDeliveryTime(estimatedTime);
-    verify(order).setUpdatedAt(any(LocalDateTime.class));
-    verify(orderRepository).save(order);
+    // The targeted update leaves updatedAt alone, so the order stays out of change feed deltas
+    verify(orderRepository).updateEstimatedDeliveryTime(orderId, estimatedTime);
+    verify(orderRepository, never()).saveAndFlush(any());
+    verify(orderRepository, never()).save(any());
   }
 
   @Test
@@ -1581,4 +1752,129 @@ public class OrderServiceImplTest {
     assertTrue(distance < 0.1, "Distance should be very small (< 0.1 km)");
     assertTrue(distance > 0, "Distance should be greater than zero");
   }
+
+  // ==================== Bulk Create Tests ====================
+
+  private static Product bulkProduct(Long id, boolean alcohol) {
+    Product product =
+        Product.builder().id(id).name("Product " + id).price(new BigDecimal("5.00")).build();
+    product.setAlcohol(alcohol);
+    return product;
+  }
+
+  private static Order bulkOrder(Long userId, Long productId) {
+    List<OrderItem> items = new ArrayList<>();
+    items.add(
+        OrderItem.builder().product(Product.builder().id(productId).build()).quantity(2).build());
+    return Order.builder()
+        .user(User.builder().id(userId).build())
+        .merchant(Merchant.builder().id(1L).build())
+        .items(items)
+        .build();
+  }
+
+  private void stubBulkPersistence() {
+    when(orderRepository.save(any(Order.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(deliveryRepository.save(any(Delivery.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  public void createOrders_success_resolvesProductsOnceAndUsesOneTransaction() {
+    when(productService.getProductsByIds(any()))
+        .thenReturn(List.of(bulkProduct(1L, false), bulkProduct(2L, false)));
+    stubBulkPersistence();
+    List<Order> orders = List.of(bulkOrder(1L, 1L), bulkOrder(2L, 2L), bulkOrder(3L, 1L));
+
+    BulkCreateResult result = orderService.createOrders(orders);
+
+    assertEquals(3, result.outcomes().size());
+    assertTrue(result.outcomes().stream().allMatch(BulkOrderOutcome::succeeded));
+    assertEquals(1, result.transactions());
+    assertEquals(new BigDecimal("10.00"), orders.get(0).getTotalAmount());
+    assertEquals(OrderStatus.PENDING, orders.get(2).getStatus());
+    verify(productService, times(1)).getProductsByIds(any());
+    verify(productService, never()).getProductById(any());
+    verify(transactionManager, times(1)).commit(any());
+    verify(outboxService, times(3)).record(eq(OutboxEventType.ORDER_CREATED), any(), any());
+  }
+
+  @Test
+  public void createOrders_invalidOrders_failIndividually() {
+    when(productService.getProductsByIds(any())).thenReturn(List.of(bulkProduct(1L, false)));
+    stubBulkPersistence();
+    Order emptyOrder = bulkOrder(1L, 1L);
+    emptyOrder.getItems().clear();
+    List<Order> orders = List.of(bulkOrder(1L, 99L), emptyOrder, bulkOrder(1L, 1L));
+
+    BulkCreateResult result = orderService.createOrders(orders);
+
+    BulkOrderOutcome unknownProduct = result.outcomes().get(0);
+    assertFalse(unknownProduct.succeeded());
+    assertEquals("Product not found with id: 99", unknownProduct.error());
+    assertEquals("Order must contain at least one item", result.outcomes().get(1).error());
+    assertTrue(result.outcomes().get(2).succeeded());
+    assertSame(orders.get(2), result.outcomes().get(2).order());
+    verify(orderRepository, times(1)).save(any(Order.class));
+  }
+
+  @Test
+  public void createOrders_groupFailure_retriesOrdersOnePerTransaction() {
+    when(productService.getProductsByIds(any())).thenReturn(List.of(bulkProduct(1L, false)));
+    stubBulkPersistence();
+    Order good = bulkOrder(1L, 1L);
+    Order bad = bulkOrder(2L, 1L);
+    doAnswer(
+            invocation -> {
+              if (invocation.getArgument(0) == bad) {
+                throw new RuntimeException("Invalid payment method");
+              }
+              return null;
+            })
+        .when(paymentService)
+        .processPayment(any(Order.class), anyString());
+
+    BulkCreateResult result = orderService.createOrders(List.of(good, bad));
+
+    assertTrue(result.outcomes().get(0).succeeded());
+    assertEquals("Invalid payment method", result.outcomes().get(1).error());
+    assertNull(result.outcomes().get(1).order());
+    // One failed group transaction, then one retry per order
+    assertEquals(3, result.transactions());
+    verify(transactionManager, times(2)).rollback(any());
+    // The good order's event is recorded in the rolled-back group and again in its retry
+    verify(outboxService, times(2)).record(eq(OutboxEventType.ORDER_CREATED), any(), any());
+  }
+
+  @Test
+  public void createOrders_alcohol_loadsEachUserOnce() {
+    when(productService.getProductsByIds(any())).thenReturn(List.of(bulkProduct(1L, true)));
+    User unverified = User.builder().id(7L).ageVerified(false).build();
+    when(userService.findById(7L)).thenReturn(unverified);
+
+    BulkCreateResult result =
+        orderService.createOrders(List.of(bulkOrder(7L, 1L), bulkOrder(7L, 1L)));
+
+    assertTrue(
+        result.outcomes().stream()
+            .allMatch(o -> "User must be age verified for alcohol orders".equals(o.error())));
+    assertEquals(0, result.transactions());
+    verify(userService, times(1)).findById(7L);
+    verifyNoInteractions(orderRepository);
+  }
+
+  @Test
+  public void createOrders_unknownUser_failsOnlyThatUsersOrders() {
+    when(productService.getProductsByIds(any())).thenReturn(List.of(bulkProduct(1L, true)));
+    when(userService.findById(7L)).thenThrow(new RuntimeException("User not found with id: 7"));
+    when(userService.findById(8L)).thenReturn(User.builder().id(8L).ageVerified(true).build());
+    stubBulkPersistence();
+
+    BulkCreateResult result =
+        orderService.createOrders(List.of(bulkOrder(7L, 1L), bulkOrder(8L, 1L)));
+
+    assertEquals("User not found with id: 7", result.outcomes().get(0).error());
+    assertTrue(result.outcomes().get(1).succeeded());
+  }
 }
@@ -0,0 +1,75 @@
+package com.boozebuddies.service.implementation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.boozebuddies.entity.OutboxEvent;
+import com.boozebuddies.model.OutboxEventType;
+import com.boozebuddies.repository.OutboxEventRepository;
+import com.boozebuddies.service.OutboxService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class OutboxServiceImplTest {
+
+  private OutboxEventRepository repository;
+  private OutboxServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(OutboxEventRepository.class);
+    service = new OutboxServiceImpl(repository, new ObjectMapper());
+  }
+
+  @Test
+  void record_savesUnpublishedEventWithJsonPayload() {
+    service.record(
+        OutboxEventType.PAYMENT_AUTHORIZED,
+        42L,
+        OutboxService.payload("amount", new BigDecimal("12.50"), "paymentMethod", "card"));
+
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(repository).save(captor.capture());
+    OutboxEvent saved = captor.getValue();
+    assertEquals(OutboxEventType.ORDER, saved.getAggregateType());
+    assertEquals(42L, saved.getAggregateId());
+    assertEquals(OutboxEventType.PAYMENT_AUTHORIZED, saved.getEventType());
+    assertEquals("{\"amount\":12.50,\"paymentMethod\":\"card\"}", saved.getPayload());
+    assertNotNull(saved.getCreatedAt());
+    assertNull(saved.getPublishedAt());
+    assertEquals(0, saved.getAttempts());
+  }
+
+  @Test
+  void record_deliveryEventUsesDeliveryAggregate() {
+    service.record(OutboxEventType.DELIVERY_CANCELLED, 5L, Map.of());
+
+    ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(repository).save(captor.capture());
+    assertEquals(OutboxEventType.DELIVERY, captor.getValue().getAggregateType());
+    assertEquals("{}", captor.getValue().getPayload());
+  }
+
+  @Test
+  void record_missingAggregateIdThrows() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> service.record(OutboxEventType.ORDER_CREATED, null, Map.of()));
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void payload_keepsNullValuesInOrder() {
+    Map<String, Object> payload = OutboxService.payload("from", null, "to", "CONFIRMED");
+
+    assertEquals(2, payload.size());
+    assertNull(payload.get("from"));
+    assertEquals("[from, to]", payload.keySet().toString());
+    assertThrows(IllegalArgumentException.class, () -> OutboxService.payload("odd"));
+  }
+}
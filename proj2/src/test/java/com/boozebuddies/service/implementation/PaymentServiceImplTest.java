@@ -7,9 +7,11 @@ import static org.mockito.Mockito.*;
 import com.boozebuddies.entity.Order;
 import com.boozebuddies.entity.Payment;
 import com.boozebuddies.entity.User;
+import com.boozebuddies.model.OutboxEventType;
 import com.boozebuddies.model.PaymentStatus;
 import com.boozebuddies.repository.OrderRepository;
 import com.boozebuddies.repository.PaymentRepository;
+import com.boozebuddies.service.OutboxService;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -31,6 +33,7 @@ class PaymentServiceImplTest {
 
   @Mock private PaymentRepository paymentRepository;
   @Mock private OrderRepository orderRepository;
+  @Mock private OutboxService outboxService;
   @InjectMocks private PaymentServiceImpl paymentService;
 
   private User testUser;
@@ -131,6 +134,9 @@ class PaymentServiceImplTest {
     assertNotNull(refunded);
     assertEquals(PaymentStatus.REFUNDED, refunded.getStatus());
     assertEquals("customer_requested", refunded.getRefundReason());
+    verify(outboxService)
+        .record(eq(OutboxEventType.PAYMENT_AUTHORIZED), eq(order.getId()), any());
+    verify(outboxService).record(eq(OutboxEventType.PAYMENT_REFUNDED), eq(order.getId()), any());
 
     when(paymentRepository.findByUser_Id(eq(user.getId()), any(Pageable.class)))
         .thenReturn(new PageImpl<>(List.of(refunded)));
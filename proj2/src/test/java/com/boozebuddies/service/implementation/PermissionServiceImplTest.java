@@ -5,12 +5,19 @@ import static org.mockito.Mockito.*;
 
 import com.boozebuddies.entity.*;
 import com.boozebuddies.model.Role;
+import com.boozebuddies.security.JwtAuthenticationToken;
+import com.boozebuddies.security.TokenClaims;
 import com.boozebuddies.service.*;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 class PermissionServiceImplTest {
 
@@ -230,4 +237,119 @@ class PermissionServiceImplTest {
     assertFalse(permissionService.driverCanAccessOrder(null, 55L));
     assertFalse(permissionService.driverCanAccessOrder(auth, null));
   }
+
+  // ---------- token claims ----------
+
+  private Authentication tokenAuth(String role, Long merchantId, Long driverId) {
+    TokenClaims claims =
+        new TokenClaims(1L, "test@example.com", Set.of(role), merchantId, driverId, Instant.now());
+    return new JwtAuthenticationToken(
+        testUser, List.of(new SimpleGrantedAuthority("ROLE_" + role)), claims);
+  }
+
+  @Test
+  @DisplayName("ownsMerchant and hasRole are answered from token claims without a user lookup")
+  void testOwnsMerchant_FromClaims() {
+    Authentication token = tokenAuth("MERCHANT_ADMIN", 10L, null);
+
+    assertTrue(permissionService.ownsMerchant(token, 10L));
+    assertFalse(permissionService.ownsMerchant(token, 11L));
+    assertTrue(permissionService.hasRole(token, Role.MERCHANT_ADMIN));
+    assertFalse(permissionService.hasRole(token, Role.ADMIN));
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  @DisplayName("merchantCanAccessOrder reads the merchant from token claims")
+  void testMerchantCanAccessOrder_FromClaims() {
+    Merchant merchant = new Merchant();
+    merchant.setId(10L);
+    Order order = new Order();
+    order.setMerchant(merchant);
+    when(orderService.getOrderById(99L)).thenReturn(Optional.of(order));
+
+    Authentication owner = tokenAuth("MERCHANT_ADMIN", 10L, null);
+    Authentication otherMerchant = tokenAuth("MERCHANT_ADMIN", 5L, null);
+
+    assertTrue(permissionService.merchantCanAccessOrder(owner, 99L));
+    assertFalse(permissionService.merchantCanAccessOrder(otherMerchant, 99L));
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  @DisplayName("driver checks read the driver profile from token claims")
+  void testDriverChecks_FromClaims() {
+    Driver driver = new Driver();
+    driver.setId(7L);
+    Order order = new Order();
+    order.setDriver(driver);
+    when(orderService.getOrderById(55L)).thenReturn(Optional.of(order));
+    Authentication token = tokenAuth("DRIVER", null, 7L);
+
+    assertTrue(permissionService.isDriverProfile(token, 7L));
+    assertFalse(permissionService.isDriverProfile(token, 8L));
+    assertTrue(permissionService.driverCanAccessOrder(token, 55L));
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  @DisplayName("ownsOrder compares the order's user with the token's user ID")
+  void testOwnsOrder_FromClaims() {
+    Order order = new Order();
+    order.setUser(testUser);
+    when(orderService.getOrderById(20L)).thenReturn(Optional.of(order));
+
+    assertTrue(permissionService.ownsOrder(tokenAuth("USER", null, null), 20L));
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  @DisplayName("a driver token issued before the profile existed falls back to the user record")
+  void testIsDriverProfile_ClaimsWithoutProfile_UsesPrincipal() {
+    Driver driver = new Driver();
+    driver.setId(7L);
+    testUser.addRole(Role.DRIVER);
+    testUser.setDriver(driver);
+
+    assertTrue(permissionService.isDriverProfile(tokenAuth("DRIVER", null, null), 7L));
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  @DisplayName("without a user principal the user is looked up by the token's email")
+  void testIsDriverProfile_ClaimsWithoutPrincipal_LooksUpUserByEmail() {
+    Driver driver = new Driver();
+    driver.setId(7L);
+    testUser.addRole(Role.DRIVER);
+    testUser.setDriver(driver);
+    when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+    TokenClaims claims =
+        new TokenClaims(1L, "test@example.com", Set.of("DRIVER"), null, null, Instant.now());
+    Authentication token =
+        new JwtAuthenticationToken(
+            null, List.of(new SimpleGrantedAuthority("ROLE_DRIVER")), claims);
+
+    assertTrue(permissionService.isDriverProfile(token, 7L));
+  }
+
+  @Test
+  @DisplayName("a request whose token claims were revoked is checked against the user principal")
+  void testOwnsOrder_RevokedClaims_UsesPrincipal() {
+    Order order = new Order();
+    order.setUser(testUser);
+    when(orderService.getOrderById(20L)).thenReturn(Optional.of(order));
+    Authentication revoked =
+        new UsernamePasswordAuthenticationToken(
+            testUser, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+    assertTrue(permissionService.ownsOrder(revoked, 20L));
+    verifyNoInteractions(userService);
+  }
+
+  @Test
+  @DisplayName("a non-driver token is refused driver access without a user lookup")
+  void testDriverCanAccessDelivery_NonDriverClaims() {
+    assertFalse(permissionService.driverCanAccessDelivery(tokenAuth("USER", null, null), 50L));
+    verifyNoInteractions(userService, deliveryService);
+  }
 }
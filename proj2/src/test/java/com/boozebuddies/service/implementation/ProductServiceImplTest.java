@@ -107,6 +107,24 @@ class ProductServiceImplTest {
     verify(productRepository, times(1)).findById(999L);
   }
 
+  @Test
+  void testGetProductsByIds_LoadsAllInOneQuery() {
+    Product product = Product.builder().id(1L).name("IPA").merchant(testMerchant).build();
+    when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(product));
+
+    List<Product> result = productService.getProductsByIds(List.of(1L, 2L));
+
+    assertEquals(1, result.size());
+    verify(productRepository, times(1)).findAllById(List.of(1L, 2L));
+    verify(productRepository, never()).findById(any());
+  }
+
+  @Test
+  void testGetProductsByIds_EmptyIds_SkipsQuery() {
+    assertTrue(productService.getProductsByIds(List.of()).isEmpty());
+    verifyNoInteractions(productRepository);
+  }
+
   @Test
   void testAddProduct_ValidProduct_ReturnsSavedProduct() {
     Product productToSave =
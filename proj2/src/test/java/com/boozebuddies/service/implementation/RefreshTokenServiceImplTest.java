@@ -0,0 +1,153 @@
+package com.boozebuddies.service.implementation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.boozebuddies.entity.RefreshToken;
+import com.boozebuddies.entity.User;
+import com.boozebuddies.exception.InvalidTokenException;
+import com.boozebuddies.repository.RefreshTokenRepository;
+import com.boozebuddies.service.RefreshTokenService.Rotation;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService Tests")
+class RefreshTokenServiceImplTest {
+
+  @Mock private RefreshTokenRepository refreshTokenRepository;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private RefreshTokenServiceImpl refreshTokenService;
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    refreshTokenService =
+        new RefreshTokenServiceImpl(refreshTokenRepository, transactionManager, 604800000L, 2);
+    testUser = User.builder().id(1L).email("john@example.com").build();
+  }
+
+  private RefreshToken stored(String token, LocalDateTime expiresAt, LocalDateTime usedAt) {
+    RefreshToken row =
+        RefreshToken.builder()
+            .id(7L)
+            .user(testUser)
+            .tokenHash(RefreshTokenServiceImpl.hash(token))
+            .sessionId(42L)
+            .expiresAt(expiresAt)
+            .usedAt(usedAt)
+            .build();
+    when(refreshTokenRepository.findByTokenHash(aryEq(RefreshTokenServiceImpl.hash(token))))
+        .thenReturn(Optional.of(row));
+    return row;
+  }
+
+  @Test
+  @DisplayName("issue stores only the hash of a random token")
+  void issue_storesHash() {
+    String first = refreshTokenService.issue(testUser);
+    String second = refreshTokenService.issue(testUser);
+
+    ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+    verify(refreshTokenRepository, times(2)).save(saved.capture());
+    RefreshToken row = saved.getAllValues().get(0);
+
+    assertEquals(43, first.length());
+    assertNotEquals(first, second);
+    assertArrayEquals(RefreshTokenServiceImpl.hash(first), row.getTokenHash());
+    assertEquals(32, row.getTokenHash().length);
+    assertSame(testUser, row.getUser());
+    assertTrue(row.getExpiresAt().isAfter(LocalDateTime.now().plusDays(6)));
+    assertNull(row.getUsedAt());
+    // Each login is its own session
+    assertNotEquals(row.getSessionId(), saved.getAllValues().get(1).getSessionId());
+  }
+
+  @Test
+  @DisplayName("rotate marks the token used and issues its successor in the same session")
+  void rotate_validToken_issuesSuccessor() {
+    stored("current", LocalDateTime.now().plusDays(1), null);
+    when(refreshTokenRepository.markUsed(eq(7L), any(LocalDateTime.class))).thenReturn(1);
+
+    Rotation rotation = refreshTokenService.rotate("current");
+
+    assertSame(testUser, rotation.user());
+    assertNotEquals("current", rotation.refreshToken());
+    ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+    verify(refreshTokenRepository).save(saved.capture());
+    assertEquals(42L, saved.getValue().getSessionId());
+    assertArrayEquals(
+        RefreshTokenServiceImpl.hash(rotation.refreshToken()), saved.getValue().getTokenHash());
+  }
+
+  @Test
+  @DisplayName("rotate rejects unknown tokens")
+  void rotate_unknownToken_throws() {
+    when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
+
+    InvalidTokenException e =
+        assertThrows(InvalidTokenException.class, () -> refreshTokenService.rotate("unknown"));
+
+    assertEquals("Invalid or expired refresh token", e.getMessage());
+    verify(refreshTokenRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("rotate rejects expired tokens")
+  void rotate_expiredToken_throws() {
+    stored("expired", LocalDateTime.now().minusMinutes(1), null);
+
+    assertThrows(InvalidTokenException.class, () -> refreshTokenService.rotate("expired"));
+
+    verify(refreshTokenRepository, never()).markUsed(any(), any());
+    verify(refreshTokenRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("rotate revokes the whole session when a used token comes back")
+  void rotate_reusedToken_revokesSession() {
+    stored("stolen", LocalDateTime.now().plusDays(1), LocalDateTime.now().minusHours(1));
+
+    InvalidTokenException e =
+        assertThrows(InvalidTokenException.class, () -> refreshTokenService.rotate("stolen"));
+
+    assertEquals("Refresh token has already been used", e.getMessage());
+    verify(refreshTokenRepository).deleteBySessionId(42L);
+    verify(refreshTokenRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("rotate rejects the second of two simultaneous refreshes without revoking")
+  void rotate_concurrentRefresh_loserRejected() {
+    stored("current", LocalDateTime.now().plusDays(1), null);
+    when(refreshTokenRepository.markUsed(eq(7L), any(LocalDateTime.class))).thenReturn(0);
+
+    assertThrows(InvalidTokenException.class, () -> refreshTokenService.rotate("current"));
+
+    verify(refreshTokenRepository, never()).deleteBySessionId(anyLong());
+    verify(refreshTokenRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("purgeExpired deletes in batches until a batch comes back short")
+  void purgeExpired_deletesInBatches() {
+    when(refreshTokenRepository.deleteExpired(any(LocalDateTime.class), eq(2)))
+        .thenReturn(2, 2, 1);
+
+    assertEquals(5, refreshTokenService.purgeExpired());
+
+    verify(refreshTokenRepository, times(3)).deleteExpired(any(LocalDateTime.class), eq(2));
+    verify(transactionManager, times(3)).commit(any());
+  }
+}
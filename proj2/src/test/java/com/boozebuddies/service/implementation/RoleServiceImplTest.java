@@ -8,6 +8,7 @@ import com.boozebuddies.entity.User;
 import com.boozebuddies.exception.UnauthorizedException;
 import com.boozebuddies.exception.ValidationException;
 import com.boozebuddies.model.Role;
+import com.boozebuddies.security.TokenRevocationList;
 import com.boozebuddies.service.MerchantService;
 import com.boozebuddies.service.UserService;
 import java.util.HashSet;
@@ -24,6 +25,7 @@ class RoleServiceImplTest {
 
   @Mock private UserService userService;
   @Mock private MerchantService merchantService;
+  @Mock private TokenRevocationList revocationList;
 
   @InjectMocks private RoleServiceImpl roleService;
 
@@ -45,6 +47,7 @@ class RoleServiceImplTest {
 
     assertTrue(result.getRoles().contains(Role.USER));
     verify(userService).updateUser(1L, testUser);
+    verify(revocationList).revoke(1L);
   }
 
   @Test
@@ -54,6 +57,7 @@ class RoleServiceImplTest {
 
     assertThrows(ValidationException.class, () -> roleService.assignRole(1L, Role.MERCHANT_ADMIN));
     verify(userService, never()).updateUser(any(), any());
+    verify(revocationList, never()).revoke(any());
   }
 
   @Test
@@ -104,6 +108,7 @@ class RoleServiceImplTest {
 
     assertFalse(result.getRoles().contains(Role.DRIVER));
     verify(userService).updateUser(1L, testUser);
+    verify(revocationList).revoke(1L);
   }
 
   @Test
@@ -141,6 +146,7 @@ class RoleServiceImplTest {
 
     assertTrue(result.getRoles().contains(Role.ADMIN));
     verify(userService).updateUser(1L, testUser);
+    verify(revocationList).revoke(1L);
   }
 
   @Test
@@ -174,6 +180,7 @@ class RoleServiceImplTest {
 
     assertEquals(5L, result.getMerchantId());
     verify(userService).updateUser(1L, testUser);
+    verify(revocationList).revoke(1L);
   }
 
   @Test
@@ -210,6 +217,7 @@ class RoleServiceImplTest {
 
     assertNull(result.getMerchantId());
     verify(userService).updateUser(1L, testUser);
+    verify(revocationList).revoke(1L);
   }
 
   @Test
@@ -0,0 +1,202 @@
+package com.boozebuddies.service.implementation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.boozebuddies.exception.InsufficientStockException;
+import com.boozebuddies.model.ReservationStatus;
+import com.boozebuddies.service.implementation.StockLedger.Line;
+import com.boozebuddies.service.implementation.StockLedger.Reservation;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StockLedgerTest {
+
+  private final Map<Long, Integer> database = new HashMap<>();
+  private final AtomicLong clock = new AtomicLong(1_000);
+  private StockLedger ledger;
+
+  @BeforeEach
+  void setUp() {
+    database.put(1L, 10);
+    database.put(2L, 3);
+    ledger = new StockLedger(database::get, clock::get);
+  }
+
+  @Test
+  @DisplayName("concurrent reservations never sell more units than are available")
+  void reserve_concurrent_neverOversells() throws Exception {
+    int threads = 32;
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger reserved = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+    try {
+      for (int i = 0; i < threads * 4; i++) {
+        pool.execute(
+            () -> {
+              try {
+                start.await();
+                ledger.reserve(List.of(new Line(1L, 1)));
+                reserved.incrementAndGet();
+              } catch (InsufficientStockException e) {
+                rejected.incrementAndGet();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+      }
+      start.countDown();
+    } finally {
+      pool.shutdown();
+      assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    assertEquals(10, reserved.get());
+    assertEquals(threads * 4 - 10, rejected.get());
+    assertEquals(0, ledger.available(1L));
+  }
+
+  @Test
+  @DisplayName("reserve is all or nothing across products")
+  void reserve_insufficient_rollsBackEveryLine() {
+    InsufficientStockException ex =
+        assertThrows(
+            InsufficientStockException.class,
+            () -> ledger.reserve(List.of(new Line(1L, 4), new Line(2L, 2), new Line(2L, 2))));
+
+    assertEquals(2L, ex.getProductId());
+    assertEquals(10, ledger.available(1L));
+    assertEquals(3, ledger.available(2L));
+    assertEquals(0, ledger.size());
+  }
+
+  @Test
+  @DisplayName("untracked products are left out of the reservation")
+  void reserve_untrackedProduct_isSkipped() {
+    Reservation reservation = ledger.reserve(List.of(new Line(99L, 1_000)));
+
+    assertTrue(reservation.isEmpty());
+    assertNull(ledger.available(99L));
+    assertFalse(ledger.bind(reservation, 5L));
+    assertNull(ledger.find(5L));
+  }
+
+  @Test
+  @DisplayName("release and commit each take effect once")
+  void releaseAndCommit_settleOnce() {
+    Reservation reservation = ledger.reserve(List.of(new Line(1L, 4)));
+    assertFalse(ledger.bind(reservation, 5L));
+    assertSame(reservation, ledger.find(5L));
+
+    assertTrue(ledger.release(reservation));
+    assertFalse(ledger.release(reservation));
+    assertFalse(ledger.commit(reservation));
+    assertEquals(10, ledger.available(1L));
+
+    Reservation other = ledger.reserve(List.of(new Line(1L, 3)));
+    ledger.bind(other, 6L);
+    assertTrue(ledger.commit(other));
+    assertFalse(ledger.release(other));
+    assertEquals(7, ledger.available(1L));
+  }
+
+  @Test
+  @DisplayName("a rolled back order gives its units back")
+  void discard_returnsUnits() {
+    Reservation reservation = ledger.reserve(List.of(new Line(2L, 3)));
+    assertEquals(0, ledger.available(2L));
+
+    ledger.discard(reservation);
+
+    assertEquals(3, ledger.available(2L));
+    assertEquals(ReservationStatus.RELEASED, reservation.getStatus());
+    assertTrue(ledger.drainDirty(10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("unbound reservations expire, and a late bind holds the units again")
+  void expire_thenBind_reholds() {
+    Reservation reservation = ledger.reserve(List.of(new Line(2L, 2)));
+    assertEquals(0, ledger.expire(60_000));
+
+    clock.addAndGet(60_000);
+    assertEquals(1, ledger.expire(60_000));
+    assertEquals(3, ledger.available(2L));
+
+    assertTrue(ledger.bind(reservation, 8L));
+    assertEquals(ReservationStatus.RESERVED, reservation.getStatus());
+    assertEquals(1, ledger.available(2L));
+  }
+
+  @Test
+  @DisplayName("drainDirty returns each changed reservation once and skips written ones")
+  void drainDirty_dedupesAndSkipsWritten() {
+    Reservation reservation = ledger.reserve(List.of(new Line(1L, 2)));
+    ledger.bind(reservation, 5L);
+    ledger.requeue(List.of(reservation));
+
+    List<Reservation> batch = ledger.drainDirty(10);
+    assertEquals(List.of(reservation), batch);
+    ledger.flushed(reservation, ReservationStatus.RESERVED);
+
+    ledger.requeue(List.of(reservation));
+    assertTrue(ledger.drainDirty(10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("written reservations reconcile without drift, and settled ones are forgotten")
+  void flushed_thenReconcile_noDrift() {
+    Reservation reservation = ledger.reserve(List.of(new Line(1L, 4)));
+    ledger.bind(reservation, 5L);
+
+    // Not written yet: the database still shows all ten units available
+    assertEquals(0, ledger.reconcile(1L, 10));
+
+    ledger.flushed(reservation, ReservationStatus.RESERVED);
+    assertEquals(0, ledger.reconcile(1L, 6));
+
+    ledger.commit(reservation);
+    ledger.flushed(reservation, ReservationStatus.COMMITTED);
+    // stock_quantity 6, nothing reserved
+    assertEquals(0, ledger.reconcile(1L, 6));
+    assertNull(ledger.find(5L));
+    assertEquals(6, ledger.available(1L));
+  }
+
+  @Test
+  @DisplayName("reconcile picks up restocks and products that stop being tracked")
+  void reconcile_appliesRestockAndUntracking() {
+    ledger.reserve(List.of(new Line(1L, 10)));
+    assertThrows(InsufficientStockException.class, () -> ledger.reserve(List.of(new Line(1L, 1))));
+
+    assertEquals(5, ledger.reconcile(1L, 15));
+    assertEquals(5, ledger.available(1L));
+
+    assertEquals(0, ledger.reconcile(1L, null));
+    assertNull(ledger.available(1L));
+    assertTrue(ledger.reserve(List.of(new Line(1L, 100))).isEmpty());
+  }
+
+  @Test
+  @DisplayName("adopt takes over a persisted reservation once")
+  void adopt_persistedReservation() {
+    // Ten on hand, two of them held by the persisted reservation
+    database.put(3L, 8);
+    Reservation adopted = ledger.adopt(9L, List.of(new Line(3L, 2)));
+    assertSame(adopted, ledger.adopt(9L, List.of(new Line(3L, 2))));
+
+    assertTrue(ledger.release(adopted));
+    assertEquals(10, ledger.available(3L));
+    assertEquals(List.of(adopted), ledger.drainDirty(10));
+  }
+}
@@ -8,6 +8,7 @@ import com.boozebuddies.dto.RegisterUserRequest;
 import com.boozebuddies.entity.User;
 import com.boozebuddies.exception.UserAlreadyExistsException;
 import com.boozebuddies.exception.UserNotFoundException;
+import com.boozebuddies.repository.RefreshTokenRepository;
 import com.boozebuddies.repository.UserRepository;
 import com.boozebuddies.service.ValidationService;
 import java.time.LocalDate;
@@ -25,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class UserServiceImplTest {
 
   @Mock private UserRepository userRepository;
+  @Mock private RefreshTokenRepository refreshTokenRepository;
   @Mock private ValidationService validationService;
   @InjectMocks private UserServiceImpl userService;
 
@@ -127,67 +129,35 @@ class UserServiceImplTest {
     assertNotNull(testUser.getLastLoginAt());
   }
 
-  // ==================== saveRefreshToken(Long, String, LocalDateTime) ====================
+  // ==================== updatePasswordHash(Long, String) ====================
 
   @Test
-  void testSaveRefreshToken_Success() {
+  void testUpdatePasswordHash_Success() {
     when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 
-    userService.saveRefreshToken(1L, "refresh123", LocalDateTime.now().plusDays(1));
+    userService.updatePasswordHash(1L, "{bcrypt}$2a$12$rehashed");
 
-    verify(userRepository, times(1)).save(any(User.class));
-    assertEquals("refresh123", testUser.getRefreshToken());
-  }
-
-  // ==================== isRefreshTokenValid(String) ====================
-
-  @Test
-  void testIsRefreshTokenValid_True() {
-    testUser.setActive(true);
-    testUser.setRefreshTokenExpiryDate(LocalDateTime.now().plusDays(1));
-    when(userRepository.findByRefreshToken("validToken")).thenReturn(Optional.of(testUser));
-
-    boolean result = userService.isRefreshTokenValid("validToken");
-
-    assertTrue(result);
-  }
-
-  @Test
-  void testIsRefreshTokenValid_False_NoUser() {
-    when(userRepository.findByRefreshToken("missing")).thenReturn(Optional.empty());
-    assertFalse(userService.isRefreshTokenValid("missing"));
-  }
-
-  @Test
-  void testIsRefreshTokenValid_False_Expired() {
-    testUser.setRefreshTokenExpiryDate(LocalDateTime.now().minusDays(1));
-    when(userRepository.findByRefreshToken("expired")).thenReturn(Optional.of(testUser));
-    assertFalse(userService.isRefreshTokenValid("expired"));
-  }
-
-  // ==================== findByRefreshToken(String) ====================
-
-  @Test
-  void testFindByRefreshToken_Success() {
-    when(userRepository.findByRefreshToken("token")).thenReturn(Optional.of(testUser));
-
-    Optional<User> result = userService.findByRefreshToken("token");
-
-    assertTrue(result.isPresent());
+    verify(userRepository, times(1)).save(testUser);
+    assertEquals("{bcrypt}$2a$12$rehashed", testUser.getPasswordHash());
   }
 
   // ==================== revokeRefreshToken(Long) ====================
 
   @Test
   void testRevokeRefreshToken_Success() {
-    testUser.setRefreshToken("abc");
-    testUser.setRefreshTokenExpiryDate(LocalDateTime.now().plusDays(1));
     when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 
     userService.revokeRefreshToken(1L);
 
-    assertNull(testUser.getRefreshToken());
-    verify(userRepository, times(1)).save(any(User.class));
+    verify(refreshTokenRepository, times(1)).deleteByUserId(1L);
+  }
+
+  @Test
+  void testRevokeRefreshToken_UserNotFound() {
+    when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+    assertThrows(UserNotFoundException.class, () -> userService.revokeRefreshToken(99L));
+    verify(refreshTokenRepository, never()).deleteByUserId(any());
   }
 
   // ==================== deactivateUser(Long) ====================
@@ -195,14 +165,12 @@ class UserServiceImplTest {
   @Test
   void testDeactivateUser_Success() {
     testUser.setActive(true);
-    testUser.setRefreshToken("abc");
-    testUser.setRefreshTokenExpiryDate(LocalDateTime.now().plusDays(1));
     when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 
     userService.deactivateUser(1L);
 
     assertFalse(testUser.isActive());
-    assertNull(testUser.getRefreshToken());
+    verify(refreshTokenRepository, times(1)).deleteByUserId(1L);
   }
 
   // ==================== activateUser(Long) ====================
@@ -492,28 +460,4 @@ class UserServiceImplTest {
     // Empty phone should not update
     assertEquals("1234567890", testUser.getPhone());
   }
-
-  // ==================== isRefreshTokenValid - Additional Coverage ====================
-
-  @Test
-  void testIsRefreshTokenValid_False_UserInactive() {
-    testUser.setActive(false);
-    testUser.setRefreshTokenExpiryDate(LocalDateTime.now().plusDays(1));
-    when(userRepository.findByRefreshToken("token")).thenReturn(Optional.of(testUser));
-
-    boolean result = userService.isRefreshTokenValid("token");
-
-    assertFalse(result);
-  }
-
-  @Test
-  void testIsRefreshTokenValid_False_NullExpiryDate() {
-    testUser.setActive(true);
-    testUser.setRefreshTokenExpiryDate(null);
-    when(userRepository.findByRefreshToken("token")).thenReturn(Optional.of(testUser));
-
-    boolean result = userService.isRefreshTokenValid("token");
-
-    assertFalse(result);
-  }
 }